@@ -0,0 +1,202 @@
+package com.orbit.benchmark;
+
+import com.orbit.dto.procurement.dashboard.PurchaseRequestDashboardDTO;
+import com.orbit.dto.procurement.dashboard.PurchaseRequestSummaryDTO;
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.entity.bidding.BiddingEvaluation;
+import com.orbit.entity.commonCode.ChildCode;
+import com.orbit.entity.commonCode.ParentCode;
+import com.orbit.entity.commonCode.SystemStatus;
+import com.orbit.entity.item.Item;
+import com.orbit.entity.member.Member;
+import com.orbit.entity.procurement.GoodsRequest;
+import com.orbit.entity.procurement.PurchaseRequestAttachment;
+import com.orbit.entity.procurement.PurchaseRequestItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 고정 데이터 생성기
+ * - DB 없이 엔티티/DTO를 메모리에서 만든다. (지연 로딩 프록시가 없는 순수 객체)
+ * - 매 실행마다 같은 값이 나오도록 난수를 쓰지 않는다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static ParentCode biddingStatusParent() {
+        return ParentCode.builder().id(1L).entityType("BIDDING").codeGroup("STATUS").codeName("입찰 상태").build();
+    }
+
+    public static ChildCode childCode(ParentCode parent, long id, String value, String name) {
+        return ChildCode.builder().id(id).parentCode(parent).codeValue(value).codeName(name).displayOrder((int) id).build();
+    }
+
+    public static Bidding bidding(long id) {
+        ParentCode statusParent = biddingStatusParent();
+        ParentCode methodParent = ParentCode.builder().id(2L).entityType("BIDDING").codeGroup("METHOD").codeName("입찰 방식").build();
+
+        Bidding bidding = Bidding.builder()
+                .id(id)
+                .bidNumber(String.format("BID-20250301-%04d", id % 10000))
+                .title("서버 장비 구매 입찰 " + id)
+                .description("데이터센터 증설용 서버 및 스토리지 구매")
+                .startDate(LocalDateTime.of(2025, 3, 1, 9, 0))
+                .endDate(LocalDateTime.of(2025, 3, 15, 18, 0))
+                .conditions("납품 후 30일 이내 대금 지급")
+                .internalNote("예산 확보 완료")
+                .quantity(10 + (int) (id % 90))
+                .unitPrice(new BigDecimal("1250000.00"))
+                .statusParent(statusParent)
+                .statusChild(childCode(statusParent, 2L, "ONGOING", "진행중"))
+                .methodParent(methodParent)
+                .methodChild(childCode(methodParent, 11L, "PRICE_SUGGESTION", "가격제안"))
+                .filePath("bidding/" + id + "/notice.pdf")
+                .attachmentPaths(new ArrayList<>(List.of("bidding/" + id + "/spec.pdf", "bidding/" + id + "/drawing.pdf")))
+                .build();
+        bidding.recalculatePrices();
+        bidding.setCreatedBy("buyer01");
+        bidding.setRegTime(LocalDateTime.of(2025, 2, 28, 10, 30));
+        bidding.setUpdateTime(LocalDateTime.of(2025, 3, 1, 9, 0));
+        return bidding;
+    }
+
+    public static List<Bidding> biddings(int size) {
+        List<Bidding> list = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            list.add(bidding(i));
+        }
+        return list;
+    }
+
+    public static BiddingEvaluation evaluation(long id) {
+        return BiddingEvaluation.builder()
+                .id(id)
+                .biddingParticipationId(id)
+                .biddingId(1L)
+                .evaluatorId(7L)
+                .supplierName("공급사 " + id)
+                .priceScore(60 + (int) (id % 40))
+                .qualityScore(70 + (int) (id % 30))
+                .deliveryScore(80 + (int) (id % 20))
+                .reliabilityScore(90 + (int) (id % 10))
+                .totalScore(75)
+                .comments("납기 준수 이력 양호")
+                .evaluatedAt(LocalDateTime.of(2025, 3, 16, 14, 0))
+                .build();
+    }
+
+    public static List<BiddingEvaluation> evaluations(int size) {
+        List<BiddingEvaluation> list = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            list.add(evaluation(i));
+        }
+        return list;
+    }
+
+    /**
+     * 품목 N개, 첨부파일 2개를 가진 물품 구매요청
+     */
+    public static GoodsRequest goodsRequest(long id, int itemCount) {
+        GoodsRequest request = new GoodsRequest();
+        request.setId(id);
+        request.setRequestName("사무용 노트북 구매 " + id);
+        request.setRequestNumber(String.format("2503%03d", id % 1000));
+        request.setRequestDate(LocalDate.of(2025, 3, 2));
+        request.setCustomer("경영지원본부");
+        request.setBusinessDepartment("IT팀");
+        request.setBusinessManager("홍길동");
+        request.setBusinessType("GOODS");
+        request.setBusinessBudget(new BigDecimal("35000000.00"));
+        request.setSpecialNotes("신규 입사자 지급용");
+        request.setManagerPhoneNumber("01012345678");
+        request.setStatus(new SystemStatus("PURCHASE_REQUEST-STATUS", "REQUESTED"));
+        request.setMember(Member.builder().id(3L).username("requester").name("김요청").companyName("오르빗").build());
+
+        ParentCode unitParent = ParentCode.builder().id(5L).entityType("ITEM").codeGroup("UNIT").codeName("단위").build();
+        ChildCode unitChild = childCode(unitParent, 51L, "EA", "개");
+        for (int i = 1; i <= itemCount; i++) {
+            Item item = Item.builder()
+                    .id("ITM-" + i)
+                    .name("노트북 모델 " + i)
+                    .code("NB-" + i)
+                    .specification("16GB / 512GB SSD")
+                    .standardPrice(new BigDecimal("1750000.00"))
+                    .build();
+            PurchaseRequestItem pri = PurchaseRequestItem.builder()
+                    .id((long) i)
+                    .item(item)
+                    .unitParentCode(unitParent)
+                    .unitChildCode(unitChild)
+                    .specification(item.getSpecification())
+                    .quantity(2 + i % 5)
+                    .unitPrice(item.getStandardPrice())
+                    .deliveryRequestDate(LocalDate.of(2025, 4, 1))
+                    .build();
+            pri.calculateTotalPrice();
+            request.addItem(pri);
+        }
+
+        for (int i = 1; i <= 2; i++) {
+            request.getAttachments().add(PurchaseRequestAttachment.builder()
+                    .id((long) i)
+                    .fileName("quotation_" + i + ".pdf")
+                    .filePath("pr_" + id + "/quotation_" + i + ".pdf")
+                    .fileType("application/pdf")
+                    .fileSize(245_760L)
+                    .purchaseRequest(request)
+                    .build());
+        }
+        return request;
+    }
+
+    public static PurchaseRequestDashboardDTO dashboard(int summaries) {
+        List<PurchaseRequestSummaryDTO> recent = new ArrayList<>(summaries);
+        for (int i = 1; i <= summaries; i++) {
+            recent.add(PurchaseRequestSummaryDTO.builder()
+                    .id((long) i)
+                    .requestNumber(String.format("2503%03d", i))
+                    .requestName("구매요청 " + i)
+                    .status("PURCHASE_REQUEST-STATUS-REQUESTED")
+                    .statusDisplayName("구매 요청")
+                    .requestDate(LocalDate.of(2025, 3, 1).plusDays(i % 28))
+                    .customer("경영지원본부")
+                    .businessDepartment("IT팀")
+                    .businessManager("홍길동")
+                    .businessBudget(new BigDecimal("12500000.00"))
+                    .projectId(String.valueOf(i % 7))
+                    .projectName("프로젝트 " + (i % 7))
+                    .requesterName("김요청")
+                    .businessType("GOODS")
+                    .businessTypeDisplayName("물품")
+                    .build());
+        }
+
+        Map<String, Long> countByStatus = new LinkedHashMap<>();
+        Map<String, BigDecimal> budgetByStatus = new LinkedHashMap<>();
+        for (String status : List.of("REQUESTED", "RECEIVED", "VENDOR_SELECTION", "CONTRACT_PENDING", "COMPLETED")) {
+            countByStatus.put(status, 12L);
+            budgetByStatus.put(status, new BigDecimal("150000000.00"));
+        }
+
+        return PurchaseRequestDashboardDTO.builder()
+                .totalCount((long) summaries)
+                .countByStatus(countByStatus)
+                .budgetByStatus(budgetByStatus)
+                .countByDepartment(Map.of("IT팀", 30L, "구매팀", 20L))
+                .budgetByDepartment(Map.of("IT팀", new BigDecimal("450000000.00"), "구매팀", new BigDecimal("300000000.00")))
+                .recentRequests(recent)
+                .pendingRequests(recent.subList(0, Math.min(10, recent.size())))
+                .totalBudget(new BigDecimal("750000000.00"))
+                .completedBudget(new BigDecimal("150000000.00"))
+                .pendingBudget(new BigDecimal("600000000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.orbit.benchmark;
+
+import com.orbit.util.BiddingNumberUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * BiddingNumberUtil 벤치마크
+ * - 입찰/계약/발주 번호 생성 (날짜 포맷 + String.format)
+ */
+@State(Scope.Thread)
+public class BiddingNumberUtilBenchmark {
+
+    private final String bidNumber = "BID-20250301-0042";
+
+    @Benchmark
+    public String generateBidNumber() {
+        return BiddingNumberUtil.generateBidNumber();
+    }
+
+    @Benchmark
+    public String generateContractNumber() {
+        return BiddingNumberUtil.generateContractNumber();
+    }
+
+    @Benchmark
+    public String generateContractNumberFromBidNumber() {
+        return BiddingNumberUtil.generateContractNumberFromBidNumber(bidNumber);
+    }
+
+    @Benchmark
+    public String generateOrderNumber() {
+        return BiddingNumberUtil.generateOrderNumber();
+    }
+}
@@ -0,0 +1,65 @@
+package com.orbit.benchmark;
+
+import com.orbit.dto.bidding.BiddingDto;
+import com.orbit.dto.bidding.BiddingEvaluationDto;
+import com.orbit.dto.procurement.PurchaseRequestDTO;
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.entity.bidding.BiddingEvaluation;
+import com.orbit.entity.procurement.GoodsRequest;
+import com.orbit.service.procurement.PurchaseRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * 엔티티 -> DTO 변환 벤치마크
+ * - 목록 조회 시 행마다 호출되는 변환 메서드
+ * - PurchaseRequestService.convertToDto는 저장소를 사용하지 않으므로 의존성 없이 생성한다.
+ */
+@State(Scope.Thread)
+public class DtoConversionBenchmark {
+
+    @Param({"100"})
+    private int rows;
+
+    @Param({"5"})
+    private int itemsPerRequest;
+
+    private PurchaseRequestService purchaseRequestService;
+    private GoodsRequest goodsRequest;
+    private List<Bidding> biddings;
+    private List<BiddingEvaluation> evaluations;
+
+    @Setup
+    public void setUp() {
+        purchaseRequestService = new PurchaseRequestService(
+                null, null, null, null, null, null, null, null, null, null, null, null);
+        goodsRequest = BenchmarkFixtures.goodsRequest(1L, itemsPerRequest);
+        biddings = BenchmarkFixtures.biddings(rows);
+        evaluations = BenchmarkFixtures.evaluations(rows);
+    }
+
+    @Benchmark
+    public PurchaseRequestDTO purchaseRequestConvertToDto() {
+        return purchaseRequestService.convertToDto(goodsRequest);
+    }
+
+    @Benchmark
+    public void biddingDtoFromEntity(Blackhole blackhole) {
+        for (Bidding bidding : biddings) {
+            blackhole.consume(BiddingDto.fromEntity(bidding));
+        }
+    }
+
+    @Benchmark
+    public void biddingEvaluationDtoFromEntity(Blackhole blackhole) {
+        for (BiddingEvaluation evaluation : evaluations) {
+            blackhole.consume(BiddingEvaluationDto.fromEntity(evaluation));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.orbit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.orbit.dto.bidding.BiddingDto;
+import com.orbit.dto.procurement.dashboard.PurchaseRequestDashboardDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson 직렬화 벤치마크
+ * - 대시보드 응답과 입찰 목록 응답을 JSON 바이트로 직렬화하는 비용
+ * - ObjectMapper는 스프링 부트 기본값과 같이 날짜를 ISO 문자열로 쓴다.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"50"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private PurchaseRequestDashboardDTO dashboard;
+    private List<BiddingDto> biddingDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        dashboard = BenchmarkFixtures.dashboard(rows);
+        biddingDtos = BenchmarkFixtures.biddings(rows).stream()
+                .map(BiddingDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeDashboard() throws Exception {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+
+    @Benchmark
+    public byte[] serializeBiddingList() throws Exception {
+        return objectMapper.writeValueAsBytes(biddingDtos);
+    }
+}
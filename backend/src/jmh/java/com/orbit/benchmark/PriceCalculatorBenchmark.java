@@ -0,0 +1,68 @@
+package com.orbit.benchmark;
+
+import com.orbit.util.Money;
+import com.orbit.util.PriceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PriceCalculator.calculateAll 벤치마크
+ * - 입찰/계약/발주 품목마다 호출되는 공급가액, 부가세, 총액 계산
+ * - bigDecimal* 은 Money 도입 전 계산식 (비교 기준)
+ */
+@State(Scope.Thread)
+public class PriceCalculatorBenchmark {
+
+    private static final BigDecimal VAT_RATE = new BigDecimal("0.1");
+
+    private BigDecimal unitPrice;
+    private Integer quantity;
+    private List<BigDecimal> itemPrices;
+
+    @Setup
+    public void setUp() {
+        unitPrice = new BigDecimal("1234567.89");
+        quantity = 37;
+        // 구매 요청 품목 100건의 금액 (예산 검증 합계)
+        itemPrices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            itemPrices.add(new BigDecimal("1250000.00").add(BigDecimal.valueOf(i * 1001L, 2)));
+        }
+    }
+
+    @Benchmark
+    public PriceCalculator.PriceResult calculateAll() {
+        return PriceCalculator.calculateAll(unitPrice, quantity);
+    }
+
+    @Benchmark
+    public PriceCalculator.PriceResult bigDecimalCalculateAll() {
+        BigDecimal supply = unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal vat = supply.multiply(VAT_RATE).setScale(2, RoundingMode.HALF_UP);
+        return new PriceCalculator.PriceResult(supply, vat, supply.add(vat).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    @Benchmark
+    public long moneyOnly() {
+        // BigDecimal 변환 없이 long 계산만 (저장/응답 직전까지 Money 로 다루는 경우)
+        Money supply = Money.ofMinor(123_456_789L).times(quantity);
+        return supply.plus(supply.percent(10)).getMinor();
+    }
+
+    @Benchmark
+    public BigDecimal sumItems() {
+        return PriceCalculator.sum(itemPrices, price -> price);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSumItems() {
+        return itemPrices.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,137 @@
+package com.orbit.benchmark;
+
+import com.orbit.dto.bidding.BiddingDto;
+import com.orbit.event.event.ProcessEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.lang.reflect.Field;
+
+/**
+ * 프로세스 이벤트 벤치마크 - 리플렉션 기반(기존 AOP 방식) vs 타입 이벤트
+ * - extract*: 서비스 반환값에서 이벤트 정보를 꺼내는 비용 (getter 탐색/필드 폴백/예외 경로 vs 레코드 생성)
+ * - publish*: 스프링 이벤트 발행 1건 비용 (SpEL condition + 리플렉션 추출 리스너 vs 타입 바인딩 리스너)
+ * - 실행: ./gradlew jmh -PjmhIncludes=ProcessEvent
+ */
+@State(Scope.Thread)
+public class ProcessEventBenchmark {
+
+    private BiddingDto result;
+    private AnnotationConfigApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        result = BiddingDto.fromEntity(BenchmarkFixtures.bidding(42L));
+        result.setPurchaseRequestId(7L);
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(LegacyListener.class);
+        context.registerBean(TypedListener.class);
+        context.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 기존 방식 - getter 가 있는 필드 2개
+     */
+    @Benchmark
+    public long extractReflective() {
+        Long id = getFieldValueSafely(result, "id");
+        Long purchaseRequestId = getFieldValueSafely(result, "purchaseRequestId");
+        return id + purchaseRequestId;
+    }
+
+    /**
+     * 기존 방식 - 없는 필드 (getter 실패 -> getDeclaredField 실패, 예외 2회)
+     */
+    @Benchmark
+    public Object extractReflectiveMissing() {
+        return getFieldValueSafely(result, "biddingId");
+    }
+
+    @Benchmark
+    public ProcessEvent extractTyped() {
+        return new ProcessEvent.BiddingCreated(result.getId(), result.getPurchaseRequestId());
+    }
+
+    @Benchmark
+    public long publishLegacy() {
+        context.publishEvent(new LegacyBiddingCreatedEvent(result.getId(), result.getPurchaseRequestId()));
+        return context.getBean(LegacyListener.class).sink;
+    }
+
+    @Benchmark
+    public long publishTyped() {
+        context.publishEvent(new ProcessEvent.BiddingCreated(result.getId(), result.getPurchaseRequestId()));
+        return context.getBean(TypedListener.class).sink;
+    }
+
+    /**
+     * 기존 ProcessEventAspects/ProcessEventListeners 의 추출 방식 그대로
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getFieldValueSafely(Object object, String fieldName) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            String getterName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+            return (T) object.getClass().getMethod(getterName).invoke(object);
+        } catch (Exception e) {
+            try {
+                Field field = object.getClass().getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return (T) field.get(object);
+            } catch (Exception ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 기존 ProcessEventPublisher 내부 이벤트 클래스 형태
+     */
+    public static class LegacyBiddingCreatedEvent {
+        private final Long biddingId;
+        private final Long purchaseRequestId;
+        private final String eventType = "CREATED";
+
+        public LegacyBiddingCreatedEvent(Long biddingId, Long purchaseRequestId) {
+            this.biddingId = biddingId;
+            this.purchaseRequestId = purchaseRequestId;
+        }
+
+        public Long getBiddingId() { return biddingId; }
+        public Long getPurchaseRequestId() { return purchaseRequestId; }
+        public String getEventType() { return eventType; }
+    }
+
+    public static class LegacyListener {
+        long sink;
+
+        @EventListener(condition = "#event.eventType == 'CREATED'")
+        public void on(LegacyBiddingCreatedEvent event) {
+            Long purchaseRequestId = getFieldValueSafely(event, "purchaseRequestId");
+            sink += purchaseRequestId;
+        }
+    }
+
+    public static class TypedListener {
+        long sink;
+
+        @EventListener
+        public void on(ProcessEvent.BiddingCreated event) {
+            sink += event.purchaseRequestId();
+        }
+    }
+}
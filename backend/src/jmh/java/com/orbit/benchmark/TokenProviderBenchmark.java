@@ -0,0 +1,52 @@
+package com.orbit.benchmark;
+
+import com.orbit.config.jwt.JwtProperties;
+import com.orbit.config.jwt.TokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * TokenProvider 벤치마크
+ * - TokenAuthenticationFilter가 요청마다 validateToken, getUsernameFromToken을 연달아 호출한다.
+ *   (둘 다 서명 검증과 파싱을 각각 수행)
+ */
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("benchmark@orbit.com");
+        properties.setSecretKey("study-springboot");
+        tokenProvider = new TokenProvider(properties);
+        token = tokenProvider.generateToken("buyer01",
+                List.of(new SimpleGrantedAuthority("ROLE_BUYER")), Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    /**
+     * 필터에서 실제로 일어나는 호출 순서 (검증 후 사용자명 추출)
+     */
+    @Benchmark
+    public String validateThenGetUsername() {
+        return tokenProvider.validateToken(token) ? tokenProvider.getUsernameFromToken(token) : null;
+    }
+}
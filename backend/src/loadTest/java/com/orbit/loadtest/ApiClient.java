@@ -0,0 +1,142 @@
+package com.orbit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import lombok.Getter;
+
+/**
+ * 로그인한 한 명의 사용자 세션
+ * - 폼 로그인(/api/auth/login) 응답의 accToken 쿠키를 보관하고, 이후 모든 요청에 실어 보낸다.
+ * - 2xx 가 아닌 응답은 StepFailedException 으로 던져서 해당 단계를 실패로 집계한다.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    @Getter
+    private final String username;
+    @Getter
+    private Long memberId;
+    private String accessToken;
+
+    public ApiClient(HttpClient httpClient, String baseUrl, String username) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.username = username;
+    }
+
+    /**
+     * 폼 로그인 후 accToken 쿠키와 회원 ID를 저장
+     */
+    public ApiClient login(String password) {
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+
+        HttpResponse<String> response = send(request);
+        List<String> cookies = response.headers().allValues("Set-Cookie");
+        for (String cookie : cookies) {
+            if (cookie.startsWith("accToken=")) {
+                accessToken = cookie.substring("accToken=".length(), cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length());
+            }
+        }
+        if (accessToken == null) {
+            throw new StepFailedException("로그인 응답에 accToken 쿠키가 없습니다: " + username);
+        }
+        JsonNode body = readJson(response.body());
+        memberId = body.path("id").isMissingNode() ? null : body.path("id").asLong();
+        return this;
+    }
+
+    public JsonNode get(String path) {
+        return execute(newRequest(path).GET());
+    }
+
+    public JsonNode post(String path, Object body) {
+        return execute(newRequest(path)
+                .header("Content-Type", "application/json")
+                .POST(jsonBody(body)));
+    }
+
+    public JsonNode put(String path, Object body) {
+        return execute(newRequest(path)
+                .header("Content-Type", "application/json")
+                .PUT(jsonBody(body)));
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Cookie", "accToken=" + accessToken);
+        }
+        return builder;
+    }
+
+    private JsonNode execute(HttpRequest.Builder builder) {
+        HttpResponse<String> response = send(builder.build());
+        return readJson(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() / 100 != 2) {
+                throw new StepFailedException(request.method() + " " + request.uri().getPath()
+                        + " -> HTTP " + response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new StepFailedException(request.method() + " " + request.uri().getPath() + " -> " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException("요청이 중단되었습니다: " + request.uri().getPath(), e);
+        }
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    private static JsonNode readJson(String body) {
+        if (body == null || body.isBlank()) {
+            return OBJECT_MAPPER.createObjectNode();
+        }
+        try {
+            return OBJECT_MAPPER.readTree(body);
+        } catch (IOException e) {
+            throw new StepFailedException("JSON 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.orbit.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 테스트용 내장 MariaDB + Redis
+ * - 매 실행마다 빈 DB로 시작하므로 데이터 초기화(DataInitializer)가 그대로 동작한다.
+ * - Redis는 application.properties 의 비밀번호를 그대로 쓰도록 requirepass 를 설정한다.
+ */
+@Slf4j
+@Getter
+public class EmbeddedInfrastructure implements AutoCloseable {
+
+    private static final String DATABASE_NAME = "orbit";
+
+    private final String redisPassword;
+    private DB mariaDb;
+    private RedisServer redisServer;
+    private String jdbcUrl;
+    private int redisPort;
+
+    public EmbeddedInfrastructure(String redisPassword) {
+        this.redisPassword = redisPassword;
+    }
+
+    public void start() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 사용 가능한 포트 자동 선택
+        mariaDb = DB.newEmbeddedDB(config.build());
+        mariaDb.start();
+        mariaDb.createDB(DATABASE_NAME);
+        jdbcUrl = config.getURL(DATABASE_NAME) + "?serverTimezone=UTC&characterEncoding=UTF-8";
+        log.info("내장 MariaDB 시작: {}", jdbcUrl);
+
+        redisPort = freePort();
+        RedisServer.Builder builder = RedisServer.newRedisServer()
+                .port(redisPort)
+                .setting("bind 127.0.0.1");
+        if (redisPassword != null && !redisPassword.isBlank()) {
+            builder.setting("requirepass " + redisPassword);
+        }
+        redisServer = builder.build();
+        redisServer.start();
+        log.info("내장 Redis 시작: port={}", redisPort);
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (redisServer != null) {
+                redisServer.stop();
+            }
+        } catch (IOException e) {
+            log.warn("내장 Redis 종료 실패: {}", e.getMessage());
+        }
+        try {
+            if (mariaDb != null) {
+                mariaDb.stop();
+            }
+        } catch (Exception e) {
+            log.warn("내장 MariaDB 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+}
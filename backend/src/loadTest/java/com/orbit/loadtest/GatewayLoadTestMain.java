@@ -0,0 +1,175 @@
+package com.orbit.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.orbit.service.payment.gateway.IamportClient;
+import com.orbit.service.payment.gateway.PaymentGateway;
+import com.orbit.service.payment.gateway.PaymentGatewayException;
+import com.orbit.util.CircuitBreaker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 결제 조회 어댑터 부하 테스트 (애플리케이션/DB 없이 PaymentGateway 만)
+ * - 로컬 아임포트 스텁을 띄우고 호출 스레드 callers 개가 임의 imp_uid 를 조회한다.
+ * - 정상 -> 장애(전부 503) -> 복구 세 구간을 차례로 실행해 시간 제한, 벌크헤드 거절, 서킷 열림/닫힘을 확인한다.
+ * - 결과: 구간별 p50/p95/p99, 실패 종류별 건수, 스텁이 실제로 받은 요청 수 (콘솔 + JSON)
+ * - 설정: 시스템 프로퍼티 loadtest.gateway.* (gradle: -Ploadtest.gateway.callers=100)
+ */
+@Slf4j
+public class GatewayLoadTestMain {
+
+    private static final String PREFIX = "loadtest.gateway.";
+
+    public static void main(String[] args) throws Exception {
+        int callers = intProperty("callers", 50);
+        int callsPerCaller = intProperty("callsPerCaller", 200);
+        int paymentCount = intProperty("payments", 1000);
+        long openMillis = longProperty("circuitOpenMillis", 2000);
+        GatewayStubServer.Scenario normal = new GatewayStubServer.Scenario(
+                longProperty("latencyMillis", 50),
+                longProperty("jitterMillis", 100),
+                doubleProperty("failureRate", 0.0),
+                doubleProperty("hangRate", 0.01),
+                longProperty("hangMillis", 10_000));
+
+        try (GatewayStubServer stub = new GatewayStubServer(intProperty("stubThreads", 64), normal)) {
+            for (int i = 0; i < paymentCount; i++) {
+                stub.register("imp_" + i, "INV-LOAD-" + i, BigDecimal.valueOf(11_000L + i), "paid");
+            }
+            IamportClient client = new IamportClient(stub.baseUrl(), "stub-key", "stub-secret",
+                    Duration.ofMillis(longProperty("connectTimeoutMillis", 500)),
+                    Duration.ofMillis(longProperty("requestTimeoutMillis", 1500)),
+                    new ObjectMapper());
+            PaymentGateway gateway = new PaymentGateway(client,
+                    new CircuitBreaker(intProperty("circuitWindow", 20), intProperty("circuitFailures", 10), openMillis),
+                    intProperty("threads", 8),
+                    intProperty("queueCapacity", 32),
+                    longProperty("timeoutMillis", 2000),
+                    intProperty("cacheSize", 0),
+                    longProperty("cacheTtlMillis", 600_000));
+            log.info("PG 어댑터 부하 테스트: callers={}, callsPerCaller={}, payments={}, scenario={}, stub={}",
+                    callers, callsPerCaller, paymentCount, normal, stub.baseUrl());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("normal", runPhase("normal", gateway, stub, callers, callsPerCaller, paymentCount));
+
+            stub.setScenario(normal.withFailureRate(1.0));
+            report.put("outage", runPhase("outage", gateway, stub, callers, callsPerCaller, paymentCount));
+
+            stub.setScenario(normal);
+            Thread.sleep(openMillis);
+            report.put("recovery", runPhase("recovery", gateway, stub, callers, callsPerCaller, paymentCount));
+
+            gateway.shutdown();
+            writeReport(report);
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, Object> runPhase(String phase, PaymentGateway gateway, GatewayStubServer stub,
+                                                int callers, int callsPerCaller, int paymentCount) throws Exception {
+        StepMetrics metrics = new StepMetrics();
+        Map<PaymentGatewayException.Kind, AtomicLong> failures = new EnumMap<>(PaymentGatewayException.Kind.class);
+        for (PaymentGatewayException.Kind kind : PaymentGatewayException.Kind.values()) {
+            failures.put(kind, new AtomicLong());
+        }
+        long stubRequestsBefore = stub.getRequests();
+        long startedAt = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < callers; c++) {
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < callsPerCaller; i++) {
+                    String impUid = "imp_" + random.nextInt(paymentCount);
+                    try {
+                        metrics.record("gateway." + phase, () -> gateway.getPayment(impUid).join());
+                    } catch (CompletionException e) {
+                        failures.get(PaymentGatewayException.from(e).getKind()).incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        StepMetrics.StepSummary summary = metrics.summarize().get("gateway." + phase);
+        Map<String, Long> failureCounts = new LinkedHashMap<>();
+        failures.forEach((kind, count) -> failureCounts.put(kind.name(), count.get()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("elapsedSeconds", elapsedSeconds);
+        result.put("callsPerSecond", (summary.count() + summary.errors()) / elapsedSeconds);
+        result.put("summary", summary);
+        result.put("failures", failureCounts);
+        result.put("stubRequests", stub.getRequests() - stubRequestsBefore);
+        result.put("gateway", gateway.getStats());
+
+        log.info(String.format("%n===== %s =====%n성공 %d건, 실패 %d건 (%.2f%%), 소요 %.1fs, %.1f calls/s%n"
+                        + "성공 응답 p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n실패 종류: %s%n스텁 요청: %d건, 어댑터: %s",
+                phase, summary.count(), summary.errors(), summary.errorRate() * 100, elapsedSeconds,
+                (double) result.get("callsPerSecond"), summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.maxMs(),
+                failureCounts, (long) result.get("stubRequests"), gateway.getStats()));
+        return result;
+    }
+
+    private static void writeReport(Map<String, Object> report) throws IOException {
+        Path path = Paths.get(System.getProperty(PREFIX + "reportFile", "build/reports/loadtest/gateway.json"));
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        log.info("결과 파일: {}", path.toAbsolutePath());
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return (int) longProperty(key, defaultValue);
+    }
+
+    private static long longProperty(String key, long defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 설정값입니다: " + PREFIX + key + "=" + value);
+        }
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 설정값입니다: " + PREFIX + key + "=" + value);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.orbit.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 아임포트 REST API 로컬 스텁 (오프라인 부하 테스트용)
+ * - POST /users/getToken, GET /payments/{imp_uid} 만 흉내 낸다. 응답 형식은 실제 API 와 같다. ({"code":0,"response":{...}})
+ * - 시나리오(지연/지터/5xx 비율/무응답 비율)는 실행 중에 바꿀 수 있어 장애 -> 복구 흐름을 재현한다.
+ * - 등록하지 않은 imp_uid 는 404 (code -1).
+ */
+public class GatewayStubServer implements AutoCloseable {
+
+    private static final String TOKEN = "stub-access-token";
+
+    /**
+     * @param latencyMillis 기본 응답 지연
+     * @param jitterMillis  추가 지연 최대값 (0~jitter 균등 분포)
+     * @param failureRate   503 응답 비율 (0~1)
+     * @param hangRate      hangMillis 만큼 응답하지 않는 비율 (0~1, 클라이언트 시간 초과 재현)
+     */
+    public record Scenario(long latencyMillis, long jitterMillis, double failureRate, double hangRate, long hangMillis) {
+
+        public Scenario withFailureRate(double rate) {
+            return new Scenario(latencyMillis, jitterMillis, rate, hangRate, hangMillis);
+        }
+    }
+
+    private record StubPayment(String merchantUid, BigDecimal amount, String status) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StubPayment> payments = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong tokenRequests = new AtomicLong();
+    private volatile Scenario scenario;
+
+    public GatewayStubServer(int threads, Scenario scenario) throws IOException {
+        this.scenario = scenario;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "gateway-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/users/getToken", this::token);
+        server.createContext("/payments/", this::payment);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public void register(String impUid, String merchantUid, BigDecimal amount, String status) {
+        payments.put(impUid, new StubPayment(merchantUid, amount, status));
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getTokenRequests() {
+        return tokenRequests.get();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        long now = System.currentTimeMillis() / 1000;
+        respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":{\"access_token\":\"" + TOKEN
+                + "\",\"now\":" + now + ",\"expired_at\":" + (now + 1800) + "}}");
+    }
+
+    private void payment(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        Scenario current = scenario;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        sleep(current.latencyMillis() + (current.jitterMillis() > 0 ? random.nextLong(current.jitterMillis() + 1) : 0));
+        if (random.nextDouble() < current.hangRate()) {
+            sleep(current.hangMillis());
+        }
+        if (random.nextDouble() < current.failureRate()) {
+            respond(exchange, 503, "{\"code\":-1,\"message\":\"stub failure\",\"response\":null}");
+            return;
+        }
+        if (!TOKEN.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            respond(exchange, 401, "{\"code\":-1,\"message\":\"Unauthorized\",\"response\":null}");
+            return;
+        }
+
+        String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+        StubPayment payment = payments.get(impUid);
+        if (payment == null) {
+            respond(exchange, 404, "{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}");
+            return;
+        }
+        long paidAt = "paid".equals(payment.status()) ? System.currentTimeMillis() / 1000 : 0;
+        respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":{\"imp_uid\":\"" + impUid
+                + "\",\"merchant_uid\":\"" + payment.merchantUid() + "\",\"amount\":" + payment.amount().toPlainString()
+                + ",\"status\":\"" + payment.status() + "\",\"pay_method\":\"card\",\"paid_at\":" + paidAt + "}}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
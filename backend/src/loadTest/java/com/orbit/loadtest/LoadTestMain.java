@@ -0,0 +1,212 @@
+package com.orbit.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.orbit.BackendApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구매 프로세스 부하 테스트 진입점
+ * - 내장 MariaDB/Redis 를 띄우고 애플리케이션을 임의 포트로 기동한 뒤
+ *   가상 사용자(스레드)마다 ProcurementScenario 를 반복 실행한다.
+ * - 결과: 단계별 p50/p95/p99, 처리량, 오류율, 커넥션 풀 포화도 (콘솔 + JSON)
+ */
+@Slf4j
+public class LoadTestMain {
+
+    private static final String REDIS_PASSWORD = "ezen12345"; // application.properties 의 spring.data.redis.password
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        log.info("부하 테스트 설정: {}", settings);
+
+        Path uploadDir = Files.createTempDirectory("orbit-loadtest-upload");
+        try (EmbeddedInfrastructure infrastructure = new EmbeddedInfrastructure(REDIS_PASSWORD)) {
+            infrastructure.start();
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                    .properties(applicationProperties(settings, infrastructure, uploadDir))
+                    .run()) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                Map<String, Object> report = run(settings, context, "http://localhost:" + port);
+                writeReport(settings, report);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, Object> applicationProperties(LoadTestSettings settings,
+                                                             EmbeddedInfrastructure infrastructure,
+                                                             Path uploadDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.driver-class-name", "org.mariadb.jdbc.Driver");
+        properties.put("spring.datasource.url", infrastructure.getJdbcUrl());
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", String.valueOf(settings.getPoolSize()));
+        properties.put("spring.datasource.hikari.minimum-idle", String.valueOf(settings.getPoolSize()));
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", String.valueOf(infrastructure.getRedisPort()));
+        properties.put("spring.data.redis.password", REDIS_PASSWORD);
+        properties.put("uploadPath", uploadDir.toAbsolutePath().toString() + "/");
+        properties.put("spring.servlet.multipart.location", uploadDir.toAbsolutePath().toString());
+        // 로그 출력이 측정값을 왜곡하지 않도록 SQL/보안 디버그 로그를 끈다.
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.jpa.properties.hibernate.use_sql_comments", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.orbit", "WARN");
+        properties.put("logging.level.com.orbit.loadtest", "INFO");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.jdbc", "OFF");
+        return properties;
+    }
+
+    private static Map<String, Object> run(LoadTestSettings settings, ConfigurableApplicationContext context,
+                                           String baseUrl) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, settings.getUsers())))
+                .build();
+
+        SessionPool sessions = new SessionPool(httpClient, baseUrl);
+        sessions.loginAll();
+
+        StepMetrics metrics = new StepMetrics();
+        ProcurementScenario scenario = new ProcurementScenario(settings, sessions, metrics, context);
+        scenario.prepare();
+
+        for (int i = 0; i < settings.getSeedRequests(); i++) {
+            scenario.seedPurchaseRequest(i);
+        }
+        log.info("시드 구매요청 {}건 생성 완료", settings.getSeedRequests());
+
+        AtomicLong completedFlows = new AtomicLong();
+        AtomicLong failedFlows = new AtomicLong();
+        Map<String, Long> failureReasons = new LinkedHashMap<>();
+
+        ExecutorService users = Executors.newFixedThreadPool(settings.getUsers(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("loadtest-user-" + thread.getId());
+            return thread;
+        });
+        long rampUpStep = settings.getUsers() <= 1 ? 0 : settings.getRampUpMillis() / (settings.getUsers() - 1);
+
+        PoolSampler poolSampler = new PoolSampler(context.getBean(DataSource.class));
+        poolSampler.start();
+        long startedAt = System.nanoTime();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int u = 0; u < settings.getUsers(); u++) {
+            final int userIndex = u;
+            final long delay = rampUpStep * u;
+            futures.add(users.submit(() -> {
+                sleep(delay);
+                for (int iteration = 0; iteration < settings.getIterations(); iteration++) {
+                    try {
+                        scenario.run(userIndex, iteration);
+                        completedFlows.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failedFlows.incrementAndGet();
+                        synchronized (failureReasons) {
+                            failureReasons.merge(String.valueOf(e.getMessage()), 1L, Long::sum);
+                        }
+                        log.warn("시나리오 실패 (user={}, iteration={}): {}", userIndex, iteration, e.getMessage());
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        poolSampler.close();
+        users.shutdown();
+
+        Map<String, StepMetrics.StepSummary> steps = metrics.summarize();
+        long totalRequests = steps.values().stream().mapToLong(s -> s.count() + s.errors()).sum();
+        long totalErrors = steps.values().stream().mapToLong(StepMetrics.StepSummary::errors).sum();
+        PoolSampler.PoolSummary pool = poolSampler.summarize();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings.toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("completedFlows", completedFlows.get());
+        report.put("failedFlows", failedFlows.get());
+        report.put("flowsPerSecond", completedFlows.get() / elapsedSeconds);
+        report.put("requestsPerSecond", totalRequests / elapsedSeconds);
+        report.put("errorRate", totalRequests == 0 ? 0 : (double) totalErrors / totalRequests);
+        report.put("steps", steps.values());
+        report.put("connectionPool", pool);
+        report.put("failureReasons", failureReasons);
+
+        printSummary(report, steps, pool);
+        return report;
+    }
+
+    private static void printSummary(Map<String, Object> report, Map<String, StepMetrics.StepSummary> steps,
+                                     PoolSampler.PoolSummary pool) {
+        StringBuilder out = new StringBuilder("\n===== 부하 테스트 결과 =====\n");
+        out.append(String.format("%-32s %8s %7s %9s %9s %9s %9s%n", "step", "count", "err%", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (StepMetrics.StepSummary s : steps.values()) {
+            out.append(String.format("%-32s %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+                    s.step(), s.count(), s.errorRate() * 100, s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        }
+        out.append(String.format("%n완료 흐름: %s, 실패 흐름: %s, 소요: %.1fs%n",
+                report.get("completedFlows"), report.get("failedFlows"), (double) report.get("elapsedSeconds")));
+        out.append(String.format("처리량: %.2f flows/s, %.1f req/s, 오류율: %.2f%%%n",
+                (double) report.get("flowsPerSecond"), (double) report.get("requestsPerSecond"),
+                ((Number) report.get("errorRate")).doubleValue() * 100));
+        out.append(String.format("커넥션 풀: max=%d, 최대 사용=%d, 평균 사용=%.1f, 최대 대기 스레드=%d, 포화 비율=%.1f%%%n",
+                pool.maximumPoolSize(), pool.maxActive(), pool.averageActive(), pool.maxThreadsAwaiting(),
+                pool.saturationRatio() * 100));
+        log.info(out.toString());
+    }
+
+    private static void writeReport(LoadTestSettings settings, Map<String, Object> report) throws IOException {
+        Path path = Paths.get(settings.getReportFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        log.info("결과 파일: {}", path.toAbsolutePath());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
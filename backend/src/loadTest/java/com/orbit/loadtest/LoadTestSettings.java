@@ -0,0 +1,56 @@
+package com.orbit.loadtest;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 설정
+ * - 모든 값은 시스템 프로퍼티(loadtest.*)로 지정한다. (gradle: -Ploadtest.users=20)
+ */
+@Getter
+public class LoadTestSettings {
+
+    private final int users;              // 동시 가상 사용자 수
+    private final int iterations;         // 사용자당 전체 흐름 반복 횟수
+    private final int itemsPerRequest;    // 구매요청당 품목 수
+    private final int suppliersPerBidding; // 입찰당 초대/참여 공급사 수
+    private final int seedRequests;       // 측정 전에 미리 만들어 둘 구매요청 수 (데이터량)
+    private final int poolSize;           // HikariCP 최대 커넥션 수
+    private final long rampUpMillis;      // 전체 사용자가 시작될 때까지의 시간
+    private final long thinkTimeMillis;   // 단계 사이 대기 시간
+    private final String reportFile;      // JSON 결과 파일 경로
+
+    private LoadTestSettings() {
+        this.users = intProperty("loadtest.users", 10);
+        this.iterations = intProperty("loadtest.iterations", 5);
+        this.itemsPerRequest = intProperty("loadtest.itemsPerRequest", 3);
+        this.suppliersPerBidding = intProperty("loadtest.suppliersPerBidding", 3);
+        this.seedRequests = intProperty("loadtest.seedRequests", 0);
+        this.poolSize = intProperty("loadtest.poolSize", 10);
+        this.rampUpMillis = intProperty("loadtest.rampUpMillis", 2000);
+        this.thinkTimeMillis = intProperty("loadtest.thinkTimeMillis", 0);
+        this.reportFile = System.getProperty("loadtest.reportFile", "build/reports/loadtest/report.json");
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 설정값입니다: " + key + "=" + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", iterations=" + iterations + ", itemsPerRequest=" + itemsPerRequest
+                + ", suppliersPerBidding=" + suppliersPerBidding + ", seedRequests=" + seedRequests
+                + ", poolSize=" + poolSize + ", rampUpMillis=" + rampUpMillis + ", thinkTimeMillis=" + thinkTimeMillis;
+    }
+}
@@ -0,0 +1,75 @@
+package com.orbit.loadtest;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * HikariCP 커넥션 풀 포화도 샘플러
+ * - 일정 주기로 활성/대기 커넥션 수를 읽어서 최대값과 포화 비율을 계산한다.
+ * - DataSource 가 SqlTraceDataSource 로 감싸져 있어도 unwrap 으로 HikariDataSource 를 꺼낼 수 있다.
+ */
+public class PoolSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 50;
+
+    private final HikariPoolMXBean pool;
+    private final int maximumPoolSize;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-pool-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long samples;
+    private long saturatedSamples;
+    private long activeSum;
+    private int maxActive;
+    private int maxAwaiting;
+
+    public PoolSampler(DataSource dataSource) throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        this.pool = hikari.getHikariPoolMXBean();
+        this.maximumPoolSize = hikari.getMaximumPoolSize();
+    }
+
+    public void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        int active = pool.getActiveConnections();
+        int awaiting = pool.getThreadsAwaitingConnection();
+        samples++;
+        activeSum += active;
+        maxActive = Math.max(maxActive, active);
+        maxAwaiting = Math.max(maxAwaiting, awaiting);
+        if (active >= maximumPoolSize || awaiting > 0) {
+            saturatedSamples++;
+        }
+    }
+
+    public synchronized PoolSummary summarize() {
+        return new PoolSummary(maximumPoolSize, maxActive, maxAwaiting,
+                samples == 0 ? 0 : (double) activeSum / samples,
+                samples == 0 ? 0 : (double) saturatedSamples / samples);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 풀 사용 요약 (saturationRatio: 모든 커넥션이 사용 중이거나 대기 스레드가 있던 샘플 비율)
+     */
+    public record PoolSummary(int maximumPoolSize, int maxActive, int maxThreadsAwaiting,
+                              double averageActive, double saturationRatio) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.orbit.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.orbit.dto.bidding.BiddingDto;
+import com.orbit.dto.bidding.BiddingFormDto;
+import com.orbit.repository.procurement.PurchaseRequestItemRepository;
+import com.orbit.repository.procurement.PurchaseRequestRepository;
+import com.orbit.service.bidding.BiddingService;
+
+/**
+ * 구매 프로세스 전체 흐름 시나리오 (가상 사용자 1회 실행 단위)
+ *
+ * 구매요청 생성 → 결재선 승인 → 입찰 공고 → 공급사 참여 → 평가 → 낙찰자 선정
+ * → 계약 → 발주 → 입고 → 송장 → 결제
+ *
+ * - 단계 이름별로 HTTP 호출 한 건씩 응답 시간을 기록한다. (결재/참여/평가는 여러 번 호출됨)
+ * - 한 단계라도 실패하면 해당 회차는 중단하고 실패로 집계한다.
+ * - 입찰 공고 생성은 REST 요청 본문이 PurchaseRequest 엔티티(추상 클래스)를 그대로 받도록 되어 있어
+ *   JSON 으로 만들 수 없으므로, 같은 JVM 안에서 BiddingService 를 직접 호출해서 측정한다.
+ */
+public class ProcurementScenario {
+
+    public static final String CREATE_PURCHASE_REQUEST = "01.purchase-request.create";
+    public static final String APPROVE = "02.approval.process";
+    public static final String CREATE_BIDDING = "03.bidding.create";
+    public static final String OPEN_BIDDING = "04.bidding.open";
+    public static final String PARTICIPATE = "05.bidding.participate";
+    public static final String EVALUATE = "06.evaluation.create";
+    public static final String SELECT_WINNER = "07.bidding.select-winner";
+    public static final String CONTRACT = "08.contract.create-and-sign";
+    public static final String ORDER = "09.order.create-and-approve";
+    public static final String DELIVERY = "10.delivery.create";
+    public static final String INVOICE = "11.invoice.create-and-approve";
+    public static final String PAYMENT = "12.payment.process";
+
+    private static final int MAX_APPROVAL_STEPS = 10;
+
+    private final LoadTestSettings settings;
+    private final SessionPool sessions;
+    private final StepMetrics metrics;
+    private final BiddingService biddingService;
+    private final PurchaseRequestRepository purchaseRequestRepository;
+    private final PurchaseRequestItemRepository purchaseRequestItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<String> itemIds = new ArrayList<>();
+
+    public ProcurementScenario(LoadTestSettings settings, SessionPool sessions, StepMetrics metrics, ApplicationContext context) {
+        this.settings = settings;
+        this.sessions = sessions;
+        this.metrics = metrics;
+        this.biddingService = context.getBean(BiddingService.class);
+        this.purchaseRequestRepository = context.getBean(PurchaseRequestRepository.class);
+        this.purchaseRequestItemRepository = context.getBean(PurchaseRequestItemRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    /**
+     * 품목 목록 조회 (구매요청 품목으로 사용)
+     */
+    public void prepare() {
+        JsonNode items = sessions.getAdministrator().get("/api/items");
+        for (JsonNode item : items) {
+            itemIds.add(item.path("id").asText());
+        }
+        if (itemIds.isEmpty()) {
+            throw new IllegalStateException("등록된 품목이 없습니다. ItemDataInitializer 실행 여부를 확인하세요.");
+        }
+    }
+
+    /**
+     * 측정 전 데이터량 확보용 구매요청 생성 (기록하지 않음)
+     */
+    public void seedPurchaseRequest(int index) {
+        ApiClient requester = sessions.getRequesters().get(index % sessions.getRequesters().size());
+        requester.post("/api/purchase-requests", purchaseRequestBody("시드 구매요청 " + index));
+    }
+
+    /**
+     * 전체 흐름 1회 실행
+     */
+    public void run(int userIndex, int iteration) {
+        ApiClient requester = sessions.getRequesters().get(userIndex % sessions.getRequesters().size());
+        ApiClient admin = sessions.getAdministrator();
+        String label = "부하테스트 " + userIndex + "-" + iteration;
+
+        // 1. 구매요청 생성 (결재선 자동 생성 포함)
+        JsonNode purchaseRequest = metrics.record(CREATE_PURCHASE_REQUEST,
+                () -> requester.post("/api/purchase-requests", purchaseRequestBody(label)));
+        long purchaseRequestId = purchaseRequest.path("id").asLong();
+        JsonNode firstItem = purchaseRequest.path("items").path(0);
+        long purchaseRequestItemId = firstItem.path("id").asLong();
+        int quantity = firstItem.path("quantity").asInt(1);
+        thinkTime();
+
+        // 2. 결재선 순서대로 승인
+        approveAll(purchaseRequestId);
+
+        // 3. 입찰 공고 생성 + 공급사 초대
+        List<ApiClient> invited = pickSuppliers();
+        Long biddingId = metrics.record(CREATE_BIDDING,
+                () -> createBidding(purchaseRequestId, purchaseRequestItemId, quantity, label, invited));
+        thinkTime();
+
+        // 4. 공고 진행중으로 변경
+        metrics.record(OPEN_BIDDING, () -> admin.put("/api/biddings/" + biddingId + "/status",
+                Map.of("status", "ONGOING", "reason", "부하 테스트 공고 개시")));
+
+        // 5. 공급사 참여
+        Map<Long, ApiClient> suppliersByParticipation = new HashMap<>();
+        for (ApiClient supplier : invited) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("unitPrice", BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(10, 500) * 1000L));
+            JsonNode participation = metrics.record(PARTICIPATE,
+                    () -> supplier.post("/api/supplier/biddings/" + biddingId + "/participate", body));
+            suppliersByParticipation.put(participation.path("id").asLong(), supplier);
+        }
+        thinkTime();
+
+        // 6. 참여별 평가
+        for (Long participationId : suppliersByParticipation.keySet()) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("biddingId", biddingId);
+            body.put("biddingParticipationId", participationId);
+            body.put("evaluatorId", admin.getMemberId());
+            body.put("priceScore", randomScore());
+            body.put("qualityScore", randomScore());
+            body.put("deliveryScore", randomScore());
+            body.put("reliabilityScore", randomScore());
+            body.put("comments", "부하 테스트 평가");
+            metrics.record(EVALUATE, () -> admin.post("/api/evaluations", body));
+        }
+
+        // 7. 낙찰자 선정
+        JsonNode winner = metrics.record(SELECT_WINNER,
+                () -> admin.post("/api/biddings/" + biddingId + "/select-winner", null));
+        long participationId = winner.path("biddingParticipationId").asLong();
+        ApiClient winningSupplier = suppliersByParticipation.get(participationId);
+        if (winningSupplier == null) {
+            throw new StepFailedException("낙찰 참여 정보를 찾을 수 없습니다: " + participationId);
+        }
+        thinkTime();
+
+        // 8. 계약 초안 생성 + 양측 서명
+        metrics.record(CONTRACT, () -> {
+            JsonNode contract = admin.post("/api/biddings/" + biddingId + "/create-contract/" + participationId, null);
+            long contractId = contract.path("contractId").asLong();
+            admin.put("/api/contracts/" + contractId + "/sign-buyer?signature=loadtest-buyer", null);
+            admin.put("/api/contracts/" + contractId + "/sign-supplier?signature=loadtest-supplier", null);
+            return contractId;
+        });
+
+        // 9. 발주 생성 + 승인
+        Long orderId = metrics.record(ORDER, () -> {
+            JsonNode order = admin.post("/api/biddings/" + biddingId + "/create-order/" + participationId, null);
+            long id = order.path("orderId").asLong();
+            admin.put("/api/orders/" + id + "/approve", null);
+            return id;
+        });
+        thinkTime();
+
+        // 10. 입고
+        Map<String, Object> deliveryBody = new HashMap<>();
+        deliveryBody.put("biddingOrderId", orderId);
+        deliveryBody.put("purchaseRequestItemId", purchaseRequestItemId);
+        deliveryBody.put("supplierId", winningSupplier.getMemberId());
+        deliveryBody.put("receiverId", requester.getMemberId());
+        deliveryBody.put("deliveryDate", LocalDate.now().toString());
+        deliveryBody.put("itemQuantity", quantity);
+        deliveryBody.put("notes", label);
+        JsonNode delivery = metrics.record(DELIVERY, () -> requester.post("/api/deliveries", deliveryBody));
+        long deliveryId = delivery.path("id").asLong();
+
+        // 11. 송장 발행 + 승인
+        Long invoiceId = metrics.record(INVOICE, () -> {
+            JsonNode invoice = admin.post("/api/invoices/from-delivery/" + deliveryId, null);
+            long id = invoice.path("id").asLong();
+            admin.put("/api/invoices/" + id + "/approve", Map.of());
+            return id;
+        });
+
+        // 12. 결제
+        metrics.record(PAYMENT, () -> admin.post("/api/payments/process-invoice/" + invoiceId,
+                Map.of("paymentMethod", "계좌이체", "paymentDate", LocalDate.now().toString(), "notes", label)));
+    }
+
+    private void approveAll(long purchaseRequestId) {
+        for (int step = 0; step < MAX_APPROVAL_STEPS; step++) {
+            JsonNode lines = sessions.getAdministrator().get("/api/approvals/" + purchaseRequestId);
+            JsonNode current = null;
+            for (JsonNode line : lines) {
+                if ("IN_REVIEW".equals(line.path("statusCode").asText())) {
+                    current = line;
+                    break;
+                }
+            }
+            if (current == null) {
+                return; // 모든 결재 완료 (또는 결재선 없음)
+            }
+            ApiClient approver = sessions.findByMemberId(current.path("approverId").asLong());
+            long lineId = current.path("id").asLong();
+            metrics.record(APPROVE, () -> approver.post("/api/approvals/" + lineId + "/process",
+                    Map.of("action", "APPROVE", "comment", "부하 테스트 승인")));
+        }
+        throw new StepFailedException("결재 단계가 " + MAX_APPROVAL_STEPS + "회 안에 끝나지 않았습니다: " + purchaseRequestId);
+    }
+
+    private Long createBidding(long purchaseRequestId, long purchaseRequestItemId, int quantity,
+                               String label, List<ApiClient> invited) {
+        return transactionTemplate.execute(status -> {
+            BiddingFormDto form = new BiddingFormDto();
+            form.setPurchaseRequest(purchaseRequestRepository.getReferenceById(purchaseRequestId));
+            form.setPurchaseRequestItem(purchaseRequestItemRepository.getReferenceById(purchaseRequestItemId));
+            form.setTitle(label + " 입찰");
+            form.setConditions("부하 테스트 입찰 조건");
+            form.setStartDate(LocalDateTime.now().minusMinutes(1));
+            form.setEndDate(LocalDateTime.now().plusDays(7));
+            form.setQuantity(quantity);
+            form.setUnitPrice(BigDecimal.valueOf(100_000));
+            form.setSupplierIds(invited.stream().map(ApiClient::getMemberId).toList());
+            BiddingDto bidding = biddingService.createBidding(form);
+            return bidding.getId();
+        });
+    }
+
+    private Map<String, Object> purchaseRequestBody(String requestName) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < settings.getItemsPerRequest(); i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("itemId", itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size())));
+            item.put("specification", "부하 테스트 규격");
+            item.put("quantity", ThreadLocalRandom.current().nextInt(1, 20));
+            item.put("unitPrice", BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1, 100) * 1000L));
+            item.put("deliveryRequestDate", LocalDate.now().plusDays(14).toString());
+            item.put("deliveryLocation", "본사 창고");
+            items.add(item);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("businessType", "GOODS");
+        body.put("requestName", requestName);
+        body.put("requestDate", LocalDate.now().toString());
+        body.put("customer", "부하테스트 고객사");
+        body.put("businessDepartment", "구매관리팀");
+        body.put("businessManager", "부하테스트 담당자");
+        body.put("businessBudget", BigDecimal.valueOf(10_000_000));
+        body.put("managerPhoneNumber", "010-0000-0000");
+        body.put("projectContent", "부하 테스트용 구매요청");
+        body.put("items", items);
+        return body;
+    }
+
+    private List<ApiClient> pickSuppliers() {
+        List<ApiClient> all = new ArrayList<>(sessions.getSuppliers());
+        int count = Math.max(1, Math.min(settings.getSuppliersPerBidding(), all.size()));
+        List<ApiClient> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(all.remove(ThreadLocalRandom.current().nextInt(all.size())));
+        }
+        return picked;
+    }
+
+    private static int randomScore() {
+        return ThreadLocalRandom.current().nextInt(1, 6);
+    }
+
+    private void thinkTime() {
+        if (settings.getThinkTimeMillis() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(settings.getThinkTimeMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.orbit.loadtest;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 사용자가 사용할 로그인 세션 모음
+ * - MemberDataInitializer / SupplierRegistrationInitializer 가 만든 기본 계정(비밀번호 1234)으로 로그인한다.
+ * - 결재선의 결재자는 회원 ID로 찾으므로 결재 가능한 내부 계정을 모두 미리 로그인해 둔다.
+ */
+@Slf4j
+public class SessionPool {
+
+    private static final String DEFAULT_PASSWORD = "1234";
+    private static final String[] DEPARTMENT_PREFIXES = {"001", "002", "003", "004", "005", "006"};
+    private static final String[] DEPARTMENT_ROLES = {"staff-1", "staff-2", "asst-1", "asst-2", "mgr-1", "sr-1", "dir-1"};
+    private static final int SUPPLIER_COUNT = 20;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private final Map<Long, ApiClient> byMemberId = new ConcurrentHashMap<>();
+    @Getter
+    private final List<ApiClient> requesters = new ArrayList<>();
+    @Getter
+    private final List<ApiClient> suppliers = new ArrayList<>();
+    @Getter
+    private ApiClient administrator;
+
+    public SessionPool(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    public void loginAll() {
+        for (String prefix : DEPARTMENT_PREFIXES) {
+            for (String role : DEPARTMENT_ROLES) {
+                ApiClient client = login(prefix + "-" + role);
+                if (role.startsWith("staff") || role.startsWith("asst")) {
+                    requesters.add(client);
+                }
+            }
+        }
+        for (String username : List.of("DEPT-007-001", "DEPT-007-002", "testuser1", "testuser2", "purchaser", "finmanager", "executive")) {
+            login(username);
+        }
+        administrator = login("testadmin");
+
+        for (int i = 1; i <= SUPPLIER_COUNT; i++) {
+            suppliers.add(login("supplier" + i));
+        }
+        log.info("로그인 세션 준비 완료 - 내부 {}명, 공급사 {}명", byMemberId.size() - suppliers.size(), suppliers.size());
+    }
+
+    public ApiClient findByMemberId(Long memberId) {
+        ApiClient client = byMemberId.get(memberId);
+        if (client == null) {
+            throw new StepFailedException("로그인 세션이 없는 회원입니다: " + memberId);
+        }
+        return client;
+    }
+
+    private ApiClient login(String username) {
+        ApiClient client = new ApiClient(httpClient, baseUrl, username).login(DEFAULT_PASSWORD);
+        if (client.getMemberId() != null) {
+            byMemberId.put(client.getMemberId(), client);
+        }
+        return client;
+    }
+}
@@ -0,0 +1,15 @@
+package com.orbit.loadtest;
+
+/**
+ * 시나리오 단계 실패 (HTTP 오류, 응답 누락 등)
+ */
+public class StepFailedException extends RuntimeException {
+
+    public StepFailedException(String message) {
+        super(message);
+    }
+
+    public StepFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
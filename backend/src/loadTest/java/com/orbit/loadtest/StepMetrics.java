@@ -0,0 +1,104 @@
+package com.orbit.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 단계별 응답 시간/오류 집계
+ * - 단계 이름마다 성공 응답 시간(ns)과 실패 횟수를 모은다.
+ * - 백분위수는 실행이 끝난 뒤 정렬해서 계산한다. (수만 건 수준이라 히스토그램 없이 충분)
+ */
+public class StepMetrics {
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final List<String> order = new ArrayList<>();
+
+    /**
+     * 단계를 실행하고 소요 시간을 기록한다. 실패하면 오류로 집계한 뒤 예외를 그대로 던진다.
+     */
+    public <T> T record(String step, Supplier<T> action) {
+        Recorder recorder = recorder(step);
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            recorder.success(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            recorder.failure();
+            throw e;
+        }
+    }
+
+    public Map<String, StepSummary> summarize() {
+        Map<String, StepSummary> result = new LinkedHashMap<>();
+        synchronized (order) {
+            for (String step : order) {
+                result.put(step, recorders.get(step).summarize(step));
+            }
+        }
+        return result;
+    }
+
+    private Recorder recorder(String step) {
+        Recorder recorder = recorders.get(step);
+        if (recorder != null) {
+            return recorder;
+        }
+        synchronized (order) {
+            return recorders.computeIfAbsent(step, key -> {
+                order.add(key);
+                return new Recorder();
+            });
+        }
+    }
+
+    private static class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void success(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized void failure() {
+            errors++;
+        }
+
+        synchronized StepSummary summarize(String step) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new StepSummary(step, size, errors,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMillis(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 단계별 결과 (시간 단위: ms)
+     */
+    public record StepSummary(String step, long count, long errors,
+                              double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        public double errorRate() {
+            long total = count + errors;
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+}
@@ -1,24 +1,22 @@
 package com.orbit.config;
 
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
 
-import com.orbit.aspect.ProcessEventAspects;
 import com.orbit.event.handler.PurchaseRequestStateHandler;
+import com.orbit.event.handler.PurchaseRequestTransitionExecutor;
 import com.orbit.event.listener.PurchaseRequestStatusChangeListener;
 import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.util.PurchaseRequestRelationFinder;
 
 /**
  * 구매 요청 상태 관리를 위한 설정 클래스
- * AOP 활성화 및 관련 컴포넌트 자동 등록
+ * 관련 컴포넌트 자동 등록 (프로세스 이벤트는 각 서비스가 ProcessEventPublisher 로 직접 발행)
  */
 @Configuration
-@EnableAspectJAutoProxy
 @Import({
-        ProcessEventAspects.class,
         PurchaseRequestStateHandler.class,
+        PurchaseRequestTransitionExecutor.class,
         PurchaseRequestStatusChangeListener.class,
         ProcessEventPublisher.class,
         PurchaseRequestRelationFinder.class
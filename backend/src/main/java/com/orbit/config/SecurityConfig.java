@@ -7,6 +7,7 @@ import com.orbit.security.CustomUserDetailsService;
 import com.orbit.security.handler.CustomAuthenticationEntryPoint;
 import com.orbit.security.handler.CustomAuthenticationSuccessHandler;
 import com.orbit.security.handler.CustomLogoutSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -105,6 +106,9 @@ public class SecurityConfig {
         // URL 별 접근 권한 설정
         http.authorizeHttpRequests(request -> request
 
+                // 비동기 응답(CompletableFuture) 디스패치 - 원 요청에서 이미 권한 검사를 마쳤다.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 공개 접근 가능한 API 엔드포인트
                 .requestMatchers(
                         "/",
@@ -124,7 +128,7 @@ public class SecurityConfig {
 
 
                 // WebSocket 관련 요청은 인증 검사 제외
-                .requestMatchers("/ws/**", "/topic/**").permitAll()
+                .requestMatchers("/ws/**", "/ws-native", "/topic/**").permitAll()
 
                 // 사용자 관리 (ADMIN 역할만 접근 가능)
                 .requestMatchers("/api/members").hasRole("ADMIN")
@@ -160,6 +164,9 @@ public class SecurityConfig {
                 // 입고 관리 (ADMIN 역할만 접근 가능)
                 .requestMatchers("/api/deliveries", "/api/deliveries/**").hasAnyRole("BUYER", "ADMIN","SUPPLIER")
 
+                // PG 웹훅 (PG 서버가 인증 없이 호출, 내용은 믿지 않고 PG 에 다시 조회해서 반영)
+                .requestMatchers(HttpMethod.POST, "/api/payments/gateway/webhook").permitAll()
+
                 // 지불 관리 (ADMIN 역할만 접근 가능)
                 .requestMatchers("/api/payments/**").hasAnyRole("BUYER","ADMIN")
 
@@ -90,8 +90,8 @@ public class CommonCodeDataInitializer {
        // 입찰 방식 코드
        ParentCode bidMethod = initParentCode("BIDDING", "METHOD", "입찰 방식");
        initChildCodes(bidMethod,
-               List.of("FIXED_PRICE", "PRICE_SUGGESTION"),
-               List.of("정가제안", "가격제안")
+               List.of("FIXED_PRICE", "PRICE_SUGGESTION", "REVERSE_AUCTION"),
+               List.of("정가제안", "가격제안", "역경매")
        );
 
        // 입찰 계약 상태 코드
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.orbit.entity.approval.Department;
 import com.orbit.entity.approval.Position;
 import com.orbit.entity.member.Member;
+import com.orbit.event.event.OrgChartChangedEvent;
 import com.orbit.repository.approval.DepartmentRepository;
 import com.orbit.repository.approval.PositionRepository;
 import com.orbit.repository.member.MemberRepository;
@@ -28,6 +30,7 @@ public class MemberDataInitializer {
     private final DepartmentRepository departmentRepo;
     private final PositionRepository positionRepo;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 직급 레벨 상수 정의
     private static final int STAFF_LEVEL = 1;
@@ -79,6 +82,9 @@ public class MemberDataInitializer {
                     );
                 }
 
+                // 조직도 인덱스 재구성 (커밋 후)
+                eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
+
             } catch (Exception e) {
                 log.error("Error during data initialization", e);
                 throw new RuntimeException("Data initialization failed", e);
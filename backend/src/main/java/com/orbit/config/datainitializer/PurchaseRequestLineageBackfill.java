@@ -0,0 +1,82 @@
+package com.orbit.config.datainitializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구매 요청 계보(purchase_request_id) 백필
+ * - 입찰/계약/발주/입고/송장/결제 행의 purchase_request_id 컬럼이 추가되기 전에 만들어진 데이터를 채운다.
+ * - 상위 문서부터 차례로 집합 UPDATE 를 실행하므로 문서마다 한 번의 조인으로 끝나고,
+ *   비어 있는 행만 대상으로 하므로 이미 채워진 뒤에는 아무것도 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class PurchaseRequestLineageBackfill {
+
+    // 실행 순서가 중요하다 (상위 문서가 먼저 채워져야 하위 문서가 따라간다)
+    private static final Map<String, String> STATEMENTS = new LinkedHashMap<>();
+
+    static {
+        STATEMENTS.put("bidding_contracts",
+                "UPDATE bidding_contracts c JOIN biddings b ON b.id = c.bidding_id " +
+                "SET c.purchase_request_id = b.purchase_request_id " +
+                "WHERE c.purchase_request_id IS NULL AND b.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("bidding_orders(품목)",
+                "UPDATE bidding_orders o JOIN purchase_request_items i ON i.purchase_request_item_id = o.purchase_request_item_id " +
+                "SET o.purchase_request_id = i.purchase_request_id " +
+                "WHERE o.purchase_request_id IS NULL AND i.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("bidding_orders(입찰)",
+                "UPDATE bidding_orders o JOIN biddings b ON b.id = o.bidding_id " +
+                "SET o.purchase_request_id = b.purchase_request_id " +
+                "WHERE o.purchase_request_id IS NULL AND b.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("deliveries(품목)",
+                "UPDATE deliveries d JOIN purchase_request_items i ON i.purchase_request_item_id = d.purchase_request_item_id " +
+                "SET d.purchase_request_id = i.purchase_request_id " +
+                "WHERE d.purchase_request_id IS NULL AND i.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("deliveries(발주)",
+                "UPDATE deliveries d JOIN bidding_orders o ON o.id = d.bidding_order_id " +
+                "SET d.purchase_request_id = o.purchase_request_id " +
+                "WHERE d.purchase_request_id IS NULL AND o.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("invoices",
+                "UPDATE invoices v JOIN deliveries d ON d.id = v.delivery_id " +
+                "SET v.purchase_request_id = d.purchase_request_id " +
+                "WHERE v.purchase_request_id IS NULL AND d.purchase_request_id IS NOT NULL");
+        STATEMENTS.put("payments",
+                "UPDATE payments p JOIN invoices v ON v.id = p.invoice_id " +
+                "SET p.purchase_request_id = v.purchase_request_id " +
+                "WHERE p.purchase_request_id IS NULL AND v.purchase_request_id IS NOT NULL");
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${purchase-request.lineage.backfill-enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        for (Map.Entry<String, String> statement : STATEMENTS.entrySet()) {
+            int updated = entityManager.createNativeQuery(statement.getValue()).executeUpdate();
+            if (updated > 0) {
+                log.info("구매 요청 계보 백필 - {}: {}건", statement.getKey(), updated);
+            }
+            total += updated;
+        }
+        log.info("구매 요청 계보 백필 완료 - 총 {}건", total);
+    }
+}
@@ -68,6 +68,9 @@ public class RedisConfig {
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
         template.setValueSerializer(stringSerializer);
+        // Hash 도 문자열로 저장 (채팅 미읽음 카운터 - Lua 스크립트와 같은 필드 형식)
+        template.setHashKeySerializer(stringSerializer);
+        template.setHashValueSerializer(stringSerializer);
 
         return template;
     }
@@ -0,0 +1,47 @@
+package com.orbit.config.sqltrace;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 단위 SQL 추적 설정
+ * - Hibernate StatementInspector 등록 (hibernate.session_factory.statement_inspector)
+ * - DataSource를 SqlTraceDataSource로 감싸 JDBC 실행 시간을 측정
+ * - sqltrace.enabled=false 이면 둘 다 등록하지 않는다.
+ */
+@Configuration
+public class SqlTraceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlTraceHibernatePropertiesCustomizer(SqlTraceProperties properties) {
+        return hibernateProperties -> {
+            if (properties.isEnabled()) {
+                hibernateProperties.put("hibernate.session_factory.statement_inspector", new SqlTraceStatementInspector());
+            }
+        };
+    }
+
+    /**
+     * DataSource 빈을 SqlTraceDataSource로 감싸는 BeanPostProcessor
+     * - BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록한다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlTraceDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("sqltrace.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (enabled && bean instanceof DataSource && !(bean instanceof SqlTraceDataSource)) {
+                    return new SqlTraceDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.orbit.config.sqltrace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 추적 컨텍스트
+ * - SqlTraceFilter가 요청 시작 시 현재 스레드에 바인딩하고, 요청 종료 시 해제한다.
+ * - StatementInspector(Hibernate)와 JDBC 실행 계층에서 같은 컨텍스트에 집계한다.
+ * - 요청 스레드 밖(스케줄러, 비동기 작업 등)에서는 컨텍스트가 없으므로 아무것도 집계하지 않는다.
+ */
+public final class SqlTraceContext {
+
+    private static final ThreadLocal<SqlTraceContext> CURRENT = new ThreadLocal<>();
+
+    // SQL 문자열 -> 지문 캐시 (Hibernate가 만드는 SQL은 반복되므로 정규화는 한 번만 수행)
+    private static final int FINGERPRINT_CACHE_LIMIT = 2048;
+    private static final Map<String, String> FINGERPRINT_CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long startNanos = System.nanoTime();
+    private int hibernateStatementCount;    // StatementInspector를 거친 SQL 수
+    private int executionCount;             // JDBC 실행 횟수
+    private long dbNanos;                   // JDBC 실행 누적 시간
+    private final Map<String, StatementStat> statements = new HashMap<>();
+
+    private SqlTraceContext() {
+    }
+
+    public static SqlTraceContext begin() {
+        SqlTraceContext context = new SqlTraceContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static SqlTraceContext current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Hibernate가 SQL을 준비할 때 호출
+     */
+    void onHibernateStatement() {
+        hibernateStatementCount++;
+    }
+
+    /**
+     * JDBC 실행이 끝났을 때 호출
+     * @param sql 실행한 SQL (알 수 없으면 null)
+     * @param elapsedNanos 실행 시간
+     */
+    void onExecution(String sql, long elapsedNanos) {
+        executionCount++;
+        dbNanos += elapsedNanos;
+        String fingerprint = fingerprint(sql);
+        statements.computeIfAbsent(fingerprint, key -> new StatementStat(key)).add(elapsedNanos);
+    }
+
+    public int getHibernateStatementCount() {
+        return hibernateStatementCount;
+    }
+
+    public int getExecutionCount() {
+        return executionCount;
+    }
+
+    public double getDbMillis() {
+        return dbNanos / 1_000_000.0;
+    }
+
+    public double getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /**
+     * 누적 시간이 큰 순서로 상위 SQL 지문 반환
+     */
+    public List<StatementStat> getTopStatements(int limit) {
+        List<StatementStat> sorted = new ArrayList<>(statements.values());
+        sorted.sort(Comparator.comparingLong(StatementStat::getTotalNanos).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    /**
+     * SQL 지문 생성
+     * - 문자열/숫자 리터럴을 ?로 치환하고, IN (?, ?, ...) 목록과 공백을 하나로 합친다.
+     * - 같은 형태의 쿼리가 N번 반복되는 경우(N+1)를 한 줄로 묶어서 볼 수 있다.
+     */
+    static String fingerprint(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String cached = FINGERPRINT_CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase();
+        if (FINGERPRINT_CACHE.size() < FINGERPRINT_CACHE_LIMIT) {
+            FINGERPRINT_CACHE.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * SQL 지문별 실행 통계
+     */
+    public static final class StatementStat {
+        private final String fingerprint;
+        private int count;
+        private long totalNanos;
+
+        private StatementStat(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void add(long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.orbit.config.sqltrace;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 실행 시간을 측정하는 DataSource 래퍼
+ * - Connection/Statement를 동적 프록시로 감싸 execute* 호출의 소요 시간을 SqlTraceContext에 누적한다.
+ * - DelegatingDataSource를 상속하므로 unwrap(HikariDataSource.class) 등 커넥션 풀 조회는 그대로 동작한다.
+ * - 요청 컨텍스트가 없으면 측정 없이 그대로 위임한다.
+ */
+public class SqlTraceDataSource extends DelegatingDataSource {
+
+    public SqlTraceDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlTraceDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    /**
+     * Connection 프록시: Statement 생성 메서드만 가로채서 Statement 프록시를 반환
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement && "prepareCall".equals(name)) {
+                return wrapStatement((Statement) result, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement && "prepareStatement".equals(name)) {
+                return wrapStatement((Statement) result, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement && "createStatement".equals(name)) {
+                return wrapStatement((Statement) result, Statement.class, null);
+            }
+            return result;
+        }
+    }
+
+    private static Object wrapStatement(Statement statement, Class<?> type, String sql) {
+        return Proxy.newProxyInstance(
+                SqlTraceDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, sql));
+    }
+
+    /**
+     * Statement 프록시: execute* 호출 시간을 측정
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlTraceContext context = SqlTraceContext.current();
+            if (context == null || !method.getName().startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            // Statement.execute(String sql) 계열은 인자로 SQL이 넘어온다.
+            String sql = preparedSql;
+            if (sql == null && args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            }
+
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                context.onExecution(sql, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
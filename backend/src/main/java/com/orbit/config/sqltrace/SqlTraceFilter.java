@@ -0,0 +1,187 @@
+package com.orbit.config.sqltrace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 SQL 추적 필터
+ * - 요청마다 SqlTraceContext를 시작하고, 종료 시 SQL 실행 횟수와 DB 누적 시간을 집계한다.
+ * - prod 프로필이 아니면 Server-Timing 응답 헤더로 db/app 시간을 노출한다. (브라우저 개발자도구 Timing 탭에서 확인)
+ * - 전체 시간, DB 시간, SQL 횟수 중 하나라도 임계치를 넘으면 느린 요청 기록(JSON)을 남긴다.
+ * - 시큐리티 필터 체인보다 바깥에서 동작해야 인증 과정의 SQL까지 포함되므로 가장 높은 우선순위로 등록한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    private final SqlTraceProperties properties;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlTraceContext context = SqlTraceContext.begin();
+        HttpServletResponse tracedResponse = isServerTimingEnabled()
+                ? new ServerTimingResponseWrapper(response, context)
+                : response;
+        try {
+            filterChain.doFilter(request, tracedResponse);
+        } finally {
+            if (tracedResponse instanceof ServerTimingResponseWrapper) {
+                ((ServerTimingResponseWrapper) tracedResponse).writeServerTiming();
+            }
+            SqlTraceContext.end();
+            recordIfSlow(request, response, context);
+        }
+    }
+
+    private boolean isServerTimingEnabled() {
+        return properties.isServerTiming() && !environment.matchesProfiles("prod");
+    }
+
+    /**
+     * 임계치를 넘은 요청에 대해 구조화된 느린 요청 기록을 남긴다.
+     */
+    private void recordIfSlow(HttpServletRequest request, HttpServletResponse response, SqlTraceContext context) {
+        double totalMs = context.getElapsedMillis();
+        double dbMs = context.getDbMillis();
+        int queryCount = context.getExecutionCount();
+
+        if (totalMs < properties.getSlowTotalMs()
+                && dbMs < properties.getSlowDbMs()
+                && queryCount < properties.getSlowQueryCount()) {
+            return;
+        }
+
+        List<Map<String, Object>> topStatements = context.getTopStatements(properties.getTopStatements()).stream()
+                .map(stat -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("fingerprint", stat.getFingerprint());
+                    entry.put("count", stat.getCount());
+                    entry.put("totalMs", round(stat.getTotalNanos() / 1_000_000.0));
+                    return entry;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("endpoint", request.getMethod() + " " + resolveEndpoint(request));
+        record.put("status", response.getStatus());
+        record.put("queryCount", queryCount);
+        record.put("hibernateStatementCount", context.getHibernateStatementCount());
+        record.put("dbMs", round(dbMs));
+        record.put("totalMs", round(totalMs));
+        record.put("appMs", round(Math.max(0, totalMs - dbMs)));
+        record.put("topStatements", topStatements);
+
+        try {
+            log.warn("[SLOW-REQUEST] {}", objectMapper.writeValueAsString(record));
+        } catch (Exception e) {
+            log.warn("[SLOW-REQUEST] {}", record);
+        }
+    }
+
+    /**
+     * 핸들러 매핑 패턴(/api/biddings/{id})이 있으면 패턴을, 없으면 URI를 사용한다.
+     * - 같은 엔드포인트의 기록을 묶어서 볼 수 있도록 ID가 들어간 URI 대신 패턴을 우선한다.
+     */
+    private String resolveEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    /**
+     * Server-Timing 헤더를 응답 커밋 직전에 추가하는 래퍼
+     * - 헤더는 본문이 쓰이기 전에만 추가할 수 있으므로 getOutputStream/getWriter/flush/sendError/sendRedirect 시점에 기록한다.
+     * - 컨트롤러가 값을 반환한 뒤 메시지 컨버터가 본문을 쓰기 시작하므로 그 시점까지의 DB 시간이 포함된다.
+     */
+    private static final class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+        private final SqlTraceContext context;
+        private boolean written;
+
+        private ServerTimingResponseWrapper(HttpServletResponse response, SqlTraceContext context) {
+            super(response);
+            this.context = context;
+        }
+
+        void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            double dbMs = context.getDbMillis();
+            double totalMs = context.getElapsedMillis();
+            addHeader("Server-Timing", String.format(
+                    "db;dur=%.1f;desc=\"%d queries\", app;dur=%.1f",
+                    dbMs, context.getExecutionCount(), Math.max(0, totalMs - dbMs)));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.orbit.config.sqltrace;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 추적 설정 정보
+ * - application.properties 파일에 정의된 sqltrace.* 값을 읽어온다.
+ * - 요청 단위로 실행된 SQL 개수와 DB 시간을 집계하고, 임계치를 넘으면 느린 요청 기록을 남긴다.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("sqltrace")
+public class SqlTraceProperties {
+
+    private boolean enabled = true;             // SQL 추적 사용 여부
+    private boolean serverTiming = true;        // Server-Timing 응답 헤더 사용 여부 (prod 프로필에서는 항상 비활성화)
+    private long slowTotalMs = 1000;            // 전체 처리 시간 임계치(ms)
+    private long slowDbMs = 500;                // DB 누적 시간 임계치(ms)
+    private int slowQueryCount = 50;            // 요청당 SQL 실행 횟수 임계치
+    private int topStatements = 5;              // 느린 요청 기록에 포함할 상위 SQL 지문 개수
+}
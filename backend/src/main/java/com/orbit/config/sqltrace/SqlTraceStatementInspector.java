@@ -0,0 +1,20 @@
+package com.orbit.config.sqltrace;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector
+ * - Hibernate가 JDBC로 SQL을 넘기기 직전에 호출된다.
+ * - SQL은 변경하지 않고 현재 요청의 Hibernate SQL 수만 센다.
+ */
+public class SqlTraceStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlTraceContext context = SqlTraceContext.current();
+        if (context != null) {
+            context.onHibernateStatement();
+        }
+        return sql;
+    }
+}
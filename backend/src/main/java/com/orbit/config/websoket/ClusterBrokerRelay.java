@@ -0,0 +1,177 @@
+package com.orbit.config.websoket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 STOMP 메시지 중계 (Redis Pub/Sub)
+ * - 이 노드에서 /topic, /queue, /user 로 보낸 메시지를 목적지별 Redis 채널("stomp:" + 목적지)에 발행한다.
+ * - 다른 노드는 자기 노드에 구독자가 있는 목적지 채널만 구독하므로(ClusterSubscriptionTracker) 필요한 메시지만 받는다.
+ * - 받은 메시지는 이 노드의 brokerChannel 에 다시 넣어 로컬 구독자에게 전달한다.
+ *   (/user/{사용자}/... 는 UserDestinationMessageHandler 가 이 노드의 세션으로 변환한다)
+ * - 자기 노드가 발행한 메시지, 다른 노드에서 받은 메시지, 세션 단위로 변환된 메시지는 다시 발행하지 않는다.
+ */
+@Slf4j
+@Component
+public class ClusterBrokerRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL_PREFIX = "stomp:";
+    // 노드 로컬에만 전달할 메시지 표시 (Redis 채널로 이미 전 노드에 배포된 채팅 메시지 등)
+    public static final String LOCAL_ONLY_HEADER = "x-cluster-local";
+    private static final String RELAY_ORIGIN_HEADER = "clusterRelayOrigin";
+    private static final String[] RELAYED_PREFIXES = {"/topic/", "/queue/", "/user/"};
+
+    record Envelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<MessageChannel> brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Set<String> listening = ConcurrentHashMap.newKeySet();
+
+    public ClusterBrokerRelay(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                              ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                              @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannel,
+                              ObjectMapper objectMapper,
+                              @Value("${websocket.cluster.enabled:true}") boolean enabled,
+                              @Value("${websocket.cluster.node-id:}") String nodeId) {
+        this.redisStringTemplate = redisStringTemplate;
+        this.listenerContainer = listenerContainer;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로컬 구독자가 생긴 목적지 채널 구독 (ClusterSubscriptionTracker 가 0 -> 1 일 때 호출)
+     */
+    public void listen(String destination) {
+        if (enabled && listening.add(destination)) {
+            listenerContainer.getObject().addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+            log.debug("클러스터 목적지 구독: {}", destination);
+        }
+    }
+
+    /**
+     * 로컬 구독자가 모두 사라진 목적지 채널 구독 해제 (1 -> 0 일 때 호출)
+     */
+    public void unlisten(String destination) {
+        if (enabled && listening.remove(destination)) {
+            listenerContainer.getObject().removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+            log.debug("클러스터 목적지 구독 해제: {}", destination);
+        }
+    }
+
+    public boolean isListening(String destination) {
+        return listening.contains(destination);
+    }
+
+    /**
+     * brokerChannel 로 나가는 메시지를 다른 노드에 발행 (로컬 전달은 그대로 진행)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || !isRelayed(destination)
+                || accessor.getHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) != null
+                || accessor.getHeader(RELAY_ORIGIN_HEADER) != null
+                || accessor.getFirstNativeHeader(LOCAL_ONLY_HEADER) != null) {
+            return message;
+        }
+
+        byte[] payload = toBytes(message.getPayload());
+        if (payload == null) {
+            log.debug("클러스터 중계 불가 페이로드 - {}: {}", destination, message.getPayload().getClass().getName());
+            return message;
+        }
+        try {
+            MimeType contentType = accessor.getContentType();
+            Envelope envelope = new Envelope(nodeId, destination, contentType != null ? contentType.toString() : null, payload);
+            redisStringTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 중계 실패가 로컬 전달을 막지 않도록 로그만 남긴다
+            log.warn("클러스터 메시지 발행 실패 - {}: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * 다른 노드가 발행한 메시지를 로컬 구독자에게 전달
+     */
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(redisMessage.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return; // 자기 노드가 발행한 메시지는 이미 로컬에 전달됨
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setHeader(RELAY_ORIGIN_HEADER, envelope.origin());
+            brokerChannel.getObject().send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("클러스터 메시지 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isRelayed(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (String prefix : RELAYED_PREFIXES) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] toBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+}
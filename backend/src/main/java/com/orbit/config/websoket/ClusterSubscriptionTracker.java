@@ -0,0 +1,115 @@
+package com.orbit.config.websoket;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드별 STOMP 구독 추적
+ * - 클라이언트의 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 를 보고 목적지별 로컬 구독 수를 센다.
+ * - 목적지의 로컬 구독이 처음 생기면 해당 Redis 채널을 구독하고, 마지막 구독이 사라지면 해제한다. (ClusterBrokerRelay)
+ * - /user/queue/... 구독은 서버에서 보내는 목적지 형태(/user/{사용자}/queue/...)로 바꿔서 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterSubscriptionTracker implements ChannelInterceptor {
+
+    private static final String USER_PREFIX = "/user/";
+
+    private final ClusterBrokerRelay relay;
+
+    // 세션 ID -> (구독 ID -> 목적지)
+    private final Map<String, Map<String, String>> sessions = new HashMap<>();
+    // 목적지 -> 로컬 구독 수
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!relay.isEnabled() || !sent) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        String sessionId = accessor.getSessionId();
+        if (type == null || sessionId == null) {
+            return;
+        }
+
+        switch (type) {
+            case SUBSCRIBE -> {
+                String destination = clusterDestination(accessor.getDestination(), accessor.getUser());
+                if (destination != null) {
+                    subscribe(sessionId, accessor.getSubscriptionId(), destination);
+                }
+            }
+            case UNSUBSCRIBE -> unsubscribe(sessionId, accessor.getSubscriptionId());
+            case DISCONNECT -> disconnect(sessionId);
+            default -> {
+            }
+        }
+    }
+
+    private synchronized void subscribe(String sessionId, String subscriptionId, String destination) {
+        String previous = sessions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, destination);
+        if (previous != null) {
+            release(previous);
+        }
+        if (counts.merge(destination, 1, Integer::sum) == 1) {
+            relay.listen(destination);
+        }
+    }
+
+    private synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            release(destination);
+        }
+    }
+
+    private synchronized void disconnect(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(String destination) {
+        Integer remaining = counts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            relay.unlisten(destination);
+        }
+    }
+
+    /**
+     * 클라이언트 구독 목적지 -> 서버 발행 목적지
+     * - /topic/..., /queue/... 는 그대로, /user/queue/... 는 /user/{사용자}/queue/...
+     */
+    static String clusterDestination(String destination, Principal user) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(USER_PREFIX)) {
+            if (user == null) {
+                return null;
+            }
+            // SimpMessagingTemplate.convertAndSendToUser 와 같은 방식으로 사용자명 인코딩
+            String userName = user.getName().replace("/", "%2F");
+            return USER_PREFIX + userName + destination.substring(USER_PREFIX.length() - 1);
+        }
+        return destination.startsWith("/topic/") || destination.startsWith("/queue/") ? destination : null;
+    }
+
+    public synchronized int localSubscriptions(String destination) {
+        return counts.getOrDefault(destination, 0);
+    }
+}
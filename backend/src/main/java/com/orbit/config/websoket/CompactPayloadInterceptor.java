@@ -0,0 +1,121 @@
+package com.orbit.config.websoket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큰 JSON 페이로드의 CBOR 변환 (선택)
+ * - 순수 웹소켓 엔드포인트(/ws-native)로 접속해 CONNECT 헤더 accept-encoding 에 cbor 를 보낸 세션에만 적용한다.
+ *   (SockJS 는 텍스트 프레임만 쓰므로 바이너리 페이로드를 실을 수 없다)
+ * - 기준 크기 이상인 application/json 메시지를 CBOR 로 바꿔 바이너리 프레임으로 보낸다.
+ *   content-type 은 application/octet-stream, STOMP 헤더 content-encoding 은 cbor. (결재선 목록, 대시보드 데이터 등)
+ * - 같은 메시지가 구독자 수만큼 나가므로 직전 변환 결과를 페이로드 배열 단위로 재사용한다.
+ */
+@Slf4j
+@Component
+public class CompactPayloadInterceptor implements ChannelInterceptor {
+
+    public static final String ACCEPT_ENCODING_HEADER = "accept-encoding";
+    public static final String CONTENT_ENCODING_HEADER = "content-encoding";
+    // 바이너리 프레임을 보낼 수 있는 엔드포인트로 들어온 세션 표시 (핸드셰이크 시 세션 속성에 기록)
+    public static final String BINARY_CAPABLE_ATTRIBUTE = "compactPayloadCapable";
+    private static final String CBOR = "cbor";
+
+    private record Encoded(byte[] json, byte[] cbor) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final boolean enabled;
+    private final int minBytes;
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+    private volatile Encoded lastEncoded;
+
+    public CompactPayloadInterceptor(ObjectMapper objectMapper,
+                                     @Value("${websocket.compact.enabled:true}") boolean enabled,
+                                     @Value("${websocket.compact.min-bytes:2048}") int minBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        String sessionId = accessor.getSessionId();
+        if (type == null || sessionId == null) {
+            return message;
+        }
+
+        switch (type) {
+            case CONNECT -> {
+                String accepted = accessor.getFirstNativeHeader(ACCEPT_ENCODING_HEADER);
+                Map<String, Object> attributes = accessor.getSessionAttributes();
+                if (accepted != null && accepted.toLowerCase().contains(CBOR)
+                        && attributes != null && Boolean.TRUE.equals(attributes.get(BINARY_CAPABLE_ATTRIBUTE))) {
+                    cborSessions.add(sessionId);
+                }
+            }
+            case DISCONNECT -> cborSessions.remove(sessionId);
+            case MESSAGE -> {
+                if (cborSessions.contains(sessionId)) {
+                    return encode(message, accessor);
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private Message<?> encode(Message<?> message, SimpMessageHeaderAccessor accessor) {
+        MimeType contentType = accessor.getContentType();
+        if (!(message.getPayload() instanceof byte[] json) || json.length < minBytes
+                || contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+        try {
+            byte[] cbor = toCbor(json);
+            StompHeaderAccessor headers = StompHeaderAccessor.wrap(message);
+            headers.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+            headers.setNativeHeader(CONTENT_ENCODING_HEADER, CBOR);
+            return MessageBuilder.createMessage(cbor, headers.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("CBOR 변환 실패 - JSON 그대로 전송 ({}): {}", accessor.getDestination(), e.getMessage());
+            return message;
+        }
+    }
+
+    private byte[] toCbor(byte[] json) throws IOException {
+        Encoded encoded = lastEncoded;
+        if (encoded != null && encoded.json() == json) {
+            return encoded.cbor();
+        }
+        byte[] cbor = cborMapper.writeValueAsBytes(objectMapper.readTree(json));
+        lastEncoded = new Encoded(json, cbor);
+        return cbor;
+    }
+}
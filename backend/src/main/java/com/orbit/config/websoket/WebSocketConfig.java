@@ -1,10 +1,21 @@
 package com.orbit.config.websoket;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import lombok.RequiredArgsConstructor;
 
 /**
  * 웹소켓 설정
@@ -15,11 +26,36 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - "/ws" 경로로 STOMP 웹소켓 엔드포인트를 등록, 클라이언트는 이 경로로 접속하여 웹소켓 연결을 요청, 웹소켓 연결을 요청하는 이유는? 웹소켓을 사용하여 실시간으로 메시지를 주고받기 위함
  * - "/topic"으로 시작하는 메시지를 메시지 브로커로 라우팅, 메시지 브로커는 이 메시지를 구독하고 있는 클라이언트에게 메시지를 전달, 클라이언트는 이 메시지를 구독하고 있다가 메시지를 받으면 화면에 표시
  * - "/app"으로 시작하는 메시지를 컨트롤러로 라우팅, 컨트롤러는 이 메시지를 처리하여 결과를 반환, 클라이언트는 이 결과를 화면에 표시, 이때 메시지 브로커는 라우팅만 수행하고 메시지를 중계하지 않음, 중계는 메시지 브로커가 수행
+ * - 여러 노드로 실행할 때는 ClusterSubscriptionTracker/ClusterBrokerRelay 가 Redis Pub/Sub 으로 노드 간 메시지를 중계한다.
+ * - 느린 클라이언트가 서버 메모리를 잡아먹지 않도록 세션별 전송 버퍼/시간 한도와 크기가 정해진 아웃바운드 스레드풀을 쓴다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ClusterSubscriptionTracker clusterSubscriptionTracker;
+    private final ClusterBrokerRelay clusterBrokerRelay;
+    private final CompactPayloadInterceptor compactPayloadInterceptor;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:8}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:2000}")
+    private int outboundQueueCapacity;
+
     /**
      * 🔹 STOMP 웹소켓 엔드포인트 등록
      * - STOMP 프로토콜 : 웹소켓을 사용하기 위한 하위 프로토콜로 메시지 전송을 단순화하는 프로토콜, 메시지 전송을 위한 프로토콜
@@ -34,6 +70,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOrigins("http://localhost:3000").withSockJS();
+        // 순수 웹소켓 엔드포인트 - 바이너리 프레임(CBOR 페이로드)을 받을 수 있는 클라이언트용
+        registry.addEndpoint("/ws-native").setAllowedOrigins("http://localhost:3000")
+                .addInterceptors(new HandshakeInterceptor() {
+                    @Override
+                    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                        attributes.put(CompactPayloadInterceptor.BINARY_CAPABLE_ATTRIBUTE, Boolean.TRUE);
+                        return true;
+                    }
+
+                    @Override
+                    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                               WebSocketHandler wsHandler, Exception exception) {
+                    }
+                });
     }
 
     /**
@@ -54,4 +105,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
     }
+
+    /**
+     * 🔹 웹소켓 전송 한도
+     * - 세션별 전송 버퍼/시간 한도를 넘으면(클라이언트가 받는 속도가 너무 느리면) 해당 세션을 끊는다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs);
+    }
+
+    /**
+     * 🔹 클라이언트 인바운드 채널 - 목적지별 로컬 구독 추적 (노드 간 중계 대상 결정), CBOR 수신 가능 세션 기록
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(clusterSubscriptionTracker, compactPayloadInterceptor);
+    }
+
+    /**
+     * 🔹 클라이언트 아웃바운드 채널 - 크기가 정해진 스레드풀, 큰 페이로드 CBOR 변환
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(compactPayloadInterceptor);
+    }
+
+    /**
+     * 🔹 브로커 채널 - 이 노드에서 보낸 메시지를 다른 노드로 중계
+     */
+    @Override
+    public void configureBrokerChannel(ChannelRegistration registration) {
+        registration.interceptors(clusterBrokerRelay);
+    }
 }
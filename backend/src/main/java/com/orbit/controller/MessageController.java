@@ -0,0 +1,113 @@
+package com.orbit.controller;
+
+import com.orbit.dto.MessagePageDto;
+import com.orbit.dto.MessageRequestDto;
+import com.orbit.dto.MessageResponseDto;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.service.MessageService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅 메시지 API
+ * - 전송, 상대방과의 대화 조회(키셋 페이징), 미읽음 수, 읽음 처리
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+public class MessageController {
+
+    private final MessageService messageService;
+
+    @PostMapping
+    public ResponseEntity<MessageResponseDto> send(@Valid @RequestBody MessageRequestDto request) {
+        try {
+            return ResponseEntity.ok(messageService.send(request));
+        } catch (ResourceNotFoundException e) {
+            log.warn("메시지 전송 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalStateException e) {
+            log.error("메시지 전송 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 상대방과의 대화 조회 - 다음 페이지는 응답의 nextCursorTime / nextCursorId 를 넘긴다.
+     */
+    @GetMapping("/conversations/{otherId}")
+    public ResponseEntity<MessagePageDto> getConversation(
+            @PathVariable Long otherId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "30") int size) {
+        try {
+            return ResponseEntity.ok(messageService.getConversation(otherId, cursorTime, cursorId, size));
+        } catch (ResourceNotFoundException e) {
+            log.warn("대화 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * 읽지 않은 메시지 수 (전체 + 발신자별)
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount() {
+        Map<Long, Long> bySender = messageService.getUnreadCounts();
+        Map<String, Object> response = new HashMap<>();
+        response.put("total", bySender.values().stream().mapToLong(Long::longValue).sum());
+        response.put("bySender", bySender);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/conversations/{otherId}/read")
+    public ResponseEntity<Map<String, Object>> markConversationAsRead(@PathVariable Long otherId) {
+        int updated = messageService.markConversationAsRead(otherId);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    /**
+     * 메시지 키로 읽음 처리 (실시간 수신 메시지는 id 가 없음)
+     */
+    @PatchMapping("/key/{messageKey}/read")
+    public ResponseEntity<Void> markAsReadByKey(@PathVariable String messageKey) {
+        try {
+            messageService.markAsReadByKey(messageKey);
+            return ResponseEntity.ok().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    @PatchMapping("/{messageId}/read")
+    public ResponseEntity<Void> markAsRead(@PathVariable Long messageId) {
+        try {
+            messageService.markAsRead(messageId);
+            return ResponseEntity.ok().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+}
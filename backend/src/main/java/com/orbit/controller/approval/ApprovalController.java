@@ -1,19 +1,26 @@
 package com.orbit.controller.approval;
 
+import com.orbit.dto.approval.ApprovalBulkProcessDTO;
+import com.orbit.dto.approval.ApprovalBulkResultDTO;
+import com.orbit.dto.approval.ApprovalInboxPageDTO;
 import com.orbit.dto.approval.ApprovalLineCreateDTO;
 import com.orbit.dto.approval.ApprovalLineResponseDTO;
 import com.orbit.dto.approval.ApprovalProcessDTO;
 import com.orbit.dto.approval.ApprovalTemplateDTO;
+import com.orbit.exception.ApprovalException;
+import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.service.procurement.ApprovalLineService;
 import com.orbit.service.procurement.ApprovalTemplateService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/approvals")
@@ -39,6 +46,24 @@ public class ApprovalController {
         return ResponseEntity.ok(processedLine);
     }
 
+    /**
+     * 결재 일괄 처리 (승인/반려)
+     * - 결재선별 처리 결과를 함께 반환한다. (찾을 수 없거나 이미 처리된 결재선은 실패로 표시)
+     */
+    @PostMapping("/bulk-process")
+    public ResponseEntity<ApprovalBulkResultDTO> processApprovals(
+            @Valid @RequestBody ApprovalBulkProcessDTO dto) {
+        try {
+            return ResponseEntity.ok(approvalLineService.processApprovals(dto));
+        } catch (ApprovalException e) {
+            log.warn("결재 일괄 처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ResourceNotFoundException e) {
+            log.warn("결재 일괄 처리 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<List<ApprovalLineResponseDTO>> getApprovalLines(
             @PathVariable Long requestId) {
@@ -58,6 +83,27 @@ public class ApprovalController {
         return ResponseEntity.ok(pendingApprovals);
     }
 
+    /**
+     * 결재함 조회 (키셋 페이징)
+     * - box: PENDING / CURRENT / COMPLETED, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+     * - 이후 변경 사항은 /user/queue/approvals 로 전달된다.
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<ApprovalInboxPageDTO> getInbox(
+            @RequestParam(defaultValue = "PENDING") String box,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(approvalLineService.getInbox(box, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("결재함 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ResourceNotFoundException e) {
+            log.warn("결재함 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     @GetMapping("/completed")
     public ResponseEntity<List<ApprovalLineResponseDTO>> getCompletedApprovals() {
         List<ApprovalLineResponseDTO> completedApprovals = approvalLineService.getCompletedApprovals();
@@ -1,20 +1,17 @@
 package com.orbit.controller.bidding;
 
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -29,13 +26,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 
 import com.orbit.dto.bidding.BiddingDto;
 import com.orbit.dto.bidding.BiddingEvaluationDto;
 import com.orbit.dto.bidding.BiddingFormDto;
 import com.orbit.dto.bidding.BiddingParticipationDto;
 import com.orbit.dto.bidding.BiddingSupplierDto;
+import com.orbit.dto.bidding.ReverseAuctionDto;
 import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequest;
@@ -43,8 +40,15 @@ import com.orbit.entity.supplier.SupplierRegistration;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.procurement.PurchaseRequestRepository;
 import com.orbit.service.bidding.BiddingService;
+import com.orbit.service.bidding.ReverseAuctionService;
+import com.orbit.service.file.AttachmentBundleService;
+import com.orbit.service.file.FileDownloadService;
 import com.orbit.service.supplier.SupplierRegistrationService;
+import com.orbit.util.PriceCalculator;
 
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,9 +59,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BiddingController {
     private final BiddingService biddingService;
+    private final ReverseAuctionService reverseAuctionService;
     private final SupplierRegistrationService supplierRegistrationService;
     private final PurchaseRequestRepository purchaseRequestRepository;
     private final MemberRepository memberRepository;
+    private final FileDownloadService fileDownloadService;
+    private final AttachmentBundleService attachmentBundleService;
 
    
 
@@ -114,9 +121,7 @@ public class BiddingController {
                                 itemMap.put("quantity", item.getQuantity());
                                 itemMap.put("unitPrice", item.getUnitPrice());
                                 itemMap.put("supplyPrice", item.getTotalPrice());
-                                itemMap.put("vat", item.getTotalPrice() != null 
-                                    ? item.getTotalPrice().multiply(BigDecimal.valueOf(0.1)) 
-                                    : BigDecimal.ZERO);
+                                itemMap.put("vat", PriceCalculator.calculateVat(item.getTotalPrice()));
                                 return itemMap;
                             })
                             .collect(Collectors.toList())
@@ -199,33 +204,39 @@ public class BiddingController {
      * 첨부파일 다운로드
      */
     @GetMapping("/{id}/attachments/{filename}/download")
-    public ResponseEntity<Resource> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long id,
             @PathVariable String filename,
-            @RequestHeader(value = "User-Agent", required = false) String userAgent,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         
         // 인증된 사용자 확인
         if (userDetails == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
         }
 
         // 파일 다운로드 서비스 호출
-        Resource resource = biddingService.downloadAttachment(id, filename);
+        fileDownloadService.serve(biddingService.downloadAttachment(id, filename), request, response);
+    }
 
-        String encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8);
+    /**
+     * 첨부파일 묶음(ZIP) 다운로드
+     */
+    @GetMapping("/{id}/attachments/bundle")
+    public void downloadAttachmentBundle(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
 
-        // 브라우저에 따른 인코딩 처리
-        if (userAgent != null && (userAgent.contains("Trident") || userAgent.contains("Edge"))) {
-            encodedFilename = encodedFilename.replaceAll("\\+", "%20");
+        // 인증된 사용자 확인
+        if (userDetails == null) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
         }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFilename + "\"; " +
-                                "filename*=UTF-8''" + encodedFilename)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                .body(resource);
+        attachmentBundleService.stream("BIDDING", id, biddingService.getAttachmentFiles(id), response);
     }
 
     /**
@@ -302,6 +313,21 @@ public class BiddingController {
         }
     }
 
+    /**
+     * 역경매 현황 조회 (최저가, 입찰 공급사 수, 마감 시각)
+     */
+    @GetMapping("/{id}/auction")
+    public ResponseEntity<ReverseAuctionDto> getAuctionStatus(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(reverseAuctionService.getStatus(id, null));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("역경매 현황 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * 입찰 공고 생성
      */
@@ -416,6 +442,7 @@ public class BiddingController {
     public ResponseEntity<BiddingParticipationDto> participateInBidding(
             @PathVariable Long biddingId,
             @RequestBody BiddingParticipationDto participation,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         log.info("입찰 참여 요청 - 입찰 ID: {}, 공급자 ID: {}", biddingId, participation.getSupplierId());
@@ -429,11 +456,17 @@ public class BiddingController {
             }
             
             participation.setBiddingId(biddingId);
-            BiddingParticipationDto result = biddingService.participateInBidding(participation);
+            BiddingParticipationDto result = biddingService.participateInBidding(participation, idempotencyKey);
             return new ResponseEntity<>(result, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            log.warn("입찰 참여 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (IllegalStateException e) {
             log.error("입찰 참여 불가: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RejectedExecutionException e) {
+            log.warn("입찰 참여 지연: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
         } catch (Exception e) {
             log.error("입찰 참여 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -15,10 +15,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.orbit.dto.bidding.BiddingEvaluationDto;
+import com.orbit.dto.bidding.BiddingScoringProfileDto;
 import com.orbit.entity.member.Member;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.service.bidding.BiddingEvaluationService;
+import com.orbit.service.bidding.BiddingScoringService;
 
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BiddingEvaluationController {
     private final BiddingEvaluationService evaluationService;
+    private final BiddingScoringService scoringService;
     private final MemberRepository memberRepository;
     
     /**
@@ -215,6 +219,61 @@ public class BiddingEvaluationController {
         }
     }
     
+    /**
+     * 순위순 평가 목록 조회 (입찰 공고 가중치 설정 기준)
+     */
+    @GetMapping("/bidding/{biddingId}/ranking")
+    public ResponseEntity<List<BiddingEvaluationDto>> getRankedEvaluationsByBiddingId(@PathVariable Long biddingId) {
+        log.info("순위순 평가 목록 조회 요청 - 입찰 ID: {}", biddingId);
+        
+        try {
+            List<BiddingEvaluationDto> evaluations = evaluationService.getRankedEvaluationsByBiddingId(biddingId);
+            return ResponseEntity.ok(evaluations);
+        } catch (Exception e) {
+            log.error("평가 목록 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 입찰 공고 평가 가중치 설정 조회
+     */
+    @GetMapping("/bidding/{biddingId}/scoring-profile")
+    public ResponseEntity<BiddingScoringProfileDto> getScoringProfile(@PathVariable Long biddingId) {
+        log.info("평가 가중치 설정 조회 요청 - 입찰 ID: {}", biddingId);
+        
+        try {
+            return ResponseEntity.ok(scoringService.getProfile(biddingId));
+        } catch (Exception e) {
+            log.error("평가 가중치 설정 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 입찰 공고 평가 가중치 설정 변경 (전체 순위 재계산)
+     */
+    @PutMapping("/bidding/{biddingId}/scoring-profile")
+    public ResponseEntity<BiddingScoringProfileDto> updateScoringProfile(
+            @PathVariable Long biddingId,
+            @RequestBody BiddingScoringProfileDto profileDto
+    ) {
+        log.info("평가 가중치 설정 변경 요청 - 입찰 ID: {}", biddingId);
+        
+        try {
+            return ResponseEntity.ok(scoringService.updateProfile(biddingId, profileDto));
+        } catch (EntityNotFoundException e) {
+            log.error("평가 가중치 설정 변경 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            log.error("평가 가중치 설정 변경 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("평가 가중치 설정 변경 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * 낙찰된 평가 목록 조회
      */
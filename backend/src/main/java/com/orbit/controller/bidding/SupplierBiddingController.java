@@ -1,7 +1,9 @@
 package com.orbit.controller.bidding;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,18 +14,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.orbit.dto.bidding.BiddingDto;
 import com.orbit.dto.bidding.BiddingParticipationDto;
 import com.orbit.dto.bidding.BiddingSupplierDto;
+import com.orbit.dto.bidding.ReverseAuctionDto;
 import com.orbit.entity.member.Member;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.service.bidding.BiddingService;
 import com.orbit.service.bidding.BiddingSupplierService;
 import com.orbit.service.bidding.BiddingSupplierViewService;
+import com.orbit.service.bidding.ReverseAuctionService;
 
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +45,7 @@ public class SupplierBiddingController {
     private final BiddingSupplierViewService biddingSupplierViewService;
     private final BiddingSupplierService biddingSupplierService;
     private final BiddingService biddingService;
+    private final ReverseAuctionService reverseAuctionService;
     private final MemberRepository memberRepository;
 
     /**
@@ -174,6 +181,7 @@ public class SupplierBiddingController {
     public ResponseEntity<BiddingParticipationDto> participateInBidding(
             @PathVariable Long biddingId,
             @Valid @RequestBody BiddingParticipationDto participationDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails) {
         log.info("입찰 참여 요청 - 입찰 ID: {}", biddingId);
         
@@ -185,11 +193,60 @@ public class SupplierBiddingController {
         participationDto.setBiddingId(biddingId);
         
         try {
-            BiddingParticipationDto result = biddingService.participateInBidding(participationDto);
+            BiddingParticipationDto result = biddingService.participateInBidding(participationDto, idempotencyKey);
             return new ResponseEntity<>(result, HttpStatus.CREATED);
         } catch (IllegalStateException e) {
             log.error("입찰 참여 불가: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RejectedExecutionException e) {
+            log.warn("입찰 참여 지연: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
+        }
+    }
+
+    /**
+     * 역경매 현황 조회 (최저가, 마감 시각, 내 순위)
+     */
+    @GetMapping("/{biddingId}/auction")
+    public ResponseEntity<ReverseAuctionDto> getAuctionStatus(
+            @PathVariable Long biddingId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Member supplier = memberRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+
+        try {
+            return ResponseEntity.ok(reverseAuctionService.getStatus(biddingId, supplier.getId()));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("역경매 현황 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 역경매 입찰 (단가를 낮춰 다시 제출)
+     */
+    @PostMapping("/{biddingId}/auction/bids")
+    public ResponseEntity<ReverseAuctionDto> placeAuctionBid(
+            @PathVariable Long biddingId,
+            @RequestBody Map<String, BigDecimal> bidRequest,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Member supplier = memberRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+
+        try {
+            ReverseAuctionDto result = reverseAuctionService.placeBid(
+                    biddingId, supplier.getId(), supplier.getUsername(), bidRequest.get("unitPrice"));
+            return ResponseEntity.ok(result);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("역경매 입찰 거부 - 입찰 ID: {}, {}", biddingId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("역경매 입찰 불가 - 입찰 ID: {}, {}", biddingId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -0,0 +1,136 @@
+package com.orbit.controller.file;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.orbit.dto.file.UploadCompleteRequestDto;
+import com.orbit.dto.file.UploadInitiateRequestDto;
+import com.orbit.dto.file.UploadSessionDto;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.service.file.ChunkedUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 업로드 API
+ * - POST   /api/uploads                      : 업로드 시작 (chunkSize / chunkCount 반환)
+ * - PUT    /api/uploads/{id}/chunks/{index}  : 청크 전송 (application/octet-stream, X-Chunk-Sha256 헤더 필수)
+ * - GET    /api/uploads/{id}                 : 수신한 청크 목록 조회 (이어서 보내기)
+ * - POST   /api/uploads/{id}/complete        : 완료 (targetType/targetId 를 주면 해당 대상에 첨부)
+ * - DELETE /api/uploads/{id}                 : 취소
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDto> initiate(@Valid @RequestBody UploadInitiateRequestDto request) {
+        try {
+            UploadSessionDto session = chunkedUploadService.initiate(request, currentUsername());
+            return ResponseEntity.status(HttpStatus.CREATED).body(session);
+        } catch (IllegalArgumentException e) {
+            log.warn("청크 업로드 시작 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            log.error("청크 업로드 임시 파일 생성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDto> getStatus(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId, currentUsername()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<String> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = "X-Chunk-Sha256", required = false) String checksum,
+            HttpServletRequest request) {
+        try {
+            chunkedUploadService.receiveChunk(uploadId, index, request.getInputStream(),
+                    request.getContentLengthLong(), checksum, currentUsername());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("청크 수신 실패 - uploadId: {}, index: {}, {}", uploadId, index, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IOException e) {
+            log.error("청크 저장 실패 - uploadId: {}, index: {}", uploadId, index, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> complete(
+            @PathVariable String uploadId,
+            @RequestBody(required = false) UploadCompleteRequestDto request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            return ResponseEntity.ok(chunkedUploadService.complete(uploadId, request, authentication));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IOException e) {
+            log.error("청크 업로드 완료 처리 실패 - uploadId: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<String> abort(@PathVariable String uploadId) {
+        try {
+            chunkedUploadService.abort(uploadId, currentUsername());
+            return ResponseEntity.noContent().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IOException e) {
+            log.error("청크 업로드 취소 실패 - uploadId: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+}
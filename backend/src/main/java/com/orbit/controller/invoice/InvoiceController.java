@@ -5,17 +5,24 @@ import com.orbit.dto.invoice.InvoiceDto;
 import com.orbit.entity.commonCode.SystemStatus;
 import com.orbit.entity.delivery.Delivery;
 import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.invoice.InvoiceAgingBucket;
+import com.orbit.entity.invoice.InvoiceBatchRun;
 import com.orbit.entity.member.Member;
 import com.orbit.service.delivery.DeliveryService;
+import com.orbit.service.invoice.InvoiceAgingService;
+import com.orbit.service.invoice.InvoiceBatchService;
 import com.orbit.service.invoice.InvoiceService;
 import com.orbit.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -27,12 +34,15 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/invoices")
 @RequiredArgsConstructor
 public class InvoiceController {
 
     private final InvoiceService invoiceService;
+    private final InvoiceAgingService invoiceAgingService;
+    private final InvoiceBatchService invoiceBatchService;
     private final DeliveryService deliveryService;
     private final MemberService memberService;
 
@@ -215,6 +225,34 @@ public class InvoiceController {
         return ResponseEntity.ok(statistics);
     }
 
+    // 미지급 송장 경과 일수 구간별 집계 (AP 보고용, 매일 갱신)
+    @GetMapping("/aging")
+    public ResponseEntity<List<InvoiceAgingBucket>> getAgingBuckets() {
+        return ResponseEntity.ok(invoiceAgingService.getBuckets());
+    }
+
+    // 송장 미발행 입고 일괄 송장 발행 (중단된 이전 실행이 있으면 이어서)
+    @PostMapping("/batch")
+    public ResponseEntity<InvoiceBatchRun> runInvoiceBatch(@AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            InvoiceBatchRun run = invoiceBatchService.run(userDetails != null ? userDetails.getUsername() : null);
+            return ResponseEntity.ok(run);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("송장 일괄 발행 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // 마지막 일괄 송장 발행 결과
+    @GetMapping("/batch/latest")
+    public ResponseEntity<InvoiceBatchRun> getLatestInvoiceBatch() {
+        return invoiceBatchService.getLatestRun()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // 송장 결제 완료 처리
     @PutMapping("/{id}/payment-complete")
     public ResponseEntity<InvoiceDto> markAsPaid(@PathVariable Long id) {
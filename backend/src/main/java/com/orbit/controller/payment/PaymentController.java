@@ -2,26 +2,45 @@ package com.orbit.controller.payment;
 
 import com.orbit.dto.payment.PaymentDto;
 import com.orbit.entity.member.Member;
+import com.orbit.entity.paymant.PaymentGatewayWebhook;
+import com.orbit.entity.paymant.PaymentReconciliationIssue;
+import com.orbit.entity.paymant.PaymentReconciliationRun;
+import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.service.member.MemberService;
+import com.orbit.service.payment.PaymentGatewayService;
+import com.orbit.service.payment.PaymentReconciliationService;
 import com.orbit.service.payment.PaymentService;
+import com.orbit.service.payment.gateway.PaymentGateway;
+import com.orbit.service.payment.gateway.PaymentGatewayException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final PaymentGatewayService paymentGatewayService;
     private final MemberService memberService;
 
     /**
@@ -127,6 +146,167 @@ public class PaymentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 정산 파일(CSV) 대사 - 요청 본문을 그대로 한 줄씩 읽어 처리 (multipart 크기 제한 없음)
+     */
+    @PostMapping(value = "/reconciliations", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> reconcileSettlementFile(
+            @RequestParam(required = false) String fileName,
+            @RequestParam(defaultValue = "UTF-8") String charset,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
+        try {
+            PaymentReconciliationRun run = paymentReconciliationService.reconcile(request.getInputStream(),
+                    Charset.forName(charset), fileName, userDetails != null ? userDetails.getUsername() : null);
+            return ResponseEntity.ok(run);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("정산 파일 대사 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 정산 대사 실행 목록 (최근 순)
+     */
+    @GetMapping("/reconciliations")
+    public ResponseEntity<Page<PaymentReconciliationRun>> getReconciliationRuns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(paymentReconciliationService.getRuns(PageRequest.of(page, size)));
+    }
+
+    /**
+     * 정산 대사 실행 결과 (처리 건수, 처리 속도)
+     */
+    @GetMapping("/reconciliations/{runId}")
+    public ResponseEntity<PaymentReconciliationRun> getReconciliationRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(paymentReconciliationService.getRun(runId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 정산 대사 검토 대상 (미처리)
+     */
+    @GetMapping("/reconciliations/{runId}/issues")
+    public ResponseEntity<Page<PaymentReconciliationIssue>> getReconciliationIssues(
+            @PathVariable Long runId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(paymentReconciliationService.getOpenIssues(runId, PageRequest.of(page, size)));
+    }
+
+    /**
+     * 정산 대사 검토 완료 처리
+     */
+    @PutMapping("/reconciliations/issues/{issueId}/resolve")
+    public ResponseEntity<PaymentReconciliationIssue> resolveReconciliationIssue(@PathVariable Long issueId) {
+        try {
+            return ResponseEntity.ok(paymentReconciliationService.resolveIssue(issueId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * PG 결제 검증 (결제창 완료 후 imp_uid 전달) - PG 조회가 끝날 때까지 요청 스레드를 잡지 않는다.
+     * - 400: imp_uid 없음, 404: 송장/PG 거래 없음, 409: 금액·주문 번호 불일치 또는 다른 거래로 이미 결제
+     * - 502: PG 오류, 503: PG 장애로 조회 중단(서킷 열림/대기열 초과), 504: PG 응답 시간 초과
+     */
+    @PostMapping("/gateway/verify")
+    public CompletableFuture<ResponseEntity<Object>> verifyGatewayPayment(@RequestBody Map<String, Object> body) {
+        Long invoiceId;
+        try {
+            invoiceId = Long.valueOf(String.valueOf(body.get("invoiceId")));
+        } catch (NumberFormatException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("invoiceId 가 없습니다."));
+        }
+        Object impUid = body.containsKey("impUid") ? body.get("impUid") : body.get("imp_uid");
+        return paymentGatewayService.verifyInvoicePayment(invoiceId, impUid != null ? impUid.toString() : null)
+                .<ResponseEntity<Object>>thenApply(ResponseEntity::ok)
+                .exceptionally(this::gatewayErrorResponse);
+    }
+
+    /**
+     * PG 웹훅 수신 - 대기열에 넣고 바로 200 (중복 통지도 200)
+     */
+    @PostMapping("/gateway/webhook")
+    public ResponseEntity<Void> receiveGatewayWebhook(@RequestBody Map<String, Object> body) {
+        try {
+            paymentGatewayService.receiveWebhook(stringValue(body.get("imp_uid")), stringValue(body.get("merchant_uid")),
+                    stringValue(body.get("status")));
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * PG 어댑터 상태 (서킷 브레이커, 벌크헤드, 캐시)
+     */
+    @GetMapping("/gateway/status")
+    public ResponseEntity<PaymentGateway.Stats> getGatewayStatus() {
+        return ResponseEntity.ok(paymentGatewayService.getGatewayStats());
+    }
+
+    /**
+     * 상태별 PG 웹훅 목록 (기본: 실패 건)
+     */
+    @GetMapping("/gateway/webhooks")
+    public ResponseEntity<Page<PaymentGatewayWebhook>> getGatewayWebhooks(
+            @RequestParam(defaultValue = "FAILED") PaymentGatewayWebhook.State state,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(paymentGatewayService.getWebhooks(state, PageRequest.of(page, size)));
+    }
+
+    /**
+     * 실패한 PG 웹훅 다시 처리
+     */
+    @PutMapping("/gateway/webhooks/{webhookId}/retry")
+    public ResponseEntity<Object> retryGatewayWebhook(@PathVariable Long webhookId) {
+        try {
+            return ResponseEntity.ok(paymentGatewayService.requeueWebhook(webhookId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Object> gatewayErrorResponse(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().body(cause.getMessage());
+        }
+        if (cause instanceof ResourceNotFoundException) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(cause.getMessage());
+        }
+        if (cause instanceof IllegalStateException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(cause.getMessage());
+        }
+        if (cause instanceof PaymentGatewayException gatewayException) {
+            HttpStatus status = switch (gatewayException.getKind()) {
+                case NOT_FOUND -> HttpStatus.NOT_FOUND;
+                case CIRCUIT_OPEN, BULKHEAD_FULL -> HttpStatus.SERVICE_UNAVAILABLE;
+                case TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
+                default -> HttpStatus.BAD_GATEWAY;
+            };
+            return ResponseEntity.status(status).body(gatewayException.getMessage());
+        }
+        log.error("PG 결제 검증 실패", cause);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+
+    private static String stringValue(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
     /**
      * 결제 상태별 통계 조회
      */
@@ -1,12 +1,10 @@
 package com.orbit.controller.procurement;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,11 +12,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 
 import com.orbit.dto.procurement.ProjectDTO;
+import com.orbit.service.file.AttachmentBundleService;
+import com.orbit.service.file.FileDownloadService;
 import com.orbit.service.procurement.ProjectService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +29,8 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final FileDownloadService fileDownloadService;
+    private final AttachmentBundleService attachmentBundleService;
 
     /**
      * 프로젝트 생성 (JSON)
@@ -181,26 +184,23 @@ public class ProjectController {
      * 첨부파일 다운로드
      */
     @GetMapping("/attachments/{attachmentId}/download")
-    public ResponseEntity<Resource> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long attachmentId,
-            @RequestHeader(value = "User-Agent", required = false) String userAgent) {
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
-        Resource resource = projectService.downloadAttachment(attachmentId);
-
-        String filename = resource.getFilename();
-        String encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8);
+        fileDownloadService.serve(projectService.downloadAttachment(attachmentId), request, response);
+    }
 
-        // 브라우저에 따른 인코딩 처리 (IE, Edge에 대한 특별 처리)
-        if (userAgent != null && (userAgent.contains("Trident") || userAgent.contains("Edge"))) {
-            encodedFilename = encodedFilename.replaceAll("\\+", "%20");
-        }
+    /**
+     * 첨부파일 묶음(ZIP) 다운로드
+     */
+    @GetMapping("/{id}/attachments/bundle")
+    public void downloadAttachmentBundle(
+            @PathVariable Long id,
+            HttpServletResponse response) throws IOException {
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFilename + "\"; " +
-                                "filename*=UTF-8''" + encodedFilename)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                .body(resource);
+        attachmentBundleService.stream("PROJECT", id, projectService.getAttachmentFiles(id), response);
     }
 
     /**
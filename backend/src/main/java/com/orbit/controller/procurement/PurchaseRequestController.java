@@ -1,14 +1,10 @@
 package com.orbit.controller.procurement;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,19 +17,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 
 import com.orbit.dto.item.CategoryDTO;
 import com.orbit.dto.item.ItemDTO;
 import com.orbit.dto.procurement.PurchaseRequestDTO;
+import com.orbit.service.file.AttachmentBundleService;
+import com.orbit.service.file.FileDownloadService;
 import com.orbit.service.procurement.PurchaseRequestService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,9 +41,15 @@ import lombok.extern.slf4j.Slf4j;
 public class PurchaseRequestController {
 
     private final PurchaseRequestService purchaseRequestService;
+    private final FileDownloadService fileDownloadService;
+    private final AttachmentBundleService attachmentBundleService;
 
-    public PurchaseRequestController(PurchaseRequestService purchaseRequestService) {
+    public PurchaseRequestController(PurchaseRequestService purchaseRequestService,
+                                     FileDownloadService fileDownloadService,
+                                     AttachmentBundleService attachmentBundleService) {
         this.purchaseRequestService = purchaseRequestService;
+        this.fileDownloadService = fileDownloadService;
+        this.attachmentBundleService = attachmentBundleService;
     }
 
     @GetMapping
@@ -107,34 +111,20 @@ public class PurchaseRequestController {
     }
 
     @GetMapping("/attachments/{attachmentId}/download")
-    public ResponseEntity<Resource> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long attachmentId,
-            @RequestHeader(value = "User-Agent", required = false) String userAgent) {
-
-        Resource resource = purchaseRequestService.downloadAttachment(attachmentId);
-
-        try {
-            String filename = resource.getFilename();
-            String encodedFilename;
-
-            if (userAgent != null && (userAgent.contains("Trident") || userAgent.contains("MSIE"))) {
-                encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8.name())
-                        .replaceAll("\\+", "%20");
-            } else {
-                encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8);
-            }
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + encodedFilename + "\"; " +
-                                    "filename*=UTF-8''" + encodedFilename)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                    .body(resource);
-
-        } catch (UnsupportedEncodingException e) {
-            log.error("파일명 인코딩 실패: {}", e.getMessage());
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        fileDownloadService.serve(purchaseRequestService.downloadAttachment(attachmentId), request, response);
+    }
+
+    @GetMapping("/{id}/attachments/bundle")
+    public void downloadAttachmentBundle(
+            @PathVariable Long id,
+            HttpServletResponse response) throws IOException {
+
+        attachmentBundleService.stream("PURCHASE_REQUEST", id, purchaseRequestService.getAttachmentFiles(id), response);
     }
 
     @PatchMapping("/{id}/status")
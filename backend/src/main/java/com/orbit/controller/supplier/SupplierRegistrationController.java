@@ -8,13 +8,14 @@ import com.orbit.dto.supplier.SupplierApprovalDto;
 import com.orbit.dto.supplier.SupplierRegistrationRequestDto;
 import com.orbit.dto.supplier.SupplierRegistrationResponseDto;
 import com.orbit.entity.supplier.SupplierRegistration;
+import com.orbit.service.file.AttachmentBundleService;
+import com.orbit.service.file.FileDownloadService;
 import com.orbit.service.supplier.SupplierRegistrationService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,10 +25,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 
 import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +40,8 @@ import java.util.stream.Collectors;
 public class SupplierRegistrationController {
 
     private final SupplierRegistrationService supplierRegistrationService;
+    private final FileDownloadService fileDownloadService;
+    private final AttachmentBundleService attachmentBundleService;
 
     // 🟢 협력업체 목록 조회 - 권한별 처리 추가 및 필터링 기능 추가
     @GetMapping
@@ -278,9 +279,10 @@ public class SupplierRegistrationController {
 
     // 🟢 첨부파일 다운로드 엔드포인트 추가
     @GetMapping("/attachments/{attachmentId}/download")
-    public ResponseEntity<Resource> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long attachmentId,
-            @RequestHeader(value = "User-Agent", required = false) String userAgent) {
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
         try {
             // 현재 로그인한 사용자의 권한과 정보 확인
@@ -291,32 +293,50 @@ public class SupplierRegistrationController {
             // 파일 다운로드 권한 체크
             boolean hasAccess = supplierRegistrationService.checkAttachmentAccess(attachmentId, username, isAdmin);
             if (!hasAccess) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                response.setStatus(HttpStatus.FORBIDDEN.value());
+                return;
             }
 
-            Resource resource = supplierRegistrationService.downloadAttachment(attachmentId);
+            fileDownloadService.serve(supplierRegistrationService.downloadAttachment(attachmentId), request, response);
 
-            // 파일명 인코딩 처리
-            String filename = resource.getFilename();
-            String encodedFilename;
+        } catch (Exception e) {
+            log.error("파일 다운로드 실패: {}", e.getMessage());
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+        }
+    }
 
-            if (userAgent != null && (userAgent.contains("Trident") || userAgent.contains("MSIE"))) {
-                encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8)
-                        .replaceAll("\\+", "%20");
-            } else {
-                encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8);
+    // 🟢 첨부파일 묶음(ZIP) 다운로드
+    @GetMapping("/{id}/attachments/bundle")
+    public void downloadAttachmentBundle(
+            @PathVariable Long id,
+            HttpServletResponse response) {
+
+        try {
+            // 현재 로그인한 사용자의 권한과 정보 확인
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            boolean isAdmin = authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            String username = authentication.getName();
+
+            SupplierRegistration supplier = supplierRegistrationService.getSupplierById(id);
+
+            // 관리자가 아니면서 자신의 등록 정보가 아니면 접근 불가
+            if (!isAdmin && !supplier.getSupplier().getUsername().equals(username)) {
+                response.setStatus(HttpStatus.FORBIDDEN.value());
+                return;
             }
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + encodedFilename + "\"; " +
-                                    "filename*=UTF-8''" + encodedFilename)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                    .body(resource);
+            attachmentBundleService.stream("SUPPLIER_REGISTRATION", id, supplierRegistrationService.getAttachmentFiles(id), response);
 
+        } catch (IllegalArgumentException e) {
+            log.error("존재하지 않는 협력업체 ID: {}", id);
+            response.setStatus(HttpStatus.NOT_FOUND.value());
         } catch (Exception e) {
-            log.error("파일 다운로드 실패: {}", e.getMessage());
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+            log.error("첨부파일 묶음 다운로드 실패: {}", e.getMessage());
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
         }
     }
 
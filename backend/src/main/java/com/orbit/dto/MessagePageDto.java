@@ -0,0 +1,26 @@
+package com.orbit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대화 메시지 페이지 (키셋 페이징, 최신순)
+ * - 다음 페이지는 nextCursorTime / nextCursorId 를 cursorTime / cursorId 로 넘겨서 조회한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagePageDto {
+    private List<MessageResponseDto> items;
+    private LocalDateTime nextCursorTime;
+    private Long nextCursorId;
+    private boolean hasNext;
+}
@@ -1 +1 @@
-package com.orbit.dto;import jakarta.validation.constraints.NotBlank;import jakarta.validation.constraints.NotNull;import lombok.AllArgsConstructor;import lombok.Getter;import lombok.NoArgsConstructor;import lombok.Setter;import lombok.Builder;import java.util.HashMap;import java.util.Map;/** * 메시지 요청 DTO (클라이언트 → 서버) */@Getter@Setter@AllArgsConstructor@NoArgsConstructor@Builder // ✅ 누락된 @Builder 추가public class MessageRequestDto {    @NotNull(message = "발신자 ID는 필수 입력 값입니다.")    private Long senderId;  // ✅ Member ID를 사용    @NotNull(message = "수신자 ID는 필수 입력 값입니다.")    private Long receiverId;    @NotBlank(message = "메시지 내용은 필수 입력 값입니다.")    private String content;    public Map<String, Object> toMap() {        Map<String, Object> map = new HashMap<>();        map.put("senderId", senderId);        map.put("receiverId", receiverId);        map.put("content", content);        return map;    }}
\ No newline at end of file
+package com.orbit.dto;import jakarta.validation.constraints.NotBlank;import jakarta.validation.constraints.NotNull;import jakarta.validation.constraints.Size;import lombok.AllArgsConstructor;import lombok.Getter;import lombok.NoArgsConstructor;import lombok.Setter;import lombok.Builder;import java.util.HashMap;import java.util.Map;/** * 메시지 요청 DTO (클라이언트 → 서버) */@Getter@Setter@AllArgsConstructor@NoArgsConstructor@Builder // ✅ 누락된 @Builder 추가public class MessageRequestDto {    // 전송 API 에서는 로그인 사용자로 정하므로 생략 가능    private Long senderId;  // ✅ Member ID를 사용    @NotNull(message = "수신자 ID는 필수 입력 값입니다.")    private Long receiverId;    @NotBlank(message = "메시지 내용은 필수 입력 값입니다.")    private String content;    // 클라이언트가 만든 메시지 키 (UUID 등, 선택) - 재전송 중복 제거와 낙관적 표시용. 없으면 서버가 만든다.    @Size(max = 36, message = "메시지 키는 36자 이하여야 합니다.")    private String messageKey;    public Map<String, Object> toMap() {        Map<String, Object> map = new HashMap<>();        map.put("senderId", senderId);        map.put("receiverId", receiverId);        map.put("content", content);        map.put("messageKey", messageKey);        return map;    }}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.orbit.dto.approval;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재 일괄 처리 요청
+ * - 같은 액션/의견으로 여러 결재선을 한 번에 승인 또는 반려한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBulkProcessDTO {
+
+    @NotEmpty(message = "처리할 결재선을 선택해주세요.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 처리할 수 있습니다.")
+    private List<Long> lineIds;
+
+    @NotBlank(message = "결재 액션은 필수입니다.")
+    private String action; // "APPROVE" 또는 "REJECT"
+
+    private String comment;
+
+    private String nextStatusCode; // 생략 시 APPROVE → APPROVED, REJECT → REJECTED
+}
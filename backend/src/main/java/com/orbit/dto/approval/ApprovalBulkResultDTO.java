@@ -0,0 +1,39 @@
+package com.orbit.dto.approval;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재 일괄 처리 결과 (결재선별 성공/실패 포함)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBulkResultDTO {
+
+    private int requestedCount;
+    private int successCount;
+    private int failureCount;
+    private int purchaseRequestCount; // 처리된 구매요청 수
+    private List<LineResult> results;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineResult {
+        private Long lineId;
+        private Long purchaseRequestId;
+        private boolean success;
+        private String statusCode; // 처리 후 상태 (실패 시 현재 상태)
+        private String message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.orbit.dto.approval;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재함 변경 알림 (/user/queue/approvals)
+ * - ADDED   : 결재 차례가 된 결재선 (line)
+ * - REMOVED : 처리되었거나 취소되어 결재함에서 빠진 결재선 (lineIds)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxEventDTO {
+
+    public static final String ADDED = "ADDED";
+    public static final String REMOVED = "REMOVED";
+
+    private String type;
+    private ApprovalLineResponseDTO line;
+    private List<Long> lineIds;
+}
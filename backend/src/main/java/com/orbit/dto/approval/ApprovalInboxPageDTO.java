@@ -0,0 +1,28 @@
+package com.orbit.dto.approval;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재함 페이지 (키셋 페이징)
+ * - 다음 페이지는 nextCursor 를 cursor 로 넘겨서 조회한다.
+ * - counts 는 첫 페이지(cursor 없음) 조회 시에만 채운다. (상태 코드별 건수)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxPageDTO {
+    private String box;
+    private List<ApprovalLineResponseDTO> items;
+    private Long nextCursor;
+    private boolean hasNext;
+    private Map<String, Long> counts;
+}
@@ -99,6 +99,7 @@ public class BiddingDto {
         return switch (this.methodChild.getCodeValue()) {
             case "FIXED_PRICE" -> "정가제안";
             case "PRICE_SUGGESTION" -> "가격제안";
+            case "REVERSE_AUCTION" -> "역경매";
             default -> this.methodChild.getCodeValue();
         };
     }
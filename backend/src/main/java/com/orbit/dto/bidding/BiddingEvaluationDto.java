@@ -23,6 +23,8 @@ public class BiddingEvaluationDto {
     // 가중치 적용된 점수
     private Double weightedTotalScore;
     private Integer totalScore;
+    // 입찰 공고 내 순위 (가중치 설정 기준, 동점은 같은 순위)
+    private Integer scoreRank;
     
     private String comments;
     private LocalDateTime evaluatedAt;
@@ -93,8 +95,11 @@ public class BiddingEvaluationDto {
         // 총점 설정
         dto.setTotalScore(evaluation.getTotalScore());
         
-        // 가중치 점수 계산
-        dto.setWeightedTotalScore(dto.calculateWeightedScore());
+        // 가중치 점수 (입찰 공고 가중치 설정으로 계산된 값이 있으면 그 값)
+        dto.setWeightedTotalScore(evaluation.getWeightedScore() != null
+                ? evaluation.getWeightedScore()
+                : dto.calculateWeightedScore());
+        dto.setScoreRank(evaluation.getScoreRank());
         
         return dto;
     }
@@ -0,0 +1,30 @@
+package com.orbit.dto.bidding;
+
+import com.orbit.entity.bidding.BiddingScoringProfile;
+
+import lombok.Data;
+
+/**
+ * 입찰 공고 평가 가중치 설정
+ */
+@Data
+public class BiddingScoringProfileDto {
+    private Long biddingId;
+    private int priceWeight;
+    private int qualityWeight;
+    private int deliveryWeight;
+    private int reliabilityWeight;
+    // true: 최저 입찰가 대비 가격 점수, false: 평가자 가격 점수
+    private boolean priceRelative;
+
+    public static BiddingScoringProfileDto fromEntity(BiddingScoringProfile profile) {
+        BiddingScoringProfileDto dto = new BiddingScoringProfileDto();
+        dto.setBiddingId(profile.getBiddingId());
+        dto.setPriceWeight(profile.getPriceWeight());
+        dto.setQualityWeight(profile.getQualityWeight());
+        dto.setDeliveryWeight(profile.getDeliveryWeight());
+        dto.setReliabilityWeight(profile.getReliabilityWeight());
+        dto.setPriceRelative(profile.isPriceRelative());
+        return dto;
+    }
+}
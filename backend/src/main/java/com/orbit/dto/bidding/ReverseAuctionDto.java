@@ -0,0 +1,35 @@
+package com.orbit.dto.bidding;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.orbit.service.bidding.ReverseAuctionBook;
+
+import lombok.Data;
+
+/**
+ * 역경매 현황 (공개 현황 + 조회한 공급사의 현재 입찰)
+ */
+@Data
+public class ReverseAuctionDto {
+    private Long biddingId;
+    private BigDecimal bestPrice;   // 현재 최저 입찰 단가
+    private int bidCount;           // 입찰한 공급사 수
+    private LocalDateTime closeAt;  // 마감 시각 (마감 직전 입찰로 늦춰질 수 있음)
+    private BigDecimal myUnitPrice; // 내 현재 입찰 단가 (공급사 조회만)
+    private Integer myRank;         // 내 순위 (1 = 최저가)
+    private boolean extended;       // 이번 입찰로 마감이 늦춰졌는지
+
+    public static ReverseAuctionDto of(ReverseAuctionBook.Board board, ReverseAuctionBook.Standing standing) {
+        ReverseAuctionDto dto = new ReverseAuctionDto();
+        dto.setBiddingId(board.biddingId());
+        dto.setBestPrice(board.bestPrice());
+        dto.setBidCount(board.bidCount());
+        dto.setCloseAt(board.closeAt());
+        if (standing != null) {
+            dto.setMyUnitPrice(standing.unitPrice());
+            dto.setMyRank(standing.rank());
+        }
+        return dto;
+    }
+}
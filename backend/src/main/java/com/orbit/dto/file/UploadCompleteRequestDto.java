@@ -0,0 +1,20 @@
+package com.orbit.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 청크 업로드 완료 요청
+ * - targetType/targetId 를 지정하면 완료와 동시에 해당 대상의 첨부파일로 등록한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadCompleteRequestDto {
+
+    private String targetType; // PURCHASE_REQUEST, PROJECT, BIDDING, SUPPLIER_REGISTRATION
+    private Long targetId;
+}
@@ -0,0 +1,30 @@
+package com.orbit.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 청크 업로드 시작 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadInitiateRequestDto {
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    private String fileName;
+
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private long fileSize;
+
+    private String contentType;
+
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "sha256 은 64자리 16진수여야 합니다.")
+    private String sha256; // 전체 파일 해시 (선택, 완료 시 검증)
+}
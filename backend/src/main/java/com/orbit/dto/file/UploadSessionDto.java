@@ -0,0 +1,44 @@
+package com.orbit.dto.file;
+
+import com.orbit.entity.file.UploadSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 청크 업로드 세션 상태
+ * - receivedChunks 로 이어서 보낼 청크를 알 수 있다.
+ */
+@Getter
+@Builder
+public class UploadSessionDto {
+
+    private String uploadId;
+    private String fileName;
+    private long fileSize;
+    private int chunkSize;
+    private int chunkCount;
+    private String status;
+    private List<Integer> receivedChunks;
+    private String sha256;
+    private String filePath;   // 완료 후 저장소 경로
+    private String targetType;
+    private Long targetId;
+
+    public static UploadSessionDto of(UploadSession session, List<Integer> receivedChunks) {
+        return UploadSessionDto.builder()
+                .uploadId(session.getId())
+                .fileName(session.getOriginalFilename())
+                .fileSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .status(session.getStatus().name())
+                .receivedChunks(receivedChunks)
+                .sha256(session.getSha256())
+                .filePath(session.getStoredPath())
+                .targetType(session.getTargetType())
+                .targetId(session.getTargetId())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,10 +23,17 @@ import lombok.Setter;
 
 /**
  * 메시지 엔티티
+ * - 대화 조회는 (발신자, 수신자, 등록 시각) 인덱스를 방향별로 키셋 탐색한다.
+ * - 저장은 MessageWriteBehindQueue 가 모아서 일괄 INSERT 하므로 등록 시각은 전송 시각으로 직접 채운다.
+ * - 전송 시점에는 id 가 없으므로 message_key(전송 시 정한 고유 키)로 실시간 메시지를 식별한다.
  */
 @Entity
 @Getter @Setter
-@Table(name = "message")
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_conversation", columnList = "sender_id, receiver_id, reg_time"),
+        @Index(name = "idx_message_unread", columnList = "receiver_id, is_read"),
+        @Index(name = "uk_message_key", columnList = "message_key", unique = true)
+})
 @Builder
 @NoArgsConstructor  // @Builder 사용 시 @AllArgsConstructor 필수
 @AllArgsConstructor
@@ -37,6 +45,10 @@ public class Message extends BaseEntity {
     @Column(name = "msg_id")
     private Long id;
 
+    // 전송 시 정한 고유 키 (클라이언트가 보낸 값 또는 서버가 만든 UUID, 이전 메시지는 null)
+    @Column(name = "message_key", length = 36)
+    private String messageKey;
+
     // 발신자 (ManyToOne 관계)
     @ManyToOne(fetch = FetchType.LAZY)  // 지연 로딩 설정
     @JoinColumn(name = "sender_id", nullable = false)  // FK 설정
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +28,10 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "approval_lines")
+// 결재함 조회용 인덱스 - 결재자/상태로 찾고 ID(생성 순) 역순 키셋 페이징
+@Table(name = "approval_lines", indexes = {
+        @Index(name = "idx_approval_line_inbox", columnList = "approver_id, status_id, id")
+})
 public class ApprovalLine {
 
     @Id
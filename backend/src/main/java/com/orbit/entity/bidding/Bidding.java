@@ -590,6 +590,7 @@ public class Bidding extends BaseEntity {
            .biddingId(this.id)
            .biddingParticipationId(participation.getId())
            .purchaseRequestItemId(this.purchaseRequestItemId)
+           .purchaseRequestId(this.purchaseRequest != null ? this.purchaseRequest.getId() : null)
            .supplierId(participation.getSupplierId())
            .supplierName(participation.getCompanyName())
            .title(this.title)
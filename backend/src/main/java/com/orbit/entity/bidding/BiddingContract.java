@@ -23,10 +23,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
@@ -37,7 +39,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bidding_contracts")
+@Table(name = "bidding_contracts", indexes = {
+        @Index(name = "idx_contract_purchase_request", columnList = "purchase_request_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -55,6 +59,10 @@ public class BiddingContract extends BaseEntity {
     @JoinColumn(name = "bidding_id", nullable = false)
     private Bidding bidding;
 
+    // 원 구매 요청 ID (구매 요청 계보 인덱스, 저장 시 입찰에서 채움)
+    @Column(name = "purchase_request_id")
+    private Long purchaseRequestId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bidding_participation_id", nullable = false)
     private BiddingParticipation biddingParticipation;
@@ -122,6 +130,13 @@ public class BiddingContract extends BaseEntity {
     @JoinColumn(name = "updated_by")
     private Member updatedBy;
 
+    @PrePersist
+    protected void onCreate() {
+        if (this.purchaseRequestId == null && this.bidding != null && this.bidding.getPurchaseRequest() != null) {
+            this.purchaseRequestId = this.bidding.getPurchaseRequest().getId();
+        }
+    }
+
     /**
      * 계약 상태가 자동으로 업데이트되어야 하는지 확인
      * 두 서명이 모두 있으면 완료 상태로 변경
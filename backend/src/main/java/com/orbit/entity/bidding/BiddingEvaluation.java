@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -24,7 +25,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bidding_evaluations")
+@Table(name = "bidding_evaluations",
+        indexes = @Index(name = "idx_bidding_evaluation_score", columnList = "bidding_id, weighted_score"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -66,6 +68,13 @@ public class BiddingEvaluation extends BaseEntity {
     @Column(name = "total_score")
     private Integer totalScore;
 
+    // 입찰 공고 가중치 설정(BiddingScoringProfile)을 적용한 점수와 순위 (BiddingScoringService 가 갱신)
+    @Column(name = "weighted_score")
+    private Double weightedScore;
+
+    @Column(name = "score_rank")
+    private Integer scoreRank;
+
     @Column(name = "comments", columnDefinition = "TEXT")
     private String comments;
 
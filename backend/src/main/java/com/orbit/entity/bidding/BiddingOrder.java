@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -29,7 +30,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bidding_orders")
+@Table(name = "bidding_orders", indexes = {
+        @Index(name = "idx_order_purchase_request", columnList = "purchase_request_id")
+})
 @Setter @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -63,6 +66,9 @@ public class BiddingOrder extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "purchase_request_item_id", insertable = false, updatable = false)
     private PurchaseRequestItem purchaseRequestItem;
+
+    @Column(name = "purchase_request_id")
+    private Long purchaseRequestId; // 원 구매 요청 ID (구매 요청 계보 인덱스, 저장 시 품목/입찰에서 채움)
     
     @Column(name = "supplier_id", nullable = false)
     private Long supplierId; // 공급자 ID
@@ -241,7 +247,15 @@ public class BiddingOrder extends BaseEntity {
             String randomPart = String.format("%03d", new java.util.Random().nextInt(1000));
             this.orderNumber = "ORD-" + datePart + "-" + randomPart;
         }
-        
+
+        // 구매 요청 ID (연관 엔티티가 없으면 서비스에서 설정)
+        if (this.purchaseRequestId == null) {
+            if (this.purchaseRequestItem != null && this.purchaseRequestItem.getPurchaseRequest() != null) {
+                this.purchaseRequestId = this.purchaseRequestItem.getPurchaseRequest().getId();
+            } else if (this.bidding != null && this.bidding.getPurchaseRequest() != null) {
+                this.purchaseRequestId = this.bidding.getPurchaseRequest().getId();
+            }
+        }
     }
     
     @PreUpdate
@@ -20,6 +20,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,7 +28,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bidding_participations")
+@Table(name = "bidding_participations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bidding_participation_supplier", columnNames = {"bidding_id", "supplier_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -66,6 +68,10 @@ public class BiddingParticipation extends BaseEntity {
     @Column(name = "submitted_at")
     private LocalDateTime submittedAt;
 
+    // 제출 요청의 멱등 키 (같은 키의 재시도는 이 행을 그대로 돌려줌)
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @Column(name = "is_confirmed", columnDefinition = "boolean default false")
     private boolean isConfirmed;
 
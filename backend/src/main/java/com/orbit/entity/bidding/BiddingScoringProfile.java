@@ -0,0 +1,89 @@
+package com.orbit.entity.bidding;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 입찰 공고별 평가 가중치 설정
+ * - 항목별 가중치(정수, 합계로 나눠 비율로 사용)와 가격 점수 산정 방식을 정한다.
+ * - priceRelative 가 true 면 평가자가 준 가격 점수 대신 최저 입찰가 대비 점수(최저가 / 입찰가 * 100)를 쓴다.
+ * - 설정이 없는 입찰 공고는 기본값(가격 30, 품질 40, 납품 20, 신뢰도 10, 최저가 대비)을 쓴다.
+ */
+@Entity
+@Table(name = "bidding_scoring_profiles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bidding_scoring_profile", columnNames = "bidding_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BiddingScoringProfile {
+
+    public static final int DEFAULT_PRICE_WEIGHT = 30;
+    public static final int DEFAULT_QUALITY_WEIGHT = 40;
+    public static final int DEFAULT_DELIVERY_WEIGHT = 20;
+    public static final int DEFAULT_RELIABILITY_WEIGHT = 10;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bidding_id", nullable = false)
+    private Long biddingId;
+
+    @Column(name = "price_weight", nullable = false)
+    private int priceWeight;
+
+    @Column(name = "quality_weight", nullable = false)
+    private int qualityWeight;
+
+    @Column(name = "delivery_weight", nullable = false)
+    private int deliveryWeight;
+
+    @Column(name = "reliability_weight", nullable = false)
+    private int reliabilityWeight;
+
+    @Column(name = "price_relative", nullable = false)
+    private boolean priceRelative;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 기본 가중치 설정 (저장하지 않은 상태)
+     */
+    public static BiddingScoringProfile defaults(Long biddingId) {
+        return BiddingScoringProfile.builder()
+                .biddingId(biddingId)
+                .priceWeight(DEFAULT_PRICE_WEIGHT)
+                .qualityWeight(DEFAULT_QUALITY_WEIGHT)
+                .deliveryWeight(DEFAULT_DELIVERY_WEIGHT)
+                .reliabilityWeight(DEFAULT_RELIABILITY_WEIGHT)
+                .priceRelative(true)
+                .build();
+    }
+
+    public int totalWeight() {
+        return priceWeight + qualityWeight + deliveryWeight + reliabilityWeight;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
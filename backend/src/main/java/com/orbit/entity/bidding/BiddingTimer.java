@@ -0,0 +1,109 @@
+package com.orbit.entity.bidding;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 입찰 자동 전환 타이머 (시작일 -> 진행중, 마감일 -> 마감)
+ * - 입찰 공고당 동작별로 1행, (상태, 실행 예정 시각) 인덱스로 곧 실행할 타이머만 읽는다.
+ * - 여러 노드 중 한 노드만 실행하도록 실행 직전에 행 임대(lease_owner / lease_until)를 건다.
+ */
+@Entity
+@Table(name = "bidding_timers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bidding_timer", columnNames = {"bidding_id", "action"}),
+        indexes = @Index(name = "idx_bidding_timer_due", columnList = "status, due_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BiddingTimer {
+
+    public enum Action {
+        START("ONGOING"),
+        CLOSE("CLOSED");
+
+        private final String targetStatus;
+
+        Action(String targetStatus) {
+            this.targetStatus = targetStatus;
+        }
+
+        public String getTargetStatus() {
+            return targetStatus;
+        }
+    }
+
+    public enum Status {
+        PENDING, FIRED, SKIPPED, CANCELLED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bidding_id", nullable = false)
+    private Long biddingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private Action action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "fired_at")
+    private LocalDateTime firedAt;
+
+    /**
+     * 실행 예정 시각 변경 (대기 상태로 되돌림)
+     */
+    public void reschedule(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.lastError = null;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        this.firedAt = null;
+    }
+
+    public void finish(Status status) {
+        this.status = status;
+        this.firedAt = LocalDateTime.now();
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+}
@@ -16,7 +16,11 @@ import java.time.format.DateTimeFormatter;
  * 입고 엔티티
  */
 @Entity
-@Table(name = "deliveries")
+@Table(name = "deliveries", indexes = {
+        @Index(name = "idx_delivery_purchase_request", columnList = "purchase_request_id"),
+        // 송장 미발행 입고 id 순 조회 (일괄 송장 발행)
+        @Index(name = "idx_delivery_invoice_issued", columnList = "invoice_issued")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,6 +75,10 @@ public class Delivery extends BaseTimeEntity {
     @JoinColumn(name = "purchase_request_item_id")
     private PurchaseRequestItem purchaseRequestItem;
 
+    // 원 구매 요청 ID (구매 요청 계보 인덱스, 저장 시 품목/발주에서 채움)
+    @Column(name = "purchase_request_id")
+    private Long purchaseRequestId;
+
     // 입고 품목 ID (타입 변경: String -> Long)
     @Column(name = "delivery_item_id", nullable = false)
     private Long deliveryItemId;
@@ -111,6 +119,15 @@ public class Delivery extends BaseTimeEntity {
         if (this.deliveryNumber == null) {
             this.deliveryNumber = generateDeliveryNumber();
         }
+
+        // 구매 요청 ID
+        if (this.purchaseRequestId == null) {
+            if (this.purchaseRequestItem != null && this.purchaseRequestItem.getPurchaseRequest() != null) {
+                this.purchaseRequestId = this.purchaseRequestItem.getPurchaseRequest().getId();
+            } else if (this.biddingOrder != null) {
+                this.purchaseRequestId = this.biddingOrder.getPurchaseRequestId();
+            }
+        }
     }
 
     // 입고번호 생성 메서드
@@ -0,0 +1,50 @@
+package com.orbit.entity.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 업로드 세션에서 수신이 끝난(체크섬 검증 완료) 청크
+ * - 세션 행을 갱신하지 않고 청크마다 행을 추가하므로 여러 청크를 동시에 받아도 서로 잠그지 않는다.
+ */
+@Entity
+@Table(name = "upload_chunk", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_upload_chunk_session_index", columnNames = {"upload_id", "chunk_index"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class UploadChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "upload_id", nullable = false, length = 36)
+    private String uploadId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
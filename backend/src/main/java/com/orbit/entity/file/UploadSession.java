@@ -0,0 +1,94 @@
+package com.orbit.entity.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 업로드 세션
+ * - 파일 크기/청크 크기/청크 개수를 시작 시점에 확정하고, 청크 수신 내역은 UploadChunk 에 기록한다.
+ * - 완료되면 공유 첨부파일 저장소 경로(storedPath)를 기록하고, 대상(targetType/targetId)에 첨부되면 attachedAt 을 기록한다.
+ */
+@Entity
+@Table(name = "upload_session", indexes = {
+        @Index(name = "idx_upload_session_status_created", columnList = "status, created_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class UploadSession {
+
+    public enum Status {
+        UPLOADING,  // 청크 수신 중
+        COMPLETED   // 저장소 반영 완료
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "owner_username", nullable = false)
+    private String ownerUsername;
+
+    @Column(name = "original_filename", nullable = false)
+    private String originalFilename;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Column(length = 64)
+    private String sha256; // 클라이언트가 알려준 전체 파일 해시 (선택)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "stored_path")
+    private String storedPath;
+
+    @Column(name = "target_type", length = 30)
+    private String targetType;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "attached_at")
+    private LocalDateTime attachedAt;
+
+    /**
+     * index 번째 청크의 크기 (마지막 청크만 짧을 수 있다)
+     */
+    public long expectedChunkLength(int index) {
+        long start = (long) index * chunkSize;
+        return Math.min(chunkSize, totalSize - start);
+    }
+}
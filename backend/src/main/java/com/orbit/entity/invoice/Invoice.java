@@ -17,7 +17,11 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "invoices")
+@Table(name = "invoices", indexes = {
+        @Index(name = "idx_invoice_purchase_request", columnList = "purchase_request_id"),
+        // 연체 전환 (상태 + 지급 기한 범위)
+        @Index(name = "idx_invoice_status_due", columnList = "status_parent_code, status_child_code, due_date")
+})
 public class Invoice {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +54,10 @@ public class Invoice {
     @JoinColumn(name = "delivery_id", nullable = false)
     private Delivery delivery;
 
+    // 원 구매 요청 ID (구매 요청 계보 인덱스, 저장 시 입고에서 채움)
+    @Column(name = "purchase_request_id")
+    private Long purchaseRequestId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "supplier_id", nullable = false)
     private Member supplier;
@@ -126,6 +134,11 @@ public class Invoice {
         if (this.status == null) {
             this.status = new SystemStatus("INVOICE", "WAITING");
         }
+
+        // 구매 요청 ID
+        if (this.purchaseRequestId == null && this.delivery != null) {
+            this.purchaseRequestId = this.delivery.getPurchaseRequestId();
+        }
     }
 
     @PreUpdate
@@ -149,7 +162,7 @@ public class Invoice {
 
         // 금액 정보 계산
         BigDecimal totalAmountFromDelivery = delivery.getTotalAmount();
-        this.supplyPrice = totalAmountFromDelivery.divide(new BigDecimal("1.1"), 0, RoundingMode.HALF_UP); // 공급가액 = 총액 ÷ 1.1
+        this.supplyPrice = supplyPriceOf(totalAmountFromDelivery);
         this.vat = totalAmountFromDelivery.subtract(this.supplyPrice); // 부가세 = 총액 - 공급가액
         this.totalAmount = totalAmountFromDelivery; // 원래 총액 유지
 
@@ -160,4 +173,11 @@ public class Invoice {
         // 상태 설정
         this.status = new SystemStatus("INVOICE", "WAITING");
     }
+
+    /**
+     * 부가세 포함 총액에서 공급가액 계산 (총액 ÷ 1.1, 원 단위 반올림)
+     */
+    public static BigDecimal supplyPriceOf(BigDecimal totalAmount) {
+        return totalAmount.divide(new BigDecimal("1.1"), 0, RoundingMode.HALF_UP);
+    }
 }
\ No newline at end of file
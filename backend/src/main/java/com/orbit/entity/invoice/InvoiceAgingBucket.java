@@ -0,0 +1,81 @@
+package com.orbit.entity.invoice;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 미지급 송장 경과 일수 구간별 집계 (AP 보고용, 구간당 1행)
+ * - 경과 일수 = 기준일 - 발행일, 대상은 대기/연체 송장
+ * - InvoiceAgingService 가 매일 다시 계산해 덮어쓴다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "invoice_aging_buckets")
+public class InvoiceAgingBucket {
+
+    public enum Bucket {
+        D0_30("0~30일", 0, 30),
+        D31_60("31~60일", 31, 60),
+        D61_90("61~90일", 61, 90),
+        D90_PLUS("90일 초과", 91, Integer.MAX_VALUE);
+
+        private final String label;
+        private final int minDays;
+        private final int maxDays;
+
+        Bucket(String label, int minDays, int maxDays) {
+            this.label = label;
+            this.minDays = minDays;
+            this.maxDays = maxDays;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getMinDays() {
+            return minDays;
+        }
+
+        public int getMaxDays() {
+            return maxDays;
+        }
+    }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket", length = 20)
+    private Bucket bucket;
+
+    @Column(name = "invoice_count", nullable = false)
+    private long invoiceCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    // 이 중 연체 송장
+    @Column(name = "overdue_count", nullable = false)
+    private long overdueCount;
+
+    @Column(name = "overdue_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal overdueAmount = BigDecimal.ZERO;
+
+    // 집계 기준일
+    @Column(name = "as_of_date", nullable = false)
+    private LocalDate asOfDate;
+
+    @Column(name = "calculated_at", nullable = false)
+    private LocalDateTime calculatedAt;
+
+    public InvoiceAgingBucket(Bucket bucket) {
+        this.bucket = bucket;
+    }
+}
@@ -0,0 +1,61 @@
+package com.orbit.entity.invoice;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입고 기반 송장 일괄 발행 실행 이력
+ * - last_delivery_id 는 마지막으로 커밋된 chunk 의 마지막 입고 ID 로, chunk 와 같은 트랜잭션에서 갱신된다.
+ * - 완료되지 않은 실행(중단/실패)은 다음 실행 때 이 위치부터 이어서 처리한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "invoice_batch_runs")
+public class InvoiceBatchRun {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "last_delivery_id", nullable = false)
+    private long lastDeliveryId;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    // 공급자 없음 / 총액 없음으로 발행하지 못하고 남겨둔 입고 수
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -34,7 +34,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "payments", indexes = {
         @Index(name = "idx_payment_date", columnList = "payment_date"),
-        @Index(name = "idx_method_child_code", columnList = "method_child_code")
+        @Index(name = "idx_method_child_code", columnList = "method_child_code"),
+        @Index(name = "idx_payment_purchase_request", columnList = "purchase_request_id")
 })
 @Getter
 @Setter
@@ -48,6 +49,9 @@ public class Payment {
     @JoinColumn(name = "invoice_id", unique = true, nullable = false)
     private Invoice invoice; // 연결된 송장
 
+    @Column(name = "purchase_request_id")
+    private Long purchaseRequestId; // 원 구매 요청 ID (구매 요청 계보 인덱스, 저장 시 송장에서 채움)
+
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
     @PositiveOrZero(message = "금액은 양수여야 합니다")
     private BigDecimal totalAmount; // 결제 금액
@@ -96,6 +100,11 @@ public class Payment {
         if (this.method == null) {
             this.method = new SystemStatus("PAYMENT", "TRANSFER"); // 기본값: 계좌이체
         }
+
+        // 구매 요청 ID
+        if (this.purchaseRequestId == null && this.invoice != null) {
+            this.purchaseRequestId = this.invoice.getPurchaseRequestId();
+        }
     }
 
     @PreUpdate
@@ -0,0 +1,69 @@
+package com.orbit.entity.paymant;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * PG 웹훅 처리 대기열
+ * - (imp_uid, status) 가 유일해서 PG 가 같은 통지를 다시 보내도 한 번만 쌓인다.
+ * - next_attempt_at 이 지난 PENDING 행을 워커가 가져가며, 가져갈 때 next_attempt_at 을 미뤄 두어(임대)
+ *   처리 중인 노드가 죽어도 임대 시간이 지나면 다른 노드가 다시 처리한다.
+ */
+@Entity
+@Table(name = "payment_gateway_webhooks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gateway_webhook_imp_uid_status", columnNames = {"imp_uid", "status"}),
+        indexes = @Index(name = "idx_gateway_webhook_state", columnList = "state, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentGatewayWebhook {
+
+    public enum State {
+        PENDING, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "imp_uid", nullable = false, length = 100)
+    private String impUid;
+
+    @Column(name = "merchant_uid", length = 100)
+    private String merchantUid;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status; // 웹훅에 실려 온 PG 결제 상태 (paid, cancelled ...)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private State state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "result", length = 500)
+    private String result; // 처리 결과 또는 마지막 오류
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,81 @@
+package com.orbit.entity.paymant;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 정산 파일 대사 중 자동 반영하지 못한 행 (담당자 검토 대상)
+ */
+@Entity
+@Table(name = "payment_reconciliation_issues", indexes = {
+        @Index(name = "idx_reconciliation_issue_run", columnList = "run_id, resolved"),
+        @Index(name = "idx_reconciliation_issue_invoice_number", columnList = "invoice_number")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentReconciliationIssue {
+
+    public enum Reason {
+        INVALID_ROW,            // 형식 오류
+        UNKNOWN_INVOICE,        // 송장 번호 없음
+        AMOUNT_MISMATCH,        // 송장 총액과 금액 불일치
+        INVOICE_REJECTED,       // 반려된 송장
+        ALREADY_PAID,           // 다른 거래로 이미 결제 완료
+        DUPLICATE_ROW           // 같은 파일에 같은 송장이 다시 나옴
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 30)
+    private Reason reason;
+
+    @Column(name = "invoice_number")
+    private String invoiceNumber;
+
+    @Column(name = "invoice_id")
+    private Long invoiceId;
+
+    @Column(name = "transaction_id")
+    private String transactionId;
+
+    @Column(name = "amount", precision = 19, scale = 2)
+    private BigDecimal amount; // 정산 파일 금액
+
+    @Column(name = "expected_amount", precision = 19, scale = 2)
+    private BigDecimal expectedAmount; // 송장 총액
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Column(name = "raw_line", length = 1000)
+    private String rawLine;
+
+    @Column(name = "resolved", nullable = false)
+    private boolean resolved;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
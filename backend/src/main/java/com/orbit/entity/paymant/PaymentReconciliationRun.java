@@ -0,0 +1,75 @@
+package com.orbit.entity.paymant;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 정산 파일 대사(reconciliation) 실행 결과
+ * - 행 수 집계는 배치가 커밋될 때마다 함께 늘어나므로, 실패한 실행도 어디까지 반영됐는지 알 수 있다.
+ */
+@Entity
+@Table(name = "payment_reconciliation_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentReconciliationRun {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "total_rows", nullable = false)
+    private long totalRows; // 읽은 데이터 행 수
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount; // 새로 만든 결제
+
+    @Column(name = "updated_count", nullable = false)
+    private long updatedCount; // 실패/취소 결제를 완료로 갱신
+
+    @Column(name = "unchanged_count", nullable = false)
+    private long unchangedCount; // 같은 거래 ID 로 이미 완료된 결제 (재처리)
+
+    @Column(name = "issue_count", nullable = false)
+    private long issueCount; // 검토 대상으로 넘긴 행
+
+    @Column(name = "elapsed_ms")
+    private Long elapsedMs;
+
+    @Column(name = "rows_per_second")
+    private Long rowsPerSecond;
+
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -24,6 +24,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,6 +43,11 @@ public abstract class PurchaseRequest {
     @Column(name = "purchase_request_id")
     private Long id;
 
+    // 낙관적 잠금 버전 - 같은 구매 요청의 동시 상태 변경이 서로 덮어쓰지 않도록 한다 (기존 행은 0 으로 시작)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "request_name", nullable = false)
     private String requestName;
 
@@ -0,0 +1,28 @@
+package com.orbit.event.event;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 입찰 자동 전환 타이머 등록/변경 이벤트
+ * - 커밋 후 이 노드의 타이밍 휠에 바로 올려, 다음 적재 주기를 기다리지 않고 곧 도래할 타이머도 제시간에 실행한다.
+ */
+public class BiddingTimerScheduledEvent extends ApplicationEvent {
+    private final Long timerId;
+    private final LocalDateTime dueAt;
+
+    public BiddingTimerScheduledEvent(Object source, Long timerId, LocalDateTime dueAt) {
+        super(source);
+        this.timerId = timerId;
+        this.dueAt = dueAt;
+    }
+
+    public Long getTimerId() {
+        return timerId;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.orbit.event.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 조직도(부서/직급/멤버) 변경 이벤트
+ * - memberId 가 있으면 해당 멤버만 다시 반영하고, 없으면 조직도 전체를 다시 만든다.
+ */
+public class OrgChartChangedEvent extends ApplicationEvent {
+    private final Long memberId;
+
+    private OrgChartChangedEvent(Object source, Long memberId) {
+        super(source);
+        this.memberId = memberId;
+    }
+
+    /**
+     * 부서/직급 변경 (전체 재구성)
+     */
+    public static OrgChartChangedEvent all(Object source) {
+        return new OrgChartChangedEvent(source, null);
+    }
+
+    /**
+     * 멤버 한 명의 소속/직급/상태 변경
+     */
+    public static OrgChartChangedEvent member(Object source, Long memberId) {
+        return new OrgChartChangedEvent(source, memberId);
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public boolean isFullRebuild() {
+        return memberId == null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.orbit.event.event;
+
+/**
+ * 조달 프로세스 이벤트 (구매요청 상태 자동 변경용)
+ * - 각 서비스가 생성 직후 직접 발행하고, 리스너는 이벤트 타입으로 바인딩된다.
+ * - purchaseRequestId 는 발행 시점에 바로 알 수 있을 때만 채운다. (null 이면 리스너에서 조회)
+ */
+public sealed interface ProcessEvent {
+
+    Long purchaseRequestId();
+
+    /**
+     * 구매 요청 상태 직접 변경 요청
+     */
+    record StatusChangeRequested(Long purchaseRequestId, String targetStatus, String username) implements ProcessEvent {
+    }
+
+    /**
+     * 입찰 공고 생성
+     */
+    record BiddingCreated(Long biddingId, Long purchaseRequestId) implements ProcessEvent {
+    }
+
+    /**
+     * 계약 (초안) 생성
+     */
+    record ContractCreated(Long contractId, Long biddingId, Long purchaseRequestId) implements ProcessEvent {
+    }
+
+    /**
+     * 발주 생성
+     */
+    record OrderCreated(Long orderId, Long biddingId, Long purchaseRequestId) implements ProcessEvent {
+    }
+
+    /**
+     * 입고 처리
+     */
+    record DeliveryCreated(Long deliveryId, Long orderId, Long purchaseRequestId) implements ProcessEvent {
+    }
+
+    /**
+     * 인보이스 발행
+     */
+    record InvoiceCreated(Long invoiceId, Long deliveryId, Long purchaseRequestId) implements ProcessEvent {
+    }
+
+    /**
+     * 결제 완료
+     */
+    record PaymentCompleted(Long paymentId, Long invoiceId, Long purchaseRequestId) implements ProcessEvent {
+    }
+}
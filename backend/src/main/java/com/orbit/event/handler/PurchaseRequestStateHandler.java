@@ -11,6 +11,7 @@ import com.orbit.repository.procurement.PurchaseRequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -97,6 +98,8 @@ public class PurchaseRequestStateHandler {
                     statusCode);
 
             return true;
+        } catch (OptimisticLockingFailureException e) {
+            throw e; // 버전 충돌은 전이 실행기가 재시도한다
         } catch (Exception e) {
             log.error("구매 요청 상태 변경 중 오류 발생: {}", e.getMessage(), e);
             return false;
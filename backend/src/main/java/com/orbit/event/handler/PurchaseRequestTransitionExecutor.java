@@ -0,0 +1,122 @@
+package com.orbit.event.handler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구매 요청 상태 전이 실행기
+ * - 구매 요청 ID 로 스트라이프(단일 스레드 실행기)를 골라 실행하므로 같은 요청의 전이는 들어온 순서대로 하나씩,
+ *   다른 요청의 전이는 스트라이프 수만큼 병렬로 처리된다.
+ * - 전이 1건은 별도 트랜잭션에서 실행하고, 다른 경로(결재 완료 등)와 부딪혀 버전 충돌이 나면 최신 상태를 다시 읽어 정해진 횟수까지 재시도한다.
+ */
+@Slf4j
+@Component
+public class PurchaseRequestTransitionExecutor {
+
+    private static final ThreadLocal<Boolean> ON_STRIPE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService[] stripes;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public PurchaseRequestTransitionExecutor(PlatformTransactionManager transactionManager,
+                                             @Value("${purchase-request.transition.stripes:8}") int stripeCount,
+                                             @Value("${purchase-request.transition.max-attempts:3}") int maxAttempts,
+                                             @Value("${purchase-request.transition.retry-backoff-ms:20}") long retryBackoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.stripes = new ExecutorService[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            String threadName = "pr-transition-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(() -> {
+                    ON_STRIPE.set(Boolean.TRUE);
+                    runnable.run();
+                }, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 전이를 해당 요청의 스트라이프에 넣고 바로 반환 (이벤트 처리 등 결과를 기다릴 필요가 없는 경우)
+     */
+    public <T> CompletableFuture<T> submit(Long purchaseRequestId, Supplier<T> transition) {
+        return CompletableFuture.supplyAsync(() -> runWithRetry(purchaseRequestId, transition), stripeFor(purchaseRequestId));
+    }
+
+    /**
+     * 전이를 해당 요청의 스트라이프에서 실행하고 결과를 기다린다 (API 응답에 결과가 필요한 경우)
+     * - 이미 스트라이프 스레드이거나 호출자 트랜잭션 안이면 대기 중 교착을 피하기 위해 그 자리에서 실행한다.
+     */
+    public <T> T execute(Long purchaseRequestId, Supplier<T> transition) {
+        if (ON_STRIPE.get() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> transition.get());
+        }
+        try {
+            return submit(purchaseRequestId, transition).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T runWithRetry(Long purchaseRequestId, Supplier<T> transition) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> transition.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("구매 요청({}) 상태 전이 버전 충돌 - 재시도 {}회 초과", purchaseRequestId, maxAttempts);
+                    throw e;
+                }
+                log.debug("구매 요청({}) 상태 전이 버전 충돌 - 재시도 {}/{}", purchaseRequestId, attempt, maxAttempts);
+                sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    private ExecutorService stripeFor(Long purchaseRequestId) {
+        return stripes[Math.floorMod(Long.hashCode(purchaseRequestId), stripes.length)];
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("구매 요청 상태 전이 재시도 중 인터럽트", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ExecutorService stripe : stripes) {
+            if (!stripe.awaitTermination(10, TimeUnit.SECONDS)) {
+                stripe.shutdownNow();
+            }
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.orbit.event.listener;
 
+import com.orbit.event.event.ProcessEvent;
 import com.orbit.event.handler.PurchaseRequestStateHandler;
-import com.orbit.event.publisher.ProcessEventPublisher;
+import com.orbit.event.handler.PurchaseRequestTransitionExecutor;
+import com.orbit.util.PurchaseRequestRelationFinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * 구매 요청 상태 변경 요청 이벤트를 수신하여 처리하는 리스너
+ * 조달 프로세스 이벤트를 수신하여 구매 요청 상태를 변경하는 리스너
+ * - 이벤트 타입으로 바인딩되므로 리플렉션이나 SpEL 조건 없이 바로 호출된다.
+ * - 원래 트랜잭션이 커밋된 뒤 구매 요청별 전이 실행기에 넘기므로 같은 요청의 상태 변경은 순서대로 하나씩,
+ *   다른 요청은 병렬로 처리되고, 상태 변경 실패가 생성을 되돌리지 않는다.
  */
 @Slf4j
 @Component
@@ -17,142 +21,105 @@ import org.springframework.transaction.annotation.Transactional;
 public class PurchaseRequestStatusChangeListener {
 
     private final PurchaseRequestStateHandler stateHandler;
+    private final PurchaseRequestRelationFinder relationFinder;
+    private final PurchaseRequestTransitionExecutor transitionExecutor;
 
     /**
      * 구매 요청 상태 변경 요청 이벤트 처리
      */
-    @EventListener
-    @Transactional
-    public void handlePurchaseRequestStatusChangeRequest(ProcessEventPublisher.PurchaseRequestStatusChangeRequest event) {
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePurchaseRequestStatusChangeRequest(ProcessEvent.StatusChangeRequested event) {
         log.info("구매 요청({}) 상태 변경 요청 수신: 대상 상태={}, 요청자={}",
-                event.getPurchaseRequestId(), event.getTargetStatus(), event.getUsername());
+                event.purchaseRequestId(), event.targetStatus(), event.username());
 
-        boolean success = stateHandler.changeRequestStatus(
-                event.getPurchaseRequestId(),
-                event.getTargetStatus(),
-                event.getUsername()
-        );
-
-        log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
+        submit(event.purchaseRequestId(), event.targetStatus(), event.username());
     }
 
     /**
-     * 입찰 공고 생성 이벤트 처리
+     * 입찰 공고 생성 이벤트 처리 - "업체 선정"
      */
-    @EventListener
-    @Transactional
-    public void handleBiddingCreated(ProcessEventPublisher.BiddingCreatedEvent event) {
-        log.info("입찰 공고({}) 생성 이벤트 수신: 구매 요청({})",
-                event.getBiddingId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "VENDOR_SELECTION",
-                    "system"
-            );
-
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBiddingCreated(ProcessEvent.BiddingCreated event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromBidding(event.biddingId());
+        changeStatus("입찰 공고", event.biddingId(), purchaseRequestId, "VENDOR_SELECTION");
     }
 
     /**
-     * 계약 생성 이벤트 처리
+     * 계약 생성 이벤트 처리 - "계약 대기"
      */
-    @EventListener
-    @Transactional
-    public void handleContractCreated(ProcessEventPublisher.ContractCreatedEvent event) {
-        log.info("계약({}) 생성 이벤트 수신: 구매 요청({})",
-                event.getContractId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "CONTRACT_PENDING",
-                    "system"
-            );
-
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleContractCreated(ProcessEvent.ContractCreated event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromContract(event.contractId());
+        changeStatus("계약", event.contractId(), purchaseRequestId, "CONTRACT_PENDING");
     }
 
     /**
-     * 발주 생성 이벤트 처리
+     * 발주 생성 이벤트 처리 - 발주 후에도 "계약 대기" 상태로 둔다
      */
-    @EventListener
-    @Transactional
-    public void handleOrderCreated(ProcessEventPublisher.OrderCreatedEvent event) {
-        log.info("발주({}) 생성 이벤트 수신: 구매 요청({})",
-                event.getOrderId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "CONTRACT_PENDING", // 발주 후에도 계약 대기 상태로 둘 수 있음
-                    "system"
-            );
-
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderCreated(ProcessEvent.OrderCreated event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromOrder(event.orderId());
+        changeStatus("발주", event.orderId(), purchaseRequestId, "CONTRACT_PENDING");
     }
 
     /**
-     * 입고 처리 이벤트 처리
+     * 입고 처리 이벤트 처리 - "검수"
      */
-    @EventListener
-    @Transactional
-    public void handleDeliveryCreated(ProcessEventPublisher.DeliveryCreatedEvent event) {
-        log.info("입고({}) 처리 이벤트 수신: 구매 요청({})",
-                event.getDeliveryId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "INSPECTION",
-                    "system"
-            );
-
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleDeliveryCreated(ProcessEvent.DeliveryCreated event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromDelivery(event.deliveryId());
+        changeStatus("입고", event.deliveryId(), purchaseRequestId, "INSPECTION");
     }
 
     /**
-     * 인보이스 발행 이벤트 처리
+     * 인보이스 발행 이벤트 처리 - "인보이스 발행"
      */
-    @EventListener
-    @Transactional
-    public void handleInvoiceCreated(ProcessEventPublisher.InvoiceCreatedEvent event) {
-        log.info("인보이스({}) 발행 이벤트 수신: 구매 요청({})",
-                event.getInvoiceId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "INVOICE_ISSUED",
-                    "system"
-            );
-
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleInvoiceCreated(ProcessEvent.InvoiceCreated event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromInvoice(event.invoiceId());
+        changeStatus("인보이스", event.invoiceId(), purchaseRequestId, "INVOICE_ISSUED");
     }
 
     /**
-     * 결제 완료 이벤트 처리
+     * 결제 완료 이벤트 처리 - "대금지급 완료"
      */
-    @EventListener
-    @Transactional
-    public void handlePaymentCompleted(ProcessEventPublisher.PaymentCompletedEvent event) {
-        log.info("결제({}) 완료 이벤트 수신: 구매 요청({})",
-                event.getPaymentId(), event.getPurchaseRequestId());
-
-        if (event.getPurchaseRequestId() != null) {
-            boolean success = stateHandler.changeRequestStatus(
-                    event.getPurchaseRequestId(),
-                    "PAYMENT_COMPLETED",
-                    "system"
-            );
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePaymentCompleted(ProcessEvent.PaymentCompleted event) {
+        Long purchaseRequestId = event.purchaseRequestId() != null
+                ? event.purchaseRequestId()
+                : relationFinder.findPurchaseRequestIdFromPayment(event.paymentId());
+        changeStatus("결제", event.paymentId(), purchaseRequestId, "PAYMENT_COMPLETED");
+    }
 
-            log.info("구매 요청 상태 변경 결과: {}", success ? "성공" : "실패");
+    private void changeStatus(String source, Long sourceId, Long purchaseRequestId, String targetStatus) {
+        if (purchaseRequestId == null) {
+            log.debug("{}({})에 연결된 구매 요청이 없어 상태 변경을 건너뜁니다.", source, sourceId);
+            return;
         }
+
+        log.info("{}({}) 이벤트 수신: 구매 요청({}) 상태 -> {}", source, sourceId, purchaseRequestId, targetStatus);
+        submit(purchaseRequestId, targetStatus, "system");
+    }
+
+    private void submit(Long purchaseRequestId, String targetStatus, String username) {
+        transitionExecutor.submit(purchaseRequestId,
+                        () -> stateHandler.changeRequestStatus(purchaseRequestId, targetStatus, username))
+                .whenComplete((success, error) -> {
+                    if (error != null) {
+                        log.error("구매 요청({}) 상태 변경 실패: {} - {}", purchaseRequestId, targetStatus, error.getMessage());
+                    } else {
+                        log.info("구매 요청({}) 상태 변경 결과: {}", purchaseRequestId, success ? "성공" : "실패");
+                    }
+                });
     }
-}
\ No newline at end of file
+}
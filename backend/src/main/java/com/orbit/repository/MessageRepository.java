@@ -2,16 +2,22 @@ package com.orbit.repository;
 
 import com.orbit.entity.member.Member;
 import com.orbit.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
+    // 메시지 키로 조회 (실시간 수신 메시지는 id 없이 키만 알고 있음)
+    Optional<Message> findByMessageKey(String messageKey);
+
     // ✅ 받은 메시지를 최신순으로 조회
     List<Message> findByReceiverOrderByRegTimeDesc(Member receiver);
 
@@ -28,6 +34,34 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("UPDATE Message m SET m.read = true WHERE m.id = :messageId")
     void markMessageAsRead(@Param("messageId") Long messageId);
 
+    // ✅ 수신자별 읽지 않은 메시지 수 (발신자별) - Redis 미읽음 카운터 초기화용
+    @Query("SELECT m.sender.id, COUNT(m) FROM Message m WHERE m.receiver.id = :receiverId AND m.read = false GROUP BY m.sender.id")
+    List<Object[]> countUnreadBySender(@Param("receiverId") Long receiverId);
+
+    // ✅ 한 발신자에게서 받은 메시지 모두 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.read = true WHERE m.receiver.id = :receiverId AND m.sender.id = :senderId AND m.read = false")
+    int markConversationAsRead(@Param("receiverId") Long receiverId, @Param("senderId") Long senderId);
+
+    // ✅ 대화 키셋 조회 - 내가 보낸 방향 (발신자가 삭제한 메시지 제외), (등록 시각, ID) 보다 이전 메시지만
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+            "WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId AND m.deletedBySender = false " +
+            "AND (m.regTime < :cursorTime OR (m.regTime = :cursorTime AND m.id < :cursorId)) " +
+            "ORDER BY m.regTime DESC, m.id DESC")
+    List<Message> findSentPage(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                               @Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    // ✅ 대화 키셋 조회 - 내가 받은 방향 (수신자가 삭제한 메시지 제외)
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender " +
+            "WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId AND m.deletedByReceiver = false " +
+            "AND (m.regTime < :cursorTime OR (m.regTime = :cursorTime AND m.id < :cursorId)) " +
+            "ORDER BY m.regTime DESC, m.id DESC")
+    List<Message> findReceivedPage(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                                   @Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
     // ✅ 사용자의 받은 모든 메시지 조회
     //List<Message> findByRecipientId(Long recipientId);
 
@@ -1,10 +1,15 @@
 package com.orbit.repository.approval;
 
 import com.orbit.entity.approval.ApprovalLine;
+import com.orbit.entity.commonCode.ChildCode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,5 +39,50 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Long
             "AND al.status.codeValue IN ('APPROVED', 'REJECTED')")
     List<ApprovalLine> findCompletedApprovalsByUsername(@Param("username") String username);
 
+    // 일괄 처리용 - 여러 구매요청의 결재선을 결재자/부서/상태까지 한 번에 조회
+    @Query("SELECT al FROM ApprovalLine al " +
+            "JOIN FETCH al.status " +
+            "JOIN FETCH al.approver a " +
+            "LEFT JOIN FETCH a.department " +
+            "WHERE al.purchaseRequest.id IN :requestIds " +
+            "ORDER BY al.purchaseRequest.id ASC, al.step ASC")
+    List<ApprovalLine> findAllByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
+
+    // 일괄 처리용 - 결재선 ID 로 구매요청 ID 조회
+    @Query("SELECT DISTINCT al.purchaseRequest.id FROM ApprovalLine al WHERE al.id IN :lineIds")
+    List<Long> findRequestIdsByLineIds(@Param("lineIds") Collection<Long> lineIds);
+
+    // 일괄 처리용 - 승인/반려한 결재선을 한 번에 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalLine al SET al.status = :status, al.approvedAt = :approvedAt, al.comment = :comment " +
+            "WHERE al.id IN :lineIds")
+    int updateProcessed(@Param("lineIds") Collection<Long> lineIds,
+                        @Param("status") ChildCode status,
+                        @Param("approvedAt") LocalDateTime approvedAt,
+                        @Param("comment") String comment);
+
+    // 일괄 처리용 - 다음 단계 진행/잔여 단계 취소 결재선의 상태만 한 번에 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalLine al SET al.status = :status WHERE al.id IN :lineIds")
+    int updateStatus(@Param("lineIds") Collection<Long> lineIds, @Param("status") ChildCode status);
+
+    // 결재함 - 결재자/상태 인덱스를 타는 키셋 페이징 (ID 역순, cursor 미만)
+    @Query("SELECT al FROM ApprovalLine al " +
+            "JOIN FETCH al.status " +
+            "JOIN FETCH al.approver a " +
+            "LEFT JOIN FETCH a.department " +
+            "WHERE al.approver.id = :approverId " +
+            "AND al.status.id IN :statusIds " +
+            "AND al.id < :cursor " +
+            "ORDER BY al.id DESC")
+    List<ApprovalLine> findInboxPage(@Param("approverId") Long approverId,
+                                     @Param("statusIds") Collection<Long> statusIds,
+                                     @Param("cursor") Long cursor,
+                                     Pageable pageable);
 
+    // 결재함 - 상태별 건수 (인덱스만으로 계산)
+    @Query("SELECT al.status.id, COUNT(al) FROM ApprovalLine al " +
+            "WHERE al.approver.id = :approverId " +
+            "GROUP BY al.status.id")
+    List<Object[]> countByApproverGroupByStatus(@Param("approverId") Long approverId);
 }
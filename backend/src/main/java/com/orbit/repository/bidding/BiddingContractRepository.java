@@ -1,7 +1,9 @@
 package com.orbit.repository.bidding;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +20,11 @@ public interface BiddingContractRepository extends JpaRepository<BiddingContract
      * 특정 입찰 공고에 대한 계약 목록 조회
      */
     List<BiddingContract> findByBiddingId(Long biddingId);
+
+    /**
+     * 여러 입찰 공고의 계약 목록 한 번에 조회 (id 순)
+     */
+    List<BiddingContract> findByBiddingIdInOrderByIdAsc(Collection<Long> biddingIds);
     
     /**
      * 특정 공급사의 계약 목록 조회
@@ -91,4 +98,10 @@ public interface BiddingContractRepository extends JpaRepository<BiddingContract
      * 상태 코드 값으로 계약 목록 조회
      */
      List<BiddingContract> findAllByStatusChild_CodeValue(String codeValue);
-}
\ No newline at end of file
+
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT c.purchaseRequestId FROM BiddingContract c WHERE c.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -1,8 +1,10 @@
 package com.orbit.repository.bidding;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -41,6 +43,12 @@ public interface BiddingEvaluationRepository extends JpaRepository<BiddingEvalua
     @Query("SELECT e FROM BiddingEvaluation e WHERE e.biddingId = :biddingId ORDER BY e.totalScore DESC")
     List<BiddingEvaluation> findTopByBiddingIdOrderByTotalScoreDesc(@Param("biddingId") Long biddingId);
     
+    /**
+     * 순위순 평가 목록 조회 (순위 없는 평가는 뒤로)
+     */
+    @Query("SELECT e FROM BiddingEvaluation e WHERE e.biddingId = :biddingId ORDER BY e.scoreRank ASC NULLS LAST, e.id ASC")
+    List<BiddingEvaluation> findByBiddingIdOrderByScoreRank(@Param("biddingId") Long biddingId);
+    
     /**
      * 특정 공급사의 평가 목록 조회
      */
@@ -54,4 +62,51 @@ public interface BiddingEvaluationRepository extends JpaRepository<BiddingEvalua
     List<BiddingEvaluation> findByBiddingIdAndMinScore(
             @Param("biddingId") Long biddingId, 
             @Param("minScore") Integer minScore);
-}
\ No newline at end of file
+
+    /**
+     * 순위 계산용 평가 행 (평가 ID, 가격/품질/납품/신뢰도 점수, 입찰가, 저장된 가중 점수, 저장된 순위)
+     * - 입찰가 낮은 순, 평가 ID 순으로 정렬해 동점 우선순위로 쓴다.
+     */
+    @Query("SELECT e.id, e.priceScore, e.qualityScore, e.deliveryScore, e.reliabilityScore, p.totalAmount, " +
+           "e.weightedScore, e.scoreRank " +
+           "FROM BiddingEvaluation e LEFT JOIN e.participation p WHERE e.biddingId = :biddingId " +
+           "ORDER BY p.totalAmount ASC NULLS LAST, e.id ASC")
+    List<Object[]> findScoringRows(@Param("biddingId") Long biddingId);
+
+    /**
+     * 평가 대상 최저 입찰가
+     */
+    @Query("SELECT MIN(p.totalAmount) FROM BiddingEvaluation e JOIN e.participation p " +
+           "WHERE e.biddingId = :biddingId AND p.totalAmount > 0")
+    BigDecimal findLowestBidAmount(@Param("biddingId") Long biddingId);
+
+    /**
+     * 지정 점수보다 높은 다른 평가 수 (순위 = 1 + 이 값)
+     */
+    @Query("SELECT COUNT(e) FROM BiddingEvaluation e WHERE e.biddingId = :biddingId AND e.id <> :excludeId " +
+           "AND e.weightedScore > :score")
+    long countHigherScores(@Param("biddingId") Long biddingId,
+                           @Param("excludeId") Long excludeId,
+                           @Param("score") Double score);
+
+    /**
+     * 점수 구간 [from, to) 에 있는 다른 평가의 순위를 delta 만큼 이동 (평가 1건 점수 변경 시)
+     */
+    @Modifying
+    @Query("UPDATE BiddingEvaluation e SET e.scoreRank = e.scoreRank + :delta " +
+           "WHERE e.biddingId = :biddingId AND e.id <> :excludeId " +
+           "AND e.weightedScore >= :from AND e.weightedScore < :to")
+    int shiftRanks(@Param("biddingId") Long biddingId,
+                   @Param("excludeId") Long excludeId,
+                   @Param("from") Double from,
+                   @Param("to") Double to,
+                   @Param("delta") int delta);
+
+    /**
+     * 입찰 공고의 기존 낙찰자 일괄 해제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BiddingEvaluation e SET e.isSelectedBidder = false, e.bidderSelectedAt = null " +
+           "WHERE e.biddingId = :biddingId AND e.isSelectedBidder = true")
+    int clearSelectedBidders(@Param("biddingId") Long biddingId);
+}
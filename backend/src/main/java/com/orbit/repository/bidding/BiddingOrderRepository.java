@@ -165,5 +165,9 @@ public interface BiddingOrderRepository extends JpaRepository<BiddingOrder, Long
             @Param("endDate") LocalDateTime endDate
     );
 
-
-}
\ No newline at end of file
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT o.purchaseRequestId FROM BiddingOrder o WHERE o.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -65,4 +66,12 @@ public interface BiddingParticipationRepository extends JpaRepository<BiddingPar
     // 특정 입찰 및 공급사에 대한 참여 정보 조회
     Optional<BiddingParticipation> findByBiddingIdAndSupplierId(Long biddingId, Long supplierId);
     
-}
\ No newline at end of file
+
+    /**
+     * 입찰 공고의 기존 낙찰 참여 일괄 해제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BiddingParticipation p SET p.isSelectedBidder = false, p.selectedAt = null " +
+           "WHERE p.biddingId = :biddingId AND p.isSelectedBidder = true")
+    int clearSelectedBidders(@Param("biddingId") Long biddingId);
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +14,8 @@ import com.orbit.entity.bidding.Bidding;
 import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.StatusHistory;
 
+import jakarta.persistence.LockModeType;
+
 public interface BiddingRepository extends JpaRepository<Bidding, Long> {
 
     /**
@@ -59,6 +62,13 @@ public interface BiddingRepository extends JpaRepository<Bidding, Long> {
        "WHERE b.id = :id")
         Optional<Bidding> findByIdWithPurchaseRequestAndSuppliers(@Param("id") Long id);
 
+    /**
+     * 입찰 공고 행 잠금 조회 (평가 순위 갱신 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bidding b WHERE b.id = :id")
+    Optional<Bidding> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 특정 입찰 공고의 상태 변경 이력 조회
      */
@@ -142,4 +152,15 @@ public interface BiddingRepository extends JpaRepository<Bidding, Long> {
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * 입찰 공고 첨부파일 중 공유 저장소 파일별 참조 수 [filePath, count]
+     */
+    @Query("SELECT p, COUNT(b) FROM Bidding b JOIN b.attachmentPaths p WHERE p LIKE 'blobs/%' GROUP BY p")
+    List<Object[]> countBlobReferences();
+
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT b.purchaseRequest.id FROM Bidding b WHERE b.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -0,0 +1,12 @@
+package com.orbit.repository.bidding;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.orbit.entity.bidding.BiddingScoringProfile;
+
+public interface BiddingScoringProfileRepository extends JpaRepository<BiddingScoringProfile, Long> {
+
+    Optional<BiddingScoringProfile> findByBiddingId(Long biddingId);
+}
@@ -0,0 +1,51 @@
+package com.orbit.repository.bidding;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.entity.bidding.BiddingTimer;
+
+public interface BiddingTimerRepository extends JpaRepository<BiddingTimer, Long> {
+
+    List<BiddingTimer> findByBiddingId(Long biddingId);
+
+    Optional<BiddingTimer> findByBiddingIdAndAction(Long biddingId, BiddingTimer.Action action);
+
+    /**
+     * 지정 시각 전에 실행할 대기 타이머 (실행 예정 시각 순, idx_bidding_timer_due 범위 조회)
+     */
+    @Query("SELECT t FROM BiddingTimer t WHERE t.status = :status AND t.dueAt < :before ORDER BY t.dueAt ASC")
+    List<BiddingTimer> findDue(@Param("status") BiddingTimer.Status status,
+                               @Param("before") LocalDateTime before,
+                               Pageable pageable);
+
+    /**
+     * 실행 임대 획득 - 대기 중이고 실행 예정 시각이 그대로이며 다른 노드의 임대가 없거나 만료된 경우만 성공(1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE BiddingTimer t SET t.leaseOwner = :owner, t.leaseUntil = :leaseUntil " +
+           "WHERE t.id = :id AND t.status = :status AND t.dueAt = :dueAt " +
+           "AND (t.leaseUntil IS NULL OR t.leaseUntil < :now)")
+    int claim(@Param("id") Long id,
+              @Param("dueAt") LocalDateTime dueAt,
+              @Param("status") BiddingTimer.Status status,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 타이머가 없는 진행 전/진행 중 입찰 공고 ID (기동 시 타이머 보충)
+     */
+    @Query("SELECT b.id FROM Bidding b WHERE b.statusChild.codeValue IN ('PENDING', 'ONGOING') " +
+           "AND NOT EXISTS (SELECT t.id FROM BiddingTimer t WHERE t.biddingId = b.id)")
+    List<Long> findBiddingIdsWithoutTimers();
+}
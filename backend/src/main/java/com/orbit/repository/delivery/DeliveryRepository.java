@@ -46,4 +46,16 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
      * 송장 미발행 입고 목록 조회
      */
     List<Delivery> findByInvoiceIssuedFalse();
-}
\ No newline at end of file
+
+    /**
+     * 송장 미발행 입고 목록 조회 (발주 함께 조회)
+     */
+    @Query("SELECT d FROM Delivery d LEFT JOIN FETCH d.biddingOrder WHERE d.invoiceIssued = false")
+    List<Delivery> findUninvoicedWithOrder();
+
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT d.purchaseRequestId FROM Delivery d WHERE d.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.orbit.repository.file;
+
+import com.orbit.entity.file.UploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, Long> {
+
+    List<UploadChunk> findByUploadIdOrderByChunkIndex(String uploadId);
+
+    long countByUploadId(String uploadId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadChunk c WHERE c.uploadId = :uploadId")
+    int deleteByUploadId(@Param("uploadId") String uploadId);
+}
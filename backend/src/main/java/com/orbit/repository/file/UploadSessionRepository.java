@@ -0,0 +1,27 @@
+package com.orbit.repository.file;
+
+import com.orbit.entity.file.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * cutoff 이후로 청크를 하나도 받지 못한 진행 중 세션 (중단된 업로드)
+     */
+    @Query("SELECT s FROM UploadSession s WHERE s.status = com.orbit.entity.file.UploadSession.Status.UPLOADING " +
+            "AND s.createdAt < :cutoff " +
+            "AND NOT EXISTS (SELECT c FROM UploadChunk c WHERE c.uploadId = s.id AND c.receivedAt >= :cutoff)")
+    List<UploadSession> findAbandoned(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 보관 기간이 지난 완료 세션
+     */
+    @Query("SELECT s FROM UploadSession s WHERE s.status = com.orbit.entity.file.UploadSession.Status.COMPLETED " +
+            "AND s.completedAt < :cutoff")
+    List<UploadSession> findCompletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,7 @@
+package com.orbit.repository.invoice;
+
+import com.orbit.entity.invoice.InvoiceAgingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InvoiceAgingBucketRepository extends JpaRepository<InvoiceAgingBucket, InvoiceAgingBucket.Bucket> {
+}
@@ -0,0 +1,11 @@
+package com.orbit.repository.invoice;
+
+import com.orbit.entity.invoice.InvoiceBatchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface InvoiceBatchRunRepository extends JpaRepository<InvoiceBatchRun, Long> {
+
+    Optional<InvoiceBatchRun> findTopByOrderByIdDesc();
+}
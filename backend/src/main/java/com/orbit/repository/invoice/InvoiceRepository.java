@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
@@ -47,6 +48,9 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
     List<Invoice> findByDeliveryId(Long deliveryId);
 
+    // 송장 번호로 조회 (PG 주문 번호 merchant_uid = 송장 번호)
+    Optional<Invoice> findByInvoiceNumber(String invoiceNumber);
+
     // 담당자별 조회 메서드 추가
     @Query("SELECT i FROM Invoice i WHERE i.approver.id = :approverId")
     Page<Invoice> findByApproverId(@Param("approverId") Long approverId, Pageable pageable);
@@ -87,4 +91,10 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
             @Param("approverId") Long approverId,
             @Param("searchTerm") String searchTerm,
             Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT i.purchaseRequestId FROM Invoice i WHERE i.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -104,4 +104,16 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
     List<Member> findByDepartmentId(Long departmentId);
 
     List<Member> findByUsernameStartingWith(String prefix);
+
+    /**
+     * 조직도 인덱스용 멤버 정보 [memberId, departmentId, positionLevel] (부서/직급이 없으면 null)
+     */
+    @Query("SELECT m.id, d.id, p.level FROM Member m LEFT JOIN m.department d LEFT JOIN m.position p")
+    List<Object[]> findOrgChartEntries();
+
+    /**
+     * 조직도 인덱스용 단일 멤버 정보 [memberId, departmentId, positionLevel]
+     */
+    @Query("SELECT m.id, d.id, p.level FROM Member m LEFT JOIN m.department d LEFT JOIN m.position p WHERE m.id = :memberId")
+    List<Object[]> findOrgChartEntry(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,11 @@
+package com.orbit.repository.payment;
+
+import com.orbit.entity.paymant.PaymentGatewayWebhook;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentGatewayWebhookRepository extends JpaRepository<PaymentGatewayWebhook, Long> {
+
+    Page<PaymentGatewayWebhook> findByStateOrderByIdDesc(PaymentGatewayWebhook.State state, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.orbit.repository.payment;
+
+import com.orbit.entity.paymant.PaymentReconciliationIssue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentReconciliationIssueRepository extends JpaRepository<PaymentReconciliationIssue, Long> {
+
+    // 실행별 미처리 검토 대상 (idx_reconciliation_issue_run)
+    Page<PaymentReconciliationIssue> findByRunIdAndResolvedFalseOrderByLineNumberAsc(Long runId, Pageable pageable);
+}
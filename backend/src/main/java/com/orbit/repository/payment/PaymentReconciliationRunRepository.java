@@ -0,0 +1,11 @@
+package com.orbit.repository.payment;
+
+import com.orbit.entity.paymant.PaymentReconciliationRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentReconciliationRunRepository extends JpaRepository<PaymentReconciliationRun, Long> {
+
+    Page<PaymentReconciliationRun> findAllByOrderByIdDesc(Pageable pageable);
+}
@@ -75,4 +75,10 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // 특정 공급업체의 결제 목록 조회
     @Query("SELECT p FROM Payment p WHERE p.invoice.supplier.id = :supplierId")
     Page<Payment> findBySupplier(@Param("supplierId") Long supplierId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 구매 요청 ID 만 조회 (구매 요청 계보 인덱스)
+     */
+    @Query("SELECT p.purchaseRequestId FROM Payment p WHERE p.id = :id")
+    Optional<Long> findPurchaseRequestIdById(@Param("id") Long id);
+}
@@ -2,6 +2,7 @@ package com.orbit.repository.procurement;
 
 import com.orbit.entity.procurement.ProjectAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,4 +24,10 @@ public interface ProjectAttachmentRepository extends JpaRepository<ProjectAttach
      * 특정 프로젝트의 첨부파일 삭제
      */
     void deleteByProjectId(Long projectId);
-}
\ No newline at end of file
+
+    /**
+     * 공유 저장소 파일별 참조 수 [filePath, count]
+     */
+    @Query("SELECT a.filePath, COUNT(a) FROM ProjectAttachment a WHERE a.filePath LIKE 'blobs/%' GROUP BY a.filePath")
+    List<Object[]> countBlobReferences();
+}
@@ -2,6 +2,15 @@ package com.orbit.repository.procurement;
 
 import com.orbit.entity.procurement.PurchaseRequestAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface PurchaseRequestAttachmentRepository extends JpaRepository<PurchaseRequestAttachment, Long> {
+
+    /**
+     * 공유 저장소 파일별 참조 수 [filePath, count]
+     */
+    @Query("SELECT a.filePath, COUNT(a) FROM PurchaseRequestAttachment a WHERE a.filePath LIKE 'blobs/%' GROUP BY a.filePath")
+    List<Object[]> countBlobReferences();
 }
@@ -2,9 +2,17 @@ package com.orbit.repository.supplier;
 
 import com.orbit.entity.supplier.SupplierAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SupplierAttachmentRepository extends JpaRepository<SupplierAttachment, Long> {
 
+    /**
+     * 공유 저장소 파일별 참조 수 [filePath, count]
+     */
+    @Query("SELECT a.filePath, COUNT(a) FROM SupplierAttachment a WHERE a.filePath LIKE 'blobs/%' GROUP BY a.filePath")
+    List<Object[]> countBlobReferences();
 }
@@ -0,0 +1,206 @@
+package com.orbit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.dto.MessagePageDto;
+import com.orbit.dto.MessageRequestDto;
+import com.orbit.dto.MessageResponseDto;
+import com.orbit.entity.Message;
+import com.orbit.entity.member.Member;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.repository.MessageRepository;
+import com.orbit.repository.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 서비스
+ * - 전송: 응답 DTO 를 한 번만 JSON 으로 직렬화해 chat_channel 로 발행하고(모든 노드의 MessageSubscriberService 가 그대로 전달),
+ *   저장은 MessageWriteBehindQueue 에 맡긴다.
+ * - 대화 조회: (발신자, 수신자, 등록 시각) 인덱스를 방향별로 키셋 조회해 합친다.
+ * - 미읽음 수: MessageUnreadCounter(Redis) 에서 읽고, 전송/읽음 처리 때 증감한다.
+ * - 식별: 전송 응답/실시간 메시지는 아직 저장 전이라 id 가 null 이다. 대신 전송 시 정한 messageKey
+ *   (요청에 담긴 클라이언트 키, 없으면 UUID)가 있고 저장된 행에도 같은 값이 들어간다.
+ *   클라이언트는 messageKey 로 중복을 제거하고, 읽음 처리는 PATCH /api/messages/key/{messageKey}/read 를 쓴다.
+ * - 대기열 비우기(flush)는 조회/읽음 처리 트랜잭션을 열기 전에 한다. (먼저 열면 트랜잭션 스냅샷에 방금 저장한 행이 보이지 않음)
+ */
+@Slf4j
+@Service
+public class MessageService {
+
+    public static final String CHAT_CHANNEL = "chat_channel";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Comparator<Message> NEWEST_FIRST = Comparator
+            .comparing(Message::getRegTime, Comparator.reverseOrder())
+            .thenComparing(Message::getId, Comparator.reverseOrder());
+
+    private final MessageRepository messageRepository;
+    private final MemberRepository memberRepository;
+    private final MessageWriteBehindQueue writeBehindQueue;
+    private final MessageUnreadCounter unreadCounter;
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MessageService(MessageRepository messageRepository,
+                          MemberRepository memberRepository,
+                          MessageWriteBehindQueue writeBehindQueue,
+                          MessageUnreadCounter unreadCounter,
+                          @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                          ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager) {
+        this.messageRepository = messageRepository;
+        this.memberRepository = memberRepository;
+        this.writeBehindQueue = writeBehindQueue;
+        this.unreadCounter = unreadCounter;
+        this.redisStringTemplate = redisStringTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 메시지 전송 (발신자는 로그인 사용자)
+     */
+    @Transactional(readOnly = true)
+    public MessageResponseDto send(MessageRequestDto request) {
+        Member sender = currentMember();
+        Member receiver = memberRepository.findById(request.getReceiverId())
+                .orElseThrow(() -> new ResourceNotFoundException("수신자를 찾을 수 없습니다. ID: " + request.getReceiverId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        String messageKey = request.getMessageKey() != null && !request.getMessageKey().isBlank()
+                ? request.getMessageKey() : UUID.randomUUID().toString();
+        MessageResponseDto message = new MessageResponseDto(null, messageKey, sender.getId(), sender.getName(),
+                receiver.getId(), request.getContent(), false, now, now);
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메시지 직렬화 실패", e);
+        }
+
+        writeBehindQueue.enqueue(new MessageWriteBehindQueue.PendingMessage(messageKey,
+                sender.getId(), sender.getUsername(), receiver.getId(), request.getContent(), now));
+        if (!sender.getId().equals(receiver.getId())) {
+            unreadCounter.increment(receiver.getId(), sender.getId());
+        }
+        redisStringTemplate.convertAndSend(CHAT_CHANNEL, json);
+        return message;
+    }
+
+    /**
+     * 상대방과의 대화 조회 (최신순 키셋 페이징)
+     */
+    public MessagePageDto getConversation(Long otherId, LocalDateTime cursorTime, Long cursorId, int size) {
+        Member me = currentMember();
+        if (cursorTime == null && writeBehindQueue.hasPending(me.getId(), otherId)) {
+            // 첫 페이지에 방금 보낸 메시지가 빠지지 않도록 조회 트랜잭션 전에 먼저 저장
+            writeBehindQueue.flush();
+        }
+        return readOnlyTransaction.execute(status -> conversationPage(me, otherId, cursorTime, cursorId, size));
+    }
+
+    private MessagePageDto conversationPage(Member me, Long otherId, LocalDateTime cursorTime, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime time = cursorTime != null ? cursorTime : LocalDateTime.now().plusYears(100);
+        long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Message> rows = new ArrayList<>(messageRepository.findSentPage(me.getId(), otherId, time, id, limit));
+        if (!me.getId().equals(otherId)) {
+            rows.addAll(messageRepository.findReceivedPage(otherId, me.getId(), time, id, limit));
+        }
+        rows.sort(NEWEST_FIRST);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Message> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Message last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return MessagePageDto.builder()
+                .items(page.stream().map(MessageResponseDto::new).collect(Collectors.toList()))
+                .nextCursorTime(hasNext ? last.getRegTime() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 읽지 않은 메시지 수 (발신자 ID -> 건수)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getUnreadCounts() {
+        Long receiverId = currentMember().getId();
+        return unreadCounter.counts(receiverId, () -> {
+            Map<Long, Long> counts = new HashMap<>(writeBehindQueue.pendingCountsBySender(receiverId));
+            for (Object[] row : messageRepository.countUnreadBySender(receiverId)) {
+                counts.merge((Long) row[0], (Long) row[1], Long::sum);
+            }
+            counts.remove(receiverId);
+            return counts;
+        });
+    }
+
+    /**
+     * 상대방에게서 받은 메시지 모두 읽음 처리
+     */
+    public int markConversationAsRead(Long otherId) {
+        Long receiverId = currentMember().getId();
+        // 읽음 UPDATE(자체 트랜잭션) 전에 저장 - 읽음 처리가 실패해도 저장된 메시지는 남는다.
+        writeBehindQueue.flush();
+        int updated = messageRepository.markConversationAsRead(receiverId, otherId);
+        unreadCounter.clear(receiverId, otherId);
+        return updated;
+    }
+
+    /**
+     * 메시지 1건 읽음 처리 (수신자만)
+     */
+    @Transactional
+    public void markAsRead(Long messageId) {
+        Long receiverId = currentMember().getId();
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResourceNotFoundException("메시지를 찾을 수 없습니다. ID: " + messageId));
+        if (!message.getReceiver().getId().equals(receiverId)) {
+            throw new IllegalArgumentException("받은 메시지만 읽음 처리할 수 있습니다.");
+        }
+        if (!message.isRead()) {
+            messageRepository.markMessageAsRead(messageId);
+            unreadCounter.decrement(receiverId, message.getSender().getId());
+        }
+    }
+
+    /**
+     * 메시지 1건 읽음 처리 - 메시지 키로 (실시간으로 받아 id 를 모르는 경우)
+     */
+    public void markAsReadByKey(String messageKey) {
+        if (writeBehindQueue.hasPending(messageKey)) {
+            writeBehindQueue.flush();
+        }
+        Message message = messageRepository.findByMessageKey(messageKey)
+                .orElseThrow(() -> new ResourceNotFoundException("메시지를 찾을 수 없습니다. KEY: " + messageKey));
+        markAsRead(message.getId());
+    }
+
+    private Member currentMember() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return memberRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
+}
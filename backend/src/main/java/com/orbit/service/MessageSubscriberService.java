@@ -1 +1 @@
-package com.orbit.service;import lombok.RequiredArgsConstructor;import lombok.extern.slf4j.Slf4j;import org.springframework.data.redis.connection.Message; // ✅ Redis 메시지import org.springframework.messaging.simp.SimpMessagingTemplate;import org.springframework.stereotype.Service;import com.fasterxml.jackson.databind.ObjectMapper;import com.orbit.dto.MessageRequestDto;@Slf4j@Service@RequiredArgsConstructorpublic class MessageSubscriberService implements org.springframework.data.redis.connection.MessageListener {    private final SimpMessagingTemplate messagingTemplate; // ✅ WebSocket을 통해 클라이언트에게 메시지를 전송하는 역할    private final ObjectMapper objectMapper;    /**     *  Redis 메시지 수신     *  - Redis에서 메시지를 수신하는 역할.     *  - redisMessage : Redis Publiser가 발행한 메시지     *  - 이 역할을 수행한 후, 구독 중인 WebSocket 클라이언트에게 메시지를 전송하면 된다.     *    메시지를 수신하고 WebSocket을 통해 클라이언트에게 보냅니다.     */    @Override    public void onMessage(Message redisMessage, byte[] pattern) { // ✅ RedisMessage는 변수로 사용        try {            // 1. Redis 메시지 수신            String jsonMessage = new String(redisMessage.getBody()); // Redis Publiser가 발행한 메시지 getBody()로 가져와서 String으로 변환            log.info("🔹 Redis Subscriber 에서 수신한 경로 : {}, 메시지 내용: {}", new String(pattern), jsonMessage);            // 2. 전달받은 메시지 내용을 MessageRequestDto로 변환            MessageRequestDto messageDto = objectMapper.readValue(jsonMessage, MessageRequestDto.class);            log.info("✅ WebSocket으로 메시지 전송: /topic/chat/{}", messageDto.getReceiverId());            // 3. Redis에서 보낸 메시지를 전달받고 이를 WebSocket을 통해 클라이언트에게 전달            messagingTemplate.convertAndSend("/topic/chat/" + messageDto.getReceiverId(), objectMapper.writeValueAsString(messageDto));            // 4. 발신자에게도 동일한 메시지 전송            messagingTemplate.convertAndSend("/topic/chat/" + messageDto.getSenderId(), objectMapper.writeValueAsString(messageDto));        } catch (Exception e) {            log.error("❌ 메시지 처리 중 오류 발생", e);        }    }}
\ No newline at end of file
+package com.orbit.service;import lombok.RequiredArgsConstructor;import lombok.extern.slf4j.Slf4j;import org.springframework.data.redis.connection.Message; // ✅ Redis 메시지import org.springframework.messaging.simp.SimpMessageHeaderAccessor;import org.springframework.messaging.simp.SimpMessagingTemplate;import org.springframework.messaging.support.MessageBuilder;import org.springframework.util.MimeTypeUtils;import org.springframework.stereotype.Service;import com.fasterxml.jackson.databind.ObjectMapper;import com.fasterxml.jackson.annotation.JsonIgnoreProperties;import com.orbit.config.websoket.ClusterBrokerRelay;import java.util.Map;@Slf4j@Service@RequiredArgsConstructorpublic class MessageSubscriberService implements org.springframework.data.redis.connection.MessageListener {    // chat_channel 은 모든 노드가 구독하므로 노드 간 중계 없이 로컬 구독자에게만 보낸다    private static final Map<String, Object> LOCAL_ONLY = Map.of(ClusterBrokerRelay.LOCAL_ONLY_HEADER, "true");    /**     * 전달 대상 확인용 (본문은 다시 직렬화하지 않고 그대로 전달)     */    @JsonIgnoreProperties(ignoreUnknown = true)    record ChatRoute(Long senderId, Long receiverId) {    }    private final SimpMessagingTemplate messagingTemplate; // ✅ WebSocket을 통해 클라이언트에게 메시지를 전송하는 역할    private final ObjectMapper objectMapper;    /**     *  Redis 메시지 수신     *  - Redis에서 메시지를 수신하는 역할.     *  - redisMessage : Redis Publiser가 발행한 메시지 (MessageService 가 한 번 직렬화한 JSON)     *  - 이 역할을 수행한 후, 구독 중인 WebSocket 클라이언트에게 메시지를 전송하면 된다.     *    수신자/발신자 ID 만 읽고, 받은 JSON 바이트를 그대로 담은 메시지 하나를 수신자/발신자 토픽에 보냅니다.     */    @Override    public void onMessage(Message redisMessage, byte[] pattern) { // ✅ RedisMessage는 변수로 사용        try {            // 1. Redis 메시지 수신            byte[] body = redisMessage.getBody();            ChatRoute route = objectMapper.readValue(body, ChatRoute.class);            log.debug("🔹 Redis Subscriber 에서 수신한 경로 : {}, 수신자: {}", new String(pattern), route.receiverId());            // 2. 본문 그대로 STOMP 메시지 생성 (직렬화 없음, 두 목적지에서 같은 페이로드 사용)            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);            LOCAL_ONLY.forEach((name, value) -> accessor.setNativeHeader(name, value.toString()));            org.springframework.messaging.Message<byte[]> message = MessageBuilder.createMessage(body, accessor.getMessageHeaders());            // 3. 수신자에게 전달            messagingTemplate.send("/topic/chat/" + route.receiverId(), message);            // 4. 발신자에게도 동일한 메시지 전송            if (route.senderId() != null && !route.senderId().equals(route.receiverId())) {                messagingTemplate.send("/topic/chat/" + route.senderId(), message);            }        } catch (Exception e) {            log.error("❌ 메시지 처리 중 오류 발생", e);        }    }}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.orbit.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽지 않은 메시지 수 (Redis Hash)
+ * - 키: chat:unread:{수신자 ID}, 필드: 발신자 ID, 값: 읽지 않은 메시지 수
+ * - 처음 조회할 때 DB 에서 한 번 집계해 채우고(초기화 표시 필드 "#"), 이후에는 전송/읽음 처리 때 증감만 한다.
+ * - 초기화되지 않은 키는 증감하지 않는다. (다음 조회 때 DB 기준으로 채움) 키는 일정 시간 쓰이지 않으면 만료되어 다시 집계된다.
+ */
+@Slf4j
+@Component
+public class MessageUnreadCounter {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String SEEDED_FIELD = "#";
+
+    // 초기화된 키에만 증감, 0 이하가 되면 필드 삭제
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], '" + SEEDED_FIELD + "') == 0 then return -1 end "
+                    + "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) count = 0 end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+                    + "return count", Long.class);
+
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final Duration ttl;
+
+    public MessageUnreadCounter(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisStringTemplate,
+                                @Value("${chat.unread.ttl-hours:24}") long ttlHours) {
+        this.redisStringTemplate = redisStringTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public void increment(Long receiverId, Long senderId) {
+        adjust(receiverId, senderId, 1);
+    }
+
+    public void decrement(Long receiverId, Long senderId) {
+        adjust(receiverId, senderId, -1);
+    }
+
+    /**
+     * 한 발신자의 미읽음 수 초기화 (대화 읽음 처리)
+     */
+    public void clear(Long receiverId, Long senderId) {
+        try {
+            redisStringTemplate.opsForHash().delete(key(receiverId), String.valueOf(senderId));
+        } catch (Exception e) {
+            log.warn("미읽음 카운터 초기화 실패 - 수신자 {}: {}", receiverId, e.getMessage());
+        }
+    }
+
+    /**
+     * 발신자별 미읽음 수 조회 - 초기화되지 않았으면 loader(DB 집계) 결과로 채운다.
+     */
+    public Map<Long, Long> counts(Long receiverId, Supplier<Map<Long, Long>> loader) {
+        String key = key(receiverId);
+        try {
+            Map<Object, Object> entries = redisStringTemplate.opsForHash().entries(key);
+            if (entries.containsKey(SEEDED_FIELD)) {
+                redisStringTemplate.expire(key, ttl);
+                return toCounts(entries);
+            }
+        } catch (Exception e) {
+            log.warn("미읽음 카운터 조회 실패 - DB 집계 사용, 수신자 {}: {}", receiverId, e.getMessage());
+            return loader.get();
+        }
+
+        Map<Long, Long> counts = loader.get();
+        try {
+            Map<String, String> seed = new HashMap<>();
+            counts.forEach((senderId, count) -> seed.put(String.valueOf(senderId), String.valueOf(count)));
+            seed.put(SEEDED_FIELD, "1");
+            redisStringTemplate.opsForHash().putAll(key, seed);
+            redisStringTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("미읽음 카운터 초기화 실패 - 수신자 {}: {}", receiverId, e.getMessage());
+        }
+        return counts;
+    }
+
+    private void adjust(Long receiverId, Long senderId, long delta) {
+        try {
+            redisStringTemplate.execute(ADJUST_SCRIPT, List.of(key(receiverId)),
+                    String.valueOf(senderId), String.valueOf(delta), String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            // 카운터가 틀어지면 키를 지워 다음 조회 때 DB 기준으로 다시 채운다
+            log.warn("미읽음 카운터 갱신 실패 - 수신자 {}: {}", receiverId, e.getMessage());
+            try {
+                redisStringTemplate.delete(key(receiverId));
+            } catch (Exception ignored) {
+                // Redis 장애 중이면 만료로 정리된다
+            }
+        }
+    }
+
+    private Map<Long, Long> toCounts(Map<Object, Object> entries) {
+        Map<Long, Long> counts = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!SEEDED_FIELD.equals(field)) {
+                counts.put(Long.valueOf(field.toString()), Long.valueOf(value.toString()));
+            }
+        });
+        return counts;
+    }
+
+    private String key(Long receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+}
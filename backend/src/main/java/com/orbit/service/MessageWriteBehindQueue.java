@@ -0,0 +1,232 @@
+package com.orbit.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 지연 저장 대기열
+ * - 전송된 메시지를 모아 두었다가 일정 건수가 차거나 주기가 지나면 한 번의 일괄 INSERT 로 저장한다.
+ * - 대기열이 가득 차면 호출 스레드에서 바로 비우고 넣는다. (전송 속도를 저장 속도에 맞춤)
+ * - 저장에 실패한 묶음은 다음 비우기 때 먼저 다시 시도하고, 정해진 횟수를 넘으면 로그를 남기고 버린다.
+ * - 읽음 처리/대화 조회처럼 저장된 행이 필요한 곳은 flush() 로 먼저 비운다.
+ * - INSERT 는 항상 별도 트랜잭션(REQUIRES_NEW)에서 커밋한다. 호출자 트랜잭션이 롤백되거나 읽기 전용이어도
+ *   대기열에서 꺼낸 메시지가 사라지거나 저장 실패로 재시도 횟수를 소모하지 않는다.
+ */
+@Slf4j
+@Component
+public class MessageWriteBehindQueue {
+
+    // 같은 message_key 재전송은 무시 (한 건 때문에 묶음 전체가 실패하지 않도록)
+    private static final String INSERT_SQL = "INSERT IGNORE INTO message "
+            + "(message_key, sender_id, receiver_id, content, is_read, deleted_by_sender, deleted_by_receiver, edited, "
+            + "reg_time, update_time, created_by, modified_by) "
+            + "VALUES (?, ?, ?, ?, false, false, false, false, ?, ?, ?, ?)";
+
+    /**
+     * 저장 대기 메시지
+     */
+    public record PendingMessage(String messageKey, Long senderId, String senderUsername, Long receiverId,
+                                 String content, LocalDateTime regTime) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxAttempts;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 저장 실패 후 재시도할 묶음과 시도 횟수 (flushLock 안에서만 접근)
+    private List<PendingMessage> failedBatch = List.of();
+    private int failedAttempts;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public MessageWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${chat.write-behind.capacity:10000}") int capacity,
+                                   @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                   @Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                                   @Value("${chat.write-behind.max-attempts:3}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "chat-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 저장 대기열에 추가
+     */
+    public void enqueue(PendingMessage message) {
+        if (!queue.offer(message)) {
+            flush();
+            if (!queue.offer(message)) {
+                throw new IllegalStateException("메시지 저장 대기열이 가득 찼습니다.");
+            }
+        }
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * 두 사용자 사이에 아직 저장되지 않은 메시지가 있는지
+     */
+    public boolean hasPending(Long memberId, Long otherId) {
+        for (PendingMessage message : queue) {
+            if ((message.senderId().equals(memberId) && message.receiverId().equals(otherId))
+                    || (message.senderId().equals(otherId) && message.receiverId().equals(memberId))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 아직 저장되지 않은 메시지인지
+     */
+    public boolean hasPending(String messageKey) {
+        for (PendingMessage message : queue) {
+            if (message.messageKey().equals(messageKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 수신자에게 온 미저장 메시지 수 (발신자별)
+     */
+    public Map<Long, Long> pendingCountsBySender(Long receiverId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (PendingMessage message : queue) {
+            if (message.receiverId().equals(receiverId)) {
+                counts.merge(message.senderId(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 대기 중인 메시지를 모두 저장
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!failedBatch.isEmpty() && !insert(failedBatch)) {
+                return;
+            }
+            List<PendingMessage> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                if (!insert(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingSize() {
+        return queue.size();
+    }
+
+    private boolean insert(List<PendingMessage> batch) {
+        BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingMessage message = batch.get(i);
+                Timestamp regTime = Timestamp.valueOf(message.regTime());
+                ps.setString(1, message.messageKey());
+                ps.setLong(2, message.senderId());
+                ps.setLong(3, message.receiverId());
+                ps.setString(4, message.content());
+                ps.setTimestamp(5, regTime);
+                ps.setTimestamp(6, regTime);
+                ps.setString(7, message.senderUsername());
+                ps.setString(8, message.senderUsername());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        };
+        try {
+            // 호출자 트랜잭션과 분리해서 커밋 (롤백/읽기 전용 트랜잭션에 휩쓸리지 않도록)
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, setter));
+            failedBatch = List.of();
+            failedAttempts = 0;
+            return true;
+        } catch (Exception e) {
+            failedAttempts = batch == failedBatch ? failedAttempts + 1 : 1;
+            if (failedAttempts >= maxAttempts) {
+                log.error("메시지 {}건 저장 실패 - 재시도 {}회 초과로 버림: {}", batch.size(), maxAttempts, e.getMessage());
+                failedBatch = List.of();
+                failedAttempts = 0;
+                return true;
+            }
+            log.warn("메시지 {}건 저장 실패 - 다음 주기에 재시도 ({}/{}): {}", batch.size(), failedAttempts, maxAttempts, e.getMessage());
+            failedBatch = batch;
+            return false;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("메시지 저장 대기열 처리 중 오류 발생", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        flush();
+        if (!queue.isEmpty() || !failedBatch.isEmpty()) {
+            log.error("종료 시 저장하지 못한 메시지: {}건", queue.size() + failedBatch.size());
+        }
+    }
+}
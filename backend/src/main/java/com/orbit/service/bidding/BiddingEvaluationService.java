@@ -29,6 +29,7 @@ public class BiddingEvaluationService {
     private final BiddingRepository biddingRepository;
     private final MemberRepository memberRepository;
     private final NotificationRepository notificationRepository;
+    private final BiddingScoringService scoringService;
 
     /**
      * 평가 목록 조회
@@ -114,6 +115,9 @@ public class BiddingEvaluationService {
         participation.updateEvaluationStatus(true);
         participationRepository.save(participation);
         
+        // 새 평가가 들어오면 최저 입찰가가 바뀔 수 있으므로 전체 순위 재계산
+        scoringService.apply(scoringService.rankAll(biddingId), evaluation);
+        
         return BiddingEvaluationDto.fromEntity(evaluation);
     }
     
@@ -140,6 +144,9 @@ public class BiddingEvaluationService {
         // 저장
         evaluation = evaluationRepository.save(evaluation);
         
+        // 이 평가의 점수와, 점수가 지나간 구간의 순위만 갱신
+        scoringService.onEvaluationUpdated(evaluation);
+        
         // 참여 정보 업데이트
         if (evaluation.getParticipation() != null) {
             BiddingParticipation participation = evaluation.getParticipation();
@@ -170,6 +177,17 @@ public class BiddingEvaluationService {
         return BiddingEvaluationDto.fromEntity(evaluation);
     }
     
+    /**
+     * 순위순 평가 목록 조회 (가중치 설정 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<BiddingEvaluationDto> getRankedEvaluationsByBiddingId(Long biddingId) {
+        List<BiddingEvaluation> evaluations = evaluationRepository.findByBiddingIdOrderByScoreRank(biddingId);
+        return evaluations.stream()
+                .map(BiddingEvaluationDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 점수별 평가 목록 조회 (내림차순)
      */
@@ -16,6 +16,7 @@ import com.orbit.dto.bidding.BiddingOrderDto;
 import com.orbit.entity.bidding.BiddingOrder;
 import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
+import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.bidding.BiddingOrderRepository;
 import com.orbit.repository.bidding.BiddingParticipationRepository;
@@ -23,6 +24,7 @@ import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.util.BiddingNumberUtil;
+import com.orbit.util.PurchaseRequestRelationFinder;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +42,8 @@ public class BiddingOrderService {
     private final ChildCodeRepository childCodeRepository; // 사용되지 않지만 주입 필요
     private final BiddingOrderRepository biddingOrderRepository;
     private final DeliveryRepository deliveryRepository;
+    private final ProcessEventPublisher processEventPublisher;
+    private final PurchaseRequestRelationFinder relationFinder;
     /**
      * 발주 목록 조회
      */
@@ -152,6 +156,7 @@ public class BiddingOrderService {
                 .biddingId(orderDto.getBiddingId())
                 .biddingParticipationId(participationId)
                 .purchaseRequestItemId(orderDto.getPurchaseRequestItemId())
+                .purchaseRequestId(relationFinder.findPurchaseRequestIdFromBidding(orderDto.getBiddingId()))
                 .supplierId(orderDto.getSupplierId())
                 .supplierName(orderDto.getSupplierName())
                 .isSelectedBidder(orderDto.isSelectedBidder())
@@ -191,6 +196,9 @@ public class BiddingOrderService {
         } catch (Exception e) {
             log.error("발주 생성 알림 발송 실패", e);
         }
+
+        // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+        processEventPublisher.publishOrderCreated(order.getId(), order.getBiddingId(), order.getPurchaseRequestId());
         
         return BiddingOrderDto.fromEntity(order);
     }
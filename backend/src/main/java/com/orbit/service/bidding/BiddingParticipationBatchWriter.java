@@ -0,0 +1,123 @@
+package com.orbit.service.bidding;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.dto.bidding.BiddingParticipationDto;
+
+/**
+ * 입찰 제출 묶음 저장 (MariaDB)
+ * - INSERT ... ON DUPLICATE KEY UPDATE 로 (입찰 공고, 공급사) 가 이미 있으면 건너뛰고, 같은 트랜잭션에서 남은 행을 다시 읽는다.
+ * - 묶음 전체가 커밋 한 번이다.
+ */
+@Component
+public class BiddingParticipationBatchWriter implements BiddingSubmissionQueue.Writer {
+
+    private static final String UPSERT_SQL = "INSERT INTO bidding_participations "
+            + "(bidding_id, supplier_id, company_name, unit_price, supply_price, vat, total_amount, submitted_at, "
+            + "idempotency_key, is_confirmed, is_evaluated, is_order_created, is_selected_bidder, "
+            + "reg_time, update_time, created_by, modified_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, false, false, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String SELECT_SQL = "SELECT id, supplier_id, company_name, unit_price, supply_price, vat, "
+            + "total_amount, submitted_at, idempotency_key FROM bidding_participations "
+            + "WHERE bidding_id = ? AND supplier_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BiddingParticipationBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<BiddingSubmissionQueue.Stored> write(List<BiddingSubmissionQueue.Submission> batch) {
+        return transactionTemplate.execute(status -> {
+            upsert(batch);
+
+            // 입찰 공고별로 (공급사 ID -> 저장된 행) 을 한 번씩 읽는다.
+            Map<Long, List<Long>> suppliersByBidding = new LinkedHashMap<>();
+            for (BiddingSubmissionQueue.Submission submission : batch) {
+                suppliersByBidding.computeIfAbsent(submission.biddingId(), id -> new ArrayList<>()).add(submission.supplierId());
+            }
+            Map<Long, Map<Long, BiddingSubmissionQueue.Stored>> rows = new HashMap<>();
+            suppliersByBidding.forEach((biddingId, supplierIds) -> rows.put(biddingId, select(biddingId, supplierIds)));
+
+            List<BiddingSubmissionQueue.Stored> stored = new ArrayList<>(batch.size());
+            for (BiddingSubmissionQueue.Submission submission : batch) {
+                stored.add(rows.get(submission.biddingId()).get(submission.supplierId()));
+            }
+            return stored;
+        });
+    }
+
+    private void upsert(List<BiddingSubmissionQueue.Submission> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BiddingSubmissionQueue.Submission submission = batch.get(i);
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                ps.setLong(1, submission.biddingId());
+                ps.setLong(2, submission.supplierId());
+                ps.setString(3, submission.companyName());
+                ps.setBigDecimal(4, submission.unitPrice());
+                ps.setBigDecimal(5, submission.supplyPrice());
+                ps.setBigDecimal(6, submission.vat());
+                ps.setBigDecimal(7, submission.totalAmount());
+                ps.setTimestamp(8, Timestamp.valueOf(submission.submittedAt()));
+                ps.setString(9, submission.idempotencyKey());
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+                ps.setString(12, submission.username());
+                ps.setString(13, submission.username());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    private Map<Long, BiddingSubmissionQueue.Stored> select(Long biddingId, List<Long> supplierIds) {
+        String placeholders = String.join(", ", Collections.nCopies(supplierIds.size(), "?"));
+        List<Object> args = new ArrayList<>(supplierIds.size() + 1);
+        args.add(biddingId);
+        args.addAll(supplierIds);
+
+        Map<Long, BiddingSubmissionQueue.Stored> rows = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_SQL, placeholders), rs -> {
+            Timestamp submittedAt = rs.getTimestamp("submitted_at");
+            BiddingParticipationDto participation = BiddingParticipationDto.builder()
+                    .id(rs.getLong("id"))
+                    .biddingId(biddingId)
+                    .supplierId(rs.getLong("supplier_id"))
+                    .companyName(rs.getString("company_name"))
+                    .unitPrice(rs.getBigDecimal("unit_price"))
+                    .supplyPrice(rs.getBigDecimal("supply_price"))
+                    .vat(rs.getBigDecimal("vat"))
+                    .totalAmount(rs.getBigDecimal("total_amount"))
+                    .submittedAt(submittedAt != null ? submittedAt.toLocalDateTime() : null)
+                    .build();
+            rows.put(participation.getSupplierId(),
+                    new BiddingSubmissionQueue.Stored(rs.getString("idempotency_key"), participation));
+        }, args.toArray());
+        return rows;
+    }
+}
@@ -0,0 +1,131 @@
+package com.orbit.service.bidding;
+
+import java.util.Arrays;
+
+import com.orbit.entity.bidding.BiddingScoringProfile;
+
+/**
+ * 입찰 평가 가중 점수 / 순위 계산 (상태 없는 계산기)
+ * - 입력은 평가별 원시 배열이고, 배열 순서가 동점 시 우선순위다. (입찰가 낮은 순, 평가 ID 순으로 넘긴다)
+ * - 점수는 소수 둘째 자리로 반올림해 저장값과 비교값이 항상 같게 한다.
+ * - 순위는 동점이면 같은 순위, 다음 순위는 건너뛴다. (1, 1, 3 ...)
+ */
+public final class BiddingScoreRanker {
+
+    private static final long SCALE = 100;
+
+    private BiddingScoreRanker() {
+    }
+
+    /**
+     * 가중치 (합계로 나눠 비율로 사용)
+     */
+    public record Weights(int price, int quality, int delivery, int reliability, boolean priceRelative) {
+
+        public Weights {
+            if (price < 0 || quality < 0 || delivery < 0 || reliability < 0 || price + quality + delivery + reliability == 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이고 합계가 0보다 커야 합니다.");
+            }
+        }
+
+        public static Weights of(BiddingScoringProfile profile) {
+            return new Weights(profile.getPriceWeight(), profile.getQualityWeight(), profile.getDeliveryWeight(),
+                    profile.getReliabilityWeight(), profile.isPriceRelative());
+        }
+
+        int total() {
+            return price + quality + delivery + reliability;
+        }
+    }
+
+    /**
+     * 계산 결과 (입력 배열과 같은 순서)
+     */
+    public record Result(long[] ids, double[] scores, int[] ranks, int winnerIndex) {
+
+        public int size() {
+            return ids.length;
+        }
+
+        public long winnerId() {
+            if (winnerIndex < 0) {
+                throw new IllegalStateException("순위를 매길 평가가 없습니다.");
+            }
+            return ids[winnerIndex];
+        }
+
+        public int indexOf(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 평가 1건의 가중 점수
+     * @param lowestBid 평가 대상 중 최저 입찰가 (0 이하면 가격 상대 점수를 쓰지 않음)
+     * @param bidAmount 이 평가의 입찰가 (0 이하면 평가자 가격 점수 사용)
+     */
+    public static double score(Weights weights, double lowestBid,
+                               int priceScore, int qualityScore, int deliveryScore, int reliabilityScore,
+                               double bidAmount) {
+        double price = priceScore;
+        if (weights.priceRelative() && lowestBid > 0 && bidAmount > 0) {
+            price = lowestBid / bidAmount * 100.0;
+        }
+        double weighted = (weights.price() * price
+                + weights.quality() * (double) qualityScore
+                + weights.delivery() * (double) deliveryScore
+                + weights.reliability() * (double) reliabilityScore) / weights.total();
+        return Math.round(weighted * SCALE) / (double) SCALE;
+    }
+
+    /**
+     * 최저 입찰가 (0 이하 입찰가 제외, 없으면 0)
+     */
+    public static double lowestBid(double[] bidAmounts) {
+        double lowest = 0;
+        for (double amount : bidAmounts) {
+            if (amount > 0 && (lowest == 0 || amount < lowest)) {
+                lowest = amount;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * 전체 점수와 순위 계산
+     * - 점수 내림차순 + 입력 순서를 long 하나(상위 32비트 점수, 하위 32비트 입력 위치)로 묶어 기본형 정렬 한 번으로 순서를 정한다.
+     */
+    public static Result rank(Weights weights, long[] ids,
+                              int[] priceScores, int[] qualityScores, int[] deliveryScores, int[] reliabilityScores,
+                              double[] bidAmounts) {
+        int n = ids.length;
+        double lowest = weights.priceRelative() ? lowestBid(bidAmounts) : 0;
+        double[] scores = new double[n];
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            scores[i] = score(weights, lowest, priceScores[i], qualityScores[i], deliveryScores[i],
+                    reliabilityScores[i], bidAmounts[i]);
+            long scaled = Math.max(0, Math.min(Integer.MAX_VALUE, Math.round(scores[i] * SCALE)));
+            keys[i] = ((Integer.MAX_VALUE - scaled) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] ranks = new int[n];
+        long previous = -1;
+        int previousRank = 0;
+        for (int position = 0; position < n; position++) {
+            int index = (int) keys[position];
+            long scoreKey = keys[position] >>> 32;
+            int rank = scoreKey == previous ? previousRank : position + 1;
+            ranks[index] = rank;
+            previous = scoreKey;
+            previousRank = rank;
+        }
+        return new Result(ids, scores, ranks, n == 0 ? -1 : (int) keys[0]);
+    }
+}
@@ -0,0 +1,208 @@
+package com.orbit.service.bidding;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.dto.bidding.BiddingScoringProfileDto;
+import com.orbit.entity.bidding.BiddingEvaluation;
+import com.orbit.entity.bidding.BiddingScoringProfile;
+import com.orbit.repository.bidding.BiddingEvaluationRepository;
+import com.orbit.repository.bidding.BiddingRepository;
+import com.orbit.repository.bidding.BiddingScoringProfileRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 평가 가중 점수 / 순위 관리
+ * - 전체 계산: 평가 행을 원시 배열로 읽어 BiddingScoreRanker 로 한 번에 계산하고, 바뀐 행만 JDBC 배치로 저장한다.
+ * - 평가 1건 변경: 그 평가의 점수만 다시 계산하고, 이전 점수와 새 점수 사이에 있는 평가의 순위만 한 번의 UPDATE 로 옮긴다.
+ * - 같은 입찰 공고의 순위 갱신은 입찰 공고 행 잠금으로 직렬화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BiddingScoringService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE bidding_evaluations SET weighted_score = ?, score_rank = ? WHERE id = ?";
+
+    private final BiddingEvaluationRepository evaluationRepository;
+    private final BiddingScoringProfileRepository profileRepository;
+    private final BiddingRepository biddingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 입찰 공고 가중치 설정 조회 (없으면 기본값)
+     */
+    @Transactional(readOnly = true)
+    public BiddingScoringProfileDto getProfile(Long biddingId) {
+        return BiddingScoringProfileDto.fromEntity(profile(biddingId));
+    }
+
+    /**
+     * 입찰 공고 가중치 설정 저장 후 전체 순위 재계산
+     */
+    @Transactional
+    public BiddingScoringProfileDto updateProfile(Long biddingId, BiddingScoringProfileDto dto) {
+        lockBidding(biddingId);
+        // 값 검증
+        new BiddingScoreRanker.Weights(dto.getPriceWeight(), dto.getQualityWeight(), dto.getDeliveryWeight(),
+                dto.getReliabilityWeight(), dto.isPriceRelative());
+
+        BiddingScoringProfile profile = profileRepository.findByBiddingId(biddingId)
+                .orElseGet(() -> BiddingScoringProfile.defaults(biddingId));
+        profile.setPriceWeight(dto.getPriceWeight());
+        profile.setQualityWeight(dto.getQualityWeight());
+        profile.setDeliveryWeight(dto.getDeliveryWeight());
+        profile.setReliabilityWeight(dto.getReliabilityWeight());
+        profile.setPriceRelative(dto.isPriceRelative());
+        profile = profileRepository.save(profile);
+
+        rankAllLocked(biddingId, BiddingScoreRanker.Weights.of(profile));
+        return BiddingScoringProfileDto.fromEntity(profile);
+    }
+
+    /**
+     * 입찰 공고 전체 평가 순위 계산 및 저장
+     */
+    @Transactional
+    public BiddingScoreRanker.Result rankAll(Long biddingId) {
+        lockBidding(biddingId);
+        return rankAllLocked(biddingId, BiddingScoreRanker.Weights.of(profile(biddingId)));
+    }
+
+    /**
+     * 평가 1건 점수 변경 반영 (updateEvaluation 에서 저장 후 호출)
+     * - 아직 순위가 없는 평가면 전체 계산으로 대신한다.
+     */
+    @Transactional
+    public void onEvaluationUpdated(BiddingEvaluation evaluation) {
+        Long biddingId = evaluation.getBiddingId();
+        lockBidding(biddingId);
+
+        Double oldScore = evaluation.getWeightedScore();
+        if (oldScore == null || evaluation.getScoreRank() == null) {
+            BiddingScoreRanker.Result result = rankAllLocked(biddingId, BiddingScoreRanker.Weights.of(profile(biddingId)));
+            apply(result, evaluation);
+            return;
+        }
+
+        BiddingScoreRanker.Weights weights = BiddingScoreRanker.Weights.of(profile(biddingId));
+        double lowest = weights.priceRelative() ? toDouble(evaluationRepository.findLowestBidAmount(biddingId)) : 0;
+        BigDecimal bidAmount = evaluation.getParticipation() != null ? evaluation.getParticipation().getTotalAmount() : null;
+        double newScore = BiddingScoreRanker.score(weights, lowest,
+                intValue(evaluation.getPriceScore()), intValue(evaluation.getQualityScore()),
+                intValue(evaluation.getDeliveryScore()), intValue(evaluation.getReliabilityScore()),
+                toDouble(bidAmount));
+
+        if (newScore != oldScore) {
+            // 순위 = 1 + (더 높은 점수 수) 이므로 두 점수 사이에 있는 평가만 한 칸씩 움직인다.
+            int shifted = newScore > oldScore
+                    ? evaluationRepository.shiftRanks(biddingId, evaluation.getId(), oldScore, newScore, 1)
+                    : evaluationRepository.shiftRanks(biddingId, evaluation.getId(), newScore, oldScore, -1);
+            log.debug("평가 순위 부분 갱신: 입찰ID={}, 평가ID={}, 점수 {} -> {}, 이동 {}건",
+                    biddingId, evaluation.getId(), oldScore, newScore, shifted);
+        }
+        long higher = evaluationRepository.countHigherScores(biddingId, evaluation.getId(), newScore);
+        evaluation.setWeightedScore(newScore);
+        evaluation.setScoreRank((int) higher + 1);
+    }
+
+    /**
+     * 계산 결과를 영속 상태 엔티티에도 반영 (JDBC 갱신 후 같은 트랜잭션에서 엔티티를 다시 저장하는 경우)
+     */
+    public void apply(BiddingScoreRanker.Result result, BiddingEvaluation evaluation) {
+        int index = result.indexOf(evaluation.getId());
+        if (index >= 0) {
+            evaluation.setWeightedScore(result.scores()[index]);
+            evaluation.setScoreRank(result.ranks()[index]);
+        }
+    }
+
+    private BiddingScoreRanker.Result rankAllLocked(Long biddingId, BiddingScoreRanker.Weights weights) {
+        // 영속성 컨텍스트의 변경(새 평가, 점수 수정)을 먼저 반영해야 아래 조회에 보인다.
+        entityManager.flush();
+
+        List<Object[]> rows = evaluationRepository.findScoringRows(biddingId);
+        int n = rows.size();
+        long[] ids = new long[n];
+        int[] price = new int[n];
+        int[] quality = new int[n];
+        int[] delivery = new int[n];
+        int[] reliability = new int[n];
+        double[] bidAmounts = new double[n];
+        Double[] storedScores = new Double[n];
+        Integer[] storedRanks = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            price[i] = intValue((Integer) row[1]);
+            quality[i] = intValue((Integer) row[2]);
+            delivery[i] = intValue((Integer) row[3]);
+            reliability[i] = intValue((Integer) row[4]);
+            bidAmounts[i] = toDouble((BigDecimal) row[5]);
+            storedScores[i] = (Double) row[6];
+            storedRanks[i] = (Integer) row[7];
+        }
+
+        BiddingScoreRanker.Result result = BiddingScoreRanker.rank(weights, ids, price, quality, delivery, reliability, bidAmounts);
+
+        // 점수나 순위가 바뀐 평가만 배치 UPDATE
+        List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (storedScores[i] == null || storedRanks[i] == null
+                    || storedScores[i] != result.scores()[i] || storedRanks[i] != result.ranks()[i]) {
+                changed.add(i);
+            }
+        }
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = changed.get(i);
+                    ps.setDouble(1, result.scores()[index]);
+                    ps.setInt(2, result.ranks()[index]);
+                    ps.setLong(3, result.ids()[index]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return changed.size();
+                }
+            });
+        }
+        log.debug("평가 순위 전체 갱신: 입찰ID={}, 평가 {}건 중 {}건 변경", biddingId, n, changed.size());
+        return result;
+    }
+
+    private BiddingScoringProfile profile(Long biddingId) {
+        return profileRepository.findByBiddingId(biddingId)
+                .orElseGet(() -> BiddingScoringProfile.defaults(biddingId));
+    }
+
+    private void lockBidding(Long biddingId) {
+        biddingRepository.findByIdForUpdate(biddingId)
+                .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
+    }
+
+    private static int intValue(Integer value) {
+        return Objects.requireNonNullElse(value, 0);
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0;
+    }
+}
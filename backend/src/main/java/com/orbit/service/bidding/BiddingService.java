@@ -2,11 +2,9 @@ package com.orbit.service.bidding;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -15,12 +13,12 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
-import org.springframework.core.io.UrlResource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.orbit.dto.bidding.BiddingDto;
@@ -38,6 +36,7 @@ import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.commonCode.StatusHistory;
 import com.orbit.entity.member.Member;
+import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.repository.NotificationRepository;
 import com.orbit.repository.bidding.BiddingContractRepository;
 import com.orbit.repository.bidding.BiddingEvaluationRepository;
@@ -49,6 +48,9 @@ import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.supplier.SupplierRegistrationRepository;
+import com.orbit.service.file.AttachmentBlobStore;
+import com.orbit.service.file.DownloadFile;
+import com.orbit.service.file.UploadedFile;
 import com.orbit.util.BiddingNumberUtil;
 import com.orbit.util.PriceCalculator;
 import com.orbit.util.PriceCalculator.PriceResult;
@@ -74,9 +76,12 @@ public class BiddingService {
     private final ChildCodeRepository childCodeRepository;
     private final SupplierRegistrationRepository supplierRegistrationRepository;
     private final ResourceLoader resourceLoader;
-
-    @Value("${uploadPath}")
-    private String uploadPath;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final ProcessEventPublisher processEventPublisher;
+    private final BiddingTimerService biddingTimerService;
+    private final BiddingScoringService scoringService;
+    private final BiddingSubmissionCache submissionCache;
+    private final BiddingSubmissionQueue submissionQueue;
 
     @Transactional(readOnly = true)
     public List<String> getBiddingStatusHistoryReasons(Long biddingId) {
@@ -89,14 +94,18 @@ public class BiddingService {
 
     // 파일 유효성 검사 메서드 추가
     private void validateFile(MultipartFile file) {
+        validateFile(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    private void validateFile(String originalFilename, String contentType, long size) {
         // 파일 크기 제한 (50MB)
         long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
-        if (file.isEmpty()) {
+        if (size == 0) {
             throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 50MB를 초과할 수 없습니다: " + file.getOriginalFilename());
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 50MB를 초과할 수 없습니다: " + originalFilename);
         }
 
         // 허용된 파일 타입 검사
@@ -109,64 +118,31 @@ public class BiddingService {
             "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
         };
 
-        String contentType = file.getContentType();
         boolean isValidType = Arrays.stream(ALLOWED_TYPES)
             .anyMatch(type -> type.equals(contentType));
 
         if (!isValidType) {
-            throw new IllegalArgumentException("지원되지 않는 파일 형식입니다: " + file.getOriginalFilename());
+            throw new IllegalArgumentException("지원되지 않는 파일 형식입니다: " + originalFilename);
         }
     }
 
-    // 고유한 파일명 생성 메서드 추가
-    private String generateUniqueFilename(String originalFilename) {
-        String uuid = UUID.randomUUID().toString();
-        String extension = "";
-        
-        int dotIndex = originalFilename.lastIndexOf('.');
-        if (dotIndex > 0) {
-            extension = originalFilename.substring(dotIndex);
-        }
-        
-        return uuid + extension;
-    }
-
     @Transactional
     public BiddingDto addAttachmentsToBidding(Long biddingId, MultipartFile[] files, Member currentMember) {
         // 입찰 공고 조회
         Bidding bidding = biddingRepository.findById(biddingId)
                 .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
 
-        // 파일 저장 경로 생성 (연/월 기준)
-        LocalDate now = LocalDate.now();
-        String uploadPath = String.format("%s/biddings/%d/%02d", 
-            this.uploadPath, now.getYear(), now.getMonthValue());
-        
-        Path uploadDir = Paths.get(uploadPath);
-        
-        // 디렉토리 생성
-        try {
-            Files.createDirectories(uploadDir);
-        } catch (IOException e) {
-            throw new RuntimeException("파일 업로드 디렉토리 생성 실패", e);
-        }
-
         // 첨부파일 처리
         for (MultipartFile file : files) {
             // 파일 유효성 검사
             validateFile(file);
 
             try {
-                // 고유한 파일명 생성
-                String originalFilename = file.getOriginalFilename();
-                String uniqueFilename = generateUniqueFilename(originalFilename);
-                Path targetPath = uploadDir.resolve(uniqueFilename);
-
-                // 파일 저장
-                file.transferTo(targetPath);
+                // 내용 기반 저장소에 저장 (같은 파일이 이미 있으면 다시 쓰지 않음)
+                String relativePath = attachmentBlobStore.store(file);
 
-                // 파일 경로 저장
-                bidding.addAttachment(targetPath.toString());
+                // 파일 경로 저장 (uploadPath 기준 상대 경로)
+                bidding.addAttachment(relativePath);
             } catch (IOException e) {
                 throw new RuntimeException("파일 저장 중 오류 발생: " + file.getOriginalFilename(), e);
             }
@@ -179,8 +155,39 @@ public class BiddingService {
         return convertToDto(bidding);
     }
 
+    /**
+     * 입찰 공고의 전체 첨부파일 (묶음 다운로드용)
+     * - 입찰 공고는 원본 파일명을 따로 저장하지 않으므로 저장된 파일명을 그대로 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public List<DownloadFile> getAttachmentFiles(Long biddingId) {
+        Bidding bidding = biddingRepository.findById(biddingId)
+                .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
+
+        return bidding.getAttachmentPaths().stream()
+                .map(path -> {
+                    Path file = attachmentBlobStore.resolve(path);
+                    return new DownloadFile(file, file.getFileName().toString());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 청크 업로드로 저장소에 올라간 파일을 입찰 공고 첨부파일로 등록
+     */
+    @Transactional
+    public BiddingDto addUploadedAttachment(Long biddingId, UploadedFile file) {
+        Bidding bidding = biddingRepository.findById(biddingId)
+                .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
+
+        validateFile(file.originalFilename(), file.contentType(), file.size());
+        bidding.addAttachment(file.storedPath());
+
+        return convertToDto(biddingRepository.save(bidding));
+    }
+
     @Transactional
-    public Resource downloadAttachment(Long biddingId, String filename) {
+    public DownloadFile downloadAttachment(Long biddingId, String filename) {
         // 입찰 공고 조회
         Bidding bidding = biddingRepository.findById(biddingId)
                 .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
@@ -194,20 +201,15 @@ public class BiddingService {
             throw new EntityNotFoundException("파일을 찾을 수 없습니다: " + filename);
         }
 
-        try {
-            // 파일 리소스 생성
-            Path path = Paths.get(filePath.get());
-            Resource resource = new UrlResource(path.toUri());
-
-            // 파일 존재 및 읽기 가능 여부 확인
-            if (!resource.exists() || !resource.isReadable()) {
-                throw new RuntimeException("파일을 읽을 수 없습니다: " + filename);
-            }
+        // 파일 경로 확인 (공유 저장소 / 예전 절대 경로 모두 지원)
+        Path path = attachmentBlobStore.resolve(filePath.get());
 
-            return resource;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("파일 다운로드 중 오류 발생: " + filename, e);
+        // 파일 존재 및 읽기 가능 여부 확인
+        if (!Files.isReadable(path)) {
+            throw new RuntimeException("파일을 읽을 수 없습니다: " + filename);
         }
+
+        return new DownloadFile(path, filename);
     }
 
     @Transactional
@@ -217,6 +219,10 @@ public class BiddingService {
 
         // 모든 첨부파일 삭제
         for (String filePath : bidding.getAttachmentPaths()) {
+            // 공유 저장소 파일은 다른 첨부가 참조할 수 있으므로 GC 에 맡긴다
+            if (attachmentBlobStore.isBlob(filePath)) {
+                continue;
+            }
             try {
                 Files.deleteIfExists(Paths.get(filePath));
             } catch (IOException e) {
@@ -427,6 +433,13 @@ public class BiddingService {
         
         // 최종 저장
         bidding = biddingRepository.save(bidding);
+
+        // 시작일/마감일 자동 전환 타이머 등록
+        biddingTimerService.sync(bidding);
+
+        // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+        processEventPublisher.publishBiddingCreated(bidding.getId(),
+                bidding.getPurchaseRequest() != null ? bidding.getPurchaseRequest().getId() : null);
         
         return convertToDto(bidding);
     }
@@ -502,6 +515,10 @@ public class BiddingService {
         
         // 엔티티 저장
         bidding = biddingRepository.save(bidding);
+
+        // 일정/상태 변경에 맞춰 자동 전환 타이머 갱신
+        biddingTimerService.sync(bidding);
+        submissionCache.evict(bidding.getId());
         
         return convertToDto(bidding);
     }
@@ -515,6 +532,8 @@ public class BiddingService {
             throw new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + id);
         }
         
+        biddingTimerService.cancelAll(id);
+        submissionCache.evict(id);
         biddingRepository.deleteById(id);
     }
 
@@ -546,6 +565,10 @@ public class BiddingService {
         
         // 엔티티 저장
         bidding = biddingRepository.save(bidding);
+
+        // 수동 변경/자동 전환 모두 남은 타이머를 상태에 맞춤 (마감/취소 시 타이머 취소)
+        biddingTimerService.sync(bidding);
+        submissionCache.evict(bidding.getId());
         
         return convertToDto(bidding);
     }
@@ -561,38 +584,57 @@ public class BiddingService {
     /**
      * 입찰 참여
      */
-    @Transactional
     public BiddingParticipationDto participateInBidding(BiddingParticipationDto participationDto) {
-        // 입찰 참여 검증
-        validateBiddingParticipation(participationDto);
-        
-        Bidding bidding = biddingRepository.findById(participationDto.getBiddingId())
-                .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + participationDto.getBiddingId()));
-        
-        BiddingParticipation participation = participationDto.toEntity();
-        participation.setBidding(bidding);
-        
-        // 참여 정보 설정
-        participation.setSubmittedAt(LocalDateTime.now());
-        
-        // 공급사 정보 설정 (이름 등)
-        if (participation.getSupplierId() != null) {
-            Member supplier = memberRepository.findById(participation.getSupplierId())
-                    .orElse(null);
-            if (supplier != null) {
-                participation.setCompanyName(supplier.getCompanyName());
+        return participateInBidding(participationDto, null);
+    }
+
+    /**
+     * 입찰 참여 (멱등 키 지정)
+     * - 검증은 캐시한 입찰 공고 정보로 하고(DB 조회 없음), 저장은 BiddingSubmissionQueue 가 다른 제출과 묶어 한 번에 커밋한다.
+     * - 같은 키로 다시 보내면 처음 저장된 참여를 그대로 돌려준다. (마감 후 재시도 포함)
+     * - 트랜잭션 없이 실행한다. (저장 대기 동안 DB 연결을 잡지 않도록)
+     */
+    public BiddingParticipationDto participateInBidding(BiddingParticipationDto participationDto, String idempotencyKey) {
+        LocalDateTime submittedAt = LocalDateTime.now();
+        Long biddingId = participationDto.getBiddingId();
+        Long supplierId = participationDto.getSupplierId();
+        if (biddingId == null || supplierId == null) {
+            throw new IllegalArgumentException("입찰 공고 ID 와 공급사 ID 는 필수입니다.");
+        }
+        String key = StringUtils.hasText(idempotencyKey) ? idempotencyKey : UUID.randomUUID().toString();
+
+        BiddingSubmissionCache.BiddingSnapshot snapshot = submissionCache.get(biddingId);
+        if (snapshot.isReverseAuction()) {
+            throw new IllegalStateException("역경매 입찰 공고는 실시간 입찰로 참여해 주세요.");
+        }
+        try {
+            snapshot.checkSubmission(supplierId, submittedAt);
+        } catch (IllegalStateException e) {
+            // 마감/상태 변경 전에 이미 저장된 같은 키의 제출이면 그 결과를 돌려준다.
+            if (StringUtils.hasText(idempotencyKey)) {
+                Optional<BiddingParticipation> existing = participationRepository.findByBiddingIdAndSupplierId(biddingId, supplierId);
+                if (existing.isPresent() && idempotencyKey.equals(existing.get().getIdempotencyKey())) {
+                    return BiddingParticipationDto.fromEntity(existing.get());
+                }
             }
+            throw e;
         }
-        
-        // 가격 계산
-        calculateParticipationPrices(participation, bidding.getQuantity());
-        
-        participation = participationRepository.save(participation);
-        
-        // 입찰 공고에 참여 추가
-        bidding.getParticipations().add(participation);
-        
-        return BiddingParticipationDto.fromEntity(participation);
+
+        BiddingParticipation participation = participationDto.toEntity();
+        calculateParticipationPrices(participation, snapshot.quantity());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return submissionQueue.submit(new BiddingSubmissionQueue.Submission(
+                biddingId,
+                supplierId,
+                submissionCache.companyName(snapshot, supplierId),
+                key,
+                participation.getUnitPrice(),
+                participation.getSupplyPrice(),
+                participation.getVat(),
+                participation.getTotalAmount(),
+                submittedAt,
+                authentication != null ? authentication.getName() : ""));
     }
     
     /**
@@ -618,35 +660,6 @@ public class BiddingService {
         return BiddingParticipationDto.fromEntity(participation);
     }
 
-    /**
-     * 입찰 참여 검증
-     */
-    private void validateBiddingParticipation(BiddingParticipationDto participation) {
-        Bidding bidding = biddingRepository.findById(participation.getBiddingId())
-                .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + participation.getBiddingId()));
-        
-        // 상태 코드 확인
-        if (bidding.getStatusChild() != null) {
-            String statusCode = bidding.getStatusChild().getCodeValue();
-            
-            // 진행중 상태가 아니면 참여 불가
-            if (!"ONGOING".equals(statusCode)) {
-                throw new IllegalStateException("현재 참여 가능한 상태가 아닙니다. 현재 상태: " + bidding.getStatusChild().getCodeName());
-            }
-        }
-        
-        // 마감일이 지났는지 확인
-        if (LocalDateTime.now().isAfter(bidding.getEndDate())) {
-            throw new IllegalStateException("입찰 마감일이 지났습니다.");
-        }
-        
-        // 이미 참여한 공급자인지 확인
-        if (participationRepository.existsByBiddingIdAndSupplierId(
-                participation.getBiddingId(), participation.getSupplierId())) {
-            throw new IllegalStateException("이미 참여한 입찰입니다.");
-        }
-    }
-
     /**
      * 입찰 참여 금액 계산
      */
@@ -682,29 +695,19 @@ public class BiddingService {
      */
     @Transactional
     public BiddingEvaluationDto selectWinningBidder(Long biddingId) {
-        // 해당 입찰의 모든 평가 중 최고 점수 평가 조회
-        List<BiddingEvaluation> evaluations = evaluationRepository.findByBiddingId(biddingId);
-        
-        if (evaluations.isEmpty()) {
+        // 가중치 설정 기준 전체 순위 계산 (동점이면 입찰가 낮은 순, 평가 ID 순) 및 저장
+        BiddingScoreRanker.Result ranking = scoringService.rankAll(biddingId);
+        if (ranking.size() == 0) {
             throw new IllegalStateException("해당 입찰의 평가 정보가 없습니다.");
         }
         
-        // 최고 점수 평가 찾기
-        BiddingEvaluation highestScoringEvaluation = evaluations.stream()
-                .max((e1, e2) -> {
-                    // null 처리 및 점수 비교
-                    final Integer score1 = e1.getTotalScore() != null ? e1.getTotalScore() : 0;
-                    final Integer score2 = e2.getTotalScore() != null ? e2.getTotalScore() : 0;
-                    return score1.compareTo(score2);
-                })
-                .orElseThrow(() -> new EntityNotFoundException("해당 입찰의 평가 정보를 찾을 수 없습니다. ID: " + biddingId));
-        
-        // 기존 낙찰자 초기화
-        List<BiddingEvaluation> previousWinners = evaluationRepository.findByBiddingIdAndIsSelectedBidderTrue(biddingId);
-        previousWinners.forEach(BiddingEvaluation::cancelSelectedBidder);
-        evaluationRepository.saveAll(previousWinners);
+        // 기존 낙찰자 초기화 (일괄 UPDATE)
+        evaluationRepository.clearSelectedBidders(biddingId);
+        participationRepository.clearSelectedBidders(biddingId);
         
         // 새 낙찰자 선정
+        BiddingEvaluation highestScoringEvaluation = evaluationRepository.findById(ranking.winnerId())
+                .orElseThrow(() -> new EntityNotFoundException("해당 입찰의 평가 정보를 찾을 수 없습니다. ID: " + biddingId));
         highestScoringEvaluation.selectAsBidder(notificationRepository, memberRepository);
         BiddingEvaluation savedEvaluation = evaluationRepository.save(highestScoringEvaluation);
         
@@ -731,6 +734,8 @@ public class BiddingService {
         }
         
         biddingRepository.save(bidding);
+        biddingTimerService.sync(bidding);
+        submissionCache.evict(bidding.getId());
         
         return BiddingEvaluationDto.fromEntity(savedEvaluation);
     }
@@ -740,6 +745,10 @@ public class BiddingService {
      */
     @Transactional
     public BiddingEvaluationDto selectBidderManually(Long biddingId, Long evaluationId) {
+        // 기존 낙찰자 초기화 (일괄 UPDATE - 영속성 컨텍스트를 비우므로 엔티티 조회 전에 수행)
+        evaluationRepository.clearSelectedBidders(biddingId);
+        participationRepository.clearSelectedBidders(biddingId);
+        
         Bidding bidding = biddingRepository.findById(biddingId)
                 .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
                 
@@ -750,11 +759,6 @@ public class BiddingService {
         BiddingParticipation participation = participationRepository.findById(participationId)
                 .orElseThrow(() -> new EntityNotFoundException("참여 정보를 찾을 수 없습니다. ID: " + participationId));
         
-        // 기존 낙찰자 초기화
-        List<BiddingEvaluation> previousWinners = evaluationRepository.findByBiddingIdAndIsSelectedBidderTrue(biddingId);
-        previousWinners.forEach(BiddingEvaluation::cancelSelectedBidder);
-        evaluationRepository.saveAll(previousWinners);
-        
         // 새 낙찰자 선정
         originalEvaluation.selectAsBidder(notificationRepository, memberRepository);
         BiddingEvaluation savedEvaluation = evaluationRepository.save(originalEvaluation);
@@ -773,6 +777,8 @@ public class BiddingService {
         }
         
         biddingRepository.save(bidding);
+        biddingTimerService.sync(bidding);
+        submissionCache.evict(bidding.getId());
         
         return BiddingEvaluationDto.fromEntity(savedEvaluation);
     }
@@ -828,6 +834,7 @@ public class BiddingService {
         // 공급사 초대 저장
         bidding.getSuppliers().add(supplierInvitation);
         supplierInvitation = supplierRepository.save(supplierInvitation);
+        submissionCache.evict(biddingId);
         
         // 알림 발송
         supplierInvitation.sendNotification(
@@ -886,6 +893,9 @@ public class BiddingService {
         
         contract.getStatusHistories().add(history);
         contractRepository.save(contract);
+
+        // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+        processEventPublisher.publishContractCreated(contract.getId(), bidding.getId(), contract.getPurchaseRequestId());
         
         return contract.getId();
     }
@@ -0,0 +1,160 @@
+package com.orbit.service.bidding;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.entity.bidding.BiddingSupplier;
+import com.orbit.entity.member.Member;
+import com.orbit.repository.bidding.BiddingRepository;
+import com.orbit.repository.member.MemberRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 제출 검증용 입찰 공고 정보 캐시
+ * - 마감 직전 몰리는 제출을 DB 조회 없이 검증하도록 상태, 입찰 방식, 마감일, 수량, 초대 공급사(ID -> 회사명)를 노드 메모리에 둔다.
+ * - 이 노드의 변경은 커밋 후 evict(...) 로 바로 지우고, 다른 노드의 변경은 ttl-ms 안에 반영된다.
+ */
+@Slf4j
+@Component
+public class BiddingSubmissionCache {
+
+    /**
+     * 제출 검증에 필요한 입찰 공고 정보
+     * @param method 입찰 방식 코드 (FIXED_PRICE, PRICE_SUGGESTION, REVERSE_AUCTION)
+     * @param invited 초대 공급사 ID -> 회사명 (비어 있으면 공개 입찰로 보고 초대 여부를 보지 않음)
+     */
+    public record BiddingSnapshot(Long biddingId, String status, String statusName, String method,
+                                  LocalDateTime endDate, Integer quantity, Map<Long, String> invited, long loadedAtMs) {
+
+        /**
+         * 제출 가능 여부 확인 (불가하면 IllegalStateException)
+         */
+        public void checkSubmission(Long supplierId, LocalDateTime submittedAt) {
+            checkParticipant(supplierId);
+            if (endDate != null && submittedAt.isAfter(endDate)) {
+                throw new IllegalStateException("입찰 마감일이 지났습니다.");
+            }
+        }
+
+        /**
+         * 진행 상태 / 초대 여부만 확인 (마감 시각은 호출하는 쪽에서 판단 - 역경매는 연장된 마감 시각 기준)
+         */
+        public void checkParticipant(Long supplierId) {
+            if (status != null && !"ONGOING".equals(status)) {
+                throw new IllegalStateException("현재 참여 가능한 상태가 아닙니다. 현재 상태: " + statusName);
+            }
+            if (!invited.isEmpty() && !invited.containsKey(supplierId)) {
+                throw new IllegalStateException("초대받지 않은 공급사입니다.");
+            }
+        }
+
+        public boolean isReverseAuction() {
+            return "REVERSE_AUCTION".equals(method);
+        }
+    }
+
+    private record CompanyName(String name, long loadedAtMs) {
+    }
+
+    private final BiddingRepository biddingRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlMs;
+    private final Map<Long, BiddingSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, CompanyName> companyNames = new ConcurrentHashMap<>();
+
+    public BiddingSubmissionCache(BiddingRepository biddingRepository,
+                                  MemberRepository memberRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${bidding.submission.cache-ttl-ms:10000}") long ttlMs) {
+        this.biddingRepository = biddingRepository;
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 입찰 공고 정보 (없거나 만료됐으면 한 번만 읽어 채움)
+     */
+    public BiddingSnapshot get(Long biddingId) {
+        long now = System.currentTimeMillis();
+        BiddingSnapshot snapshot = snapshots.get(biddingId);
+        if (snapshot != null && now - snapshot.loadedAtMs() < ttlMs) {
+            return snapshot;
+        }
+        return snapshots.compute(biddingId, (id, current) ->
+                current != null && now - current.loadedAtMs() < ttlMs ? current : load(id));
+    }
+
+    /**
+     * 공급사 회사명 (초대 목록에 없을 때만 조회)
+     */
+    public String companyName(BiddingSnapshot snapshot, Long supplierId) {
+        String invitedName = snapshot.invited().get(supplierId);
+        if (invitedName != null) {
+            return invitedName;
+        }
+        long now = System.currentTimeMillis();
+        CompanyName cached = companyNames.get(supplierId);
+        if (cached == null || now - cached.loadedAtMs() >= ttlMs) {
+            String name = memberRepository.findById(supplierId).map(Member::getCompanyName).orElse(null);
+            cached = new CompanyName(name, now);
+            companyNames.put(supplierId, cached);
+        }
+        return cached.name();
+    }
+
+    /**
+     * 입찰 공고 정보 무효화 (트랜잭션 안이면 커밋 후)
+     */
+    public void evict(Long biddingId) {
+        snapshots.remove(biddingId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 옛 값을 다시 채웠을 수 있으므로 커밋 후 한 번 더 지운다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.remove(biddingId);
+                }
+            });
+        }
+    }
+
+    private BiddingSnapshot load(Long biddingId) {
+        BiddingSnapshot snapshot = readOnlyTransaction.execute(status -> {
+            Bidding bidding = biddingRepository.findByIdWithSuppliers(biddingId)
+                    .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId));
+            Map<Long, String> invited = new HashMap<>();
+            for (BiddingSupplier supplier : bidding.getSuppliers()) {
+                if (supplier.getSupplier() != null) {
+                    invited.put(supplier.getSupplier().getId(), supplier.getCompanyName());
+                }
+            }
+            return new BiddingSnapshot(
+                    bidding.getId(),
+                    bidding.getStatusChild() != null ? bidding.getStatusChild().getCodeValue() : null,
+                    bidding.getStatusChild() != null ? bidding.getStatusChild().getCodeName() : null,
+                    bidding.getMethodChild() != null ? bidding.getMethodChild().getCodeValue() : null,
+                    bidding.getEndDate(),
+                    bidding.getQuantity(),
+                    Collections.unmodifiableMap(invited),
+                    System.currentTimeMillis());
+        });
+        log.debug("입찰 제출 검증 정보 적재: 입찰ID={}, 초대 공급사 {}곳", biddingId, snapshot.invited().size());
+        return snapshot;
+    }
+}
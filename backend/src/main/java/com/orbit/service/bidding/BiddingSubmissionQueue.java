@@ -0,0 +1,185 @@
+package com.orbit.service.bidding;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.orbit.dto.bidding.BiddingParticipationDto;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 제출 묶음 저장 대기열
+ * - 요청 스레드는 검증을 마친 제출을 넣고 결과를 기다리며, 저장 스레드 하나가 쌓인 제출을 한 번의 배치 upsert + 커밋으로 저장한다.
+ *   (몰릴수록 한 커밋에 담기는 제출이 많아진다)
+ * - (입찰 공고, 공급사) 유일 제약으로 먼저 저장된 제출만 남고, 남은 행의 멱등 키가 같으면 같은 요청의 재시도로 보고 그 행을 돌려준다.
+ * - 대기열이 가득 차거나 제한 시간 안에 저장되지 않으면 RejectedExecutionException - 같은 멱등 키로 다시 보내면 된다.
+ */
+@Slf4j
+@Component
+public class BiddingSubmissionQueue {
+
+    /**
+     * 검증을 마친 제출 (접수 시각 기준으로 마감 여부를 판단했으므로 저장 시각과 무관)
+     * - 입찰 공고/공급사 ID 가 없는 제출은 만들 수 없다. (묶음에 섞이면 같은 커밋의 다른 제출까지 실패하므로)
+     */
+    public record Submission(Long biddingId, Long supplierId, String companyName, String idempotencyKey,
+                             BigDecimal unitPrice, BigDecimal supplyPrice, BigDecimal vat, BigDecimal totalAmount,
+                             LocalDateTime submittedAt, String username) {
+
+        public Submission {
+            if (biddingId == null || supplierId == null) {
+                throw new IllegalArgumentException("입찰 공고 ID 와 공급사 ID 는 필수입니다.");
+            }
+        }
+    }
+
+    /**
+     * 저장 후 (입찰 공고, 공급사) 행의 내용
+     */
+    public record Stored(String idempotencyKey, BiddingParticipationDto participation) {
+    }
+
+    /**
+     * 묶음 저장 - 한 트랜잭션으로 upsert 하고 제출 순서대로 남은 행을 돌려준다.
+     */
+    public interface Writer {
+        List<Stored> write(List<Submission> batch);
+    }
+
+    private record Pending(Submission submission, CompletableFuture<BiddingParticipationDto> result) {
+    }
+
+    private final Writer writer;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long waitTimeoutMs;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public BiddingSubmissionQueue(Writer writer,
+                                  @Value("${bidding.submission.queue-capacity:5000}") int capacity,
+                                  @Value("${bidding.submission.batch-size:200}") int batchSize,
+                                  @Value("${bidding.submission.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "bidding-submission-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 제출을 넣고 저장될 때까지 대기
+     * @throws IllegalStateException 같은 공급사의 다른 제출이 이미 저장된 경우
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 제한 시간 안에 저장되지 않은 경우
+     */
+    public BiddingParticipationDto submit(Submission submission) {
+        CompletableFuture<BiddingParticipationDto> result = new CompletableFuture<>();
+        if (!running || !queue.offer(new Pending(submission, result))) {
+            throw new RejectedExecutionException("입찰 제출 대기열이 가득 찼습니다. 잠시 후 같은 키로 다시 시도해 주세요.");
+        }
+        try {
+            return result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RejectedExecutionException("입찰 제출 저장이 지연되고 있습니다. 같은 키로 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("입찰 제출 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int pendingSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("입찰 제출 대기열 처리 중 오류 발생", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<Submission> submissions = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            submissions.add(pending.submission());
+        }
+
+        List<Stored> stored;
+        try {
+            stored = writer.write(submissions);
+        } catch (RuntimeException e) {
+            log.error("입찰 제출 {}건 저장 실패: {}", batch.size(), e.getMessage());
+            RejectedExecutionException failure = new RejectedExecutionException("입찰 제출 저장에 실패했습니다. 같은 키로 다시 시도해 주세요.", e);
+            batch.forEach(pending -> pending.result().completeExceptionally(failure));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            Stored row = stored.get(i);
+            if (row != null && Objects.equals(row.idempotencyKey(), pending.submission().idempotencyKey())) {
+                pending.result().complete(row.participation());
+            } else {
+                pending.result().completeExceptionally(new IllegalStateException("이미 참여한 입찰입니다."));
+            }
+        }
+        log.debug("입찰 제출 묶음 저장: {}건", batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.error("종료 시 저장하지 못한 입찰 제출: {}건", remaining.size());
+            RejectedExecutionException failure = new RejectedExecutionException("서버가 종료 중입니다. 같은 키로 다시 시도해 주세요.");
+            remaining.forEach(pending -> pending.result().completeExceptionally(failure));
+        }
+    }
+}
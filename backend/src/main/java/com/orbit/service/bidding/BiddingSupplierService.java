@@ -29,6 +29,7 @@ public class BiddingSupplierService {
     private final MemberRepository memberRepository;
     private final NotificationRepository notificationRepository;
     private final SupplierRegistrationRepository supplierRegistrationRepository;
+    private final BiddingSubmissionCache submissionCache;
 
     /**
      * 모든 공급사 조회
@@ -90,6 +91,7 @@ public class BiddingSupplierService {
         
         // 초대 저장
         biddingSupplier = supplierRepository.save(biddingSupplier);
+        submissionCache.evict(biddingId);
         
         // 알림 발송
         biddingSupplier.sendNotification(
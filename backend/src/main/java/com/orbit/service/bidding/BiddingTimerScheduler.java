@@ -0,0 +1,293 @@
+package com.orbit.service.bidding;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.entity.bidding.BiddingTimer;
+import com.orbit.event.event.BiddingTimerScheduledEvent;
+import com.orbit.repository.bidding.BiddingRepository;
+import com.orbit.repository.bidding.BiddingTimerRepository;
+import com.orbit.util.HierarchicalTimingWheel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 자동 전환 타이머 실행기
+ * - 곧 실행할 타이머(현재 + horizon 이전)만 (상태, 실행 예정 시각) 인덱스로 주기적으로 읽어 메모리 타이밍 휠에 올린다.
+ *   등록/변경된 타이머는 커밋 직후 이벤트로 바로 올리므로 적재 주기를 기다리지 않는다.
+ * - 휠은 tick 간격으로 돌고, 만료된 타이머는 행 임대를 건 노드 하나만 실행한다. (임대가 만료되면 다른 노드가 이어받음)
+ * - 재기동 후에는 첫 적재에서 지난 타이머까지 모두 읽어 바로 실행한다.
+ * - 실행 실패는 간격을 두고 재시도하고, 최대 횟수를 넘으면 FAILED 로 남긴다.
+ */
+@Slf4j
+@Component
+public class BiddingTimerScheduler {
+
+    private record TimerRef(Long timerId, LocalDateTime dueAt) {
+    }
+
+    private final BiddingTimerRepository timerRepository;
+    private final BiddingRepository biddingRepository;
+    private final BiddingService biddingService;
+    private final BiddingTimerService biddingTimerService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final long horizonMs;
+    private final int loadBatchSize;
+    private final long leaseMs;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+
+    private final HierarchicalTimingWheel<TimerRef> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ThreadPoolTaskExecutor fireExecutor;
+    // 휠에 올린 타이머 ID -> 실행 예정 시각 (중복 등록 방지)
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    public BiddingTimerScheduler(BiddingTimerRepository timerRepository,
+                                 BiddingRepository biddingRepository,
+                                 BiddingService biddingService,
+                                 BiddingTimerService biddingTimerService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${bidding.timer.enabled:true}") boolean enabled,
+                                 @Value("${bidding.timer.node-id:}") String nodeId,
+                                 @Value("${bidding.timer.tick-ms:100}") long tickMs,
+                                 @Value("${bidding.timer.wheel-size:64}") int wheelSize,
+                                 @Value("${bidding.timer.horizon-ms:120000}") long horizonMs,
+                                 @Value("${bidding.timer.load-batch-size:5000}") int loadBatchSize,
+                                 @Value("${bidding.timer.lease-ms:30000}") long leaseMs,
+                                 @Value("${bidding.timer.max-attempts:5}") int maxAttempts,
+                                 @Value("${bidding.timer.retry-delay-ms:5000}") long retryDelayMs,
+                                 @Value("${bidding.timer.fire-threads:4}") int fireThreads) {
+        this.timerRepository = timerRepository;
+        this.biddingRepository = biddingRepository;
+        this.biddingService = biddingService;
+        this.biddingTimerService = biddingTimerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.horizonMs = horizonMs;
+        this.loadBatchSize = loadBatchSize;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMs = retryDelayMs;
+
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bidding-timer-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fireExecutor = new ThreadPoolTaskExecutor();
+        fireExecutor.setCorePoolSize(fireThreads);
+        fireExecutor.setMaxPoolSize(fireThreads);
+        fireExecutor.setThreadNamePrefix("bidding-timer-fire-");
+        fireExecutor.initialize();
+        if (enabled) {
+            ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 기동 시 타이머가 없는 입찰 공고를 보충하고, 밀린 타이머를 포함해 첫 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> biddingIds = timerRepository.findBiddingIdsWithoutTimers();
+            for (Long biddingId : biddingIds) {
+                transactionTemplate.executeWithoutResult(status ->
+                        biddingRepository.findById(biddingId).ifPresent(biddingTimerService::sync));
+            }
+            if (!biddingIds.isEmpty()) {
+                log.info("입찰 자동 전환 타이머 보충: {}건", biddingIds.size());
+            }
+        } catch (Exception e) {
+            log.error("입찰 자동 전환 타이머 보충 실패", e);
+        }
+        load();
+    }
+
+    /**
+     * 곧 실행할 타이머 적재 (현재 + horizon 이전, 지난 타이머 포함)
+     */
+    @Scheduled(fixedDelayString = "${bidding.timer.load-interval-ms:30000}", initialDelayString = "${bidding.timer.load-interval-ms:30000}")
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(horizonMs));
+            List<BiddingTimer> due = timerRepository.findDue(BiddingTimer.Status.PENDING, before,
+                    PageRequest.of(0, loadBatchSize));
+            due.forEach(timer -> enqueue(timer.getId(), timer.getDueAt()));
+            if (due.size() == loadBatchSize) {
+                log.warn("입찰 타이머 적재 한도 도달({}건) - 나머지는 다음 주기에 적재", loadBatchSize);
+            }
+        } catch (Exception e) {
+            log.error("입찰 타이머 적재 실패", e);
+        }
+    }
+
+    /**
+     * 이 노드에서 등록/변경된 타이머는 커밋 후 바로 휠에 올린다. (horizon 안쪽만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimerScheduled(BiddingTimerScheduledEvent event) {
+        if (enabled && toEpochMs(event.getDueAt()) < System.currentTimeMillis() + horizonMs) {
+            enqueue(event.getTimerId(), event.getDueAt());
+        }
+    }
+
+    private void enqueue(Long timerId, LocalDateTime dueAt) {
+        if (dueAt.equals(scheduled.put(timerId, dueAt))) {
+            return;
+        }
+        TimerRef ref = new TimerRef(timerId, dueAt);
+        if (!wheel.add(ref, toEpochMs(dueAt))) {
+            dispatch(ref);
+        }
+    }
+
+    private void tick() {
+        try {
+            wheel.advance(System.currentTimeMillis(), this::dispatch);
+        } catch (Exception e) {
+            log.error("입찰 타이머 휠 진행 중 오류 발생", e);
+        }
+    }
+
+    private void dispatch(TimerRef ref) {
+        // 같은 타이머가 다른 시각으로 다시 올라왔으면 이전 항목은 버림
+        if (!scheduled.remove(ref.timerId(), ref.dueAt())) {
+            return;
+        }
+        fireExecutor.execute(() -> fire(ref));
+    }
+
+    private void fire(TimerRef ref) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int claimed = timerRepository.claim(ref.timerId(), ref.dueAt(), BiddingTimer.Status.PENDING,
+                    nodeId, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs)), now);
+            if (claimed == 0) {
+                return; // 다른 노드가 실행 중이거나 취소/변경됨
+            }
+            transactionTemplate.executeWithoutResult(status -> transition(ref.timerId()));
+        } catch (Exception e) {
+            log.warn("입찰 타이머 실행 실패: 타이머ID={}, {}", ref.timerId(), e.getMessage());
+            try {
+                LocalDateTime retryAt = transactionTemplate.execute(status -> recordFailure(ref.timerId(), e));
+                if (retryAt != null) {
+                    enqueue(ref.timerId(), retryAt);
+                }
+            } catch (Exception recordError) {
+                // 기록도 실패하면 임대 만료 후 다른 적재 주기에서 다시 실행된다
+                log.error("입찰 타이머 실패 기록 실패: 타이머ID={}", ref.timerId(), recordError);
+            }
+        }
+    }
+
+    private void transition(Long timerId) {
+        BiddingTimer timer = timerRepository.findById(timerId).orElse(null);
+        if (timer == null || timer.getStatus() != BiddingTimer.Status.PENDING) {
+            return;
+        }
+        // 행을 잠가 역경매 마감 연장(ReverseAuctionService)과 직렬화한다.
+        Bidding bidding = biddingRepository.findByIdForUpdate(timer.getBiddingId()).orElse(null);
+        String current = bidding != null && bidding.getStatusChild() != null
+                ? bidding.getStatusChild().getCodeValue() : null;
+
+        if (timer.getAction() == BiddingTimer.Action.CLOSE && bidding != null && bidding.getEndDate() != null
+                && bidding.getEndDate().truncatedTo(ChronoUnit.MILLIS).isAfter(timer.getDueAt())) {
+            // 마감이 늦춰졌다 - 연장한 트랜잭션이 타이머도 새 마감일로 옮겼으므로 건드리지 않는다.
+            log.info("입찰 자동 마감 보류 - 마감일 연장됨: 입찰ID={}, 예정={}, 마감일={}",
+                    timer.getBiddingId(), timer.getDueAt(), bidding.getEndDate());
+            return;
+        }
+
+        boolean applicable = switch (timer.getAction()) {
+            case START -> "PENDING".equals(current);
+            case CLOSE -> "PENDING".equals(current) || "ONGOING".equals(current);
+        };
+        if (!applicable) {
+            timer.finish(BiddingTimer.Status.SKIPPED);
+            log.info("입찰 자동 전환 생략: 입찰ID={}, 동작={}, 현재 상태={}", timer.getBiddingId(), timer.getAction(), current);
+            return;
+        }
+
+        String reason = timer.getAction() == BiddingTimer.Action.START
+                ? "입찰 시작일 도래에 따른 자동 전환" : "입찰 마감일 도래에 따른 자동 마감";
+        biddingService.changeBiddingStatus(timer.getBiddingId(), timer.getAction().getTargetStatus(), reason);
+        timer.finish(BiddingTimer.Status.FIRED);
+        log.info("입찰 자동 전환: 입찰ID={}, {} -> {}, 예정={}, 지연={}ms", timer.getBiddingId(), current,
+                timer.getAction().getTargetStatus(), timer.getDueAt(),
+                System.currentTimeMillis() - toEpochMs(timer.getDueAt()));
+    }
+
+    /**
+     * 실패 기록 - 재시도할 시각을 돌려준다. (재시도하지 않으면 null)
+     */
+    private LocalDateTime recordFailure(Long timerId, Exception error) {
+        BiddingTimer timer = timerRepository.findById(timerId).orElse(null);
+        if (timer == null || timer.getStatus() != BiddingTimer.Status.PENDING) {
+            return null;
+        }
+        timer.setAttempts(timer.getAttempts() + 1);
+        String message = String.valueOf(error.getMessage());
+        timer.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (timer.getAttempts() >= maxAttempts) {
+            timer.finish(BiddingTimer.Status.FAILED);
+            log.error("입찰 자동 전환 실패 - 재시도 {}회 초과: 입찰ID={}, 동작={}", maxAttempts, timer.getBiddingId(), timer.getAction());
+            return null;
+        }
+        // 실행 예정 시각을 뒤로 미뤄 재시도 (임대 해제)
+        LocalDateTime retryAt = LocalDateTime.now()
+                .plusNanos(TimeUnit.MILLISECONDS.toNanos(retryDelayMs * timer.getAttempts()))
+                .truncatedTo(ChronoUnit.MILLIS);
+        timer.setDueAt(retryAt);
+        timer.setLeaseOwner(null);
+        timer.setLeaseUntil(null);
+        return retryAt;
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public int scheduledCount() {
+        return wheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        fireExecutor.shutdown();
+    }
+}
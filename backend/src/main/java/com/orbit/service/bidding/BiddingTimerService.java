@@ -0,0 +1,87 @@
+package com.orbit.service.bidding;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.entity.bidding.BiddingTimer;
+import com.orbit.event.event.BiddingTimerScheduledEvent;
+import com.orbit.repository.bidding.BiddingTimerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 자동 전환 타이머 관리
+ * - 입찰 공고의 현재 상태와 시작일/마감일에 맞춰 타이머 행을 만들거나 옮기거나 취소한다.
+ *   대기중: 시작(시작일) + 마감(마감일), 진행중: 마감(마감일), 그 외: 모두 취소
+ * - 실행은 BiddingTimerScheduler 가 맡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BiddingTimerService {
+
+    private final BiddingTimerRepository timerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 입찰 공고 상태/일정에 맞춰 타이머 동기화 (입찰 생성/수정/상태 변경 후 호출)
+     */
+    @Transactional
+    public void sync(Bidding bidding) {
+        String status = bidding.getStatusChild() != null ? bidding.getStatusChild().getCodeValue() : null;
+        boolean pending = "PENDING".equals(status);
+        boolean ongoing = "ONGOING".equals(status);
+
+        apply(bidding.getId(), BiddingTimer.Action.START, pending ? bidding.getStartDate() : null);
+        apply(bidding.getId(), BiddingTimer.Action.CLOSE, pending || ongoing ? bidding.getEndDate() : null);
+    }
+
+    /**
+     * 입찰 공고 삭제 시 타이머 정리
+     */
+    @Transactional
+    public void cancelAll(Long biddingId) {
+        List<BiddingTimer> timers = timerRepository.findByBiddingId(biddingId);
+        timers.forEach(timer -> {
+            if (timer.getStatus() == BiddingTimer.Status.PENDING) {
+                timer.finish(BiddingTimer.Status.CANCELLED);
+            }
+        });
+    }
+
+    private void apply(Long biddingId, BiddingTimer.Action action, LocalDateTime dueAt) {
+        BiddingTimer timer = timerRepository.findByBiddingIdAndAction(biddingId, action).orElse(null);
+
+        if (dueAt == null) {
+            if (timer != null && timer.getStatus() == BiddingTimer.Status.PENDING) {
+                timer.finish(BiddingTimer.Status.CANCELLED);
+                log.debug("입찰 타이머 취소: 입찰ID={}, 동작={}", biddingId, action);
+            }
+            return;
+        }
+
+        LocalDateTime due = dueAt.truncatedTo(ChronoUnit.MILLIS);
+        if (timer == null) {
+            timer = timerRepository.save(BiddingTimer.builder()
+                    .biddingId(biddingId)
+                    .action(action)
+                    .status(BiddingTimer.Status.PENDING)
+                    .dueAt(due)
+                    .build());
+        } else if (timer.getStatus() != BiddingTimer.Status.PENDING || !due.equals(timer.getDueAt())) {
+            timer.reschedule(due);
+            timerRepository.save(timer);
+        } else {
+            return;
+        }
+        log.debug("입찰 타이머 등록: 입찰ID={}, 동작={}, 실행 예정={}", biddingId, action, due);
+        eventPublisher.publishEvent(new BiddingTimerScheduledEvent(this, timer.getId(), due));
+    }
+}
@@ -0,0 +1,116 @@
+package com.orbit.service.bidding;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.orbit.util.PriceCalculator;
+import com.orbit.util.PriceCalculator.PriceResult;
+
+/**
+ * 역경매 입찰 저장 / 복구 (MariaDB, bidding_participations)
+ * - 공급사별 현재 입찰가를 INSERT ... ON DUPLICATE KEY UPDATE 로 덮어쓴다. (입찰 공고, 공급사) 행은 하나뿐이다.
+ * - 호출하는 쪽 트랜잭션에 참여한다.
+ */
+@Component
+public class ReverseAuctionBidWriter {
+
+    /**
+     * 저장할 입찰 (같은 공급사는 마지막 입찰만)
+     */
+    public record Row(Long biddingId, Integer quantity, ReverseAuctionBook.Bid bid) {
+    }
+
+    /**
+     * 역경매 복구용 입찰 공고 정보 + 입찰
+     */
+    public record Loaded(BigDecimal ceiling, LocalDateTime endDate, List<ReverseAuctionBook.Bid> bids) {
+    }
+
+    private static final String UPSERT_SQL = "INSERT INTO bidding_participations "
+            + "(bidding_id, supplier_id, company_name, unit_price, supply_price, vat, total_amount, submitted_at, "
+            + "is_confirmed, is_evaluated, is_order_created, is_selected_bidder, "
+            + "reg_time, update_time, created_by, modified_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, false, false, false, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE unit_price = VALUES(unit_price), supply_price = VALUES(supply_price), "
+            + "vat = VALUES(vat), total_amount = VALUES(total_amount), submitted_at = VALUES(submitted_at), "
+            + "update_time = VALUES(update_time), modified_by = VALUES(modified_by)";
+
+    private static final String BIDDING_SQL = "SELECT unit_price, end_date FROM biddings WHERE id = ?";
+
+    private static final String BIDS_SQL = "SELECT p.supplier_id, p.company_name, p.unit_price, p.submitted_at, m.username "
+            + "FROM bidding_participations p LEFT JOIN members m ON m.id = p.supplier_id "
+            + "WHERE p.bidding_id = ? AND p.unit_price IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReverseAuctionBidWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void write(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                ReverseAuctionBook.Bid bid = row.bid();
+                PriceResult price = PriceCalculator.calculateAll(bid.unitPrice(), row.quantity() != null ? row.quantity() : 1);
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                ps.setLong(1, row.biddingId());
+                ps.setLong(2, bid.supplierId());
+                ps.setString(3, bid.companyName());
+                ps.setBigDecimal(4, bid.unitPrice());
+                ps.setBigDecimal(5, price.getSupplyPrice());
+                ps.setBigDecimal(6, price.getVat());
+                ps.setBigDecimal(7, price.getTotalAmount());
+                ps.setTimestamp(8, Timestamp.valueOf(bid.submittedAt()));
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+                ps.setString(11, bid.username());
+                ps.setString(12, bid.username());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 시작가, 마감일, 저장된 입찰 (입찰 공고가 없으면 null)
+     */
+    public Loaded load(Long biddingId) {
+        List<Loaded> bidding = jdbcTemplate.query(BIDDING_SQL, (rs, rowNum) -> {
+            Timestamp endDate = rs.getTimestamp("end_date");
+            return new Loaded(rs.getBigDecimal("unit_price"), endDate != null ? endDate.toLocalDateTime() : null, null);
+        }, biddingId);
+        if (bidding.isEmpty()) {
+            return null;
+        }
+
+        List<ReverseAuctionBook.Bid> bids = new ArrayList<>();
+        jdbcTemplate.query(BIDS_SQL, rs -> {
+            Timestamp submittedAt = rs.getTimestamp("submitted_at");
+            bids.add(new ReverseAuctionBook.Bid(
+                    rs.getLong("supplier_id"),
+                    rs.getString("username"),
+                    rs.getString("company_name"),
+                    rs.getBigDecimal("unit_price"),
+                    submittedAt != null ? submittedAt.toLocalDateTime() : null,
+                    0));
+        }, biddingId);
+        return new Loaded(bidding.get(0).ceiling(), bidding.get(0).endDate(), bids);
+    }
+}
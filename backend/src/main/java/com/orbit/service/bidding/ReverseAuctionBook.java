@@ -0,0 +1,211 @@
+package com.orbit.service.bidding;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 역경매 1건의 입찰 현황 (노드 메모리)
+ * - 공급사별 현재 입찰가 하나만 두고, 낮은 가격 순(같은 가격이면 먼저 낸 입찰 우선)으로 정렬해 순위를 매긴다.
+ * - 공급사는 자기 직전 입찰가보다 최소 인하율 이상 낮은 가격만 낼 수 있다. (시작가가 있으면 그 이하)
+ * - 모든 변경은 이 객체 잠금 안에서 한다. DB / 발송은 ReverseAuctionService 가 맡는다.
+ */
+public class ReverseAuctionBook {
+
+    /**
+     * 공급사의 현재 입찰
+     */
+    public record Bid(Long supplierId, String username, String companyName, BigDecimal unitPrice,
+                      LocalDateTime submittedAt, long sequence) {
+    }
+
+    /**
+     * 공급사 순위 (1 부터)
+     */
+    public record Standing(Long supplierId, String username, BigDecimal unitPrice, int rank) {
+    }
+
+    /**
+     * 입찰 접수 결과 (previous: 이 입찰로 대체된 같은 공급사의 직전 입찰, 없으면 null)
+     */
+    public record Placement(Bid bid, int rank, BigDecimal bestPrice, int bidCount, LocalDateTime closeAt, Bid previous) {
+    }
+
+    /**
+     * 공개 현황 (공급사 식별 정보 없음)
+     */
+    public record Board(Long biddingId, BigDecimal bestPrice, int bidCount, LocalDateTime closeAt) {
+    }
+
+    private static final Comparator<Bid> ORDER = Comparator
+            .comparing(Bid::unitPrice)
+            .thenComparingLong(Bid::sequence);
+
+    private final Long biddingId;
+    private final BigDecimal ceiling;
+    private final BigDecimal minDecrementRate;
+    private final Map<Long, Bid> bySupplier = new HashMap<>();
+    private final TreeSet<Bid> ladder = new TreeSet<>(ORDER);
+    private LocalDateTime closeAt;
+    private long sequence;
+
+    // 마지막으로 알린 순위 / 최저가 (바뀐 공급사에게만 다시 알리기 위함)
+    private final Map<Long, Integer> notifiedRanks = new HashMap<>();
+    private BigDecimal notifiedBest;
+
+    /**
+     * @param ceiling 시작가 (없으면 null - 첫 입찰가 제한 없음)
+     * @param minDecrementRate 직전 입찰가 대비 최소 인하율 (0 이면 조금이라도 낮으면 됨)
+     * @param bids DB 에서 읽은 기존 입찰 (재기동 후 복구)
+     */
+    public ReverseAuctionBook(Long biddingId, BigDecimal ceiling, BigDecimal minDecrementRate,
+                              LocalDateTime closeAt, Collection<Bid> bids) {
+        if (minDecrementRate.signum() < 0 || minDecrementRate.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IllegalArgumentException("최소 인하율은 0 이상 1 미만이어야 합니다: " + minDecrementRate);
+        }
+        this.biddingId = biddingId;
+        this.ceiling = ceiling;
+        this.minDecrementRate = minDecrementRate;
+        this.closeAt = closeAt;
+        // 제출 시각 순서대로 순번을 다시 매긴다.
+        List<Bid> restored = new ArrayList<>(bids);
+        restored.sort(Comparator.comparing(Bid::submittedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (Bid bid : restored) {
+            Bid renumbered = new Bid(bid.supplierId(), bid.username(), bid.companyName(), bid.unitPrice(),
+                    bid.submittedAt(), ++sequence);
+            bySupplier.put(renumbered.supplierId(), renumbered);
+            ladder.add(renumbered);
+        }
+    }
+
+    public Long getBiddingId() {
+        return biddingId;
+    }
+
+    public synchronized LocalDateTime getCloseAt() {
+        return closeAt;
+    }
+
+    /**
+     * 마감까지 남은 시간이 window 안인지 (마감 연장 대상)
+     */
+    public synchronized boolean isClosingWithin(LocalDateTime at, long windowMs) {
+        return closeAt != null && !at.isBefore(closeAt.minusNanos(windowMs * 1_000_000L));
+    }
+
+    /**
+     * 입찰 접수
+     * @throws IllegalStateException 마감 후 입찰
+     * @throws IllegalArgumentException 가격 조건 위반
+     */
+    public synchronized Placement place(Long supplierId, String username, String companyName,
+                                        BigDecimal unitPrice, LocalDateTime at) {
+        if (closeAt != null && at.isAfter(closeAt)) {
+            throw new IllegalStateException("역경매가 마감되었습니다.");
+        }
+        if (unitPrice == null || unitPrice.signum() <= 0) {
+            throw new IllegalArgumentException("입찰 단가는 0보다 커야 합니다.");
+        }
+        if (ceiling != null && unitPrice.compareTo(ceiling) > 0) {
+            throw new IllegalArgumentException("입찰 단가는 시작가(" + ceiling.toPlainString() + ") 이하여야 합니다.");
+        }
+        Bid previous = bySupplier.get(supplierId);
+        if (previous != null) {
+            BigDecimal limit = maxNextPrice(previous.unitPrice());
+            if (unitPrice.compareTo(previous.unitPrice()) >= 0 || unitPrice.compareTo(limit) > 0) {
+                throw new IllegalArgumentException("입찰 단가는 " + limit.toPlainString() + " 이하로 낮춰야 합니다.");
+            }
+            ladder.remove(previous);
+        }
+
+        Bid bid = new Bid(supplierId, username, companyName, unitPrice, at, ++sequence);
+        bySupplier.put(supplierId, bid);
+        ladder.add(bid);
+        return new Placement(bid, rankOf(bid), ladder.first().unitPrice(), ladder.size(), closeAt, previous);
+    }
+
+    /**
+     * 접수한 입찰 되돌리기 (저장 실패 시) - 직전 입찰이 있으면 그것으로 되돌린다.
+     * - 그 사이 같은 공급사가 다시 입찰했으면 새 입찰을 건드리지 않는다.
+     * @return 실제로 되돌렸으면 true
+     */
+    public synchronized boolean revert(Placement placement) {
+        Bid bid = placement.bid();
+        if (bySupplier.get(bid.supplierId()) != bid) {
+            return false;
+        }
+        ladder.remove(bid);
+        Bid previous = placement.previous();
+        if (previous != null) {
+            bySupplier.put(previous.supplierId(), previous);
+            ladder.add(previous);
+        } else {
+            bySupplier.remove(bid.supplierId());
+        }
+        return true;
+    }
+
+    /**
+     * 마감 시각을 늦춤 (앞당기지는 않음)
+     * @return 실제로 늦췄으면 true
+     */
+    public synchronized boolean extendClose(LocalDateTime newCloseAt) {
+        if (newCloseAt == null || (closeAt != null && !newCloseAt.isAfter(closeAt))) {
+            return false;
+        }
+        closeAt = newCloseAt;
+        return true;
+    }
+
+    /**
+     * 공급사 현재 순위 (입찰 전이면 null)
+     */
+    public synchronized Standing standing(Long supplierId) {
+        Bid bid = bySupplier.get(supplierId);
+        return bid != null ? new Standing(supplierId, bid.username(), bid.unitPrice(), rankOf(bid)) : null;
+    }
+
+    public synchronized Board board() {
+        return new Board(biddingId, ladder.isEmpty() ? null : ladder.first().unitPrice(), ladder.size(), closeAt);
+    }
+
+    /**
+     * 지난번 알린 뒤 순위가 바뀐 공급사 (최저가가 바뀌었으면 전원) - 순위 순서
+     */
+    public synchronized List<Standing> changedStandings() {
+        BigDecimal best = ladder.isEmpty() ? null : ladder.first().unitPrice();
+        boolean bestChanged = best != null && (notifiedBest == null || best.compareTo(notifiedBest) != 0);
+        notifiedBest = best;
+
+        List<Standing> changed = new ArrayList<>();
+        int rank = 0;
+        for (Bid bid : ladder) {
+            rank++;
+            Integer previous = notifiedRanks.put(bid.supplierId(), rank);
+            if (bestChanged || previous == null || previous != rank) {
+                changed.add(new Standing(bid.supplierId(), bid.username(), bid.unitPrice(), rank));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 직전 입찰가 기준 다음 입찰 상한 (인하액은 원 단위로 올림)
+     */
+    BigDecimal maxNextPrice(BigDecimal previous) {
+        BigDecimal decrement = previous.multiply(minDecrementRate).setScale(0, RoundingMode.UP);
+        return previous.subtract(decrement);
+    }
+
+    private int rankOf(Bid bid) {
+        // 순위 = 더 앞선 입찰 수 + 1 (공급사 수만큼만 순회)
+        return ladder.headSet(bid, false).size() + 1;
+    }
+}
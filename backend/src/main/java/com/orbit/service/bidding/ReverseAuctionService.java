@@ -0,0 +1,263 @@
+package com.orbit.service.bidding;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orbit.dto.bidding.ReverseAuctionDto;
+import com.orbit.entity.bidding.Bidding;
+import com.orbit.repository.bidding.BiddingRepository;
+import com.orbit.service.websocket.WebSocketOutboundPublisher;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 역경매 (입찰 방식 REVERSE_AUCTION)
+ * - 입찰 현황은 역경매마다 ReverseAuctionBook 하나로 노드 메모리에 두고, 입찰 검증/순위 계산은 DB 조회 없이 한다.
+ *   (입찰 공고 상태/초대 여부는 BiddingSubmissionCache 사용)
+ * - 저장은 write-behind: 공급사별 마지막 입찰만 모아 flush-interval-ms 마다 한 번의 배치 upsert 로 bidding_participations 에 쓴다.
+ * - 마감 extend-window-ms 전 안에 들어온 입찰은 마감을 입찰 시각 + extend-by-ms 로 늦춘다. (anti-sniping)
+ *   이때만 입찰 공고 행을 잠그고 입찰, 마감일, 마감 타이머를 한 트랜잭션으로 저장한다. (자동 마감 타이머와 직렬화)
+ * - 공개 현황(/topic/auctions/{id})과 공급사별 순위(/user/queue/auctions/{id})는 모아서 주기마다 바뀐 것만 보낸다.
+ * - 재기동 후 첫 조회/입찰 때 DB 의 입찰로 현황을 다시 만든다.
+ * - 현황이 노드마다 따로이므로 같은 역경매의 입찰 요청은 한 노드로 보내야 한다. (입찰 ID 기준 고정 라우팅)
+ */
+@Slf4j
+@Service
+public class ReverseAuctionService {
+
+    private static final String TOPIC_PREFIX = "/topic/auctions/";
+    private static final String USER_QUEUE_PREFIX = "/queue/auctions/";
+
+    private record BidKey(Long biddingId, Long supplierId) {
+    }
+
+    private record Extended(ReverseAuctionBook.Placement placement, LocalDateTime closeAt) {
+    }
+
+    private final BiddingSubmissionCache submissionCache;
+    private final ReverseAuctionBidWriter bidWriter;
+    private final BiddingRepository biddingRepository;
+    private final BiddingTimerService biddingTimerService;
+    private final WebSocketOutboundPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BigDecimal minDecrementRate;
+    private final long extendWindowMs;
+    private final long extendByMs;
+    private final long retainAfterCloseMs;
+
+    private final Map<Long, ReverseAuctionBook> books = new ConcurrentHashMap<>();
+    // 아직 저장하지 않은 공급사별 마지막 입찰
+    private final Map<BidKey, ReverseAuctionBidWriter.Row> pendingWrites = new ConcurrentHashMap<>();
+    // 순위 알림을 보낼 역경매
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    public ReverseAuctionService(BiddingSubmissionCache submissionCache,
+                                 ReverseAuctionBidWriter bidWriter,
+                                 BiddingRepository biddingRepository,
+                                 BiddingTimerService biddingTimerService,
+                                 WebSocketOutboundPublisher publisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${bidding.auction.min-decrement-rate:0.005}") BigDecimal minDecrementRate,
+                                 @Value("${bidding.auction.extend-window-ms:120000}") long extendWindowMs,
+                                 @Value("${bidding.auction.extend-by-ms:120000}") long extendByMs,
+                                 @Value("${bidding.auction.retain-after-close-ms:600000}") long retainAfterCloseMs) {
+        this.submissionCache = submissionCache;
+        this.bidWriter = bidWriter;
+        this.biddingRepository = biddingRepository;
+        this.biddingTimerService = biddingTimerService;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minDecrementRate = minDecrementRate;
+        this.extendWindowMs = extendWindowMs;
+        this.extendByMs = extendByMs;
+        this.retainAfterCloseMs = retainAfterCloseMs;
+    }
+
+    /**
+     * 역경매 입찰
+     * @throws IllegalStateException 역경매가 아니거나, 진행 중이 아니거나, 초대받지 않았거나, 마감된 경우
+     * @throws IllegalArgumentException 시작가 초과 / 직전 입찰가 대비 인하 폭 부족
+     */
+    public ReverseAuctionDto placeBid(Long biddingId, Long supplierId, String username, BigDecimal unitPrice) {
+        LocalDateTime receivedAt = LocalDateTime.now();
+        BiddingSubmissionCache.BiddingSnapshot snapshot = snapshot(biddingId);
+        snapshot.checkParticipant(supplierId);
+        ReverseAuctionBook book = book(snapshot);
+        String companyName = submissionCache.companyName(snapshot, supplierId);
+
+        ReverseAuctionBook.Placement placement;
+        boolean extended = false;
+        if (!book.isClosingWithin(receivedAt, extendWindowMs)) {
+            // 마감 시각은 늦춰지기만 하므로 여기서 창 밖이면 접수 시점에도 창 밖이다.
+            placement = book.place(supplierId, username, companyName, unitPrice, receivedAt);
+        } else {
+            Extended result = placeAndExtend(book, snapshot, supplierId, username, companyName, unitPrice, receivedAt);
+            extended = book.extendClose(result.closeAt());
+            placement = result.placement();
+            submissionCache.evict(biddingId);
+        }
+
+        pendingWrites.merge(new BidKey(biddingId, supplierId),
+                new ReverseAuctionBidWriter.Row(biddingId, snapshot.quantity(), placement.bid()),
+                (current, next) -> next.bid().sequence() > current.bid().sequence() ? next : current);
+        changed.add(biddingId);
+        publisher.coalesce(TOPIC_PREFIX + biddingId, () -> ReverseAuctionDto.of(book.board(), null));
+
+        ReverseAuctionDto dto = ReverseAuctionDto.of(book.board(), book.standing(supplierId));
+        dto.setExtended(extended);
+        return dto;
+    }
+
+    /**
+     * 역경매 현황 (supplierId 가 있으면 그 공급사의 순위 포함)
+     */
+    public ReverseAuctionDto getStatus(Long biddingId, Long supplierId) {
+        ReverseAuctionBook book = book(snapshot(biddingId));
+        return ReverseAuctionDto.of(book.board(), supplierId != null ? book.standing(supplierId) : null);
+    }
+
+    /**
+     * 모아 둔 입찰 저장 (실패하면 남겨 두었다가 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${bidding.auction.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<BidKey, ReverseAuctionBidWriter.Row>> entries = new ArrayList<>(pendingWrites.size());
+        List<ReverseAuctionBidWriter.Row> rows = new ArrayList<>(pendingWrites.size());
+        pendingWrites.forEach((key, row) -> {
+            entries.add(Map.entry(key, row));
+            rows.add(row);
+        });
+        try {
+            transactionTemplate.executeWithoutResult(status -> bidWriter.write(rows));
+        } catch (Exception e) {
+            log.error("역경매 입찰 {}건 저장 실패 - 다음 주기에 다시 시도: {}", rows.size(), e.getMessage());
+            return;
+        }
+        // 저장하는 사이 더 새 입찰이 들어온 공급사는 남겨 둔다.
+        entries.forEach(entry -> pendingWrites.remove(entry.getKey(), entry.getValue()));
+        log.debug("역경매 입찰 저장: {}건", rows.size());
+    }
+
+    /**
+     * 순위가 바뀐 공급사에게 순위/최저가 알림, 마감 후 오래된 현황 정리
+     */
+    @Scheduled(fixedDelayString = "${bidding.auction.broadcast-interval-ms:250}")
+    public void publishStandings() {
+        Iterator<Long> iterator = changed.iterator();
+        while (iterator.hasNext()) {
+            Long biddingId = iterator.next();
+            iterator.remove();
+            ReverseAuctionBook book = books.get(biddingId);
+            if (book == null) {
+                continue;
+            }
+            ReverseAuctionBook.Board board = book.board();
+            for (ReverseAuctionBook.Standing standing : book.changedStandings()) {
+                if (standing.username() != null) {
+                    publisher.sendToUser(standing.username(), USER_QUEUE_PREFIX + biddingId, ReverseAuctionDto.of(board, standing));
+                }
+            }
+        }
+
+        LocalDateTime expiry = LocalDateTime.now().minus(retainAfterCloseMs, ChronoUnit.MILLIS);
+        books.values().removeIf(book -> book.getCloseAt() != null && book.getCloseAt().isBefore(expiry)
+                && pendingWrites.keySet().stream().noneMatch(key -> key.biddingId().equals(book.getBiddingId())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pendingWrites.isEmpty()) {
+            log.error("종료 시 저장하지 못한 역경매 입찰: {}건", pendingWrites.size());
+        }
+    }
+
+    /**
+     * 마감 직전 입찰 - 입찰 공고 행을 잠근 채 입찰을 접수하고 입찰, 늦춘 마감일, 마감 타이머를 함께 저장한다.
+     * - 자동 마감(BiddingTimerScheduler)도 같은 행을 잠그므로, 마감이 먼저 커밋됐으면 여기서 진행 상태 확인에 걸린다.
+     * - 현황에 먼저 접수해야 순위/인하율 검증이 다른 입찰과 겹치지 않으므로, 저장이나 커밋이 실패하면
+     *   접수한 입찰을 되돌린다. (DB 에 없는 입찰이 현황에 남지 않도록)
+     */
+    private Extended placeAndExtend(ReverseAuctionBook book, BiddingSubmissionCache.BiddingSnapshot snapshot,
+                                    Long supplierId, String username, String companyName,
+                                    BigDecimal unitPrice, LocalDateTime receivedAt) {
+        AtomicReference<ReverseAuctionBook.Placement> placed = new AtomicReference<>();
+        try {
+            return transactionTemplate.execute(status -> {
+                Bidding bidding = biddingRepository.findByIdForUpdate(snapshot.biddingId())
+                        .orElseThrow(() -> new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + snapshot.biddingId()));
+                if (bidding.getStatusChild() == null || !"ONGOING".equals(bidding.getStatusChild().getCodeValue())) {
+                    throw new IllegalStateException("현재 참여 가능한 상태가 아닙니다.");
+                }
+
+                ReverseAuctionBook.Placement placement = book.place(supplierId, username, companyName, unitPrice, receivedAt);
+                placed.set(placement);
+
+                LocalDateTime closeAt = receivedAt.plus(extendByMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MILLIS);
+                if (bidding.getEndDate() == null || closeAt.isAfter(bidding.getEndDate())) {
+                    bidding.setEndDate(closeAt);
+                    biddingTimerService.sync(bidding);
+                    log.info("역경매 마감 연장: 입찰ID={}, 공급사ID={}, 마감 {}", bidding.getId(), supplierId, closeAt);
+                } else {
+                    closeAt = bidding.getEndDate();
+                }
+                bidWriter.write(List.of(new ReverseAuctionBidWriter.Row(bidding.getId(), snapshot.quantity(), placement.bid())));
+                return new Extended(placement, closeAt);
+            });
+        } catch (RuntimeException e) {
+            ReverseAuctionBook.Placement placement = placed.get();
+            if (placement != null && book.revert(placement)) {
+                log.warn("역경매 마감 직전 입찰 저장 실패 - 접수 취소: 입찰ID={}, 공급사ID={}", snapshot.biddingId(), supplierId);
+                // 그 사이 다른 입찰 알림에 섞여 나갔을 수 있으므로 현황을 다시 보낸다.
+                changed.add(snapshot.biddingId());
+                publisher.coalesce(TOPIC_PREFIX + snapshot.biddingId(), () -> ReverseAuctionDto.of(book.board(), null));
+            }
+            throw e;
+        }
+    }
+
+    private BiddingSubmissionCache.BiddingSnapshot snapshot(Long biddingId) {
+        BiddingSubmissionCache.BiddingSnapshot snapshot = submissionCache.get(biddingId);
+        if (!snapshot.isReverseAuction()) {
+            throw new IllegalStateException("역경매 입찰 공고가 아닙니다.");
+        }
+        return snapshot;
+    }
+
+    private ReverseAuctionBook book(BiddingSubmissionCache.BiddingSnapshot snapshot) {
+        ReverseAuctionBook book = books.computeIfAbsent(snapshot.biddingId(), this::rebuild);
+        // 공고 수정 등 다른 경로로 늦춰진 마감일 반영
+        book.extendClose(snapshot.endDate());
+        return book;
+    }
+
+    private ReverseAuctionBook rebuild(Long biddingId) {
+        ReverseAuctionBidWriter.Loaded loaded = bidWriter.load(biddingId);
+        if (loaded == null) {
+            throw new EntityNotFoundException("입찰 공고를 찾을 수 없습니다. ID: " + biddingId);
+        }
+        ReverseAuctionBook book = new ReverseAuctionBook(biddingId, loaded.ceiling(), minDecrementRate,
+                loaded.endDate(), loaded.bids());
+        log.info("역경매 입찰 현황 적재: 입찰ID={}, 입찰 {}건, 마감 {}", biddingId, loaded.bids().size(), loaded.endDate());
+        return book;
+    }
+}
@@ -6,6 +6,7 @@ import com.orbit.entity.bidding.BiddingOrder;
 import com.orbit.entity.delivery.Delivery;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.PurchaseRequestItem;
+import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.repository.bidding.BiddingContractRepository;
 import com.orbit.repository.bidding.BiddingOrderRepository;
 import com.orbit.repository.delivery.DeliveryRepository;
@@ -33,6 +34,7 @@ public class DeliveryService {
     private final PurchaseRequestItemRepository purchaseRequestItemRepository;
     private final MemberRepository memberRepository;
     private final BiddingContractRepository biddingContractRepository;
+    private final ProcessEventPublisher processEventPublisher;
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(DeliveryService.class);
 
@@ -155,6 +157,10 @@ public class DeliveryService {
             // 저장
             Delivery savedDelivery = deliveryRepository.save(delivery);
 
+            // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+            processEventPublisher.publishDeliveryCreated(savedDelivery.getId(), biddingOrder.getId(),
+                    savedDelivery.getPurchaseRequestId());
+
             return DeliveryDto.Response.fromEntity(savedDelivery);
         } catch (Exception e) {
             log.error("입고 등록 중 예외 발생:", e);
@@ -214,9 +220,36 @@ public class DeliveryService {
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getUninvoicedDeliveriesWithContracts() {
-        List<Delivery> deliveries = deliveryRepository.findByInvoiceIssuedFalse();
+        List<Delivery> deliveries = deliveryRepository.findUninvoicedWithOrder();
         List<Map<String, Object>> result = new ArrayList<>();
 
+        // 공급자 / 계약을 입고마다 조회하지 않고 IN 조회 한 번씩으로 미리 읽는다.
+        Set<Long> supplierIds = deliveries.stream()
+                .map(Delivery::getSupplierId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Member> suppliers = new HashMap<>();
+        boolean supplierLookupFailed = false;
+        try {
+            memberRepository.findAllById(supplierIds).forEach(member -> suppliers.put(member.getId(), member));
+        } catch (Exception e) {
+            log.warn("공급자 정보 조회 중 오류 발생: {}", e.getMessage());
+            supplierLookupFailed = true;
+        }
+
+        Set<Long> biddingIds = deliveries.stream()
+                .map(Delivery::getBiddingOrder)
+                .filter(Objects::nonNull)
+                .map(BiddingOrder::getBiddingId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> contractNumbers = new HashMap<>();
+        if (!biddingIds.isEmpty()) {
+            for (BiddingContract contract : biddingContractRepository.findByBiddingIdInOrderByIdAsc(biddingIds)) {
+                contractNumbers.putIfAbsent(contract.getBidding().getId(), contract.getTransactionNumber());
+            }
+        }
+
         for (Delivery delivery : deliveries) {
             Map<String, Object> item = new HashMap<>();
 
@@ -234,31 +267,24 @@ public class DeliveryService {
             item.put("totalAmount", delivery.getTotalAmount());
             item.put("invoiceIssued", delivery.getInvoiceIssued());
 
-            // 공급자 정보 추가 조회 (중요!)
-            try {
-                // 공급자 ID로 회원 정보 조회
-                Optional<Member> supplierOpt = memberRepository.findById(delivery.getSupplierId());
-                if (supplierOpt.isPresent()) {
-                    Member supplier = supplierOpt.get();
-
-                    // 공급자 추가 정보 설정
-                    item.put("supplierUserName", supplier.getUsername());
-                    item.put("supplierContactPerson", supplier.getName());
-                    item.put("supplierEmail", supplier.getEmail());
-                    item.put("supplierPhone", supplier.getContactNumber());
-
-                    // 주소 조합
-                    String fullAddress = "";
-                    if (supplier.getRoadAddress() != null) {
-                        fullAddress = supplier.getRoadAddress();
-                        if (supplier.getDetailAddress() != null) {
-                            fullAddress += " " + supplier.getDetailAddress();
-                        }
+            // 공급자 정보
+            Member supplier = suppliers.get(delivery.getSupplierId());
+            if (supplier != null) {
+                item.put("supplierUserName", supplier.getUsername());
+                item.put("supplierContactPerson", supplier.getName());
+                item.put("supplierEmail", supplier.getEmail());
+                item.put("supplierPhone", supplier.getContactNumber());
+
+                // 주소 조합
+                String fullAddress = "";
+                if (supplier.getRoadAddress() != null) {
+                    fullAddress = supplier.getRoadAddress();
+                    if (supplier.getDetailAddress() != null) {
+                        fullAddress += " " + supplier.getDetailAddress();
                     }
-                    item.put("supplierAddress", fullAddress);
                 }
-            } catch (Exception e) {
-                log.warn("공급자 정보 조회 중 오류 발생: {}", e.getMessage());
+                item.put("supplierAddress", fullAddress);
+            } else if (supplierLookupFailed) {
                 // 기본값 설정
                 item.put("supplierUserName", String.valueOf(delivery.getSupplierId()));
                 item.put("supplierContactPerson", delivery.getSupplierName() + " 담당자");
@@ -267,15 +293,10 @@ public class DeliveryService {
                 item.put("supplierAddress", "-");
             }
 
-            // 계약 번호 조회
-            String contractNumber = null;
-            if (delivery.getBiddingOrder() != null && delivery.getBiddingOrder().getBidding() != null) {
-                BiddingOrder order = delivery.getBiddingOrder();
-                List<BiddingContract> contracts = biddingContractRepository.findByBiddingId(order.getBiddingId());
-                if (!contracts.isEmpty()) {
-                    contractNumber = contracts.get(0).getTransactionNumber();
-                }
-            }
+            // 계약 번호
+            String contractNumber = delivery.getBiddingOrder() != null
+                    ? contractNumbers.get(delivery.getBiddingOrder().getBiddingId())
+                    : null;
 
             item.put("contractNumber", contractNumber);
             result.add(item);
@@ -0,0 +1,116 @@
+package com.orbit.service.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orbit.repository.bidding.BiddingRepository;
+import com.orbit.repository.procurement.ProjectAttachmentRepository;
+import com.orbit.repository.procurement.PurchaseRequestAttachmentRepository;
+import com.orbit.repository.supplier.SupplierAttachmentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공유 첨부파일 저장소 정리 작업
+ * - 구매요청/프로젝트/협력업체 등록/입찰 공고 첨부 엔티티에서 파일별 참조 수를 집계하고,
+ *   참조가 없는 파일 중 유예 기간이 지난 것만 삭제한다.
+ * - 참조 수는 별도 카운터 없이 매번 엔티티에서 계산하므로 cascade/orphanRemoval 삭제도 그대로 반영된다.
+ * - 유예 기간은 저장 직후 아직 커밋되지 않은 첨부(또는 중복 재사용으로 수정 시각이 갱신된 파일)를 보호한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentBlobGarbageCollector {
+
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final PurchaseRequestAttachmentRepository purchaseRequestAttachmentRepository;
+    private final ProjectAttachmentRepository projectAttachmentRepository;
+    private final SupplierAttachmentRepository supplierAttachmentRepository;
+    private final BiddingRepository biddingRepository;
+
+    @Value("${attachment.blob.gc-grace-hours:24}")
+    private long graceHours;
+
+    @Scheduled(cron = "${attachment.blob.gc-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public void collect() {
+        Path blobRoot = attachmentBlobStore.blobRoot();
+        if (!Files.isDirectory(blobRoot)) {
+            return;
+        }
+
+        Map<String, Long> references = countReferences();
+        long threshold = System.currentTimeMillis() - Duration.ofHours(graceHours).toMillis();
+        Path tempDir = blobRoot.resolve(AttachmentBlobStore.TEMP_DIR);
+
+        long scanned = 0;
+        long deleted = 0;
+        long freedBytes = 0;
+        try (Stream<Path> files = Files.walk(blobRoot)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                scanned++;
+                try {
+                    // 임시 파일: 중단된 업로드 잔여물만 정리
+                    if (file.startsWith(tempDir)) {
+                        if (Files.getLastModifiedTime(file).toMillis() < threshold) {
+                            freedBytes += Files.size(file);
+                            Files.deleteIfExists(file);
+                            deleted++;
+                        }
+                        continue;
+                    }
+
+                    String relativePath = attachmentBlobStore.root().relativize(file).toString().replace('\\', '/');
+                    if (references.containsKey(relativePath)
+                            || Files.getLastModifiedTime(file).toMillis() >= threshold) {
+                        continue;
+                    }
+                    long size = Files.size(file);
+                    if (Files.deleteIfExists(file)) {
+                        freedBytes += size;
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("공유 첨부파일 정리 실패: {} - {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("공유 첨부파일 저장소 탐색 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        long totalReferences = references.values().stream().mapToLong(Long::longValue).sum();
+        log.info("공유 첨부파일 정리 완료 - 파일 {}개 확인, 참조 중 {}개(참조 {}건), 삭제 {}개, 확보 {} bytes",
+                scanned, references.size(), totalReferences, deleted, freedBytes);
+    }
+
+    /**
+     * 모든 첨부 엔티티에서 공유 저장소 파일별 참조 수를 합산
+     */
+    private Map<String, Long> countReferences() {
+        Map<String, Long> references = new HashMap<>();
+        merge(references, purchaseRequestAttachmentRepository.countBlobReferences());
+        merge(references, projectAttachmentRepository.countBlobReferences());
+        merge(references, supplierAttachmentRepository.countBlobReferences());
+        merge(references, biddingRepository.countBlobReferences());
+        return references;
+    }
+
+    private void merge(Map<String, Long> references, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            references.merge(((String) row[0]).replace('\\', '/'), ((Number) row[1]).longValue(), Long::sum);
+        }
+    }
+}
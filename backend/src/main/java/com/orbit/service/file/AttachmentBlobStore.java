@@ -0,0 +1,212 @@
+package com.orbit.service.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 기반(content-addressed) 첨부파일 저장소
+ * - 구매요청/프로젝트/협력업체 등록/입찰 공고 첨부파일이 함께 사용한다.
+ * - 파일 이름은 내용의 SHA-256 (+ 확장자) 이므로 같은 파일은 한 번만 저장된다.
+ * - 저장 위치: {uploadPath}/blobs/{해시 앞 2자리}/{다음 2자리}/{해시}.{확장자}
+ * - 엔티티에는 uploadPath 기준 상대 경로(blobs/...)를 저장하고, 참조가 없어진 파일은
+ *   AttachmentBlobGarbageCollector 가 정리한다. (공유 파일이므로 서비스에서 직접 삭제하지 않는다)
+ */
+@Slf4j
+@Service
+public class AttachmentBlobStore {
+
+    public static final String BLOB_DIR = "blobs";
+    static final String TEMP_DIR = "tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${uploadPath}")
+    private String uploadPath;
+
+    /**
+     * 업로드 파일 저장
+     * - 멀티파트 파일은 이미 임시 파일로 존재하므로 먼저 읽기만 해서 해시를 계산하고,
+     *   같은 내용이 이미 있으면 쓰기 없이 기존 파일을 그대로 참조한다.
+     *
+     * @return uploadPath 기준 상대 경로 (엔티티 filePath 에 저장)
+     */
+    public String store(MultipartFile file) throws IOException {
+        String extension = extensionOf(file.getOriginalFilename());
+        String hash;
+        try (InputStream in = file.getInputStream()) {
+            hash = digest(in, OutputStream.nullOutputStream());
+        }
+
+        String relativePath = relativePath(hash, extension);
+        Path target = resolve(relativePath);
+        if (reuseExisting(target, file.getSize())) {
+            log.debug("중복 첨부파일 재사용: {} ({} bytes)", relativePath, file.getSize());
+            return relativePath;
+        }
+
+        Path temp = newTempFile();
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        publish(temp, target);
+        return relativePath;
+    }
+
+    /**
+     * 스트림 저장 (다시 읽을 수 없는 입력용)
+     * - 임시 파일에 쓰면서 동시에 해시를 계산한 뒤, 같은 내용이 이미 있으면 임시 파일만 지운다.
+     *
+     * @return uploadPath 기준 상대 경로
+     */
+    public String store(InputStream in, String originalFilename) throws IOException {
+        Path temp = newTempFile();
+        String hash;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            hash = digest(in, out);
+        }
+
+        String relativePath = relativePath(hash, extensionOf(originalFilename));
+        Path target = resolve(relativePath);
+        if (reuseExisting(target, Files.size(temp))) {
+            Files.deleteIfExists(temp);
+            return relativePath;
+        }
+        publish(temp, target);
+        return relativePath;
+    }
+
+    /**
+     * 이미 SHA-256 을 알고 있는 임시 파일을 저장소로 옮긴다. (청크 업로드 완료 시 사용)
+     *
+     * @return uploadPath 기준 상대 경로
+     */
+    public String storeVerified(Path temp, String sha256, String originalFilename) throws IOException {
+        String relativePath = relativePath(sha256.toLowerCase(Locale.ROOT), extensionOf(originalFilename));
+        Path target = resolve(relativePath);
+        if (reuseExisting(target, Files.size(temp))) {
+            Files.deleteIfExists(temp);
+            return relativePath;
+        }
+        publish(temp, target);
+        return relativePath;
+    }
+
+    /**
+     * 엔티티에 저장된 경로를 실제 파일 경로로 변환
+     * - 예전 방식의 절대 경로(입찰 공고 첨부)와 uploadPath 기준 상대 경로를 모두 지원한다.
+     */
+    public Path resolve(String storedPath) {
+        Path path = Paths.get(storedPath);
+        return path.isAbsolute() ? path : root().resolve(storedPath).normalize();
+    }
+
+    /**
+     * 공유 저장소 파일인지 여부 (공유 파일은 직접 삭제하지 않고 GC 에 맡긴다)
+     */
+    public boolean isBlob(String storedPath) {
+        return storedPath != null && storedPath.replace('\\', '/').startsWith(BLOB_DIR + "/");
+    }
+
+    Path root() {
+        return Paths.get(uploadPath).toAbsolutePath().normalize();
+    }
+
+    Path blobRoot() {
+        return root().resolve(BLOB_DIR);
+    }
+
+    Path newTempFile() throws IOException {
+        return tempFile(UUID.randomUUID().toString());
+    }
+
+    /**
+     * 이름을 지정한 임시 파일 경로 (저장소와 같은 파일시스템이므로 완료 시 복사 없이 이동된다)
+     */
+    Path tempFile(String name) throws IOException {
+        Path tempDir = blobRoot().resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return tempDir.resolve(name + ".part");
+    }
+
+    /**
+     * 같은 내용의 파일이 있으면 수정 시각을 갱신해서 (GC 유예 기간 동안) 삭제되지 않게 한다.
+     */
+    private boolean reuseExisting(Path target, long expectedSize) throws IOException {
+        if (!Files.isRegularFile(target) || Files.size(target) != expectedSize) {
+            return false;
+        }
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        return true;
+    }
+
+    /**
+     * 임시 파일을 최종 위치로 원자적으로 이동 (동시에 같은 파일이 올라온 경우 먼저 옮긴 쪽을 사용)
+     */
+    private void publish(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temp);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static String digest(InputStream in, OutputStream out) throws IOException {
+        MessageDigest digest = newDigest();
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = digestIn.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String relativePath(String hash, String extension) {
+        String fileName = extension.isEmpty() ? hash : hash + "." + extension;
+        return BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + fileName;
+    }
+
+    private static String extensionOf(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        if (extension == null || !extension.matches("[A-Za-z0-9]{1,10}")) {
+            return "";
+        }
+        return extension.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,196 @@
+package com.orbit.service.file;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첨부파일 묶음(ZIP) 다운로드
+ * - 입찰 공고/프로젝트/구매요청/협력업체 등록의 첨부파일 전체를 하나의 ZIP 으로 응답에 바로 스트리밍한다.
+ * - 임시 파일을 만들지 않고, 파일 단위 고정 크기 버퍼만 사용하므로 묶음 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 이미 압축된 형식(PDF, JPEG, XLSX 등)은 다시 압축하지 않고 STORED 로 넣는다.
+ *   (STORED 항목은 헤더에 CRC 가 먼저 필요하므로 CRC 만 미리 한 번 읽어서 계산한다)
+ * - 마지막에 manifest.json 으로 항목 목록(원본 파일명, 크기, 저장 방식, SHA-256, 누락 파일)을 넣는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentBundleService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String MANIFEST_NAME = "manifest.json";
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("([0-9a-f]{64})(\\.[A-Za-z0-9]+)?");
+
+    // 다시 압축해도 크기가 줄지 않는 형식
+    private static final Set<String> STORED_EXTENSIONS = Set.of(
+            "pdf", "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "xlsx", "docx", "pptx", "hwpx", "zip", "7z", "gz", "rar",
+            "mp3", "mp4", "mov", "avi");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 첨부파일 묶음을 ZIP 으로 전송
+     *
+     * @param bundleType 묶음 종류 (BIDDING, PROJECT, PURCHASE_REQUEST, SUPPLIER_REGISTRATION)
+     * @param bundleId   대상 ID
+     * @param files      첨부파일 목록 (서비스 계층에서 조회)
+     */
+    public void stream(String bundleType, Long bundleId, List<DownloadFile> files,
+                       HttpServletResponse response) throws IOException {
+        String bundleName = bundleType.toLowerCase(Locale.ROOT) + "_" + bundleId + "_attachments.zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, FileDownloadService.contentDisposition(bundleName));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-store");
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        long totalBytes = 0;
+
+        // ZipOutputStream 은 작은 단위로 쓰므로 응답 스트림 앞에 고정 크기 버퍼를 둔다
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (DownloadFile file : files) {
+            Path path = file.path();
+            String originalName = file.filename() != null ? file.filename() : path.getFileName().toString();
+            if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+                missing.add(originalName);
+                continue;
+            }
+
+            long size = Files.size(path);
+            boolean stored = isStored(originalName);
+            String entryName = uniqueName(StringUtils.getFilename(StringUtils.cleanPath(originalName)), usedNames);
+
+            ZipEntry entry = new ZipEntry(entryName);
+            entry.setTime(Files.getLastModifiedTime(path).toMillis());
+            if (stored) {
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(crc32(path, buffer));
+            } else {
+                entry.setMethod(ZipEntry.DEFLATED);
+            }
+
+            zip.putNextEntry(entry);
+            copy(path, zip, buffer);
+            zip.closeEntry();
+            totalBytes += size;
+
+            Map<String, Object> manifestEntry = new LinkedHashMap<>();
+            manifestEntry.put("name", entryName);
+            manifestEntry.put("originalFilename", originalName);
+            manifestEntry.put("size", size);
+            manifestEntry.put("method", stored ? "STORED" : "DEFLATED");
+            String sha256 = contentHash(path);
+            if (sha256 != null) {
+                manifestEntry.put("sha256", sha256);
+            }
+            entries.add(manifestEntry);
+        }
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("type", bundleType);
+        manifest.put("id", bundleId);
+        manifest.put("generatedAt", LocalDateTime.now());
+        manifest.put("fileCount", entries.size());
+        manifest.put("totalBytes", totalBytes);
+        manifest.put("files", entries);
+        manifest.put("missing", missing);
+
+        zip.putNextEntry(new ZipEntry(uniqueName(MANIFEST_NAME, usedNames)));
+        // ZIP 스트림이 닫히지 않도록 AUTO_CLOSE_TARGET 을 끈다
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(zip, manifest);
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+
+        if (!missing.isEmpty()) {
+            log.warn("첨부파일 묶음에서 누락된 파일 - {} {}: {}", bundleType, bundleId, missing);
+        }
+        log.debug("첨부파일 묶음 전송 - {} {}: {}개, {} bytes", bundleType, bundleId, entries.size(), totalBytes);
+    }
+
+    private boolean isStored(String filename) {
+        String extension = StringUtils.getFilenameExtension(filename);
+        return extension != null && STORED_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 같은 이름의 파일이 여러 개면 "이름 (2).확장자" 형식으로 구분
+     */
+    private String uniqueName(String name, Set<String> usedNames) {
+        String candidate = StringUtils.hasText(name) ? name : "attachment";
+        if (usedNames.add(candidate)) {
+            return candidate;
+        }
+        String extension = StringUtils.getFilenameExtension(candidate);
+        String base = extension == null ? candidate : candidate.substring(0, candidate.length() - extension.length() - 1);
+        for (int i = 2; ; i++) {
+            String next = base + " (" + i + ")" + (extension == null ? "" : "." + extension);
+            if (usedNames.add(next)) {
+                return next;
+            }
+        }
+    }
+
+    private long crc32(Path path, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private void copy(Path path, OutputStream out, byte[] buffer) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * 공유 저장소 파일은 이름이 내용의 SHA-256 이므로 읽지 않고 바로 알 수 있다.
+     */
+    private String contentHash(Path path) {
+        Matcher matcher = CONTENT_HASH_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.orbit.service.file;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청크 업로드 설정 정보
+ * - application.properties 파일에 정의된 upload.chunked.* 값을 읽어온다.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("upload.chunked")
+public class ChunkedUploadProperties {
+
+    private int chunkSize = 8 * 1024 * 1024;            // 청크 크기 (bytes)
+    private long maxFileSize = 2L * 1024 * 1024 * 1024; // 파일 최대 크기 (bytes)
+    private long expireHours = 24;                      // 마지막 청크 이후 세션 보관 시간 (완료 세션도 동일)
+}
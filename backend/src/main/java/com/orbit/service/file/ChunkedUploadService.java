@@ -0,0 +1,404 @@
+package com.orbit.service.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.orbit.dto.file.UploadCompleteRequestDto;
+import com.orbit.dto.file.UploadInitiateRequestDto;
+import com.orbit.dto.file.UploadSessionDto;
+import com.orbit.entity.file.UploadChunk;
+import com.orbit.entity.file.UploadSession;
+import com.orbit.entity.supplier.SupplierRegistration;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.repository.file.UploadChunkRepository;
+import com.orbit.repository.file.UploadSessionRepository;
+import com.orbit.service.bidding.BiddingService;
+import com.orbit.service.procurement.ProjectService;
+import com.orbit.service.procurement.PurchaseRequestService;
+import com.orbit.service.supplier.SupplierRegistrationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 업로드 (이어받기 가능한 대용량 첨부파일 업로드)
+ * - 시작(initiate) → 청크 전송(PUT, 순서 무관/동시 전송 가능) → 완료(complete) 순서로 진행한다.
+ * - 시작 시 저장소와 같은 파일시스템에 최종 크기의 파일을 만들어 두고, 청크는 받는 즉시 제 위치에 한 번만 쓴다.
+ *   완료 시에는 복사 없이 공유 첨부파일 저장소로 이동(rename)만 한다.
+ * - 청크마다 X-Chunk-Sha256 으로 체크섬을 검증하고, 검증된 청크만 UploadChunk 에 기록한다.
+ * - 진행 중 세션 정보는 메모리에 두고 청크 요청마다 DB 를 조회하지 않는다. (본문을 받는 동안 커넥션을 잡지 않기 위함)
+ * - 일정 시간 청크가 들어오지 않은 세션은 cleanupExpiredSessions 가 임시 파일과 함께 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final ChunkedUploadProperties properties;
+    private final PurchaseRequestService purchaseRequestService;
+    private final ProjectService projectService;
+    private final BiddingService biddingService;
+    private final SupplierRegistrationService supplierRegistrationService;
+
+    // 진행 중인 세션 (uploadId → 세션 정보 + 수신한 청크의 체크섬)
+    private final Map<String, ActiveUpload> activeUploads = new ConcurrentHashMap<>();
+
+    private record ActiveUpload(UploadSession session, Path tempFile, Map<Integer, String> receivedChunks) {
+    }
+
+    /**
+     * 업로드 시작
+     * - 청크 크기는 서버가 정하고, 응답의 chunkSize/chunkCount 대로 청크를 나눠 보내면 된다.
+     */
+    public UploadSessionDto initiate(UploadInitiateRequestDto request, String username) throws IOException {
+        String fileName = StringUtils.cleanPath(request.getFileName());
+        if (fileName.isBlank() || fileName.contains("..")) {
+            throw new IllegalArgumentException("올바르지 않은 파일명입니다: " + request.getFileName());
+        }
+        if (request.getFileSize() <= 0 || request.getFileSize() > properties.getMaxFileSize()) {
+            throw new IllegalArgumentException("파일 크기는 1 ~ " + properties.getMaxFileSize() + " bytes 사이여야 합니다.");
+        }
+        if (request.getSha256() != null && !SHA256_HEX.matcher(request.getSha256()).matches()) {
+            throw new IllegalArgumentException("sha256 은 64자리 16진수여야 합니다.");
+        }
+
+        int chunkSize = properties.getChunkSize();
+        int chunkCount = (int) ((request.getFileSize() + chunkSize - 1) / chunkSize);
+        String uploadId = UUID.randomUUID().toString();
+
+        // 최종 크기로 미리 만들어 두고 청크를 제 위치에 쓴다 (대부분의 파일시스템에서 sparse 파일로 생성됨)
+        Path tempFile = attachmentBlobStore.tempFile(uploadId);
+        try (RandomAccessFile file = new RandomAccessFile(tempFile.toFile(), "rw")) {
+            file.setLength(request.getFileSize());
+        }
+
+        UploadSession session = UploadSession.builder()
+                .id(uploadId)
+                .ownerUsername(username)
+                .originalFilename(fileName)
+                .contentType(request.getContentType())
+                .totalSize(request.getFileSize())
+                .chunkSize(chunkSize)
+                .chunkCount(chunkCount)
+                .sha256(request.getSha256() != null ? request.getSha256().toLowerCase() : null)
+                .status(UploadSession.Status.UPLOADING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        uploadSessionRepository.save(session);
+        activeUploads.put(uploadId, new ActiveUpload(session, tempFile, new ConcurrentHashMap<>()));
+
+        log.info("청크 업로드 시작 - uploadId: {}, 파일: {}, 크기: {}, 청크: {} x {}",
+                uploadId, fileName, request.getFileSize(), chunkCount, chunkSize);
+        return UploadSessionDto.of(session, List.of());
+    }
+
+    /**
+     * 업로드 상태 조회 (이어서 보낼 청크 확인용)
+     */
+    public UploadSessionDto getStatus(String uploadId, String username) {
+        ActiveUpload upload = findActive(uploadId);
+        if (upload != null) {
+            checkOwner(upload.session(), username);
+            return UploadSessionDto.of(upload.session(), receivedIndexes(upload));
+        }
+        UploadSession session = findSession(uploadId);
+        checkOwner(session, username);
+        return UploadSessionDto.of(session, List.of());
+    }
+
+    /**
+     * 청크 수신
+     * - 같은 청크를 다시 보내면(재시도) 체크섬이 같을 때 그대로 성공 처리한다.
+     * - 체크섬이 맞지 않으면 기록하지 않으므로 같은 청크를 다시 보내면 된다.
+     */
+    public void receiveChunk(String uploadId, int index, InputStream body, long contentLength,
+                             String checksum, String username) throws IOException {
+        ActiveUpload upload = findActive(uploadId);
+        if (upload == null) {
+            throw new IllegalStateException("진행 중인 업로드가 아닙니다: " + uploadId);
+        }
+        UploadSession session = upload.session();
+        checkOwner(session, username);
+
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new IllegalArgumentException("청크 번호가 범위를 벗어났습니다: " + index);
+        }
+        if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+            throw new IllegalArgumentException("X-Chunk-Sha256 헤더(64자리 16진수)가 필요합니다.");
+        }
+        long expectedLength = session.expectedChunkLength(index);
+        if (contentLength >= 0 && contentLength != expectedLength) {
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength + ", 요청: " + contentLength);
+        }
+
+        String received = upload.receivedChunks().get(index);
+        if (received != null) {
+            if (received.equalsIgnoreCase(checksum)) {
+                return;
+            }
+            throw new IllegalStateException("이미 다른 내용으로 수신된 청크입니다: " + index);
+        }
+
+        // 청크 위치에 바로 쓰면서 체크섬 계산
+        MessageDigest digest = AttachmentBlobStore.newDigest();
+        long position = (long) index * session.getChunkSize();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(upload.tempFile(), StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength);
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                long offset = position + written;
+                while (bytes.hasRemaining()) {
+                    offset += channel.write(bytes, offset);
+                }
+                written += read;
+            }
+        }
+        if (written != expectedLength) {
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength + ", 수신: " + written);
+        }
+
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equalsIgnoreCase(checksum)) {
+            throw new IllegalArgumentException("청크 체크섬이 일치하지 않습니다: " + index);
+        }
+
+        try {
+            uploadChunkRepository.save(UploadChunk.builder()
+                    .uploadId(uploadId)
+                    .chunkIndex(index)
+                    .size(written)
+                    .sha256(actual)
+                    .receivedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 동시에 들어온 경우 (내용은 체크섬으로 이미 검증됨)
+            log.debug("이미 기록된 청크 - uploadId: {}, index: {}", uploadId, index);
+        }
+        upload.receivedChunks().put(index, actual);
+    }
+
+    /**
+     * 업로드 완료
+     * - 모든 청크가 들어왔는지 확인하고 전체 파일 해시를 계산해 공유 저장소로 옮긴다.
+     * - 첨부 대상이 있으면 해당 모듈의 첨부파일로 등록한다.
+     * - 재시도해도 안전하다. (이미 완료된 세션은 저장 단계를 건너뛰고, 같은 대상에는 한 번만 첨부한다)
+     */
+    public UploadSessionDto complete(String uploadId, UploadCompleteRequestDto request,
+                                     Authentication authentication) throws IOException {
+        String username = authentication.getName();
+        ActiveUpload upload = findActive(uploadId);
+        UploadSession session;
+
+        if (upload != null) {
+            session = upload.session();
+            checkOwner(session, username);
+
+            long receivedCount = upload.receivedChunks().size();
+            if (receivedCount < session.getChunkCount()) {
+                // 다른 인스턴스가 받은 청크가 있을 수 있으므로 DB 기준으로 다시 확인
+                receivedCount = uploadChunkRepository.countByUploadId(uploadId);
+            }
+            if (receivedCount < session.getChunkCount()) {
+                throw new IllegalStateException("아직 받지 못한 청크가 있습니다: " + receivedCount + "/" + session.getChunkCount());
+            }
+
+            String sha256 = sha256(upload.tempFile());
+            if (session.getSha256() != null && !session.getSha256().equalsIgnoreCase(sha256)) {
+                throw new IllegalArgumentException("파일 체크섬이 일치하지 않습니다.");
+            }
+            String storedPath = attachmentBlobStore.storeVerified(upload.tempFile(), sha256, session.getOriginalFilename());
+
+            session.setSha256(sha256);
+            session.setStoredPath(storedPath);
+            session.setStatus(UploadSession.Status.COMPLETED);
+            session.setCompletedAt(LocalDateTime.now());
+            session = uploadSessionRepository.save(session);
+            uploadChunkRepository.deleteByUploadId(uploadId);
+            activeUploads.remove(uploadId);
+
+            log.info("청크 업로드 완료 - uploadId: {}, 저장 경로: {}", uploadId, storedPath);
+        } else {
+            session = findSession(uploadId);
+            checkOwner(session, username);
+        }
+
+        if (request != null && request.getTargetType() != null) {
+            session = attach(session, request, authentication);
+        }
+        return UploadSessionDto.of(session, List.of());
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void abort(String uploadId, String username) throws IOException {
+        UploadSession session = findSession(uploadId);
+        checkOwner(session, username);
+        if (session.getStatus() != UploadSession.Status.UPLOADING) {
+            throw new IllegalStateException("이미 완료된 업로드입니다: " + uploadId);
+        }
+        discard(session);
+    }
+
+    /**
+     * 중단된 세션 / 보관 기간이 지난 완료 세션 정리
+     */
+    @Scheduled(cron = "${upload.chunked.cleanup-cron:0 0/30 * * * *}")
+    public void cleanupExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getExpireHours());
+
+        int abandoned = 0;
+        for (UploadSession session : uploadSessionRepository.findAbandoned(cutoff)) {
+            try {
+                discard(session);
+                abandoned++;
+            } catch (IOException e) {
+                log.warn("중단된 업로드 정리 실패 - uploadId: {}, {}", session.getId(), e.getMessage());
+            }
+        }
+
+        List<UploadSession> completed = uploadSessionRepository.findCompletedBefore(cutoff);
+        uploadSessionRepository.deleteAll(completed);
+
+        if (abandoned > 0 || !completed.isEmpty()) {
+            log.info("청크 업로드 세션 정리 - 중단된 세션: {}건, 완료 세션: {}건", abandoned, completed.size());
+        }
+    }
+
+    private UploadSession attach(UploadSession session, UploadCompleteRequestDto request, Authentication authentication) {
+        UploadTarget target = UploadTarget.from(request.getTargetType());
+        if (request.getTargetId() == null) {
+            throw new IllegalArgumentException("targetId 는 필수입니다.");
+        }
+        if (session.getAttachedAt() != null) {
+            if (target.name().equals(session.getTargetType()) && request.getTargetId().equals(session.getTargetId())) {
+                return session;
+            }
+            throw new IllegalStateException("이미 다른 대상에 첨부된 업로드입니다: " + session.getId());
+        }
+        if (!target.isAllowed(authentication)) {
+            throw new SecurityException("첨부 권한이 없습니다: " + target);
+        }
+
+        UploadedFile file = new UploadedFile(session.getOriginalFilename(), session.getStoredPath(),
+                session.getContentType(), session.getTotalSize());
+        Long targetId = request.getTargetId();
+        switch (target) {
+            case PURCHASE_REQUEST -> purchaseRequestService.addUploadedAttachment(targetId, file);
+            case PROJECT -> projectService.addUploadedAttachment(targetId, file, authentication.getName());
+            case BIDDING -> biddingService.addUploadedAttachment(targetId, file);
+            case SUPPLIER_REGISTRATION -> {
+                SupplierRegistration registration = supplierRegistrationService.getSupplierById(targetId);
+                boolean isAdmin = authentication.getAuthorities().stream()
+                        .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+                // 관리자가 아니면서 자신의 등록 정보가 아니면 첨부 불가
+                if (!isAdmin && !registration.getSupplier().getUsername().equals(authentication.getName())) {
+                    throw new SecurityException("첨부 권한이 없습니다: " + target);
+                }
+                supplierRegistrationService.addUploadedAttachment(targetId, file);
+            }
+        }
+
+        session.setTargetType(target.name());
+        session.setTargetId(targetId);
+        session.setAttachedAt(LocalDateTime.now());
+        return uploadSessionRepository.save(session);
+    }
+
+    private void discard(UploadSession session) throws IOException {
+        activeUploads.remove(session.getId());
+        Files.deleteIfExists(attachmentBlobStore.tempFile(session.getId()));
+        uploadChunkRepository.deleteByUploadId(session.getId());
+        uploadSessionRepository.delete(session);
+    }
+
+    /**
+     * 메모리에 없으면(재기동 등) DB 에서 세션과 수신한 청크를 다시 읽어 온다.
+     */
+    private ActiveUpload findActive(String uploadId) {
+        ActiveUpload upload = activeUploads.get(uploadId);
+        if (upload != null) {
+            return upload;
+        }
+        UploadSession session = uploadSessionRepository.findById(uploadId).orElse(null);
+        if (session == null || session.getStatus() != UploadSession.Status.UPLOADING) {
+            return null;
+        }
+        try {
+            Path tempFile = attachmentBlobStore.tempFile(uploadId);
+            if (!Files.exists(tempFile)) {
+                return null;
+            }
+            Map<Integer, String> receivedChunks = new ConcurrentHashMap<>();
+            for (UploadChunk chunk : uploadChunkRepository.findByUploadIdOrderByChunkIndex(uploadId)) {
+                receivedChunks.put(chunk.getChunkIndex(), chunk.getSha256());
+            }
+            return activeUploads.computeIfAbsent(uploadId, id -> new ActiveUpload(session, tempFile, receivedChunks));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 임시 파일을 확인할 수 없습니다: " + uploadId, e);
+        }
+    }
+
+    private UploadSession findSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("업로드를 찾을 수 없습니다: " + uploadId));
+    }
+
+    private void checkOwner(UploadSession session, String username) {
+        if (!session.getOwnerUsername().equals(username)) {
+            throw new SecurityException("업로드에 접근할 권한이 없습니다: " + session.getId());
+        }
+    }
+
+    private List<Integer> receivedIndexes(ActiveUpload upload) {
+        List<Integer> indexes = new ArrayList<>(upload.receivedChunks().keySet());
+        indexes.sort(null);
+        return indexes;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = AttachmentBlobStore.newDigest();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
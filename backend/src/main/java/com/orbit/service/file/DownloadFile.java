@@ -0,0 +1,10 @@
+package com.orbit.service.file;
+
+import java.nio.file.Path;
+
+/**
+ * 다운로드할 파일과 사용자에게 보여줄 파일명
+ * - 공유 저장소 파일은 이름이 해시이므로 원본 파일명을 함께 전달한다.
+ */
+public record DownloadFile(Path path, String filename) {
+}
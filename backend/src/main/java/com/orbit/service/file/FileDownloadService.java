@@ -0,0 +1,245 @@
+package com.orbit.service.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import com.orbit.exception.ResourceNotFoundException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첨부파일 다운로드 공통 서비스
+ * - 구매요청/프로젝트/협력업체 등록/입찰 공고 첨부파일 다운로드에서 함께 사용한다.
+ * - 파일 본문은 힙 버퍼를 거치지 않도록 Tomcat sendfile(가능한 경우) 또는 FileChannel.transferTo 로 전송한다.
+ * - Range / If-Range 로 이어받기(부분 다운로드)를 지원한다. (단일 구간만 지원, 다중 구간은 전체 전송)
+ * - 강한 ETag 와 Last-Modified 를 내려주고, If-None-Match / If-Modified-Since 가 일치하면 304 로 응답한다.
+ */
+@Slf4j
+@Service
+public class FileDownloadService {
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 useSendfile=true 일 때 지원)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = "private, max-age=0, must-revalidate";
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("([0-9a-f]{64})(\\.[A-Za-z0-9]+)?");
+
+    /**
+     * 서비스 계층에서 조회한 첨부파일을 다운로드 응답으로 전송
+     */
+    public void serve(DownloadFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(file.path(), file.filename(), request, response);
+    }
+
+    /**
+     * 파일을 다운로드 응답으로 전송
+     *
+     * @param file         전송할 파일
+     * @param downloadName Content-Disposition 에 사용할 파일명 (null 이면 실제 파일명)
+     */
+    public void serve(Path file, String downloadName,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new ResourceNotFoundException("파일을 다운로드할 수 없습니다: " + file.getFileName());
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = strongEtag(file, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        // 1. 조건부 요청 (If-None-Match 가 있으면 If-Modified-Since 는 무시)
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        // 2. Range 요청 해석
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && length > 0 && isRangeApplicable(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long contentLength = length == 0 ? 0 : end - start + 1;
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                contentDisposition(downloadName != null ? downloadName : file.getFileName().toString()));
+        response.setContentLengthLong(contentLength);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // 3. 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        transfer(file, start, contentLength, response);
+    }
+
+    /**
+     * FileChannel.transferTo 로 응답 스트림에 복사 (sendfile 을 쓸 수 없는 컨테이너용)
+     */
+    private void transfer(Path file, long position, long count, HttpServletResponse response) throws IOException {
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long sent = 0;
+            while (sent < count) {
+                long transferred = channel.transferTo(position + sent, count - sent, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                sent += transferred;
+            }
+        }
+        out.flush();
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesEtag(ifNoneMatch, etag, true);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range 가 있으면 현재 ETag(강한 비교) 또는 Last-Modified 와 일치할 때만 Range 를 적용한다.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return matchesEtag(ifRange, etag, false);
+        }
+        long ifRangeDate = dateHeader(request, HttpHeaders.IF_RANGE);
+        return ifRangeDate >= 0 && lastModified / 1000 == ifRangeDate / 1000;
+    }
+
+    private boolean matchesEtag(String header, String etag, boolean weakComparison) {
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> {
+                    if ("*".equals(candidate)) {
+                        return true;
+                    }
+                    if (candidate.startsWith("W/")) {
+                        return weakComparison && candidate.substring(2).equals(etag);
+                    }
+                    return candidate.equals(etag);
+                });
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" 형식의 단일 구간 해석
+     *
+     * @return {start, end} / 전체 전송이면 빈 배열 / 만족할 수 없는 구간이면 null
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            return new long[0]; // 다중 구간은 지원하지 않고 전체 전송
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 강한 ETag
+     * - 공유 저장소 파일은 이름이 내용의 SHA-256 이므로 해시를 그대로 사용한다.
+     * - 그 외 파일은 크기 + 수정 시각(ms). 업로드 파일은 저장 후 내용이 바뀌지 않으므로 바이트 단위 동일성을 보장한다.
+     */
+    private String strongEtag(Path file, long length, long lastModified) {
+        Matcher matcher = CONTENT_HASH_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            return "\"" + matcher.group(1) + "\"";
+        }
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    static String contentDisposition(String filename) {
+        String encodedFilename = UriUtils.encode(filename, StandardCharsets.UTF_8);
+        return "attachment; filename=\"" + encodedFilename + "\"; filename*=UTF-8''" + encodedFilename;
+    }
+}
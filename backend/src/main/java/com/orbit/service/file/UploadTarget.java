@@ -0,0 +1,37 @@
+package com.orbit.service.file;
+
+import java.util.Set;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 청크 업로드 파일을 첨부할 수 있는 대상과 대상별 허용 역할 (SecurityConfig 의 경로별 권한과 동일)
+ */
+public enum UploadTarget {
+
+    PURCHASE_REQUEST("ROLE_BUYER", "ROLE_ADMIN"),
+    PROJECT("ROLE_BUYER", "ROLE_ADMIN"),
+    BIDDING("ROLE_BUYER", "ROLE_ADMIN"),
+    SUPPLIER_REGISTRATION("ROLE_SUPPLIER", "ROLE_ADMIN");
+
+    private final Set<String> allowedRoles;
+
+    UploadTarget(String... allowedRoles) {
+        this.allowedRoles = Set.of(allowedRoles);
+    }
+
+    public boolean isAllowed(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(allowedRoles::contains);
+    }
+
+    public static UploadTarget from(String value) {
+        try {
+            return UploadTarget.valueOf(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 첨부 대상입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.orbit.service.file;
+
+/**
+ * 공유 첨부파일 저장소에 이미 저장된 파일 (청크 업로드 완료 후 각 모듈의 첨부파일로 등록할 때 사용)
+ *
+ * @param storedPath uploadPath 기준 상대 경로 (blobs/...)
+ */
+public record UploadedFile(String originalFilename, String storedPath, String contentType, long size) {
+}
@@ -0,0 +1,261 @@
+package com.orbit.service.invoice;
+
+import com.orbit.entity.Notification;
+import com.orbit.entity.invoice.InvoiceAgingBucket;
+import com.orbit.repository.invoice.InvoiceAgingBucketRepository;
+import com.orbit.service.NotificationService;
+import com.orbit.service.websocket.WebSocketOutboundPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 송장 연체 전환 / 경과 일수 구간 집계 (매일 실행)
+ * - 지급 기한이 지난 대기 송장을 (상태, 지급 기한) 인덱스 순서로 chunk-size 건씩 잠가 읽고, 한 번의 UPDATE 로 연체 전환한다.
+ *   잠금 읽기라서 여러 노드가 동시에 실행해도 한 송장은 한 번만 전환된다.
+ * - 전환된 송장은 승인 담당자별로 모아 담당자당 알림 1건을 보낸다. 중간 chunk 가 실패해도 이미 커밋된 chunk 의 송장은 알린다.
+ *   (프로세스가 도중에 종료된 경우에만 그때까지 전환된 송장의 알림이 빠진다)
+ * - 미지급 송장을 발행일 기준 경과 일수 구간(0~30/31~60/61~90/90+)으로 한 번에 집계해 invoice_aging_buckets 에 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class InvoiceAgingService {
+
+    private static final String SELECT_OVERDUE_SQL = "SELECT id, invoice_number, approver_id, total_amount FROM invoices "
+            + "WHERE status_parent_code = 'INVOICE' AND status_child_code = 'WAITING' AND due_date < ? "
+            + "ORDER BY due_date, id LIMIT ? FOR UPDATE";
+
+    private static final String UPDATE_OVERDUE_SQL = "UPDATE invoices SET status_child_code = 'OVERDUE', updated_at = ? "
+            + "WHERE status_child_code = 'WAITING' AND id IN (%s)";
+
+    private static final String AGING_SQL = "SELECT %s AS bucket, COUNT(*) AS invoice_count, "
+            + "COALESCE(SUM(total_amount), 0) AS total_amount, "
+            + "SUM(CASE WHEN status_child_code = 'OVERDUE' THEN 1 ELSE 0 END) AS overdue_count, "
+            + "COALESCE(SUM(CASE WHEN status_child_code = 'OVERDUE' THEN total_amount ELSE 0 END), 0) AS overdue_amount "
+            + "FROM invoices WHERE status_parent_code = 'INVOICE' AND status_child_code IN ('WAITING', 'OVERDUE') "
+            + "GROUP BY bucket";
+
+    // 알림 본문에 나열할 송장 번호 수
+    private static final int LISTED_INVOICES = 10;
+
+    /**
+     * 승인 담당자 1명에게 보낼 연체 전환 내역
+     */
+    static class ApproverDigest {
+        private final List<String> invoiceNumbers = new ArrayList<>();
+        private Long firstInvoiceId;
+        private int count;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        void add(Long invoiceId, String invoiceNumber, BigDecimal totalAmount) {
+            if (firstInvoiceId == null) {
+                firstInvoiceId = invoiceId;
+            }
+            if (invoiceNumbers.size() < LISTED_INVOICES) {
+                invoiceNumbers.add(invoiceNumber);
+            }
+            count++;
+            if (totalAmount != null) {
+                amount = amount.add(totalAmount);
+            }
+        }
+
+        void merge(ApproverDigest other) {
+            if (firstInvoiceId == null) {
+                firstInvoiceId = other.firstInvoiceId;
+            }
+            for (String invoiceNumber : other.invoiceNumbers) {
+                if (invoiceNumbers.size() < LISTED_INVOICES) {
+                    invoiceNumbers.add(invoiceNumber);
+                }
+            }
+            count += other.count;
+            amount = amount.add(other.amount);
+        }
+
+        String title() {
+            return "지급 기한 초과 송장 " + count + "건";
+        }
+
+        String content() {
+            String listed = String.join(", ", invoiceNumbers);
+            return String.format("지급 기한이 지나 연체로 전환된 송장 %d건 (합계 %s원): %s%s", count,
+                    amount.toPlainString(), listed, count > invoiceNumbers.size() ? " 외 " + (count - invoiceNumbers.size()) + "건" : "");
+        }
+    }
+
+    private record Chunk(int updated, Map<Long, ApproverDigest> digests) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvoiceAgingBucketRepository agingBucketRepository;
+    private final NotificationService notificationService;
+    private final WebSocketOutboundPublisher publisher;
+    private final int chunkSize;
+    private final String agingSql;
+
+    public InvoiceAgingService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               InvoiceAgingBucketRepository agingBucketRepository,
+                               NotificationService notificationService,
+                               WebSocketOutboundPublisher publisher,
+                               @Value("${invoice.aging.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.agingBucketRepository = agingBucketRepository;
+        this.notificationService = notificationService;
+        this.publisher = publisher;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.agingSql = String.format(AGING_SQL, bucketExpression());
+    }
+
+    /**
+     * 연체 전환 후 구간 집계 (기본 매일 00:10)
+     */
+    @Scheduled(cron = "${invoice.aging.cron:0 10 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        try {
+            markOverdue(today);
+        } catch (Exception e) {
+            log.error("송장 연체 전환 실패", e);
+        }
+        try {
+            refreshBuckets(today);
+        } catch (Exception e) {
+            log.error("송장 경과 일수 집계 실패", e);
+        }
+    }
+
+    /**
+     * 지급 기한(due_date)이 today 이전인 대기 송장을 연체로 전환
+     * @return 전환한 송장 수
+     */
+    public int markOverdue(LocalDate today) {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, ApproverDigest> digests = new LinkedHashMap<>();
+        int total = 0;
+        int chunks = 0;
+        try {
+            while (true) {
+                Chunk chunk = transactionTemplate.execute(status -> markOverdueChunk(today));
+                chunks++;
+                total += chunk.updated();
+                // 커밋된 chunk 만 알림에 합친다.
+                chunk.digests().forEach((approverId, digest) ->
+                        digests.computeIfAbsent(approverId, key -> new ApproverDigest()).merge(digest));
+                if (chunk.updated() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            // 중간 chunk 가 실패해도 이미 커밋된 전환은 알린다. (다음 실행에서는 이미 연체라 다시 잡히지 않음)
+            if (total > 0) {
+                notifyApprovers(digests);
+            }
+        }
+        log.info("송장 연체 전환: {}건 ({}회 UPDATE, 담당자 {}명), {}ms",
+                total, chunks, digests.size(), System.currentTimeMillis() - startedAt);
+        return total;
+    }
+
+    /**
+     * 구간별 집계를 다시 계산해 덮어씀
+     */
+    public List<InvoiceAgingBucket> refreshBuckets(LocalDate asOfDate) {
+        Map<InvoiceAgingBucket.Bucket, InvoiceAgingBucket> buckets = new EnumMap<>(InvoiceAgingBucket.Bucket.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (InvoiceAgingBucket.Bucket bucket : InvoiceAgingBucket.Bucket.values()) {
+            InvoiceAgingBucket row = new InvoiceAgingBucket(bucket);
+            row.setAsOfDate(asOfDate);
+            row.setCalculatedAt(now);
+            buckets.put(bucket, row);
+        }
+
+        Object[] args = Collections.nCopies(InvoiceAgingBucket.Bucket.values().length - 1, Date.valueOf(asOfDate)).toArray();
+        jdbcTemplate.query(agingSql, rs -> {
+            InvoiceAgingBucket row = buckets.get(InvoiceAgingBucket.Bucket.valueOf(rs.getString("bucket")));
+            row.setInvoiceCount(rs.getLong("invoice_count"));
+            row.setTotalAmount(rs.getBigDecimal("total_amount"));
+            row.setOverdueCount(rs.getLong("overdue_count"));
+            row.setOverdueAmount(rs.getBigDecimal("overdue_amount"));
+        }, args);
+
+        List<InvoiceAgingBucket> rows = transactionTemplate.execute(status ->
+                agingBucketRepository.saveAll(buckets.values()));
+        log.info("송장 경과 일수 집계 ({}): {}", asOfDate, rows.stream()
+                .map(row -> row.getBucket().getLabel() + " " + row.getInvoiceCount() + "건")
+                .toList());
+        return rows;
+    }
+
+    public List<InvoiceAgingBucket> getBuckets() {
+        return agingBucketRepository.findAll();
+    }
+
+    private Chunk markOverdueChunk(LocalDate today) {
+        List<Long> ids = new ArrayList<>(chunkSize);
+        Map<Long, ApproverDigest> digests = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_OVERDUE_SQL, rs -> {
+            long id = rs.getLong("id");
+            ids.add(id);
+            long approverId = rs.getLong("approver_id");
+            if (!rs.wasNull()) {
+                digests.computeIfAbsent(approverId, key -> new ApproverDigest())
+                        .add(id, rs.getString("invoice_number"), rs.getBigDecimal("total_amount"));
+            }
+        }, Date.valueOf(today), chunkSize);
+        if (ids.isEmpty()) {
+            return new Chunk(0, digests);
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(ids);
+        jdbcTemplate.update(String.format(UPDATE_OVERDUE_SQL, placeholders), args.toArray());
+        return new Chunk(ids.size(), digests);
+    }
+
+    private void notifyApprovers(Map<Long, ApproverDigest> digests) {
+        digests.forEach((approverId, digest) -> {
+            try {
+                Notification notification = notificationService.createNotification(approverId, digest.title(),
+                        digest.content(), Notification.NotificationType.기타, digest.firstInvoiceId);
+                publisher.sendToUser(notification.getUser().getUsername(), "/queue/notifications", digest.content());
+            } catch (Exception e) {
+                log.error("송장 연체 알림 실패 - 담당자 ID: {}, {}", approverId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 발행일 경과 일수 -> 구간 이름 CASE 식 (구간 경계는 InvoiceAgingBucket.Bucket 에서)
+     */
+    private static String bucketExpression() {
+        StringBuilder sql = new StringBuilder("CASE");
+        InvoiceAgingBucket.Bucket[] buckets = InvoiceAgingBucket.Bucket.values();
+        for (int i = 0; i < buckets.length - 1; i++) {
+            sql.append(" WHEN DATEDIFF(?, issue_date) <= ").append(buckets[i].getMaxDays())
+                    .append(" THEN '").append(buckets[i].name()).append("'");
+        }
+        return sql.append(" ELSE '").append(buckets[buckets.length - 1].name()).append("' END").toString();
+    }
+}
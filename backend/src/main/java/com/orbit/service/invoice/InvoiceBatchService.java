@@ -0,0 +1,374 @@
+package com.orbit.service.invoice;
+
+import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.invoice.InvoiceBatchRun;
+import com.orbit.entity.member.Member;
+import com.orbit.event.publisher.ProcessEventPublisher;
+import com.orbit.repository.invoice.InvoiceBatchRunRepository;
+import com.orbit.repository.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 입고 기반 송장 일괄 발행
+ * - 송장 미발행 입고를 id 순으로 chunk-size 건씩 잠가 읽고, 발주/계약/공급자는 chunk 당 IN 조회 한 번씩으로 읽는다.
+ * - 송장은 JDBC batch INSERT, 입고 발행 여부는 chunk 당 UPDATE 한 번으로 바꾼다.
+ * - chunk 하나가 한 트랜잭션(송장 INSERT + 입고 UPDATE + 실행 위치 갱신)이라, 중단되면 다음 실행이
+ *   마지막으로 커밋된 chunk 다음 입고부터 이어서 처리한다.
+ * - 이미 송장이 있는 입고는 송장을 새로 만들지 않고 발행 여부만 맞춘다.
+ */
+@Slf4j
+@Service
+public class InvoiceBatchService {
+
+    private static final String SELECT_DELIVERIES_SQL = "SELECT id, bidding_order_id, supplier_id, purchase_request_id, "
+            + "total_amount, item_name, item_specification, item_quantity, item_unit_price, item_unit FROM deliveries "
+            + "WHERE invoice_issued = false AND id > ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String SELECT_ORDERS_SQL = "SELECT id, bidding_id FROM bidding_orders WHERE id IN (%s)";
+
+    private static final String SELECT_CONTRACTS_SQL = "SELECT bidding_id, transaction_number FROM bidding_contracts "
+            + "WHERE bidding_id IN (%s) ORDER BY id";
+
+    private static final String SELECT_SUPPLIERS_SQL = "SELECT id FROM members WHERE id IN (%s)";
+
+    private static final String SELECT_INVOICED_SQL = "SELECT DISTINCT delivery_id FROM invoices WHERE delivery_id IN (%s)";
+
+    private static final String INSERT_INVOICE_SQL = "INSERT INTO invoices (invoice_number, approver_id, contract_number, "
+            + "delivery_id, purchase_request_id, supplier_id, supply_price, vat, total_amount, issue_date, due_date, "
+            + "item_name, item_specification, quantity, unit_price, unit, status_parent_code, status_child_code, "
+            + "created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'INVOICE', 'WAITING', ?, ?)";
+
+    private static final String SELECT_CREATED_SQL = "SELECT id, delivery_id, purchase_request_id FROM invoices "
+            + "WHERE invoice_number IN (%s)";
+
+    private static final String UPDATE_DELIVERIES_SQL = "UPDATE deliveries SET invoice_issued = true, update_time = ? "
+            + "WHERE id IN (%s)";
+
+    private static final String UPDATE_RUN_SQL = "UPDATE invoice_batch_runs "
+            + "SET last_delivery_id = GREATEST(last_delivery_id, ?), chunk_count = chunk_count + 1, created_count = created_count + ?, skipped_count = skipped_count + ?, "
+            + "updated_at = ? WHERE id = ?";
+
+    // 기본 지급 기한 (Invoice.setFromDelivery 와 같음)
+    private static final int PAYMENT_TERM_DAYS = 30;
+
+    // 재무회계팀 담당자 (InvoiceController 단건 발행과 같은 기준)
+    private static final String FINANCE_USERNAME_PREFIX = "004";
+
+    private static final DateTimeFormatter NUMBER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private record DeliveryRow(long id, Long biddingOrderId, Long supplierId, Long purchaseRequestId,
+                               BigDecimal totalAmount, String itemName, String itemSpecification,
+                               Integer quantity, BigDecimal unitPrice, String unit) {
+    }
+
+    private record InvoiceRow(String invoiceNumber, Long approverId, String contractNumber, DeliveryRow delivery,
+                              BigDecimal supplyPrice, BigDecimal vat) {
+    }
+
+    private record Chunk(int selected, long lastDeliveryId, int created, int skipped) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvoiceBatchRunRepository runRepository;
+    private final MemberRepository memberRepository;
+    private final ProcessEventPublisher processEventPublisher;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InvoiceBatchService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               InvoiceBatchRunRepository runRepository,
+                               MemberRepository memberRepository,
+                               ProcessEventPublisher processEventPublisher,
+                               @Value("${invoice.batch.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runRepository = runRepository;
+        this.memberRepository = memberRepository;
+        this.processEventPublisher = processEventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 정기 실행 (기본 비활성, invoice.batch.cron 설정 시)
+     */
+    @Scheduled(cron = "${invoice.batch.cron:-}")
+    public void scheduledRun() {
+        try {
+            run("system");
+        } catch (IllegalStateException e) {
+            log.info("송장 일괄 발행 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("송장 일괄 발행 실패", e);
+        }
+    }
+
+    /**
+     * 송장 미발행 입고 전체 송장 발행 (완료되지 않은 이전 실행이 있으면 그 위치부터 이어서)
+     * @throws IllegalStateException 이 노드에서 이미 실행 중인 경우
+     */
+    public InvoiceBatchRun run(String requestedBy) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("송장 일괄 발행이 이미 실행 중입니다.");
+        }
+        try {
+            return execute(requestedBy);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<InvoiceBatchRun> getLatestRun() {
+        return runRepository.findTopByOrderByIdDesc();
+    }
+
+    private InvoiceBatchRun execute(String requestedBy) {
+        long startedAt = System.currentTimeMillis();
+        InvoiceBatchRun run = startOrResume(requestedBy);
+        Long runId = run.getId();
+        List<Long> approverIds = memberRepository.findByUsernameStartingWith(FINANCE_USERNAME_PREFIX).stream()
+                .map(Member::getId)
+                .toList();
+        if (approverIds.isEmpty()) {
+            log.warn("재무회계팀 담당자가 없어 담당자 없이 송장을 발행합니다.");
+        }
+
+        long cursor = run.getLastDeliveryId();
+        int created = 0;
+        int skipped = 0;
+        try {
+            while (true) {
+                long afterId = cursor;
+                Chunk chunk = transactionTemplate.execute(status -> processChunk(runId, afterId, approverIds));
+                if (chunk.selected() == 0) {
+                    break;
+                }
+                cursor = chunk.lastDeliveryId();
+                created += chunk.created();
+                skipped += chunk.skipped();
+                if (chunk.selected() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("송장 일괄 발행 실패 - 실행 {}, 입고 ID {} 이후부터 다시 실행 필요", runId, cursor, e);
+            finish(runId, InvoiceBatchRun.Status.FAILED, e.getMessage());
+            throw e;
+        }
+
+        InvoiceBatchRun finished = finish(runId, InvoiceBatchRun.Status.COMPLETED, null);
+        log.info("송장 일괄 발행 완료 - 실행 {}: 발행 {}건, 건너뜀 {}건, {}ms",
+                runId, created, skipped, System.currentTimeMillis() - startedAt);
+        return finished;
+    }
+
+    private InvoiceBatchRun startOrResume(String requestedBy) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            InvoiceBatchRun last = runRepository.findTopByOrderByIdDesc().orElse(null);
+            if (last != null && last.getStatus() != InvoiceBatchRun.Status.COMPLETED) {
+                log.info("완료되지 않은 송장 일괄 발행 이어서 실행 - 실행 {}, 입고 ID {} 이후부터",
+                        last.getId(), last.getLastDeliveryId());
+                last.setStatus(InvoiceBatchRun.Status.RUNNING);
+                last.setLastError(null);
+                last.setUpdatedAt(now);
+                return last;
+            }
+
+            InvoiceBatchRun run = new InvoiceBatchRun();
+            run.setStatus(InvoiceBatchRun.Status.RUNNING);
+            run.setRequestedBy(requestedBy);
+            run.setStartedAt(now);
+            run.setUpdatedAt(now);
+            return runRepository.save(run);
+        });
+    }
+
+    private InvoiceBatchRun finish(Long runId, InvoiceBatchRun.Status result, String error) {
+        return transactionTemplate.execute(status -> {
+            InvoiceBatchRun run = runRepository.findById(runId)
+                    .orElseThrow(() -> new IllegalStateException("송장 일괄 발행 이력을 찾을 수 없습니다. ID: " + runId));
+            LocalDateTime now = LocalDateTime.now();
+            run.setStatus(result);
+            run.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+            run.setUpdatedAt(now);
+            run.setFinishedAt(result == InvoiceBatchRun.Status.COMPLETED ? now : null);
+            return run;
+        });
+    }
+
+    private Chunk processChunk(Long runId, long afterId, List<Long> approverIds) {
+        List<DeliveryRow> deliveries = jdbcTemplate.query(SELECT_DELIVERIES_SQL, (rs, rowNum) -> new DeliveryRow(
+                rs.getLong("id"),
+                rs.getObject("bidding_order_id", Long.class),
+                rs.getObject("supplier_id", Long.class),
+                rs.getObject("purchase_request_id", Long.class),
+                rs.getBigDecimal("total_amount"),
+                rs.getString("item_name"),
+                rs.getString("item_specification"),
+                rs.getObject("item_quantity", Integer.class),
+                rs.getBigDecimal("item_unit_price"),
+                rs.getString("item_unit")), afterId, chunkSize);
+        if (deliveries.isEmpty()) {
+            return new Chunk(0, afterId, 0, 0);
+        }
+        long lastDeliveryId = deliveries.get(deliveries.size() - 1).id();
+
+        // 발주 -> 입찰 공고 -> 계약 번호 (입찰 공고의 첫 계약)
+        Map<Long, Long> biddingIdByOrder = new HashMap<>();
+        queryIn(SELECT_ORDERS_SQL, collect(deliveries, DeliveryRow::biddingOrderId),
+                rs -> biddingIdByOrder.put(rs.getLong("id"), rs.getLong("bidding_id")));
+        Map<Long, String> contractNumbers = new HashMap<>();
+        queryIn(SELECT_CONTRACTS_SQL, new HashSet<>(biddingIdByOrder.values()),
+                rs -> contractNumbers.putIfAbsent(rs.getLong("bidding_id"), rs.getString("transaction_number")));
+
+        Set<Long> suppliers = new HashSet<>();
+        queryIn(SELECT_SUPPLIERS_SQL, collect(deliveries, DeliveryRow::supplierId),
+                rs -> suppliers.add(rs.getLong("id")));
+        Set<Long> invoiced = new HashSet<>();
+        queryIn(SELECT_INVOICED_SQL, collect(deliveries, DeliveryRow::id),
+                rs -> invoiced.add(rs.getLong("delivery_id")));
+
+        String datePart = LocalDate.now().format(NUMBER_DATE_FORMAT);
+        List<InvoiceRow> invoices = new ArrayList<>(deliveries.size());
+        List<Long> issuedIds = new ArrayList<>(deliveries.size());
+        List<Long> skippedIds = new ArrayList<>();
+        for (DeliveryRow delivery : deliveries) {
+            if (invoiced.contains(delivery.id())) {
+                issuedIds.add(delivery.id());
+                continue;
+            }
+            if (delivery.totalAmount() == null || !suppliers.contains(delivery.supplierId())) {
+                skippedIds.add(delivery.id());
+                continue;
+            }
+
+            Long biddingId = delivery.biddingOrderId() != null ? biddingIdByOrder.get(delivery.biddingOrderId()) : null;
+            BigDecimal supplyPrice = Invoice.supplyPriceOf(delivery.totalAmount());
+            // 단건 발행 번호(INV-날짜-4자리 난수)와 겹치지 않도록 입고 ID 6자리 이상
+            invoices.add(new InvoiceRow(
+                    String.format("INV-%s-%06d", datePart, delivery.id()),
+                    approverIds.isEmpty() ? null : approverIds.get(ThreadLocalRandom.current().nextInt(approverIds.size())),
+                    biddingId != null ? contractNumbers.get(biddingId) : null,
+                    delivery,
+                    supplyPrice,
+                    delivery.totalAmount().subtract(supplyPrice)));
+            issuedIds.add(delivery.id());
+        }
+        if (!skippedIds.isEmpty()) {
+            log.warn("공급자 또는 총액이 없어 송장을 발행하지 않은 입고: {}", skippedIds);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertInvoices(invoices, now);
+        if (!issuedIds.isEmpty()) {
+            List<Object> args = new ArrayList<>(issuedIds.size() + 1);
+            args.add(now);
+            args.addAll(issuedIds);
+            jdbcTemplate.update(String.format(UPDATE_DELIVERIES_SQL, placeholders(issuedIds.size())), args.toArray());
+        }
+        jdbcTemplate.update(UPDATE_RUN_SQL, lastDeliveryId, invoices.size(), skippedIds.size(), now, runId);
+        return new Chunk(deliveries.size(), lastDeliveryId, invoices.size(), skippedIds.size());
+    }
+
+    private void insertInvoices(List<InvoiceRow> invoices, Timestamp now) {
+        if (invoices.isEmpty()) {
+            return;
+        }
+        LocalDate issueDate = now.toLocalDateTime().toLocalDate();
+        Date issue = Date.valueOf(issueDate);
+        Date due = Date.valueOf(issueDate.plusDays(PAYMENT_TERM_DAYS));
+        jdbcTemplate.batchUpdate(INSERT_INVOICE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InvoiceRow invoice = invoices.get(i);
+                DeliveryRow delivery = invoice.delivery();
+                ps.setString(1, invoice.invoiceNumber());
+                ps.setObject(2, invoice.approverId(), Types.BIGINT);
+                ps.setString(3, invoice.contractNumber());
+                ps.setLong(4, delivery.id());
+                ps.setObject(5, delivery.purchaseRequestId(), Types.BIGINT);
+                ps.setLong(6, delivery.supplierId());
+                ps.setBigDecimal(7, invoice.supplyPrice());
+                ps.setBigDecimal(8, invoice.vat());
+                ps.setBigDecimal(9, delivery.totalAmount());
+                ps.setDate(10, issue);
+                ps.setDate(11, due);
+                ps.setString(12, delivery.itemName());
+                ps.setString(13, delivery.itemSpecification());
+                ps.setObject(14, delivery.quantity(), Types.INTEGER);
+                ps.setBigDecimal(15, delivery.unitPrice());
+                ps.setString(16, delivery.unit());
+                ps.setTimestamp(17, now);
+                ps.setTimestamp(18, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return invoices.size();
+            }
+        });
+
+        // 발행 이벤트 (구매 요청 상태 변경은 커밋 후 처리)
+        List<String> numbers = invoices.stream().map(InvoiceRow::invoiceNumber).toList();
+        jdbcTemplate.query(String.format(SELECT_CREATED_SQL, placeholders(numbers.size())),
+                (RowCallbackHandler) rs -> processEventPublisher.publishInvoiceCreated(rs.getLong("id"),
+                        rs.getLong("delivery_id"), rs.getObject("purchase_request_id", Long.class)),
+                numbers.toArray());
+    }
+
+    private void queryIn(String sql, Collection<Long> ids, RowCallbackHandler handler) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(String.format(sql, placeholders(ids.size())), handler, ids.toArray());
+    }
+
+    private static Set<Long> collect(List<DeliveryRow> deliveries, Function<DeliveryRow, Long> key) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (DeliveryRow delivery : deliveries) {
+            Long id = key.apply(delivery);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -4,6 +4,7 @@ import com.orbit.entity.commonCode.ChildCode;
 import com.orbit.entity.commonCode.ParentCode;
 import com.orbit.entity.commonCode.SystemStatus;
 import com.orbit.entity.invoice.Invoice;
+import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.invoice.InvoiceRepository;
@@ -24,6 +25,8 @@ public class InvoiceService {
     private final InvoiceRepository invoiceRepository;
     private final ChildCodeRepository childCodeRepository;
     private final ParentCodeRepository parentCodeRepository;
+    private final ProcessEventPublisher processEventPublisher;
+    private final InvoiceAgingService invoiceAgingService;
 
     public List<Invoice> getAllInvoices() {
         return invoiceRepository.findAll();
@@ -34,7 +37,14 @@ public class InvoiceService {
     }
 
     public Invoice createInvoice(Invoice invoice) {
-        return invoiceRepository.save(invoice);
+        Invoice savedInvoice = invoiceRepository.save(invoice);
+
+        // 구매 요청 상태 변경 이벤트
+        processEventPublisher.publishInvoiceCreated(savedInvoice.getId(),
+                savedInvoice.getDelivery() != null ? savedInvoice.getDelivery().getId() : null,
+                savedInvoice.getPurchaseRequestId());
+
+        return savedInvoice;
     }
 
     @Transactional
@@ -62,22 +72,11 @@ public class InvoiceService {
         return invoiceRepository.save(invoice);
     }
 
-    @Transactional
+    /**
+     * 지급 기한이 지난 대기 송장 연체 전환 (매일 InvoiceAgingService 가 실행, 수동 실행용)
+     */
     public void checkOverdueInvoices() {
-        LocalDate today = LocalDate.now();
-
-        // "WAITING" 상태인 송장들 조회
-        List<Invoice> waitingInvoices = invoiceRepository.findByStatusParentCodeAndStatusChildCode(
-                "INVOICE", "WAITING");
-
-        for (Invoice invoice : waitingInvoices) {
-            if (invoice.getDueDate().isBefore(today)) {
-                // 상태를 "OVERDUE"로 변경
-                SystemStatus overdueSt = new SystemStatus("INVOICE", "OVERDUE");
-                invoice.setStatus(overdueSt);
-                invoiceRepository.save(invoice);
-            }
-        }
+        invoiceAgingService.markOverdue(LocalDate.now());
     }
 
     public List<Invoice> getInvoicesByDeliveryId(Long deliveryId) {
@@ -2,8 +2,10 @@ package com.orbit.service.member;
 
 import com.orbit.dto.member.*;
 import com.orbit.entity.member.Member;
+import com.orbit.event.event.OrgChartChangedEvent;
 import com.orbit.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +29,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입 처리
@@ -47,6 +50,8 @@ public class MemberService {
         Member member = Member.createMember(memberFormDto, passwordEncoder);
         member.setPassword(encodedPassword); // 암호화된 비밀번호 설정
         memberRepository.save(member);
+        // 조직도 인덱스에 신규 멤버 반영 (커밋 후)
+        publishOrgChartChanged(member);
     }
 
     /**
@@ -144,6 +149,7 @@ public class MemberService {
         }
 
         memberRepository.save(member);
+        publishOrgChartChanged(member);
     }
 
     /**
@@ -156,6 +162,7 @@ public class MemberService {
         Member member = findById(memberId);
         member.deactivateMember();
         memberRepository.save(member);
+        publishOrgChartChanged(member);
     }
 
     /**
@@ -315,6 +322,7 @@ public class MemberService {
         }
 
         memberRepository.save(member);
+        publishOrgChartChanged(member);
         return member.isEnabled();
     }
 
@@ -335,5 +343,14 @@ public class MemberService {
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 역할입니다: " + roleName);
         }
+        publishOrgChartChanged(member);
+    }
+
+    /**
+     * 멤버 변경을 조직도 인덱스에 알림 (커밋 후 해당 멤버만 다시 읽어 반영)
+     * - 멤버를 저장하는 모든 경로에서 호출한다. (역할/소속/직급/활성 상태가 조직도에 쓰이므로)
+     */
+    private void publishOrgChartChanged(Member member) {
+        eventPublisher.publishEvent(OrgChartChangedEvent.member(this, member.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.orbit.service.organization;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.orbit.entity.approval.Department;
+import com.orbit.event.event.OrgChartChangedEvent;
+import com.orbit.repository.approval.DepartmentRepository;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.organization.OrgChartSnapshot.DepartmentNode;
+import com.orbit.service.organization.OrgChartSnapshot.MemberNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조직도 메모리 인덱스
+ * - 결재선 자동 생성 시 부서/멤버를 DB 에서 다시 조회하지 않도록 조직도 스냅샷을 메모리에 둔다.
+ * - 처음 사용할 때 만들고, 부서/직급/멤버 변경 이벤트(OrgChartChangedEvent)가 커밋되면 갱신한다.
+ *   멤버 한 명 변경은 그 멤버만 다시 읽어 반영하고, 부서/직급 변경은 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgChartIndex {
+
+    private final DepartmentRepository departmentRepository;
+    private final MemberRepository memberRepository;
+
+    private volatile OrgChartSnapshot snapshot;
+
+    /**
+     * 현재 스냅샷 (없으면 만든다)
+     */
+    public OrgChartSnapshot snapshot() {
+        OrgChartSnapshot current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrgChartChanged(OrgChartChangedEvent event) {
+        if (snapshot == null) {
+            return; // 아직 사용 전이면 처음 사용할 때 만든다
+        }
+        if (event.isFullRebuild()) {
+            rebuild();
+        } else {
+            refreshMember(event.getMemberId());
+        }
+    }
+
+    /**
+     * 부서 전체 + 멤버 전체로 스냅샷 재구성 (조회 2회)
+     */
+    public synchronized OrgChartSnapshot rebuild() {
+        List<DepartmentNode> departments = new ArrayList<>();
+        for (Department department : departmentRepository.findAll()) {
+            departments.add(new DepartmentNode(department.getId(), department.getName(),
+                    department.getTeamLeaderLevel(), department.getMiddleManagerLevel(),
+                    department.getUpperManagerLevel(), department.getExecutiveLevel()));
+        }
+
+        List<MemberNode> members = new ArrayList<>();
+        for (Object[] row : memberRepository.findOrgChartEntries()) {
+            members.add(toMemberNode(row));
+        }
+
+        OrgChartSnapshot rebuilt = new OrgChartSnapshot(departments, members);
+        snapshot = rebuilt;
+        log.info("조직도 인덱스 재구성 - 부서: {}개, 멤버: {}명", rebuilt.departmentCount(), rebuilt.memberCount());
+        return rebuilt;
+    }
+
+    /**
+     * 멤버 한 명만 다시 읽어 새 스냅샷으로 교체
+     */
+    private synchronized void refreshMember(Long memberId) {
+        List<Object[]> rows = memberRepository.findOrgChartEntry(memberId);
+        MemberNode member = rows.isEmpty() ? null : toMemberNode(rows.get(0));
+        snapshot = snapshot.withMember(memberId, member);
+    }
+
+    private MemberNode toMemberNode(Object[] row) {
+        Long memberId = (Long) row[0];
+        Long departmentId = (Long) row[1];
+        Integer positionLevel = row[2] == null ? null : ((Number) row[2]).intValue();
+        return new MemberNode(memberId, departmentId, positionLevel);
+    }
+}
@@ -0,0 +1,148 @@
+package com.orbit.service.organization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 조직도 스냅샷 (불변)
+ * - 부서(이름/ID별), 부서별 멤버(ID 순), 직급 높은 순 전체 멤버를 미리 정리해 둔다.
+ * - 변경 시에는 기존 스냅샷을 고치지 않고 새 스냅샷을 만들어 교체하므로 읽는 쪽은 잠금 없이 사용한다.
+ * - 직급이 없는 멤버는 직급 기준 조회에서 제외된다. (기존 JPQL 의 m.position.level 내부 조인과 동일)
+ */
+public final class OrgChartSnapshot {
+
+    public record DepartmentNode(Long id, String name, int teamLeaderLevel, int middleManagerLevel,
+                                 int upperManagerLevel, int executiveLevel) {
+    }
+
+    public record MemberNode(Long id, Long departmentId, Integer positionLevel) {
+    }
+
+    // 직급 높은 순, 같은 직급은 ID 순
+    private static final Comparator<MemberNode> BY_LEVEL_DESC =
+            Comparator.comparing(MemberNode::positionLevel, Comparator.reverseOrder())
+                    .thenComparing(MemberNode::id);
+
+    public static final OrgChartSnapshot EMPTY = new OrgChartSnapshot(List.of(), List.of());
+
+    private final Map<Long, DepartmentNode> departmentsById;
+    private final Map<String, DepartmentNode> departmentsByName;
+    private final Map<Long, MemberNode> membersById;
+    private final Map<Long, List<MemberNode>> membersByDepartment;
+    private final List<MemberNode> membersByLevelDesc;
+
+    public OrgChartSnapshot(Collection<DepartmentNode> departments, Collection<MemberNode> members) {
+        Map<Long, DepartmentNode> byId = new LinkedHashMap<>();
+        Map<String, DepartmentNode> byName = new HashMap<>();
+        departments.stream()
+                .sorted(Comparator.comparing(DepartmentNode::id))
+                .forEach(department -> {
+                    byId.put(department.id(), department);
+                    byName.putIfAbsent(department.name(), department); // 이름이 같으면 먼저 만든 부서
+                });
+
+        Map<Long, MemberNode> memberMap = new HashMap<>();
+        Map<Long, List<MemberNode>> byDepartment = new HashMap<>();
+        List<MemberNode> ranked = new ArrayList<>();
+        members.stream()
+                .sorted(Comparator.comparing(MemberNode::id))
+                .forEach(member -> {
+                    memberMap.put(member.id(), member);
+                    if (member.positionLevel() == null) {
+                        return;
+                    }
+                    if (member.departmentId() != null) {
+                        byDepartment.computeIfAbsent(member.departmentId(), id -> new ArrayList<>()).add(member);
+                    }
+                    ranked.add(member);
+                });
+        ranked.sort(BY_LEVEL_DESC);
+
+        Map<Long, List<MemberNode>> frozenByDepartment = new HashMap<>();
+        byDepartment.forEach((departmentId, list) -> frozenByDepartment.put(departmentId, List.copyOf(list)));
+
+        this.departmentsById = Collections.unmodifiableMap(byId);
+        this.departmentsByName = Collections.unmodifiableMap(byName);
+        this.membersById = Collections.unmodifiableMap(memberMap);
+        this.membersByDepartment = Collections.unmodifiableMap(frozenByDepartment);
+        this.membersByLevelDesc = List.copyOf(ranked);
+    }
+
+    /**
+     * 멤버 한 명을 추가/변경/삭제한 새 스냅샷 (부서 정보는 그대로 사용)
+     *
+     * @param memberId 대상 멤버 ID
+     * @param member   새 정보 (null 이면 삭제)
+     */
+    public OrgChartSnapshot withMember(Long memberId, MemberNode member) {
+        Map<Long, MemberNode> members = new HashMap<>(membersById);
+        if (member == null) {
+            members.remove(memberId);
+        } else {
+            members.put(memberId, member);
+        }
+        return new OrgChartSnapshot(departmentsById.values(), members.values());
+    }
+
+    public Optional<DepartmentNode> department(String name) {
+        return Optional.ofNullable(departmentsByName.get(name));
+    }
+
+    public Optional<DepartmentNode> department(Long id) {
+        return Optional.ofNullable(id == null ? null : departmentsById.get(id));
+    }
+
+    /**
+     * 부서 내 해당 직급 초과 멤버 중 첫 번째 (ID 순)
+     */
+    public Optional<MemberNode> firstInDepartmentAbove(Long departmentId, int level) {
+        return membersOf(departmentId).stream()
+                .filter(member -> member.positionLevel() > level)
+                .findFirst();
+    }
+
+    /**
+     * 부서 내 직급 범위(min ~ max) 멤버 중 첫 번째 (ID 순)
+     */
+    public Optional<MemberNode> firstInDepartmentBetween(Long departmentId, int minLevel, int maxLevel) {
+        return membersOf(departmentId).stream()
+                .filter(member -> member.positionLevel() >= minLevel && member.positionLevel() <= maxLevel)
+                .findFirst();
+    }
+
+    /**
+     * 전체 멤버 중 해당 직급 초과인 최상위 직급 멤버
+     */
+    public Optional<MemberNode> highestAbove(int level) {
+        if (membersByLevelDesc.isEmpty() || membersByLevelDesc.get(0).positionLevel() <= level) {
+            return Optional.empty();
+        }
+        return Optional.of(membersByLevelDesc.get(0));
+    }
+
+    /**
+     * 직급 높은 순 전체 멤버 (직급 있는 멤버만)
+     */
+    public List<MemberNode> membersByLevelDesc() {
+        return membersByLevelDesc;
+    }
+
+    public List<MemberNode> membersOf(Long departmentId) {
+        return departmentId == null ? List.of() : membersByDepartment.getOrDefault(departmentId, List.of());
+    }
+
+    public int departmentCount() {
+        return departmentsById.size();
+    }
+
+    public int memberCount() {
+        return membersById.size();
+    }
+}
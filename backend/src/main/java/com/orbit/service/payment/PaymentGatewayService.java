@@ -0,0 +1,352 @@
+package com.orbit.service.payment;
+
+import com.orbit.dto.payment.PaymentDto;
+import com.orbit.entity.invoice.Invoice;
+import com.orbit.entity.paymant.Payment;
+import com.orbit.entity.paymant.PaymentGatewayWebhook;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.repository.invoice.InvoiceRepository;
+import com.orbit.repository.payment.PaymentGatewayWebhookRepository;
+import com.orbit.repository.payment.PaymentRepository;
+import com.orbit.service.payment.gateway.GatewayPayment;
+import com.orbit.service.payment.gateway.PaymentGateway;
+import com.orbit.service.payment.gateway.PaymentGatewayException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG(아임포트) 결제 검증 / 웹훅 반영
+ * - PG 조회는 PaymentGateway 전용 실행기에서 하고, 조회가 끝난 뒤에만 짧은 트랜잭션으로 결제를 저장한다.
+ *   (네트워크를 기다리는 동안 DB 커넥션을 잡지 않음)
+ * - 웹훅은 받자마자 payment_gateway_webhooks 에 쌓고 바로 응답한다. 워커가 주기적으로 가져가 PG 에 다시 조회한 결과로 반영한다.
+ *   같은 (imp_uid, status) 통지는 한 번만 쌓이고, 이미 같은 거래로 반영된 결제는 다시 만들지 않는다.
+ * - PG 장애로 실패한 웹훅은 지수 백오프로 재시도하고, 재시도해도 같은 결과(금액 불일치 등)는 FAILED 로 남겨 검토한다.
+ */
+@Slf4j
+@Service
+public class PaymentGatewayService {
+
+    private static final String INSERT_WEBHOOK_SQL = "INSERT IGNORE INTO payment_gateway_webhooks "
+            + "(imp_uid, merchant_uid, status, state, attempts, next_attempt_at, received_at) VALUES (?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private static final String SELECT_DUE_SQL = "SELECT id, imp_uid, status, attempts FROM payment_gateway_webhooks "
+            + "WHERE state = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at, id LIMIT ?";
+
+    // 임대: next_attempt_at 을 미뤄 두어 다른 노드가 같은 행을 가져가지 못하게 한다.
+    private static final String CLAIM_SQL = "UPDATE payment_gateway_webhooks SET attempts = attempts + 1, next_attempt_at = ? "
+            + "WHERE id = ? AND state = 'PENDING' AND next_attempt_at <= ?";
+
+    private static final String FINISH_SQL = "UPDATE payment_gateway_webhooks SET state = ?, result = ?, processed_at = ? "
+            + "WHERE id = ?";
+
+    private static final String RETRY_SQL = "UPDATE payment_gateway_webhooks SET attempts = attempts - ?, next_attempt_at = ?, "
+            + "result = ? WHERE id = ?";
+
+    private static final String REQUEUE_SQL = "UPDATE payment_gateway_webhooks SET state = 'PENDING', attempts = 0, "
+            + "next_attempt_at = ?, result = NULL, processed_at = NULL WHERE id = ? AND state = 'FAILED'";
+
+    private static final String LOCK_INVOICE_SQL = "SELECT id FROM invoices WHERE id = ? FOR UPDATE";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final long MAX_BACKOFF_MS = 10 * 60 * 1000L;
+
+    private record Webhook(long id, String impUid, String status, int attempts) {
+    }
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentGatewayWebhookRepository webhookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService applyExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseMs;
+    private final long retryBackoffMs;
+
+    public PaymentGatewayService(PaymentGateway paymentGateway,
+                                 PaymentService paymentService,
+                                 PaymentRepository paymentRepository,
+                                 InvoiceRepository invoiceRepository,
+                                 PaymentGatewayWebhookRepository webhookRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${payment.gateway.apply-threads:4}") int applyThreads,
+                                 @Value("${payment.gateway.webhook.batch-size:20}") int batchSize,
+                                 @Value("${payment.gateway.webhook.max-attempts:8}") int maxAttempts,
+                                 @Value("${payment.gateway.webhook.lease-ms:60000}") long leaseMs,
+                                 @Value("${payment.gateway.webhook.retry-backoff-ms:5000}") long retryBackoffMs) {
+        this.paymentGateway = paymentGateway;
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.webhookRepository = webhookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseMs = leaseMs;
+        this.retryBackoffMs = retryBackoffMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.applyExecutor = Executors.newFixedThreadPool(Math.max(1, applyThreads), runnable -> {
+            Thread thread = new Thread(runnable, "payment-gateway-apply-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 결제창 완료 후 검증 - PG 결제 건이 이 송장의 주문 번호/총액과 맞으면 결제를 저장한다.
+     * - 같은 imp_uid 로 다시 호출하면 이미 저장된 결제를 그대로 돌려준다.
+     * - 실패: PaymentGatewayException(PG), ResourceNotFoundException(송장 없음), IllegalStateException(불일치/이미 결제)
+     */
+    public CompletableFuture<PaymentDto> verifyInvoicePayment(Long invoiceId, String impUid) {
+        if (impUid == null || impUid.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("imp_uid 가 없습니다."));
+        }
+        return paymentGateway.getPayment(impUid)
+                .thenApplyAsync(payment -> transactionTemplate.execute(status -> applyPaid(invoiceId, payment)),
+                        applyExecutor);
+    }
+
+    /**
+     * 웹훅 접수 (대기열에 넣기만 하고 바로 반환)
+     * @return 새로 쌓였으면 true, 이미 받은 통지면 false
+     */
+    public boolean receiveWebhook(String impUid, String merchantUid, String status) {
+        if (impUid == null || impUid.isBlank() || status == null || status.isBlank()) {
+            throw new IllegalArgumentException("imp_uid/status 가 없습니다.");
+        }
+        // 상태가 바뀌었으므로 캐시된 조회 결과는 버린다.
+        paymentGateway.evict(impUid);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean queued = jdbcTemplate.update(INSERT_WEBHOOK_SQL, impUid, merchantUid, status, now, now) == 1;
+        log.info("PG 웹훅 {} - imp_uid: {}, merchant_uid: {}, status: {}",
+                queued ? "접수" : "중복", impUid, merchantUid, status);
+        return queued;
+    }
+
+    /**
+     * 대기 웹훅 처리 (기본 1초 간격)
+     * - 가져온 웹훅의 PG 조회를 한꺼번에 시작한 뒤 순서대로 결과를 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${payment.gateway.webhook.poll-ms:1000}")
+    public void processWebhooks() {
+        try {
+            List<Webhook> claimed = claimDue();
+            if (claimed.isEmpty()) {
+                return;
+            }
+            Map<Webhook, CompletableFuture<GatewayPayment>> lookups = new LinkedHashMap<>();
+            for (Webhook webhook : claimed) {
+                lookups.put(webhook, paymentGateway.refreshPayment(webhook.impUid()));
+            }
+            lookups.forEach(this::process);
+        } catch (Exception e) {
+            log.error("PG 웹훅 처리 실패", e);
+        }
+    }
+
+    public Page<PaymentGatewayWebhook> getWebhooks(PaymentGatewayWebhook.State state, Pageable pageable) {
+        return webhookRepository.findByStateOrderByIdDesc(state, pageable);
+    }
+
+    /**
+     * 실패한 웹훅을 다시 대기열에 넣음 (원인을 바로잡은 뒤)
+     */
+    public PaymentGatewayWebhook requeueWebhook(Long webhookId) {
+        PaymentGatewayWebhook webhook = webhookRepository.findById(webhookId)
+                .orElseThrow(() -> new ResourceNotFoundException("웹훅을 찾을 수 없습니다: " + webhookId));
+        if (jdbcTemplate.update(REQUEUE_SQL, Timestamp.valueOf(LocalDateTime.now()), webhookId) == 0) {
+            throw new IllegalStateException("실패 상태의 웹훅만 다시 처리할 수 있습니다: " + webhook.getState());
+        }
+        return webhookRepository.findById(webhookId).orElse(webhook);
+    }
+
+    public PaymentGateway.Stats getGatewayStats() {
+        return paymentGateway.getStats();
+    }
+
+    private List<Webhook> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Webhook> due = jdbcTemplate.query(SELECT_DUE_SQL, (rs, rowNum) -> new Webhook(rs.getLong("id"),
+                rs.getString("imp_uid"), rs.getString("status"), rs.getInt("attempts")), nowTs, batchSize);
+
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusNanos(leaseMs * 1_000_000L));
+        List<Webhook> claimed = new ArrayList<>(due.size());
+        for (Webhook webhook : due) {
+            if (jdbcTemplate.update(CLAIM_SQL, leaseUntil, webhook.id(), nowTs) == 1) {
+                claimed.add(new Webhook(webhook.id(), webhook.impUid(), webhook.status(), webhook.attempts() + 1));
+            }
+        }
+        return claimed;
+    }
+
+    private void process(Webhook webhook, CompletableFuture<GatewayPayment> lookup) {
+        GatewayPayment payment;
+        try {
+            payment = lookup.join();
+        } catch (CompletionException e) {
+            PaymentGatewayException error = PaymentGatewayException.from(e);
+            if (!error.isRetryable()) {
+                finish(webhook, PaymentGatewayWebhook.State.FAILED, error.getMessage());
+            } else {
+                // 호출하지 않고 거절된 경우(서킷 열림, 대기열 초과)는 시도 횟수로 세지 않는다.
+                boolean called = error.isGatewayFailure();
+                retry(webhook, error.getMessage(), called);
+            }
+            return;
+        }
+
+        try {
+            String result = transactionTemplate.execute(status -> {
+                String applied = apply(payment);
+                jdbcTemplate.update(FINISH_SQL, PaymentGatewayWebhook.State.DONE.name(), applied,
+                        Timestamp.valueOf(LocalDateTime.now()), webhook.id());
+                return applied;
+            });
+            log.info("PG 웹훅 반영 - imp_uid: {}, status: {}, {}", webhook.impUid(), payment.status(), result);
+        } catch (IllegalStateException | ResourceNotFoundException e) {
+            finish(webhook, PaymentGatewayWebhook.State.FAILED, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("PG 웹훅 반영 실패 - imp_uid: {}, {}", webhook.impUid(), e.getMessage());
+            retry(webhook, e.getMessage(), true);
+        }
+    }
+
+    /**
+     * PG 조회 결과 반영 (웹훅 본문이 아니라 PG 가 돌려준 상태 기준)
+     * @return 처리 결과 설명
+     */
+    private String apply(GatewayPayment payment) {
+        if (payment.merchantUid() == null) {
+            throw new IllegalStateException("PG 결제에 주문 번호가 없습니다: " + payment.impUid());
+        }
+        Invoice invoice = invoiceRepository.findByInvoiceNumber(payment.merchantUid())
+                .orElseThrow(() -> new ResourceNotFoundException("송장을 찾을 수 없습니다: " + payment.merchantUid()));
+
+        if (payment.isPaid()) {
+            PaymentDto saved = applyPaid(invoice.getId(), payment);
+            return "결제 반영 (결제 ID " + saved.getId() + ")";
+        }
+        if (payment.isCancelled()) {
+            jdbcTemplate.queryForObject(LOCK_INVOICE_SQL, Long.class, invoice.getId());
+            Optional<Payment> existing = paymentRepository.findByInvoiceId(invoice.getId())
+                    .filter(p -> payment.impUid().equals(p.getTransactionId()));
+            if (existing.isEmpty()) {
+                return "취소할 결제 없음";
+            }
+            if ("CANCELED".equals(existing.get().getStatus().getChildCode())) {
+                return "이미 취소됨";
+            }
+            paymentService.cancelPayment(existing.get().getId(), "PG 결제 취소 (" + payment.impUid() + ")");
+            return "결제 취소 (결제 ID " + existing.get().getId() + ")";
+        }
+        return "반영 없음 (" + payment.status() + ")";
+    }
+
+    /**
+     * PG 결제 완료 건을 송장 결제로 저장 (호출자 트랜잭션 안에서, 송장 행을 잠근 뒤)
+     * - 같은 거래로 이미 저장됐으면 그 결제를 돌려준다. (검증 API 와 웹훅이 겹쳐도 한 건)
+     * - 취소/실패한 결제가 있으면 그 행을 새 거래로 완료 처리한다. (재결제)
+     */
+    private PaymentDto applyPaid(Long invoiceId, GatewayPayment payment) {
+        if (!payment.isPaid()) {
+            throw new IllegalStateException("결제가 완료되지 않았습니다: " + payment.status());
+        }
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_INVOICE_SQL, Long.class, invoiceId);
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("송장을 찾을 수 없습니다: " + invoiceId);
+        }
+        Invoice invoice = invoiceRepository.findById(invoiceId)
+                .orElseThrow(() -> new ResourceNotFoundException("송장을 찾을 수 없습니다: " + invoiceId));
+        if (payment.merchantUid() != null && !payment.merchantUid().equals(invoice.getInvoiceNumber())) {
+            throw new IllegalStateException("주문 번호가 송장 번호와 다릅니다: " + payment.merchantUid());
+        }
+        if (invoice.getTotalAmount() == null || invoice.getTotalAmount().compareTo(payment.amount()) != 0) {
+            throw new IllegalStateException(String.format("결제 금액(%s)이 송장 총액(%s)과 다릅니다.",
+                    payment.amount().toPlainString(), invoice.getTotalAmount()));
+        }
+
+        PaymentDto.PaymentCreateRequest request = new PaymentDto.PaymentCreateRequest();
+        request.setInvoiceId(invoiceId);
+        request.setPaymentDate((payment.paidAt() != null ? payment.paidAt().atZone(ZONE).toLocalDate()
+                : LocalDateTime.now().toLocalDate()).format(DATE));
+        request.setPaymentMethod("CARD");
+        request.setTransactionId(payment.impUid());
+        request.setNotes("PG 결제 검증" + (payment.payMethod() != null ? " (" + payment.payMethod() + ")" : ""));
+
+        Optional<Payment> existing = paymentRepository.findByInvoiceId(invoiceId);
+        if (existing.isEmpty()) {
+            return paymentService.createPayment(request);
+        }
+        if (payment.impUid().equals(existing.get().getTransactionId())) {
+            return PaymentDto.fromEntity(existing.get());
+        }
+        if (!"COMPLETED".equals(existing.get().getStatus().getChildCode())) {
+            // 취소/실패한 결제 행을 새 거래로 다시 완료 처리 (송장당 결제 1건 - 정산 대사와 같은 방식)
+            return paymentService.recompletePayment(existing.get().getId(), request);
+        }
+        throw new IllegalStateException("이 송장은 다른 거래로 이미 결제되었습니다: " + invoice.getInvoiceNumber());
+    }
+
+    private void finish(Webhook webhook, PaymentGatewayWebhook.State state, String result) {
+        jdbcTemplate.update(FINISH_SQL, state.name(), truncate(result), Timestamp.valueOf(LocalDateTime.now()), webhook.id());
+        log.warn("PG 웹훅 {} - imp_uid: {}, {}", state, webhook.impUid(), result);
+    }
+
+    private void retry(Webhook webhook, String message, boolean countAttempt) {
+        if (countAttempt && webhook.attempts() >= maxAttempts) {
+            finish(webhook, PaymentGatewayWebhook.State.FAILED, "재시도 " + maxAttempts + "회 초과: " + message);
+            return;
+        }
+        int attempts = countAttempt ? webhook.attempts() : webhook.attempts() - 1;
+        long backoff = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(20, Math.max(0, attempts - 1)));
+        jdbcTemplate.update(RETRY_SQL, countAttempt ? 0 : 1,
+                Timestamp.valueOf(LocalDateTime.now().plusNanos(backoff * 1_000_000L)), truncate(message), webhook.id());
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        applyExecutor.shutdown();
+        if (!applyExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            applyExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package com.orbit.service.payment;
+
+import com.orbit.entity.paymant.PaymentReconciliationIssue;
+import com.orbit.entity.paymant.PaymentReconciliationRun;
+import com.orbit.event.publisher.ProcessEventPublisher;
+import com.orbit.exception.ResourceNotFoundException;
+import com.orbit.repository.payment.PaymentReconciliationIssueRepository;
+import com.orbit.repository.payment.PaymentReconciliationRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 은행/PG 정산 파일 대사 (송장 ↔ 결제 일괄 반영)
+ * - 정산 파일을 한 줄씩 읽어 batch-size 행마다 한 트랜잭션으로 처리한다. 메모리에는 배치 한 개 분량만 둔다.
+ * - 배치의 송장 번호로 송장/결제를 IN 조회 한 번에 잠가 읽어 송장 번호 해시 인덱스를 만들고, 송장 번호 + 금액이 맞는 행만 반영한다.
+ * - 결제 생성/갱신, 송장 PAID 전환, 검토 대상 기록은 모두 JDBC batch 로 한다.
+ * - 같은 거래 ID 로 이미 완료된 결제는 건드리지 않으므로, 중간에 실패한 파일은 처음부터 다시 올려도 된다.
+ *   (거래 ID 열이 없는 파일은 금액과 결제일이 같은 완료 결제를 이미 반영된 것으로 본다)
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService {
+
+    private static final String SELECT_INVOICES_SQL = "SELECT i.id, i.invoice_number, i.total_amount, "
+            + "i.status_child_code, i.purchase_request_id, "
+            + "p.id AS payment_id, p.status_child_code AS payment_status, p.transaction_id, "
+            + "p.total_amount AS payment_amount, p.payment_date AS payment_date "
+            + "FROM invoices i LEFT JOIN payments p ON p.invoice_id = i.id "
+            + "WHERE i.invoice_number IN (%s) FOR UPDATE";
+
+    private static final String INSERT_PAYMENT_SQL = "INSERT INTO payments (invoice_id, purchase_request_id, total_amount, "
+            + "payment_date, status_parent_code, status_child_code, method_parent_code, method_child_code, "
+            + "transaction_id, notes, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 'PAYMENT', 'COMPLETED', 'PAYMENT', ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_PAYMENT_SQL = "UPDATE payments SET total_amount = ?, payment_date = ?, "
+            + "status_child_code = 'COMPLETED', method_child_code = ?, transaction_id = ?, notes = ?, updated_at = ? "
+            + "WHERE id = ?";
+
+    private static final String UPDATE_INVOICE_SQL = "UPDATE invoices SET status_child_code = 'PAID', payment_date = ?, "
+            + "updated_at = ? WHERE id = ?";
+
+    private static final String SELECT_CREATED_PAYMENTS_SQL = "SELECT id, invoice_id, purchase_request_id FROM payments "
+            + "WHERE invoice_id IN (%s)";
+
+    private static final String INSERT_ISSUE_SQL = "INSERT INTO payment_reconciliation_issues (run_id, line_number, reason, "
+            + "invoice_number, invoice_id, transaction_id, amount, expected_amount, message, raw_line, resolved, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?)";
+
+    private static final String UPDATE_RUN_SQL = "UPDATE payment_reconciliation_runs SET total_rows = total_rows + ?, "
+            + "created_count = created_count + ?, updated_count = updated_count + ?, "
+            + "unchanged_count = unchanged_count + ?, issue_count = issue_count + ? WHERE id = ?";
+
+    // 진행 로그 간격 (행)
+    private static final long PROGRESS_LOG_ROWS = 100_000;
+
+    /**
+     * 송장 번호 해시 인덱스 값 (송장 + 연결된 결제)
+     */
+    private record InvoiceRef(long invoiceId, BigDecimal totalAmount, String status, Long purchaseRequestId,
+                              Long paymentId, String paymentStatus, String paymentTransactionId,
+                              BigDecimal paymentAmount, LocalDate paymentDate) {
+
+        boolean matches(BigDecimal amount) {
+            return totalAmount != null && totalAmount.compareTo(amount) == 0;
+        }
+
+        /**
+         * 완료된 결제가 이 정산 행으로 이미 반영된 것인지
+         * - 행에 거래 ID 가 있으면 거래 ID 로, 없으면 금액 + 결제일로 판단한다.
+         */
+        boolean alreadyApplied(SettlementCsvReader.Row row) {
+            if (row.transactionId() != null) {
+                return row.transactionId().equals(paymentTransactionId);
+            }
+            return paymentAmount != null && paymentAmount.compareTo(row.amount()) == 0
+                    && row.paymentDate().equals(paymentDate);
+        }
+    }
+
+    private record Match(SettlementCsvReader.Row row, InvoiceRef invoice) {
+    }
+
+    private record Issue(SettlementCsvReader.Row row, PaymentReconciliationIssue.Reason reason, InvoiceRef invoice,
+                         String message) {
+    }
+
+    private record BatchResult(int created, int updated, int unchanged, int issues) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentReconciliationRunRepository runRepository;
+    private final PaymentReconciliationIssueRepository issueRepository;
+    private final ProcessEventPublisher processEventPublisher;
+    private final int batchSize;
+
+    public PaymentReconciliationService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        PaymentReconciliationRunRepository runRepository,
+                                        PaymentReconciliationIssueRepository issueRepository,
+                                        ProcessEventPublisher processEventPublisher,
+                                        @Value("${payment.reconciliation.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runRepository = runRepository;
+        this.issueRepository = issueRepository;
+        this.processEventPublisher = processEventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 정산 파일 대사 실행
+     * @param in 정산 파일 (CSV, 끝까지 읽고 닫는다)
+     * @throws IllegalArgumentException 헤더가 없거나 필수 열이 없는 경우
+     */
+    public PaymentReconciliationRun reconcile(InputStream in, Charset charset, String fileName, String requestedBy)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        try (SettlementCsvReader reader = new SettlementCsvReader(in, charset, LocalDate.now())) {
+            PaymentReconciliationRun run = start(fileName, requestedBy);
+            Long runId = run.getId();
+            long rows = 0;
+            long nextProgressLog = PROGRESS_LOG_ROWS;
+            try {
+                List<SettlementCsvReader.Row> batch = new ArrayList<>(batchSize);
+                SettlementCsvReader.Row row;
+                while ((row = reader.next()) != null) {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        rows += processBatch(runId, batch);
+                        batch.clear();
+                        if (rows >= nextProgressLog) {
+                            log.info("정산 대사 진행 - 실행 {}: {}행, {}행/초", runId, rows, rowsPerSecond(rows, startedAt));
+                            nextProgressLog += PROGRESS_LOG_ROWS;
+                        }
+                    }
+                }
+                rows += processBatch(runId, batch);
+            } catch (IOException | RuntimeException e) {
+                log.error("정산 대사 실패 - 실행 {}, {}행까지 반영", runId, rows, e);
+                finish(runId, PaymentReconciliationRun.Status.FAILED, rows, startedAt, e.getMessage());
+                throw e;
+            }
+
+            PaymentReconciliationRun finished =
+                    finish(runId, PaymentReconciliationRun.Status.COMPLETED, rows, startedAt, null);
+            log.info("정산 대사 완료 - 실행 {}: {}행 (생성 {}, 갱신 {}, 변경 없음 {}, 검토 {}), {}ms, {}행/초",
+                    runId, rows, finished.getCreatedCount(), finished.getUpdatedCount(), finished.getUnchangedCount(),
+                    finished.getIssueCount(), finished.getElapsedMs(), finished.getRowsPerSecond());
+            return finished;
+        }
+    }
+
+    public PaymentReconciliationRun getRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("정산 대사 실행을 찾을 수 없습니다. ID: " + runId));
+    }
+
+    public Page<PaymentReconciliationRun> getRuns(Pageable pageable) {
+        return runRepository.findAllByOrderByIdDesc(pageable);
+    }
+
+    /**
+     * 검토 대상 목록 (미처리만, 파일 행 순)
+     */
+    public Page<PaymentReconciliationIssue> getOpenIssues(Long runId, Pageable pageable) {
+        return issueRepository.findByRunIdAndResolvedFalseOrderByLineNumberAsc(runId, pageable);
+    }
+
+    /**
+     * 검토 완료 처리 (수동으로 결제를 등록했거나 무시하기로 한 경우)
+     */
+    @Transactional
+    public PaymentReconciliationIssue resolveIssue(Long issueId) {
+        PaymentReconciliationIssue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new ResourceNotFoundException("검토 대상을 찾을 수 없습니다. ID: " + issueId));
+        issue.setResolved(true);
+        return issue;
+    }
+
+    private int processBatch(Long runId, List<SettlementCsvReader.Row> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            BatchResult result = reconcileBatch(runId, rows);
+            jdbcTemplate.update(UPDATE_RUN_SQL, rows.size(), result.created(), result.updated(), result.unchanged(),
+                    result.issues(), runId);
+        });
+        return rows.size();
+    }
+
+    private BatchResult reconcileBatch(Long runId, List<SettlementCsvReader.Row> rows) {
+        Map<String, InvoiceRef> index = loadInvoices(rows);
+
+        List<Match> inserts = new ArrayList<>();
+        List<Match> updates = new ArrayList<>();
+        List<Issue> issues = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int unchanged = 0;
+        for (SettlementCsvReader.Row row : rows) {
+            if (row.error() != null) {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.INVALID_ROW, null, row.error()));
+                continue;
+            }
+            if (!seen.add(row.invoiceNumber())) {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.DUPLICATE_ROW, index.get(row.invoiceNumber()),
+                        "같은 송장 번호가 파일에 여러 번 있습니다."));
+                continue;
+            }
+            InvoiceRef invoice = index.get(row.invoiceNumber());
+            if (invoice == null) {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.UNKNOWN_INVOICE, null, "송장을 찾을 수 없습니다."));
+            } else if (!invoice.matches(row.amount())) {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.AMOUNT_MISMATCH, invoice,
+                        "송장 총액과 금액이 다릅니다."));
+            } else if ("REJECTED".equals(invoice.status())) {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.INVOICE_REJECTED, invoice, "반려된 송장입니다."));
+            } else if (invoice.paymentId() == null) {
+                inserts.add(new Match(row, invoice));
+            } else if (!"COMPLETED".equals(invoice.paymentStatus())) {
+                // 실패/취소된 결제를 정산 내역으로 완료 처리
+                updates.add(new Match(row, invoice));
+            } else if (invoice.alreadyApplied(row)) {
+                unchanged++;
+            } else {
+                issues.add(new Issue(row, PaymentReconciliationIssue.Reason.ALREADY_PAID, invoice,
+                        "다른 거래로 이미 결제가 완료된 송장입니다. (거래 ID: " + invoice.paymentTransactionId() + ")"));
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String notes = "정산 파일 대사 #" + runId;
+        insertPayments(inserts, notes, now);
+        updatePayments(updates, notes, now);
+        markInvoicesPaid(inserts, updates, now);
+        insertIssues(runId, issues, now);
+        publishCompleted(inserts, updates);
+        return new BatchResult(inserts.size(), updates.size(), unchanged, issues.size());
+    }
+
+    private Map<String, InvoiceRef> loadInvoices(List<SettlementCsvReader.Row> rows) {
+        Set<String> numbers = new HashSet<>();
+        for (SettlementCsvReader.Row row : rows) {
+            if (row.invoiceNumber() != null) {
+                numbers.add(row.invoiceNumber());
+            }
+        }
+        Map<String, InvoiceRef> index = new HashMap<>(numbers.size() * 2);
+        if (numbers.isEmpty()) {
+            return index;
+        }
+        jdbcTemplate.query(String.format(SELECT_INVOICES_SQL, placeholders(numbers.size())), (RowCallbackHandler) rs ->
+                index.put(rs.getString("invoice_number"), new InvoiceRef(
+                        rs.getLong("id"),
+                        rs.getBigDecimal("total_amount"),
+                        rs.getString("status_child_code"),
+                        rs.getObject("purchase_request_id", Long.class),
+                        rs.getObject("payment_id", Long.class),
+                        rs.getString("payment_status"),
+                        rs.getString("transaction_id"),
+                        rs.getBigDecimal("payment_amount"),
+                        rs.getObject("payment_date", LocalDate.class))), numbers.toArray());
+        return index;
+    }
+
+    private void insertPayments(List<Match> inserts, String notes, Timestamp now) {
+        if (inserts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Match match = inserts.get(i);
+                ps.setLong(1, match.invoice().invoiceId());
+                ps.setObject(2, match.invoice().purchaseRequestId(), Types.BIGINT);
+                ps.setBigDecimal(3, match.row().amount());
+                ps.setDate(4, Date.valueOf(match.row().paymentDate()));
+                ps.setString(5, match.row().method());
+                ps.setString(6, match.row().transactionId());
+                ps.setString(7, notes);
+                ps.setTimestamp(8, now);
+                ps.setTimestamp(9, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return inserts.size();
+            }
+        });
+    }
+
+    private void updatePayments(List<Match> updates, String notes, Timestamp now) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PAYMENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Match match = updates.get(i);
+                ps.setBigDecimal(1, match.row().amount());
+                ps.setDate(2, Date.valueOf(match.row().paymentDate()));
+                ps.setString(3, match.row().method());
+                ps.setString(4, match.row().transactionId());
+                ps.setString(5, notes);
+                ps.setTimestamp(6, now);
+                ps.setLong(7, match.invoice().paymentId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+    }
+
+    private void markInvoicesPaid(List<Match> inserts, List<Match> updates, Timestamp now) {
+        List<Match> paid = new ArrayList<>(inserts.size() + updates.size());
+        paid.addAll(inserts);
+        paid.addAll(updates);
+        if (paid.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_INVOICE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Match match = paid.get(i);
+                ps.setDate(1, Date.valueOf(match.row().paymentDate()));
+                ps.setTimestamp(2, now);
+                ps.setLong(3, match.invoice().invoiceId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return paid.size();
+            }
+        });
+    }
+
+    private void insertIssues(Long runId, List<Issue> issues, Timestamp now) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ISSUE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Issue issue = issues.get(i);
+                SettlementCsvReader.Row row = issue.row();
+                ps.setLong(1, runId);
+                ps.setLong(2, row.lineNumber());
+                ps.setString(3, issue.reason().name());
+                ps.setString(4, truncate(row.invoiceNumber(), 255));
+                ps.setObject(5, issue.invoice() != null ? issue.invoice().invoiceId() : null, Types.BIGINT);
+                ps.setString(6, truncate(row.transactionId(), 255));
+                ps.setBigDecimal(7, row.amount());
+                ps.setBigDecimal(8, issue.invoice() != null ? issue.invoice().totalAmount() : null);
+                ps.setString(9, truncate(issue.message(), 500));
+                ps.setString(10, truncate(row.raw(), 1000));
+                ps.setTimestamp(11, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return issues.size();
+            }
+        });
+    }
+
+    /**
+     * 결제 완료 이벤트 (구매 요청 상태 변경은 커밋 후 처리)
+     */
+    private void publishCompleted(List<Match> inserts, List<Match> updates) {
+        for (Match match : updates) {
+            processEventPublisher.publishPaymentCompleted(match.invoice().paymentId(), match.invoice().invoiceId(),
+                    match.invoice().purchaseRequestId());
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+        List<Object> invoiceIds = new ArrayList<>(inserts.size());
+        for (Match match : inserts) {
+            invoiceIds.add(match.invoice().invoiceId());
+        }
+        jdbcTemplate.query(String.format(SELECT_CREATED_PAYMENTS_SQL, placeholders(invoiceIds.size())),
+                (RowCallbackHandler) rs -> processEventPublisher.publishPaymentCompleted(rs.getLong("id"),
+                        rs.getLong("invoice_id"), rs.getObject("purchase_request_id", Long.class)),
+                invoiceIds.toArray());
+    }
+
+    private PaymentReconciliationRun start(String fileName, String requestedBy) {
+        PaymentReconciliationRun run = new PaymentReconciliationRun();
+        run.setStatus(PaymentReconciliationRun.Status.RUNNING);
+        run.setFileName(truncate(fileName, 255));
+        run.setRequestedBy(requestedBy);
+        run.setStartedAt(LocalDateTime.now());
+        return runRepository.save(run);
+    }
+
+    private PaymentReconciliationRun finish(Long runId, PaymentReconciliationRun.Status result, long rows,
+                                            long startedAt, String error) {
+        return transactionTemplate.execute(status -> {
+            PaymentReconciliationRun run = getRun(runId);
+            run.setStatus(result);
+            run.setElapsedMs((System.nanoTime() - startedAt) / 1_000_000);
+            run.setRowsPerSecond(rowsPerSecond(rows, startedAt));
+            run.setLastError(truncate(error, 500));
+            run.setFinishedAt(LocalDateTime.now());
+            return run;
+        });
+    }
+
+    private static long rowsPerSecond(long rows, long startedAt) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -4,6 +4,7 @@ import com.orbit.dto.payment.PaymentDto;
 import com.orbit.entity.commonCode.SystemStatus;
 import com.orbit.entity.invoice.Invoice;
 import com.orbit.entity.paymant.Payment;
+import com.orbit.event.publisher.ProcessEventPublisher;
 import com.orbit.repository.invoice.InvoiceRepository;
 import com.orbit.repository.payment.PaymentRepository;
 import lombok.AllArgsConstructor;
@@ -28,6 +29,7 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final InvoiceRepository invoiceRepository;
+    private final ProcessEventPublisher processEventPublisher;
 
     /**
      * 모든 결제 정보 조회
@@ -102,6 +104,9 @@ public class PaymentService {
         invoice.setPaymentDate(payment.getPaymentDate());
         invoiceRepository.save(invoice);
 
+        // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+        processEventPublisher.publishPaymentCompleted(savedPayment.getId(), invoice.getId(), savedPayment.getPurchaseRequestId());
+
         return PaymentDto.fromEntity(savedPayment);
     }
 
@@ -150,6 +155,60 @@ public class PaymentService {
         return PaymentDto.fromEntity(updatedPayment);
     }
 
+    /**
+     * 결제 취소 (PG 취소 통지 등) - 송장은 다시 대기 상태로 돌린다.
+     */
+    @Transactional
+    public PaymentDto cancelPayment(Long id, String notes) {
+        Payment payment = paymentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다: " + id));
+
+        payment.setStatus(new SystemStatus("PAYMENT", "CANCELED"));
+        if (notes != null) {
+            payment.setNotes(notes);
+        }
+
+        Invoice invoice = payment.getInvoice();
+        invoice.setStatus(new SystemStatus("INVOICE", "WAITING"));
+        invoice.setPaymentDate(null);
+        invoiceRepository.save(invoice);
+
+        return PaymentDto.fromEntity(paymentRepository.save(payment));
+    }
+
+    /**
+     * 취소/실패한 결제를 새 거래로 다시 완료 처리 (재결제) - 송장당 결제는 1건이므로 기존 행을 고쳐 쓴다.
+     */
+    @Transactional
+    public PaymentDto recompletePayment(Long id, PaymentDto.PaymentCreateRequest request) {
+        Payment payment = paymentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다: " + id));
+        if ("COMPLETED".equals(payment.getStatus().getChildCode())) {
+            throw new IllegalStateException("이미 완료된 결제입니다: " + id);
+        }
+
+        Invoice invoice = payment.getInvoice();
+        payment.setTotalAmount(invoice.getTotalAmount());
+        payment.setPaymentDate(request.getPaymentDate() != null && !request.getPaymentDate().isEmpty()
+                ? LocalDate.parse(request.getPaymentDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"))
+                : LocalDate.now());
+        payment.setMethod(new SystemStatus("PAYMENT",
+                request.getPaymentMethod() != null ? request.getPaymentMethod() : "TRANSFER"));
+        payment.setStatus(new SystemStatus("PAYMENT", "COMPLETED"));
+        payment.setTransactionId(request.getTransactionId());
+        payment.setNotes(request.getNotes());
+        Payment savedPayment = paymentRepository.save(payment);
+
+        invoice.setStatus(new SystemStatus("INVOICE", "PAID"));
+        invoice.setPaymentDate(savedPayment.getPaymentDate());
+        invoiceRepository.save(invoice);
+
+        // 구매 요청 상태 변경 이벤트 (커밋 후 처리)
+        processEventPublisher.publishPaymentCompleted(savedPayment.getId(), invoice.getId(), savedPayment.getPurchaseRequestId());
+
+        return PaymentDto.fromEntity(savedPayment);
+    }
+
     /**
      * 결제 정보 삭제 (주의: 송장 상태도 업데이트 필요)
      */
@@ -0,0 +1,195 @@
+package com.orbit.service.payment;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 은행/PG 정산 파일(CSV) 한 줄씩 읽기
+ * - 첫 줄은 헤더이고, 열 순서는 자유롭다. invoice_number, amount 는 필수,
+ *   transaction_id, payment_date(yyyy-MM-dd 또는 yyyyMMdd), method(TRANSFER/CARD/CHECK) 는 선택이다.
+ * - 큰따옴표로 감싼 값(쉼표/따옴표 포함)을 지원한다. 한 값이 여러 줄에 걸친 경우는 지원하지 않는다.
+ * - 읽을 수 없는 줄은 예외 대신 error 가 채워진 Row 로 돌려준다. (검토 대상)
+ */
+class SettlementCsvReader implements Closeable {
+
+    static final Set<String> METHODS = Set.of("TRANSFER", "CARD", "CHECK");
+
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 정산 파일 한 행 (error 가 있으면 나머지 값은 비어 있을 수 있음)
+     */
+    record Row(long lineNumber, String invoiceNumber, BigDecimal amount, String transactionId,
+               LocalDate paymentDate, String method, String raw, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final LocalDate defaultPaymentDate;
+    private final int invoiceNumberColumn;
+    private final int amountColumn;
+    private final int transactionIdColumn;
+    private final int paymentDateColumn;
+    private final int methodColumn;
+    private long lineNumber;
+
+    /**
+     * @throws IllegalArgumentException 헤더가 없거나 필수 열이 없는 경우
+     */
+    SettlementCsvReader(InputStream in, Charset charset, LocalDate defaultPaymentDate) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), 64 * 1024);
+        this.defaultPaymentDate = defaultPaymentDate;
+
+        String header = reader.readLine();
+        lineNumber = 1;
+        if (header == null) {
+            throw new IllegalArgumentException("정산 파일이 비어 있습니다.");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        this.invoiceNumberColumn = required(columns, "invoice_number");
+        this.amountColumn = required(columns, "amount");
+        this.transactionIdColumn = columns.getOrDefault("transaction_id", -1);
+        this.paymentDateColumn = columns.getOrDefault("payment_date", -1);
+        this.methodColumn = columns.getOrDefault("method", -1);
+    }
+
+    /**
+     * 다음 행 (파일 끝이면 null, 빈 줄은 건너뜀)
+     */
+    Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        List<String> values;
+        try {
+            values = split(line);
+        } catch (IllegalArgumentException e) {
+            return error(line, e.getMessage());
+        }
+
+        String invoiceNumber = value(values, invoiceNumberColumn);
+        if (invoiceNumber == null) {
+            return error(line, "송장 번호가 없습니다.");
+        }
+        BigDecimal amount;
+        try {
+            String text = value(values, amountColumn);
+            if (text == null) {
+                return error(line, "금액이 없습니다.");
+            }
+            amount = new BigDecimal(text.replace(",", ""));
+        } catch (NumberFormatException e) {
+            return error(line, "금액 형식이 올바르지 않습니다.");
+        }
+
+        LocalDate paymentDate = defaultPaymentDate;
+        String dateText = value(values, paymentDateColumn);
+        if (dateText != null) {
+            try {
+                paymentDate = dateText.length() == 8 ? LocalDate.parse(dateText, BASIC_DATE) : LocalDate.parse(dateText);
+            } catch (DateTimeParseException e) {
+                return error(line, "결제일 형식이 올바르지 않습니다: " + dateText);
+            }
+        }
+
+        String method = value(values, methodColumn);
+        if (method == null) {
+            method = "TRANSFER";
+        } else {
+            method = method.toUpperCase(Locale.ROOT);
+            if (!METHODS.contains(method)) {
+                return error(line, "알 수 없는 결제 방법입니다: " + method);
+            }
+        }
+
+        return new Row(lineNumber, invoiceNumber, amount, value(values, transactionIdColumn),
+                paymentDate, method, line, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row error(String line, String message) {
+        return new Row(lineNumber, null, null, null, null, null, line, message);
+    }
+
+    private static int required(Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("정산 파일에 " + name + " 열이 없습니다.");
+        }
+        return index;
+    }
+
+    private static String value(List<String> values, int column) {
+        if (column < 0 || column >= values.size()) {
+            return null;
+        }
+        String value = values.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * CSV 한 줄 분리 (RFC 4180 따옴표 규칙, "" 는 따옴표 한 개)
+     */
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
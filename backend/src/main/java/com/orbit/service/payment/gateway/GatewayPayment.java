@@ -0,0 +1,30 @@
+package com.orbit.service.payment.gateway;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * PG(아임포트)에서 조회한 결제 건
+ * @param impUid      PG 거래 고유 번호
+ * @param merchantUid 가맹점 주문 번호 (송장 번호를 넣어 결제창을 연다)
+ * @param status      ready / paid / cancelled / failed
+ * @param paidAt      결제 완료 시각 (미완료면 null)
+ */
+public record GatewayPayment(String impUid, String merchantUid, BigDecimal amount, String status,
+                             String payMethod, Instant paidAt) {
+
+    public boolean isPaid() {
+        return "paid".equals(status);
+    }
+
+    public boolean isCancelled() {
+        return "cancelled".equals(status);
+    }
+
+    /**
+     * 더 이상 바뀌지 않거나(취소/실패) 바뀌면 웹훅이 오는 상태 - 캐시해도 되는 결과
+     */
+    public boolean isSettled() {
+        return isPaid() || isCancelled() || "failed".equals(status);
+    }
+}
@@ -0,0 +1,162 @@
+package com.orbit.service.payment.gateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 아임포트(포트원) REST API 클라이언트 (JDK HttpClient, 동기 호출)
+ * - 호출한 스레드에서 네트워크 응답을 기다리므로 PaymentGateway 의 전용 실행기에서만 부른다.
+ * - 연결/요청마다 시간 제한이 있고, 접근 토큰은 만료 1분 전까지 재사용한다.
+ * - baseUrl 만 바꾸면 로컬 스텁(부하 테스트)으로 보낼 수 있다.
+ */
+public class IamportClient {
+
+    // 토큰 만료 전에 미리 새로 받는 여유 시간
+    private static final long TOKEN_MARGIN_MILLIS = 60_000L;
+
+    private record AccessToken(String value, long expiresAtMillis) {
+    }
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final String apiSecret;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private volatile AccessToken accessToken;
+
+    public IamportClient(String baseUrl, String apiKey, String apiSecret,
+                         Duration connectTimeout, Duration requestTimeout, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    /**
+     * 결제 단건 조회 (GET /payments/{imp_uid})
+     * @throws PaymentGatewayException NOT_FOUND(없는 거래), UNAVAILABLE/TIMEOUT(PG 장애)
+     */
+    public GatewayPayment getPayment(String impUid) {
+        URI uri = URI.create(baseUrl + "/payments/" + URLEncoder.encode(impUid, StandardCharsets.UTF_8));
+        HttpResponse<String> response = send(paymentRequest(uri, token()));
+        if (response.statusCode() == 401) {
+            // 다른 노드에서 토큰을 새로 받아 기존 토큰이 무효가 된 경우 - 한 번만 다시 받는다.
+            accessToken = null;
+            response = send(paymentRequest(uri, token()));
+        }
+        if (response.statusCode() == 404) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.NOT_FOUND, "PG 거래를 찾을 수 없습니다: " + impUid);
+        }
+        JsonNode payment = body(response, "결제 조회");
+        return new GatewayPayment(
+                text(payment, "imp_uid"),
+                text(payment, "merchant_uid"),
+                payment.hasNonNull("amount") ? payment.get("amount").decimalValue() : BigDecimal.ZERO,
+                text(payment, "status"),
+                text(payment, "pay_method"),
+                payment.path("paid_at").asLong(0) > 0 ? Instant.ofEpochSecond(payment.get("paid_at").asLong()) : null);
+    }
+
+    private HttpRequest paymentRequest(URI uri, String token) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Authorization", token)
+                .GET()
+                .build();
+    }
+
+    /**
+     * 접근 토큰 (POST /users/getToken, 만료 전까지 재사용)
+     */
+    private String token() {
+        AccessToken current = accessToken;
+        if (current != null && System.currentTimeMillis() < current.expiresAtMillis()) {
+            return current.value();
+        }
+        synchronized (this) {
+            current = accessToken;
+            if (current != null && System.currentTimeMillis() < current.expiresAtMillis()) {
+                return current.value();
+            }
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(Map.of("imp_key", apiKey, "imp_secret", apiSecret));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/getToken"))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+            JsonNode token = body(send(request), "토큰 발급");
+            // PG 서버 시각(now) 기준 남은 시간만 사용해 서버 간 시계 차이를 피한다.
+            long ttlMillis = (token.path("expired_at").asLong() - token.path("now").asLong()) * 1000L;
+            accessToken = new AccessToken(token.path("access_token").asText(),
+                    System.currentTimeMillis() + Math.max(0, ttlMillis - TOKEN_MARGIN_MILLIS));
+            return accessToken.value();
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (HttpTimeoutException e) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.TIMEOUT,
+                    "PG 응답 시간 초과: " + request.uri().getPath(), e);
+        } catch (IOException e) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.UNAVAILABLE,
+                    "PG 연결 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.UNAVAILABLE, "PG 호출 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 응답 본문의 response 노드 (5xx 는 장애, 그 밖의 오류 코드는 거절)
+     */
+    private JsonNode body(HttpResponse<String> response, String action) {
+        int status = response.statusCode();
+        if (status >= 500) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.UNAVAILABLE,
+                    "PG " + action + " 실패 (HTTP " + status + ")");
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.UNAVAILABLE,
+                    "PG " + action + " 응답을 읽을 수 없습니다.", e);
+        }
+        if (status >= 400 || root.path("code").asInt(-1) != 0 || !root.hasNonNull("response")) {
+            throw new PaymentGatewayException(PaymentGatewayException.Kind.REJECTED,
+                    "PG " + action + " 거절 (HTTP " + status + "): " + root.path("message").asText(""));
+        }
+        return root.get("response");
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+}
@@ -0,0 +1,244 @@
+package com.orbit.service.payment.gateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbit.util.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG 결제 조회 어댑터 (비동기)
+ * - 조회는 전용 스레드 풀에서만 실행하고 CompletableFuture 로 돌려준다. 호출자는 DB 트랜잭션/커넥션 없이 기다린다.
+ * - 벌크헤드: 스레드 수 + 대기열 크기를 넘는 요청은 바로 BULKHEAD_FULL 로 거절한다. (PG 가 느려져도 다른 기능 스레드를 잡지 않음)
+ * - 시간 제한: 대기열 대기 + 호출 전체가 timeout 을 넘으면 TIMEOUT. 대기 중에 시간이 지난 요청은 호출하지 않는다.
+ * - 서킷 브레이커: PG 장애(5xx/연결 실패/시간 초과)가 쌓이면 일정 시간 호출 없이 CIRCUIT_OPEN 으로 거절한다.
+ * - 캐시: 결과가 확정된(paid/cancelled/failed) 조회만 imp_uid 별로 TTL 동안 보관한다. (LRU)
+ * - 같은 imp_uid 를 동시에 조회하면 진행 중인 호출 하나를 함께 기다린다.
+ */
+@Slf4j
+@Component
+public class PaymentGateway {
+
+    private record CachedPayment(GatewayPayment payment, long expiresAt) {
+    }
+
+    /**
+     * 상태 조회용 스냅샷
+     */
+    public record Stats(String circuitState, int recentFailures, long circuitRejected, int activeCalls, int queuedCalls,
+                        long bulkheadRejected, long timeouts, long cacheHits, long cacheMisses, int cacheSize) {
+    }
+
+    private final IamportClient client;
+    private final ThreadPoolExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutMillis;
+    private final int cacheSize;
+    private final long cacheTtlNanos;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰지 않은 항목부터 제거
+    private final Map<String, CachedPayment> cache;
+    private final Map<String, CompletableFuture<GatewayPayment>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong bulkheadRejected = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    @Autowired
+    public PaymentGateway(ObjectMapper objectMapper,
+                          @Value("${portone.base-url:https://api.iamport.kr}") String baseUrl,
+                          @Value("${portone.api-key}") String apiKey,
+                          @Value("${portone.api-secret}") String apiSecret,
+                          @Value("${payment.gateway.connect-timeout-ms:1000}") long connectTimeoutMs,
+                          @Value("${payment.gateway.request-timeout-ms:3000}") long requestTimeoutMs,
+                          @Value("${payment.gateway.timeout-ms:5000}") long timeoutMs,
+                          @Value("${payment.gateway.threads:8}") int threads,
+                          @Value("${payment.gateway.queue-capacity:32}") int queueCapacity,
+                          @Value("${payment.gateway.circuit.window-size:20}") int windowSize,
+                          @Value("${payment.gateway.circuit.failure-threshold:10}") int failureThreshold,
+                          @Value("${payment.gateway.circuit.open-ms:30000}") long openMs,
+                          @Value("${payment.gateway.cache.size:10000}") int cacheSize,
+                          @Value("${payment.gateway.cache.ttl-ms:600000}") long cacheTtlMs) {
+        this(new IamportClient(baseUrl, apiKey, apiSecret, Duration.ofMillis(connectTimeoutMs),
+                        Duration.ofMillis(requestTimeoutMs), objectMapper),
+                new CircuitBreaker(windowSize, failureThreshold, openMs),
+                threads, queueCapacity, timeoutMs, cacheSize, cacheTtlMs);
+    }
+
+    public PaymentGateway(IamportClient client, CircuitBreaker circuitBreaker, int threads, int queueCapacity,
+                          long timeoutMs, int cacheSize, long cacheTtlMs) {
+        this.client = client;
+        this.circuitBreaker = circuitBreaker;
+        this.timeoutMillis = timeoutMs;
+        this.cacheSize = Math.max(0, cacheSize);
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMs);
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPayment> eldest) {
+                return size() > PaymentGateway.this.cacheSize;
+            }
+        };
+
+        AtomicInteger sequence = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payment-gateway-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * imp_uid 결제 조회 (캐시 -> 진행 중인 조회 -> 새 조회 순)
+     * - 실패는 PaymentGatewayException 으로 끝난다. (PaymentGatewayException.from 으로 꺼냄)
+     */
+    public CompletableFuture<GatewayPayment> getPayment(String impUid) {
+        GatewayPayment cached = cached(impUid);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+        cacheMisses.incrementAndGet();
+
+        CompletableFuture<GatewayPayment> promise = new CompletableFuture<>();
+        CompletableFuture<GatewayPayment> running = inFlight.putIfAbsent(impUid, promise);
+        if (running != null) {
+            return translated(running);
+        }
+        promise.whenComplete((payment, error) -> inFlight.remove(impUid, promise));
+        promise.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((payment, error) -> {
+                    if (error instanceof TimeoutException) {
+                        timeouts.incrementAndGet();
+                    }
+                });
+        start(impUid, promise);
+        return translated(promise);
+    }
+
+    /**
+     * 캐시를 건너뛰고 다시 조회 (웹훅 등 상태가 바뀐 것을 알고 있는 경우)
+     */
+    public CompletableFuture<GatewayPayment> refreshPayment(String impUid) {
+        evict(impUid);
+        return getPayment(impUid);
+    }
+
+    public void evict(String impUid) {
+        synchronized (cache) {
+            cache.remove(impUid);
+        }
+    }
+
+    public Stats getStats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new Stats(circuitBreaker.getState().name(), circuitBreaker.getRecentFailures(),
+                circuitBreaker.getRejectedCount(), executor.getActiveCount(), executor.getQueue().size(),
+                bulkheadRejected.get(), timeouts.get(), cacheHits.get(), cacheMisses.get(), size);
+    }
+
+    private void start(String impUid, CompletableFuture<GatewayPayment> promise) {
+        if (!circuitBreaker.tryAcquire()) {
+            promise.completeExceptionally(new PaymentGatewayException(PaymentGatewayException.Kind.CIRCUIT_OPEN,
+                    "PG 장애로 결제 조회를 잠시 중단했습니다."));
+            return;
+        }
+        try {
+            executor.execute(() -> call(impUid, promise));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.release();
+            bulkheadRejected.incrementAndGet();
+            promise.completeExceptionally(new PaymentGatewayException(PaymentGatewayException.Kind.BULKHEAD_FULL,
+                    "PG 결제 조회 요청이 너무 많습니다."));
+        }
+    }
+
+    private void call(String impUid, CompletableFuture<GatewayPayment> promise) {
+        if (promise.isDone()) {
+            // 대기열에서 시간이 다 지난 요청 - 호출하지 않는다.
+            circuitBreaker.release();
+            return;
+        }
+        try {
+            GatewayPayment payment = client.getPayment(impUid);
+            circuitBreaker.onSuccess();
+            if (payment.isSettled()) {
+                put(impUid, payment);
+            }
+            promise.complete(payment);
+        } catch (PaymentGatewayException e) {
+            if (e.isGatewayFailure()) {
+                circuitBreaker.onFailure();
+                log.warn("PG 결제 조회 실패 - imp_uid: {}, {}", impUid, e.getMessage());
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            promise.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            log.error("PG 결제 조회 오류 - imp_uid: {}", impUid, e);
+            promise.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 호출자가 공유 promise 를 완료시키지 못하도록 복사본을 주고, 실패 원인은 PaymentGatewayException 으로 바꾼다.
+     */
+    private static CompletableFuture<GatewayPayment> translated(CompletableFuture<GatewayPayment> promise) {
+        return promise.copy().exceptionallyCompose(error ->
+                CompletableFuture.failedFuture(PaymentGatewayException.from(error)));
+    }
+
+    private GatewayPayment cached(String impUid) {
+        synchronized (cache) {
+            CachedPayment cached = cache.get(impUid);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.expiresAt() >= 0) {
+                cache.remove(impUid);
+                return null;
+            }
+            return cached.payment();
+        }
+    }
+
+    private void put(String impUid, GatewayPayment payment) {
+        if (cacheSize == 0) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(impUid, new CachedPayment(payment, System.nanoTime() + cacheTtlNanos));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
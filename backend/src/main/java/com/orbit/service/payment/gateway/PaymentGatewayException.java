@@ -0,0 +1,70 @@
+package com.orbit.service.payment.gateway;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PG 호출 실패
+ * - UNAVAILABLE / TIMEOUT 만 PG 장애로 보고 서킷 브레이커 실패로 센다.
+ * - NOT_FOUND / REJECTED 는 PG 가 정상 응답한 결과이므로 재시도해도 같다.
+ * - CIRCUIT_OPEN / BULKHEAD_FULL 은 호출하지 않고 바로 거절한 경우다.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public enum Kind {
+        NOT_FOUND,
+        REJECTED,
+        UNAVAILABLE,
+        TIMEOUT,
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL
+    }
+
+    private final Kind kind;
+
+    public PaymentGatewayException(Kind kind, String message) {
+        super(message);
+        this.kind = kind;
+    }
+
+    public PaymentGatewayException(Kind kind, String message, Throwable cause) {
+        super(message, cause);
+        this.kind = kind;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * PG 장애로 볼 실패인지 (서킷 브레이커 집계 대상)
+     */
+    public boolean isGatewayFailure() {
+        return kind == Kind.UNAVAILABLE || kind == Kind.TIMEOUT;
+    }
+
+    /**
+     * 나중에 다시 시도하면 결과가 달라질 수 있는지 (웹훅 재처리 판단)
+     */
+    public boolean isRetryable() {
+        return kind != Kind.NOT_FOUND && kind != Kind.REJECTED;
+    }
+
+    /**
+     * CompletableFuture 실패 원인을 PaymentGatewayException 으로 변환
+     */
+    public static PaymentGatewayException from(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof PaymentGatewayException gatewayException) {
+            return gatewayException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new PaymentGatewayException(Kind.TIMEOUT, "PG 결제 조회 시간이 초과되었습니다.", cause);
+        }
+        return new PaymentGatewayException(Kind.UNAVAILABLE, "PG 결제 조회에 실패했습니다: " + cause.getMessage(), cause);
+    }
+}
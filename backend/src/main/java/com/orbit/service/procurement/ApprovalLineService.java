@@ -1,5 +1,9 @@
 package com.orbit.service.procurement;
 
+import com.orbit.dto.approval.ApprovalBulkProcessDTO;
+import com.orbit.dto.approval.ApprovalBulkResultDTO;
+import com.orbit.dto.approval.ApprovalInboxEventDTO;
+import com.orbit.dto.approval.ApprovalInboxPageDTO;
 import com.orbit.dto.approval.ApprovalLineCreateDTO;
 import com.orbit.dto.approval.ApprovalLineResponseDTO;
 import com.orbit.dto.approval.ApprovalProcessDTO;
@@ -20,10 +24,15 @@ import com.orbit.repository.commonCode.ChildCodeRepository;
 import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.procurement.PurchaseRequestRepository;
+import com.orbit.service.organization.OrgChartIndex;
+import com.orbit.service.organization.OrgChartSnapshot;
+import com.orbit.service.organization.OrgChartSnapshot.DepartmentNode;
+import com.orbit.service.organization.OrgChartSnapshot.MemberNode;
+import com.orbit.service.websocket.WebSocketOutboundPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -31,7 +40,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -50,10 +66,12 @@ public class ApprovalLineService {
     private final ChildCodeRepository childCodeRepo;
     private final DepartmentRepository departmentRepo;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketOutboundPublisher publisher;
     private final ApprovalTemplateRepository templateRepository;
     private final ApprovalTemplateStepRepository templateStepRepository;
+    private final OrgChartIndex orgChartIndex;
     private static final int MAX_APPROVAL_STEPS = 3;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
 
     // 결재선 생성 메서드
     public ApprovalLineResponseDTO createApprovalLine(ApprovalLineCreateDTO dto) {
@@ -70,6 +88,7 @@ public class ApprovalLineService {
         // 결재선 생성
         List<ApprovalLine> lines = createApprovalLines(request, dto.getApproverIds(), parentCode);
         approvalLineRepo.saveAll(lines);
+        notifyCurrentApprovers(lines);
 
         // 실시간 업데이트
         sendRealTimeUpdate(request.getId());
@@ -78,107 +97,57 @@ public class ApprovalLineService {
         return convertToDTO(lines.get(0));
     }
 
-    // 결재 가능한 멤버 조회 메서드
+    // 결재 가능한 멤버 조회 메서드 (조직도 메모리 인덱스 사용 - 멤버/부서 조회 없음)
     private List<Member> findEligibleMembersForApproval(PurchaseRequest request) {
+        OrgChartSnapshot orgChart = orgChartIndex.snapshot();
+
         // 기안자의 부서 가져오기
         Department requesterDepartment = request.getMember().getDepartment();
-
-        List<Member> approvers = new ArrayList<>();
-
-        // 1. 해당 부서의 상위 직급 멤버 (팀장/부서장) 조회
-        List<Member> departmentHeads = memberRepo.findByDepartmentAndPositionLevelGreaterThan(
-                requesterDepartment,
-                requesterDepartment.getTeamLeaderLevel() // 팀장 직급 수준
-        );
-
-        // 2. 재무/구매팀 담당자 조회 - 예외 처리 추가하여 찾을 수 없는 경우 다른 부서를 사용
-        Department financeDepartment = null;
-        try {
-            financeDepartment = departmentRepo.findByName("재무팀")
-                    .orElseGet(() -> departmentRepo.findByName("재무회계팀")
-                            .orElse(null));
-        } catch (Exception e) {
-            log.warn("재무팀 또는 재무회계팀을 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        Department purchaseDepartment = null;
-        try {
-            purchaseDepartment = departmentRepo.findByName("구매팀")
-                    .orElseGet(() -> departmentRepo.findByName("구매관리팀")
-                            .orElse(null));
-        } catch (Exception e) {
-            log.warn("구매팀 또는 구매관리팀을 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        List<Member> financeMembers = new ArrayList<>();
-        if (financeDepartment != null) {
-            financeMembers = memberRepo.findByDepartmentAndPositionLevelBetween(
-                    financeDepartment,
-                    financeDepartment.getMiddleManagerLevel(),
-                    financeDepartment.getUpperManagerLevel()
-            );
-        }
-
-        List<Member> purchaseMembers = new ArrayList<>();
-        if (purchaseDepartment != null) {
-            purchaseMembers = memberRepo.findByDepartmentAndPositionLevelBetween(
-                    purchaseDepartment,
-                    purchaseDepartment.getMiddleManagerLevel(),
-                    purchaseDepartment.getUpperManagerLevel()
-            );
-        }
-
-        // 3. 임원 조회 - 예외 처리 추가
-        Department executiveDept = null;
-        try {
-            executiveDept = departmentRepo.findByName("임원")
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("임원 부서를 찾을 수 없습니다: {}", e.getMessage());
-        }
-
-        List<Member> executives = new ArrayList<>();
-        if (executiveDept != null) {
-            executives = memberRepo.findByPositionLevelGreaterThan(
-                    executiveDept.getExecutiveLevel()
-            );
-        } else {
-            // 임원 부서가 없는 경우 직급 수준이 높은 멤버를 임원으로 간주
-            // 직급 수준 상수 대신 직접 숫자 값을 사용 (예: 8이 임원급 직급 수준이라고 가정)
-            executives = memberRepo.findByPositionLevelGreaterThan(8);
-        }
-
-        // 결재선 구성
-        // 1. 기안자 부서의 팀장/부서장 중 한 명
-        if (!departmentHeads.isEmpty()) {
-            approvers.add(departmentHeads.get(0));
-        }
-
-        // 2. 재무팀 또는 구매팀 담당자 중 한 명
-        if (!financeMembers.isEmpty()) {
-            approvers.add(financeMembers.get(0));
-        } else if (!purchaseMembers.isEmpty()) {
-            approvers.add(purchaseMembers.get(0));
-        }
+        Long requesterDepartmentId = requesterDepartment != null ? requesterDepartment.getId() : null;
+
+        List<Long> approverIds = new ArrayList<>();
+
+        // 1. 해당 부서의 상위 직급 멤버 (팀장/부서장) 중 한 명
+        orgChart.department(requesterDepartmentId)
+                .flatMap(department -> orgChart.firstInDepartmentAbove(department.id(), department.teamLeaderLevel()))
+                .ifPresent(member -> approverIds.add(member.id()));
+
+        // 2. 재무팀 또는 구매팀 담당자 중 한 명 - 찾을 수 없는 경우 다른 부서를 사용
+        Optional<MemberNode> financeMember = orgChart.department("재무팀")
+                .or(() -> orgChart.department("재무회계팀"))
+                .flatMap(department -> orgChart.firstInDepartmentBetween(department.id(),
+                        department.middleManagerLevel(), department.upperManagerLevel()));
+        Optional<MemberNode> staffMember = financeMember.or(() -> orgChart.department("구매팀")
+                .or(() -> orgChart.department("구매관리팀"))
+                .flatMap(department -> orgChart.firstInDepartmentBetween(department.id(),
+                        department.middleManagerLevel(), department.upperManagerLevel())));
+        staffMember.ifPresent(member -> approverIds.add(member.id()));
 
         // 3. 임원 중 한 명
-        if (!executives.isEmpty()) {
-            approvers.add(executives.get(0));
+        // 임원 부서가 없는 경우 직급 수준이 높은 멤버를 임원으로 간주 (예: 8이 임원급 직급 수준이라고 가정)
+        int executiveLevel = orgChart.department("임원")
+                .map(DepartmentNode::executiveLevel)
+                .orElse(8);
+        orgChart.highestAbove(executiveLevel).ifPresent(member -> approverIds.add(member.id()));
+
+        // 필요한 승인자 수를 맞추기 위해 직급 높은 순으로 추가 (멤버가 부족하면 있는 만큼만)
+        for (MemberNode member : orgChart.membersByLevelDesc()) {
+            if (approverIds.size() >= MAX_APPROVAL_STEPS) {
+                break;
+            }
+            if (!approverIds.contains(member.id())) {
+                approverIds.add(member.id());
+            }
         }
 
-        // 필요한 승인자 수를 맞추기 위해 추가 로직
-        while (approvers.size() < 3) {
-            // 직급 높은 순으로 정렬된 전체 멤버 중 추가
-            List<Member> allMembers = memberRepo.findAllSortedByPositionLevel();
-            for (Member member : allMembers) {
-                if (!approvers.contains(member)) {
-                    approvers.add(member);
-                    break;
-                }
-            }
+        if (approverIds.size() < MAX_APPROVAL_STEPS) {
+            log.warn("자동 결재선 승인자가 부족합니다 - 구매요청 ID: {}, 승인자: {}명", request.getId(), approverIds.size());
         }
 
-        return approvers;
+        // 선택된 멤버는 프록시로만 참조 (결재선 저장 시 FK 로만 사용)
+        return approverIds.stream()
+                .map(memberRepo::getReferenceById)
+                .collect(Collectors.toList());
     }
 
 
@@ -229,6 +198,7 @@ public class ApprovalLineService {
         }
 
         approvalLineRepo.saveAll(lines);
+        notifyCurrentApprovers(lines);
 
         // 실시간 업데이트
         sendRealTimeUpdate(request.getId());
@@ -293,6 +263,183 @@ public class ApprovalLineService {
         return convertToDTO(line);
     }
 
+    /**
+     * 결재 일괄 처리 (승인/반려)
+     * - 전체를 하나의 트랜잭션에서 처리하고, 구매요청별로 묶어 결재 단계 순서대로 적용한다.
+     * - 결재선 변경은 한 건씩 저장하지 않고 상태별 UPDATE 로 묶어서 반영한다. (건수와 관계없이 최대 3회)
+     * - 구매요청 상태 판정과 /topic/approvals/{id} 실시간 업데이트는 구매요청당 한 번만 수행한다.
+     * - 찾을 수 없거나 이미 처리된 결재선은 건너뛰고 결과에 실패로 표시한다.
+     */
+    public ApprovalBulkResultDTO processApprovals(ApprovalBulkProcessDTO dto) {
+        String action = dto.getAction().toUpperCase();
+        if (!"APPROVE".equals(action) && !"REJECT".equals(action)) {
+            throw new ApprovalException("잘못된 결재 액션: " + dto.getAction());
+        }
+        boolean approve = "APPROVE".equals(action);
+
+        // 상태 코드는 한 번만 조회
+        ParentCode parentCode = findParentCode(ENTITY_TYPE, CODE_GROUP);
+        String nextStatusCode = dto.getNextStatusCode() != null
+                ? dto.getNextStatusCode()
+                : (approve ? "APPROVED" : "REJECTED");
+        ChildCode nextStatus = findChildCode(parentCode, nextStatusCode);
+        ChildCode inReviewStatus = findChildCode(parentCode, "IN_REVIEW");
+        ChildCode rejectedStatus = findChildCode(parentCode, "REJECTED");
+        ChildCode approvedStatus = findChildCode(parentCode, "APPROVED");
+
+        Set<Long> lineIds = new LinkedHashSet<>(dto.getLineIds());
+        lineIds.remove(null);
+
+        // 대상 구매요청의 결재선 전체를 한 번에 조회해서 구매요청별로 묶는다
+        List<Long> requestIds = lineIds.isEmpty() ? List.of() : approvalLineRepo.findRequestIdsByLineIds(lineIds);
+        Map<Long, ApprovalLine> linesById = new HashMap<>();
+        Map<Long, List<ApprovalLine>> linesByRequest = new LinkedHashMap<>();
+        if (!requestIds.isEmpty()) {
+            for (ApprovalLine line : approvalLineRepo.findAllByRequestIdIn(requestIds)) {
+                linesById.put(line.getId(), line);
+                linesByRequest.computeIfAbsent(line.getPurchaseRequest().getId(), id -> new ArrayList<>()).add(line);
+            }
+        }
+
+        Map<Long, ApprovalBulkResultDTO.LineResult> results = new LinkedHashMap<>();
+        Map<Long, List<ApprovalLine>> targetsByRequest = new LinkedHashMap<>();
+        for (Long lineId : lineIds) {
+            ApprovalLine line = linesById.get(lineId);
+            if (line == null) {
+                results.put(lineId, lineResult(lineId, null, false, null, "결재선을 찾을 수 없습니다."));
+                continue;
+            }
+            results.put(lineId, null); // 요청 순서 유지
+            targetsByRequest.computeIfAbsent(line.getPurchaseRequest().getId(), id -> new ArrayList<>()).add(line);
+        }
+
+        // 구매요청별로 메모리에서 처리 결과 계산 (단건 처리를 단계 순서대로 반복한 것과 같은 결과)
+        Map<Long, ChildCode> changedStatus = new HashMap<>();
+        Set<Long> processedIds = new LinkedHashSet<>();
+        Set<Long> touchedRequests = new LinkedHashSet<>();
+
+        targetsByRequest.forEach((requestId, targets) -> {
+            List<ApprovalLine> requestLines = linesByRequest.get(requestId);
+            targets.sort(Comparator.comparing(ApprovalLine::getStep));
+
+            for (ApprovalLine target : targets) {
+                ChildCode current = changedStatus.getOrDefault(target.getId(), target.getStatus());
+                if (isCompleted(current, approvedStatus, rejectedStatus)) {
+                    results.put(target.getId(), lineResult(target.getId(), requestId, false,
+                            current.getCodeValue(), "이미 처리된 결재선입니다."));
+                    continue;
+                }
+
+                changedStatus.put(target.getId(), nextStatus);
+                processedIds.add(target.getId());
+                touchedRequests.add(requestId);
+
+                if (approve) {
+                    // 다음 단계로 진행
+                    requestLines.stream()
+                            .filter(l -> l.getStep() > target.getStep())
+                            .findFirst()
+                            .ifPresent(next -> changedStatus.put(next.getId(), inReviewStatus));
+                } else {
+                    // 남은 검토 중 단계 취소
+                    requestLines.stream()
+                            .filter(l -> l.getStep() > target.getStep())
+                            .filter(l -> "IN_REVIEW".equals(
+                                    changedStatus.getOrDefault(l.getId(), l.getStatus()).getCodeValue()))
+                            .forEach(l -> changedStatus.put(l.getId(), rejectedStatus));
+                }
+
+                results.put(target.getId(), lineResult(target.getId(), requestId, true,
+                        nextStatus.getCodeValue(), null));
+            }
+        });
+
+        // 결재선 변경 반영 - 처리한 결재선 1회 + 상태만 바뀐 결재선 상태별 1회
+        LocalDateTime processedAt = LocalDateTime.now();
+        if (!processedIds.isEmpty()) {
+            approvalLineRepo.updateProcessed(processedIds, nextStatus, processedAt, dto.getComment());
+        }
+        Map<ChildCode, List<Long>> statusOnly = new LinkedHashMap<>();
+        changedStatus.forEach((lineId, status) -> {
+            if (!processedIds.contains(lineId)) {
+                statusOnly.computeIfAbsent(status, code -> new ArrayList<>()).add(lineId);
+            }
+        });
+        statusOnly.forEach((status, ids) -> approvalLineRepo.updateStatus(ids, status));
+
+        // UPDATE 후 영속성 컨텍스트가 비워졌으므로, 조회해 둔 결재선(준영속)에 결과를 반영해 응답/알림에 사용
+        changedStatus.forEach((lineId, status) -> {
+            ApprovalLine line = linesById.get(lineId);
+            line.setStatus(status);
+            if (processedIds.contains(lineId)) {
+                line.setApprovedAt(processedAt);
+                line.setComment(dto.getComment());
+            }
+        });
+
+        // 구매요청별 상태 판정 1회 - 모든 결재선이 승인이면 구매요청 접수 처리
+        List<Long> receivedRequestIds = touchedRequests.stream()
+                .filter(requestId -> linesByRequest.get(requestId).stream()
+                        .allMatch(line -> line.getStatus().getId().equals(approvedStatus.getId())))
+                .collect(Collectors.toList());
+        if (!receivedRequestIds.isEmpty()) {
+            ParentCode requestParentCode = findRequestParentCode();
+            ChildCode receivedStatus = findReceivedStatus(requestParentCode);
+            for (PurchaseRequest purchaseRequest : purchaseRequestRepo.findAllById(receivedRequestIds)) {
+                markRequestReceived(purchaseRequest, requestParentCode, receivedStatus);
+            }
+        }
+
+        // 구매요청별 실시간 업데이트 1회 + 새로 검토 차례가 된 결재자 알림
+        for (Long requestId : touchedRequests) {
+            List<ApprovalLine> requestLines = linesByRequest.get(requestId);
+            publisher.coalesce("/topic/approvals/" + requestId,
+                    requestLines.stream().map(this::convertToDTO).collect(Collectors.toList()));
+
+            requestLines.stream()
+                    .filter(line -> changedStatus.get(line.getId()) == inReviewStatus)
+                    .forEach(this::sendApprovalNotification);
+        }
+
+        // 결재함에서 빠진 결재선은 결재자별로 한 번에 알림
+        Map<String, List<Long>> removedByApprover = new LinkedHashMap<>();
+        changedStatus.forEach((lineId, status) -> {
+            if (status != inReviewStatus) {
+                ApprovalLine line = linesById.get(lineId);
+                removedByApprover.computeIfAbsent(line.getApprover().getUsername(), u -> new ArrayList<>()).add(lineId);
+            }
+        });
+        removedByApprover.forEach(this::notifyRemovedFromInbox);
+
+        List<ApprovalBulkResultDTO.LineResult> lineResults = new ArrayList<>(results.values());
+        int successCount = (int) lineResults.stream().filter(ApprovalBulkResultDTO.LineResult::isSuccess).count();
+        log.info("결재 일괄 처리 - 액션: {}, 요청: {}건, 성공: {}건, 구매요청: {}건, 접수 전환: {}건",
+                action, lineResults.size(), successCount, touchedRequests.size(), receivedRequestIds.size());
+
+        return ApprovalBulkResultDTO.builder()
+                .requestedCount(lineResults.size())
+                .successCount(successCount)
+                .failureCount(lineResults.size() - successCount)
+                .purchaseRequestCount(touchedRequests.size())
+                .results(lineResults)
+                .build();
+    }
+
+    private boolean isCompleted(ChildCode status, ChildCode approvedStatus, ChildCode rejectedStatus) {
+        return status.getId().equals(approvedStatus.getId()) || status.getId().equals(rejectedStatus.getId());
+    }
+
+    private ApprovalBulkResultDTO.LineResult lineResult(Long lineId, Long requestId, boolean success,
+                                                        String statusCode, String message) {
+        return ApprovalBulkResultDTO.LineResult.builder()
+                .lineId(lineId)
+                .purchaseRequestId(requestId)
+                .success(success)
+                .statusCode(statusCode)
+                .message(message)
+                .build();
+    }
+
     // 결재 처리 액션 메서드
     private void processApprovalAction(ApprovalLine line, ApprovalProcessDTO dto,
                                        ChildCode nextStatus, ParentCode parentCode) {
@@ -310,6 +457,7 @@ public class ApprovalLineService {
         }
 
         approvalLineRepo.save(line);
+        notifyRemovedFromInbox(line.getApprover().getUsername(), List.of(line.getId()));
     }
 
     // 다음 단계로 진행
@@ -337,6 +485,7 @@ public class ApprovalLineService {
                 .forEach(l -> {
                     l.setStatus(rejectedStatus);
                     approvalLineRepo.save(l);
+                    notifyRemovedFromInbox(l.getApprover().getUsername(), List.of(l.getId()));
                 });
     }
 
@@ -385,10 +534,10 @@ public class ApprovalLineService {
                         "결재자를 찾을 수 없습니다. ID: " + approverId));
     }
 
-    // 실시간 업데이트 및 DTO 변환 메서드
+    // 실시간 업데이트 및 DTO 변환 메서드 - 결재선 목록은 트랜잭션 안에서 만들고, 목적지별 마지막 목록만 커밋 후 발송
     private void sendRealTimeUpdate(Long requestId) {
         List<ApprovalLineResponseDTO> lines = getApprovalLines(requestId);
-        messagingTemplate.convertAndSend("/topic/approvals/" + requestId, lines);
+        publisher.coalesce("/topic/approvals/" + requestId, lines);
     }
 
     // 특정 구매 요청의 현재 결재선 조회
@@ -457,6 +606,62 @@ public class ApprovalLineService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 결재함 조회 (키셋 페이징)
+     * - box: PENDING(검토 중 + 대기), CURRENT(검토 중), COMPLETED(승인 + 반려)
+     * - 결재자/상태/ID 인덱스로 cursor 이전 size 건만 읽는다. 첫 페이지에는 상태별 건수를 함께 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public ApprovalInboxPageDTO getInbox(String box, Long cursor, int size) {
+        String inboxBox = box == null ? "PENDING" : box.toUpperCase();
+        List<String> statusCodes = switch (inboxBox) {
+            case "PENDING" -> List.of("IN_REVIEW", "PENDING");
+            case "CURRENT" -> List.of("IN_REVIEW");
+            case "COMPLETED" -> List.of("APPROVED", "REJECTED");
+            default -> throw new IllegalArgumentException("잘못된 결재함 구분: " + box);
+        };
+        int pageSize = Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE));
+
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        Member approver = memberRepo.findByUsername(currentUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + currentUsername));
+
+        Map<Long, String> statusCodeById = childCodeRepo.findByParentCode(findParentCode(ENTITY_TYPE, CODE_GROUP))
+                .stream()
+                .collect(Collectors.toMap(ChildCode::getId, ChildCode::getCodeValue));
+        List<Long> statusIds = statusCodeById.entrySet().stream()
+                .filter(entry -> statusCodes.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        List<ApprovalLine> rows = statusIds.isEmpty() ? List.of() : approvalLineRepo.findInboxPage(
+                approver.getId(), statusIds, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ApprovalLine> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<String, Long> counts = null;
+        if (cursor == null) {
+            counts = new LinkedHashMap<>();
+            for (String code : List.of("IN_REVIEW", "PENDING", "APPROVED", "REJECTED")) {
+                counts.put(code, 0L);
+            }
+            for (Object[] row : approvalLineRepo.countByApproverGroupByStatus(approver.getId())) {
+                String code = statusCodeById.get((Long) row[0]);
+                if (code != null) {
+                    counts.merge(code, (Long) row[1], Long::sum);
+                }
+            }
+        }
+
+        return ApprovalInboxPageDTO.builder()
+                .box(inboxBox)
+                .items(page.stream().map(this::convertToDTO).collect(Collectors.toList()))
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .counts(counts)
+                .build();
+    }
+
     // 알림 전송 메서드 개선
     private void sendApprovalNotification(ApprovalLine line) {
         // 실제 알림 로직 (다양한 채널 지원)
@@ -493,13 +698,33 @@ public class ApprovalLineService {
     }
 
     private void sendWebSocketNotification(ApprovalLine line) {
-        // 실시간 웹소켓 알림
-        ApprovalLineResponseDTO notificationDto = convertToDTO(line);
-        messagingTemplate.convertAndSendToUser(
-                line.getApprover().getUsername(),
-                "/queue/approvals",
-                notificationDto
-        );
+        // 실시간 웹소켓 알림 - 결재함에 추가
+        sendInboxEvent(line.getApprover().getUsername(), ApprovalInboxEventDTO.builder()
+                .type(ApprovalInboxEventDTO.ADDED)
+                .line(convertToDTO(line))
+                .build());
+    }
+
+    // 새로 만든 결재선 중 바로 결재 차례(IN_REVIEW)인 결재자에게 알림
+    private void notifyCurrentApprovers(List<ApprovalLine> lines) {
+        lines.stream()
+                .filter(line -> "IN_REVIEW".equals(line.getStatus().getCodeValue()))
+                .forEach(this::sendApprovalNotification);
+    }
+
+    // 결재함에서 빠진 결재선 알림
+    private void notifyRemovedFromInbox(String username, List<Long> lineIds) {
+        sendInboxEvent(username, ApprovalInboxEventDTO.builder()
+                .type(ApprovalInboxEventDTO.REMOVED)
+                .lineIds(lineIds)
+                .build());
+    }
+
+    /**
+     * 결재함 변경 알림은 커밋 후에 보낸다. (받은 쪽이 바로 다시 조회해도 변경 내용이 보이도록)
+     */
+    private void sendInboxEvent(String username, ApprovalInboxEventDTO event) {
+        publisher.sendToUser(username, "/queue/approvals", event);
     }
 
     /**
@@ -543,34 +768,48 @@ public class ApprovalLineService {
             PurchaseRequest purchaseRequest = purchaseRequestRepo.findById(requestId)
                     .orElseThrow(() -> new ResourceNotFoundException("구매요청을 찾을 수 없습니다. ID: " + requestId));
 
-            // 구매 요청 상태를 "구매요청 접수"로 변경
-            ParentCode requestParentCode = parentCodeRepo.findByEntityTypeAndCodeGroup("PURCHASE_REQUEST", "STATUS")
-                    .orElseThrow(() -> new ResourceNotFoundException("ParentCode(PURCHASE_REQUEST, STATUS)를 찾을 수 없습니다."));
-
-            ChildCode receivedStatus = childCodeRepo.findByParentCodeAndCodeValue(requestParentCode, "RECEIVED")
-                    .orElseThrow(() -> new ResourceNotFoundException("ChildCode(RECEIVED)를 찾을 수 없습니다."));
+            ParentCode requestParentCode = findRequestParentCode();
+            markRequestReceived(purchaseRequest, requestParentCode, findReceivedStatus(requestParentCode));
+        } else {
+            log.warn("모든 결재선이 승인되지 않았습니다: 요청 ID={}", requestId);
+        }
+    }
 
-            SystemStatus newStatus = new SystemStatus(requestParentCode.getCodeName(), receivedStatus.getCodeValue());
-            purchaseRequest.setStatus(newStatus);
+    private ParentCode findRequestParentCode() {
+        return parentCodeRepo.findByEntityTypeAndCodeGroup("PURCHASE_REQUEST", "STATUS")
+                .orElseThrow(() -> new ResourceNotFoundException("ParentCode(PURCHASE_REQUEST, STATUS)를 찾을 수 없습니다."));
+    }
 
-            purchaseRequestRepo.save(purchaseRequest);
-            log.info("구매요청 상태가 '구매요청 접수'로 변경되었습니다: 요청 ID={}", requestId);
+    private ChildCode findReceivedStatus(ParentCode requestParentCode) {
+        return childCodeRepo.findByParentCodeAndCodeValue(requestParentCode, "RECEIVED")
+                .orElseThrow(() -> new ResourceNotFoundException("ChildCode(RECEIVED)를 찾을 수 없습니다."));
+    }
 
-            // 이벤트 발행 추가
-            PurchaseRequestStatusChangeEvent event = new PurchaseRequestStatusChangeEvent(
-                    this,
-                    requestId,
-                    purchaseRequest.getStatus().getFullCode(),
-                    newStatus.getFullCode(),
-                    "SYSTEM"
-            );
-            applicationEventPublisher.publishEvent(event);
+    /**
+     * 구매 요청 상태를 "구매요청 접수"로 변경하고 이벤트/알림 발행
+     */
+    private void markRequestReceived(PurchaseRequest purchaseRequest, ParentCode requestParentCode, ChildCode receivedStatus) {
+        Long requestId = purchaseRequest.getId();
+        String previousStatus = purchaseRequest.getStatus() != null ? purchaseRequest.getStatus().getFullCode() : null;
+
+        SystemStatus newStatus = new SystemStatus(requestParentCode.getCodeName(), receivedStatus.getCodeValue());
+        purchaseRequest.setStatus(newStatus);
+
+        purchaseRequestRepo.save(purchaseRequest);
+        log.info("구매요청 상태가 '구매요청 접수'로 변경되었습니다: 요청 ID={}", requestId);
+
+        // 이벤트 발행
+        PurchaseRequestStatusChangeEvent event = new PurchaseRequestStatusChangeEvent(
+                this,
+                requestId,
+                previousStatus,
+                newStatus.getFullCode(),
+                "SYSTEM"
+        );
+        applicationEventPublisher.publishEvent(event);
 
-            // 구매요청 접수 알림 전송
-            sendRequestReceivedNotification(purchaseRequest);
-        } else {
-            log.warn("모든 결재선이 승인되지 않았습니다: 요청 ID={}", requestId);
-        }
+        // 구매요청 접수 알림 전송
+        sendRequestReceivedNotification(purchaseRequest);
     }
 
     /**
@@ -592,7 +831,7 @@ public class ApprovalLineService {
                 );
 
                 for (Member manager : purchaseManagers) {
-                    messagingTemplate.convertAndSendToUser(
+                    publisher.sendToUser(
                             manager.getUsername(),
                             "/queue/notifications",
                             String.format("새로운 구매요청(ID: %d, 요청명: %s)이 접수되었습니다.",
@@ -675,6 +914,7 @@ public class ApprovalLineService {
 
         // 결재선 저장
         approvalLineRepo.saveAll(lines);
+        notifyCurrentApprovers(lines);
 
         // 실시간 업데이트
         sendRealTimeUpdate(request.getId());
@@ -2,11 +2,13 @@ package com.orbit.service.procurement;
 
 import com.orbit.dto.approval.DepartmentDTO;
 import com.orbit.entity.approval.Department;
+import com.orbit.event.event.OrgChartChangedEvent;
 import com.orbit.exception.DuplicateResourceException;
 import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.repository.approval.DepartmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 부서 정보 조회
@@ -71,6 +74,7 @@ public class DepartmentService {
                 .build();
 
         Department savedDepartment = departmentRepository.save(department);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
         return convertToDTO(savedDepartment);
     }
 
@@ -96,6 +100,7 @@ public class DepartmentService {
         department.setExecutiveLevel(dto.getExecutiveLevel());
 
         Department updatedDepartment = departmentRepository.save(department);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
         return convertToDTO(updatedDepartment);
     }
 
@@ -112,6 +117,7 @@ public class DepartmentService {
         }
 
         departmentRepository.delete(department);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
     }
 
     /**
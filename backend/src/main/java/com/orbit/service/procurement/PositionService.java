@@ -2,11 +2,13 @@ package com.orbit.service.procurement;
 
 import com.orbit.dto.approval.PositionDTO;
 import com.orbit.entity.approval.Position;
+import com.orbit.event.event.OrgChartChangedEvent;
 import com.orbit.exception.DuplicateResourceException;
 import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.repository.approval.PositionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class PositionService {
 
     private final PositionRepository positionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 직급 조회
@@ -67,6 +70,7 @@ public class PositionService {
                 .build();
 
         Position savedPosition = positionRepository.save(position);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
         return convertToDTO(savedPosition);
     }
 
@@ -88,6 +92,7 @@ public class PositionService {
         position.setDescription(dto.getDescription());
 
         Position updatedPosition = positionRepository.save(position);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
         return convertToDTO(updatedPosition);
     }
 
@@ -104,6 +109,7 @@ public class PositionService {
         }
 
         positionRepository.delete(position);
+        eventPublisher.publishEvent(OrgChartChangedEvent.all(this));
     }
 
     /**
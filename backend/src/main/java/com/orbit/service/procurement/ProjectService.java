@@ -17,11 +17,11 @@ import com.orbit.repository.commonCode.ParentCodeRepository;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.procurement.ProjectAttachmentRepository;
 import com.orbit.repository.procurement.ProjectRepository;
+import com.orbit.service.file.AttachmentBlobStore;
+import com.orbit.service.file.DownloadFile;
+import com.orbit.service.file.UploadedFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -30,13 +30,10 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -50,9 +47,7 @@ public class ProjectService {
     private final ProjectAttachmentRepository projectAttachmentRepository;
     private final MemberRepository memberRepository;
     private final DepartmentRepository departmentRepository;
-
-    @Value("${uploadPath}")
-    private String uploadPath;
+    private final AttachmentBlobStore attachmentBlobStore;
 
     /**
      * 모든 프로젝트 조회
@@ -144,23 +139,17 @@ public class ProjectService {
      */
     private void processProjectAttachments(Project project, MultipartFile[] files, Member uploader) {
         try {
-            Path baseDir = Paths.get(uploadPath).toAbsolutePath();
-            String subDir = "project_" + project.getId();
-            Path targetDir = baseDir.resolve(subDir);
-            Files.createDirectories(targetDir);
-
             for (MultipartFile file : files) {
                 String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-                String storedFilename = UUID.randomUUID().toString() + "_" + originalFilename;
                 String fileExtension = getFileExtension(originalFilename);
 
-                Path targetPath = targetDir.resolve(storedFilename);
-                Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+                // 내용 기반 저장소에 저장 (같은 파일이 이미 있으면 다시 쓰지 않음)
+                String relativePath = attachmentBlobStore.store(file);
 
                 ProjectAttachment attachment = ProjectAttachment.builder()
                         .originalFilename(originalFilename)
-                        .storedFilename(storedFilename)
-                        .filePath(Paths.get(subDir, storedFilename).toString().replace("\\", "/"))
+                        .storedFilename(StringUtils.getFilename(relativePath))
+                        .filePath(relativePath)
                         .fileSize(file.getSize())
                         .fileExtension(fileExtension)
                         .project(project)
@@ -261,23 +250,63 @@ public class ProjectService {
         return convertToDto(project);
     }
 
+    /**
+     * 청크 업로드로 저장소에 올라간 파일을 프로젝트 첨부파일로 등록
+     */
+    @Transactional
+    public ProjectDTO addUploadedAttachment(Long id, UploadedFile file, String username) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("ID " + id + "에 해당하는 프로젝트를 찾을 수 없습니다."));
+
+        Member uploader = memberRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+
+        String originalFilename = StringUtils.cleanPath(file.originalFilename());
+        ProjectAttachment attachment = ProjectAttachment.builder()
+                .originalFilename(originalFilename)
+                .storedFilename(StringUtils.getFilename(file.storedPath()))
+                .filePath(file.storedPath())
+                .fileSize(file.size())
+                .fileExtension(getFileExtension(originalFilename))
+                .project(project)
+                .uploadedBy(uploader)
+                .uploadedAt(LocalDateTime.now())
+                .build();
+
+        projectAttachmentRepository.save(attachment);
+        project.addAttachment(attachment);
+        return convertToDto(project);
+    }
+
+    /**
+     * 프로젝트의 전체 첨부파일 (묶음 다운로드용)
+     */
+    @Transactional(readOnly = true)
+    public List<DownloadFile> getAttachmentFiles(Long id) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("ID " + id + "에 해당하는 프로젝트를 찾을 수 없습니다."));
+
+        return project.getAttachments().stream()
+                .map(attachment -> new DownloadFile(attachmentBlobStore.resolve(attachment.getFilePath()), attachment.getOriginalFilename()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 첨부파일 다운로드
      */
-    public Resource downloadAttachment(Long attachmentId) {
+    public DownloadFile downloadAttachment(Long attachmentId) {
         // 1. 첨부파일 조회
         ProjectAttachment attachment = projectAttachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("ID " + attachmentId + "에 해당하는 첨부파일이 없습니다."));
 
-        // 2. 파일 경로 확인 및 Resource 생성
-        Path file = Paths.get(uploadPath).resolve(attachment.getFilePath());
-        Resource resource = new FileSystemResource(file);
+        // 2. 파일 경로 확인 (공유 저장소 / 예전 경로 모두 지원)
+        Path file = attachmentBlobStore.resolve(attachment.getFilePath());
 
-        if (!resource.exists() || !resource.isReadable()) {
+        if (!Files.isReadable(file)) {
             throw new ResourceNotFoundException("파일을 다운로드할 수 없습니다: " + attachment.getOriginalFilename());
         }
 
-        return resource;
+        return new DownloadFile(file, attachment.getOriginalFilename());
     }
 
     /**
@@ -287,17 +316,10 @@ public class ProjectService {
         if (files == null || files.length == 0) return;
 
         try {
-            Path baseDir = Paths.get(uploadPath).toAbsolutePath();
-            String subDir = "project_" + project.getId();
-            Path targetDir = baseDir.resolve(subDir);
-            Files.createDirectories(targetDir);
-
             for (MultipartFile file : files) {
                 String fileName = StringUtils.cleanPath(file.getOriginalFilename()).replaceAll("[^a-zA-Z0-9.-]", "_");
-                String uniqueFileName = System.currentTimeMillis() + "_" + fileName;
-                Path targetPath = targetDir.resolve(uniqueFileName);
-                Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-                String relativePath = Paths.get(subDir, uniqueFileName).toString().replace("\\", "/");
+                // 내용 기반 저장소에 저장 (같은 파일이 이미 있으면 다시 쓰지 않음)
+                String relativePath = attachmentBlobStore.store(file);
 
                 // 파일 확장자 추출
                 String fileExtension = null;
@@ -307,7 +329,7 @@ public class ProjectService {
 
                 ProjectAttachment attachment = ProjectAttachment.builder()
                         .originalFilename(fileName)
-                        .storedFilename(uniqueFileName)
+                        .storedFilename(StringUtils.getFilename(relativePath))
                         .filePath(relativePath)
                         .fileSize(file.getSize())
                         .fileExtension(fileExtension)
@@ -16,6 +16,7 @@ import com.orbit.entity.item.Item;
 import com.orbit.entity.member.Member;
 import com.orbit.entity.procurement.Project;
 import com.orbit.event.event.PurchaseRequestStatusChangeEvent;
+import com.orbit.event.handler.PurchaseRequestTransitionExecutor;
 import com.orbit.exception.ResourceNotFoundException;
 import com.orbit.repository.approval.DepartmentRepository;
 import com.orbit.repository.commonCode.ChildCodeRepository;
@@ -28,15 +29,17 @@ import com.orbit.repository.procurement.PurchaseRequestAttachmentRepository;
 import com.orbit.entity.item.Category;
 import com.orbit.repository.procurement.PurchaseRequestRepository;
 import com.orbit.security.dto.MemberSecurityDto;
+import com.orbit.service.file.AttachmentBlobStore;
+import com.orbit.service.file.DownloadFile;
+import com.orbit.service.file.UploadedFile;
+import com.orbit.util.PriceCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -45,8 +48,6 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -70,9 +71,8 @@ public class PurchaseRequestService {
     private final ProjectRepository projectRepository;
     private final ApprovalLineService approvalLineService;
     private final ApplicationEventPublisher applicationEventPublisher;
-
-    @Value("${uploadPath}")
-    private String uploadPath;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final PurchaseRequestTransitionExecutor transitionExecutor;
 
     /**
      * 구매 요청 생성 (핵심 로직)
@@ -297,23 +297,54 @@ public class PurchaseRequestService {
         return convertToDto(purchaseRequest);
     }
 
+    /**
+     * 청크 업로드로 저장소에 올라간 파일을 구매 요청 첨부 파일로 등록
+     */
+    public PurchaseRequestDTO addUploadedAttachment(Long id, UploadedFile file) {
+        PurchaseRequest purchaseRequest = purchaseRequestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ID " + id + "에 해당하는 구매 요청이 없습니다."));
+
+        PurchaseRequestAttachment attachment = PurchaseRequestAttachment.builder()
+                .fileName(StringUtils.cleanPath(file.originalFilename()).replaceAll("[^a-zA-Z0-9.-]", "_"))
+                .filePath(file.storedPath())
+                .fileType(file.contentType())
+                .fileSize(file.size())
+                .purchaseRequest(purchaseRequest)
+                .build();
+
+        attachmentRepository.save(attachment);
+        return convertToDto(purchaseRequest);
+    }
+
+    /**
+     * 구매 요청의 전체 첨부 파일 (묶음 다운로드용)
+     */
+    @Transactional(readOnly = true)
+    public List<DownloadFile> getAttachmentFiles(Long id) {
+        PurchaseRequest purchaseRequest = purchaseRequestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ID " + id + "에 해당하는 구매 요청이 없습니다."));
+
+        return purchaseRequest.getAttachments().stream()
+                .map(attachment -> new DownloadFile(attachmentBlobStore.resolve(attachment.getFilePath()), attachment.getFileName()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 첨부 파일 다운로드
      */
-    public Resource downloadAttachment(Long attachmentId) {
+    public DownloadFile downloadAttachment(Long attachmentId) {
         // 1. 첨부 파일 조회
         PurchaseRequestAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("ID " + attachmentId + "에 해당하는 첨부 파일이 없습니다."));
 
-        // 2. 파일 경로 확인 및 Resource 생성
-        Path file = Paths.get(uploadPath).resolve(attachment.getFilePath());
-        Resource resource = new FileSystemResource(file);
+        // 2. 파일 경로 확인 (공유 저장소 / 예전 경로 모두 지원)
+        Path file = attachmentBlobStore.resolve(attachment.getFilePath());
 
-        if (!resource.exists() || !resource.isReadable()) {
+        if (!Files.isReadable(file)) {
             throw new ResourceNotFoundException("파일을 다운로드할 수 없습니다: " + attachment.getFileName());
         }
 
-        return resource;
+        return new DownloadFile(file, attachment.getFileName());
     }
 
     /**
@@ -673,17 +704,10 @@ public class PurchaseRequestService {
         if (files == null || files.length == 0) return;
 
         try {
-            Path baseDir = Paths.get(uploadPath).toAbsolutePath();
-            String subDir = "pr_" + purchaseRequest.getId();
-            Path targetDir = baseDir.resolve(subDir);
-            Files.createDirectories(targetDir);
-
             for (MultipartFile file : files) {
                 String fileName = StringUtils.cleanPath(file.getOriginalFilename()).replaceAll("[^a-zA-Z0-9.-]", "_");
-                String uniqueFileName = System.currentTimeMillis() + "_" + fileName;
-                Path targetPath = targetDir.resolve(uniqueFileName);
-                Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-                String relativePath = Paths.get(subDir, uniqueFileName).toString().replace("\\", "/");
+                // 내용 기반 저장소에 저장 (같은 파일이 이미 있으면 다시 쓰지 않음)
+                String relativePath = attachmentBlobStore.store(file);
 
                 PurchaseRequestAttachment attachment = PurchaseRequestAttachment.builder()
                         .fileName(fileName)
@@ -929,10 +953,7 @@ public class PurchaseRequestService {
             GoodsRequest goodsRequest = (GoodsRequest) request;
 
             if (goodsRequest.getItems() != null && !goodsRequest.getItems().isEmpty()) {
-                BigDecimal totalItemsPrice = goodsRequest.getItems().stream()
-                        .map(PurchaseRequestItem::getTotalPrice)
-                        .filter(price -> price != null)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+                BigDecimal totalItemsPrice = PriceCalculator.sum(goodsRequest.getItems(), PurchaseRequestItem::getTotalPrice);
 
                 // 예산이 물품 가격 합계와 일치하는지 확인
                 if (budget != null && totalItemsPrice.compareTo(budget) != 0) {
@@ -1067,13 +1088,25 @@ public class PurchaseRequestService {
         }
     }
 
-    @Transactional
+    /**
+     * 구매 요청 상태 변경
+     * - 같은 구매 요청의 다른 상태 전이(이벤트 처리 등)와 순서대로 실행되도록 전이 실행기에서 처리하고 결과를 기다린다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PurchaseRequestDTO updatePurchaseRequestStatus(
             Long purchaseRequestId,
             String newStatusCode,
             String username
     ) {
-        // 기존 상태 변경 로직
+        // 현재 사용자 정보는 호출 스레드에서 가져온다 (전이 실행기 스레드에는 보안 컨텍스트가 없다)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication != null ? authentication.getName() : username;
+
+        return transitionExecutor.execute(purchaseRequestId,
+                () -> applyPurchaseRequestStatus(purchaseRequestId, newStatusCode, currentUsername));
+    }
+
+    private PurchaseRequestDTO applyPurchaseRequestStatus(Long purchaseRequestId, String newStatusCode, String currentUsername) {
         PurchaseRequest purchaseRequest = purchaseRequestRepository.findById(purchaseRequestId)
                 .orElseThrow(() -> new ResourceNotFoundException("구매요청을 찾을 수 없습니다."));
 
@@ -1090,15 +1123,11 @@ public class PurchaseRequestService {
         SystemStatus newStatus = new SystemStatus(parentCode.getCodeName(), childCode.getCodeValue());
         purchaseRequest.setStatus(newStatus);
 
-        // 현재 사용자 정보 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUsername = authentication.getName();
-
         // 이벤트 발행
         PurchaseRequestStatusChangeEvent event = new PurchaseRequestStatusChangeEvent(
                 this,
                 purchaseRequestId,
-                oldStatus.getFullCode(),
+                oldStatus != null ? oldStatus.getFullCode() : null,
                 newStatus.getFullCode(),
                 currentUsername
         );
@@ -1,19 +1,24 @@
 package com.orbit.service.procurement;
 
-import com.orbit.dto.procurement.dashboard.PurchaseRequestDashboardDTO;
 import com.orbit.event.dto.PurchaseRequestStatusEventDTO;
+import com.orbit.service.websocket.WebSocketOutboundPublisher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 구매요청 실시간 알림 발송
+ * - 상태 변경 이벤트는 그대로, "refresh" 신호와 대시보드 데이터는 목적지별 마지막 값만 모아서 보낸다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PurchaseRequestWebSocketService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final String REFRESH = "refresh";
+
+    private final WebSocketOutboundPublisher publisher;
     private final PurchaseRequestDashboardService dashboardService;
 
     public void sendStatusUpdateEvent(PurchaseRequestStatusEventDTO event) {
-        messagingTemplate.convertAndSend(
+        publisher.send(
                 "/topic/purchase-request/" + event.getPurchaseRequestId(),
                 event
         );
@@ -21,10 +26,7 @@ public class PurchaseRequestWebSocketService {
 
     // 전체 구매요청 목록 업데이트를 위한 메소드
     public void sendGlobalStatusUpdate() {
-        messagingTemplate.convertAndSend(
-                "/topic/purchase-requests",
-                "refresh"
-        );
+        publisher.coalesce("/topic/purchase-requests", REFRESH);
     }
 
     /**
@@ -32,22 +34,16 @@ public class PurchaseRequestWebSocketService {
      * 클라이언트에게 대시보드를 갱신하라는 신호를 보냄
      */
     public void sendDashboardRefresh() {
-        messagingTemplate.convertAndSend(
-                "/topic/purchase-request-dashboard",
-                "refresh"
-        );
+        publisher.coalesce("/topic/purchase-request-dashboard", REFRESH);
     }
 
     /**
      * 대시보드 데이터 발송
      * 최신 대시보드 데이터를 클라이언트에게 직접 전송
+     * - 연속된 변경은 발송 주기당 한 번만 집계한다. (집계는 발송 스레드에서)
      */
     public void sendDashboardData() {
-        PurchaseRequestDashboardDTO dashboardData = dashboardService.getDashboardData();
-        messagingTemplate.convertAndSend(
-                "/topic/purchase-request-dashboard/data",
-                dashboardData
-        );
+        publisher.coalesce("/topic/purchase-request-dashboard/data", dashboardService::getDashboardData);
     }
 
     /**
@@ -55,10 +51,7 @@ public class PurchaseRequestWebSocketService {
      * 특정 구매요청의 진행 상태가 변경되면 해당 정보를 전송
      */
     public void sendRequestProgressUpdate(Long requestId) {
-        messagingTemplate.convertAndSend(
-                "/topic/purchase-request-progress/" + requestId,
-                "refresh"
-        );
+        publisher.coalesce("/topic/purchase-request-progress/" + requestId, REFRESH);
     }
 
     /**
@@ -66,9 +59,6 @@ public class PurchaseRequestWebSocketService {
      * 특정 프로젝트의 구매요청 목록이 변경되면 해당 정보를 전송
      */
     public void sendProjectRequestsUpdate(Long projectId) {
-        messagingTemplate.convertAndSend(
-                "/topic/project-purchase-requests/" + projectId,
-                "refresh"
-        );
+        publisher.coalesce("/topic/project-purchase-requests/" + projectId, REFRESH);
     }
 }
\ No newline at end of file
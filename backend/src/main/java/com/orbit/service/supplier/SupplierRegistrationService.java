@@ -9,12 +9,12 @@ import com.orbit.event.event.SupplierStatusChangeEvent;
 import com.orbit.repository.member.MemberRepository;
 import com.orbit.repository.supplier.SupplierAttachmentRepository;
 import com.orbit.repository.supplier.SupplierRegistrationRepository;
+import com.orbit.service.file.AttachmentBlobStore;
+import com.orbit.service.file.DownloadFile;
+import com.orbit.service.file.UploadedFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -25,8 +25,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -40,9 +38,7 @@ public class SupplierRegistrationService {
     private final SupplierAttachmentRepository attachmentRepository;
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher applicationEventPublisher; // 추가
-
-    @Value("${uploadPath}")
-    private String uploadPath;
+    private final AttachmentBlobStore attachmentBlobStore;
 
     /**
      * 🔹 협력업체 목록 조회
@@ -164,23 +160,8 @@ public class SupplierRegistrationService {
                 String fileName = StringUtils.cleanPath(file.getOriginalFilename())
                         .replaceAll("[^a-zA-Z0-9.-]", "_");  // 안전한 파일명으로 변경
 
-                // 절대 경로 생성
-                Path baseDir = Paths.get(uploadPath).toAbsolutePath();
-                String subDir = "supplier_" + supplierRegistration.getId();
-                Path targetDir = baseDir.resolve(subDir);
-
-                // 디렉토리 존재 확인 및 생성
-                Files.createDirectories(targetDir);
-
-                // 고유한 파일명 생성
-                String uniqueFileName = System.currentTimeMillis() + "_" + fileName;
-                Path targetPath = targetDir.resolve(uniqueFileName);
-
-                // 파일 복사
-                Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-
-                // 상대 경로로 저장 (백슬래시를 슬래시로 변경)
-                String relativePath = Paths.get(subDir, uniqueFileName).toString().replace("\\", "/");
+                // 내용 기반 저장소에 저장 (같은 파일이 이미 있으면 다시 쓰지 않음)
+                String relativePath = attachmentBlobStore.store(file);
 
                 SupplierAttachment attachment = SupplierAttachment.builder()
                         .fileName(fileName)
@@ -213,18 +194,49 @@ public class SupplierRegistrationService {
         return supplierRegistration;
     }
 
+    /**
+     * 청크 업로드로 저장소에 올라간 파일을 협력업체 첨부파일로 등록
+     */
+    public SupplierRegistration addUploadedAttachment(Long id, UploadedFile file) {
+        SupplierRegistration supplierRegistration = supplierRegistrationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("협력업체가 존재하지 않습니다: " + id));
+
+        SupplierAttachment attachment = SupplierAttachment.builder()
+                .fileName(StringUtils.cleanPath(file.originalFilename()).replaceAll("[^a-zA-Z0-9.-]", "_"))
+                .filePath(file.storedPath())
+                .fileType(file.contentType())
+                .fileSize(file.size())
+                .supplierRegistration(supplierRegistration)
+                .build();
+
+        attachmentRepository.save(attachment);
+        return supplierRegistration;
+    }
+
+    /**
+     * 협력업체 등록의 전체 첨부파일 (묶음 다운로드용)
+     */
+    @Transactional(readOnly = true)
+    public List<DownloadFile> getAttachmentFiles(Long id) {
+        SupplierRegistration supplierRegistration = supplierRegistrationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("협력업체가 존재하지 않습니다: " + id));
+
+        return supplierRegistration.getAttachments().stream()
+                .map(attachment -> new DownloadFile(attachmentBlobStore.resolve(attachment.getFilePath()), attachment.getFileName()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 첨부파일 다운로드
      */
-    public Resource downloadAttachment(Long attachmentId) {
+    public DownloadFile downloadAttachment(Long attachmentId) {
         SupplierAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new RuntimeException("첨부파일을 찾을 수 없습니다: " + attachmentId));
 
-        Path file = Paths.get(uploadPath).resolve(attachment.getFilePath());
-        Resource resource = new FileSystemResource(file);
+        Path file = attachmentBlobStore.resolve(attachment.getFilePath());
 
-        if (resource.exists() || resource.isReadable()) {
-            return resource;
+        if (Files.isReadable(file)) {
+            return new DownloadFile(file, attachment.getFileName());
         } else {
             throw new RuntimeException("파일을 다운로드 할 수 없습니다: " + attachment.getFileName());
         }
@@ -449,9 +461,13 @@ public class SupplierRegistrationService {
         if (!supplier.getAttachments().isEmpty()) {
             // 1. 기존 파일의 물리적 파일 삭제
             for (SupplierAttachment attachment : supplier.getAttachments()) {
+                // 공유 저장소 파일은 다른 첨부가 참조할 수 있으므로 GC 에 맡긴다
+                if (attachmentBlobStore.isBlob(attachment.getFilePath())) {
+                    continue;
+                }
                 try {
                     // 파일 경로 구성
-                    Path filePath = Paths.get(uploadPath).resolve(attachment.getFilePath());
+                    Path filePath = attachmentBlobStore.resolve(attachment.getFilePath());
                     // 파일 존재 확인 후 삭제
                     if (Files.exists(filePath)) {
                         Files.delete(filePath);
@@ -1,20 +1,20 @@
 package com.orbit.service.supplier;
 
 import com.orbit.event.dto.SupplierStatusEventDTO;
+import com.orbit.service.websocket.WebSocketOutboundPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SupplierWebSocketService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketOutboundPublisher publisher;
 
     public void sendStatusUpdateEvent(SupplierStatusEventDTO event) {
         // 특정 공급업체 ID로 메시지 전송
-        messagingTemplate.convertAndSend(
+        publisher.send(
                 "/topic/supplier/" + event.getSupplierId(),
                 event
         );
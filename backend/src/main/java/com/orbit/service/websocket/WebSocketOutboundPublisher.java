@@ -0,0 +1,157 @@
+package com.orbit.service.websocket;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 -> 클라이언트 STOMP 발송 창구
+ * - 서비스 트랜잭션 안에서 호출해도 실제 발송은 커밋 후, 발송 스레드에서 한다. (요청 스레드가 브로커 전달을 기다리지 않음)
+ * - 발송 스레드는 목적지(사용자 목적지는 사용자 이름)로 고른 스트라이프(단일 스레드)라서,
+ *   같은 목적지/사용자에게 가는 메시지는 보낸 순서대로 도착하고 다른 목적지는 스트라이프 수만큼 병렬로 나간다.
+ * - 스트라이프 대기열이 차면 호출 스레드가 자리가 날 때까지 기다려 생산 속도를 늦춘다. (직접 보내면 순서가 깨지므로)
+ * - coalesce(...) 로 보낸 메시지는 목적지별 마지막 값만 남겨 두었다가 주기마다 한 번씩 보낸다. ("refresh" 신호, 대시보드 데이터 등)
+ */
+@Slf4j
+@Component
+public class WebSocketOutboundPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolExecutor[] stripes;
+
+    // 목적지 -> 보낼 마지막 값 (발송 시점에 계산)
+    private final Map<String, Supplier<?>> pending = new ConcurrentHashMap<>();
+
+    public WebSocketOutboundPublisher(SimpMessagingTemplate messagingTemplate,
+                                      @Value("${websocket.publisher.stripes:4}") int stripeCount,
+                                      @Value("${websocket.publisher.queue-capacity:1000}") int queueCapacity) {
+        this.messagingTemplate = messagingTemplate;
+        this.stripes = new ThreadPoolExecutor[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            String threadName = "ws-publisher-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("발송 스레드 종료됨");
+                        }
+                        try {
+                            executor.getQueue().put(runnable);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException("발송 대기 중 인터럽트", e);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 목적지로 메시지 발송 (커밋 후)
+     */
+    public void send(String destination, Object payload) {
+        afterCommit(() -> dispatch(destination, destination, () -> messagingTemplate.convertAndSend(destination, payload)));
+    }
+
+    /**
+     * 사용자 목적지로 메시지 발송 (커밋 후)
+     */
+    public void sendToUser(String username, String destination, Object payload) {
+        afterCommit(() -> dispatch(username, destination,
+                () -> messagingTemplate.convertAndSendToUser(username, destination, payload)));
+    }
+
+    /**
+     * 목적지별 마지막 값만 보내는 발송 - 다음 주기 전에 같은 목적지로 다시 오면 앞의 값은 버려진다.
+     */
+    public void coalesce(String destination, Object payload) {
+        coalesce(destination, () -> payload);
+    }
+
+    /**
+     * 목적지별 마지막 값만 보내는 발송 - 값은 발송 시점에 발송 스레드에서 한 번만 계산한다. (대시보드 집계 등)
+     */
+    public void coalesce(String destination, Supplier<?> payload) {
+        afterCommit(() -> pending.put(destination, payload));
+    }
+
+    /**
+     * 모아 둔 목적지별 마지막 값 발송
+     */
+    @Scheduled(fixedDelayString = "${websocket.publisher.coalesce-window-ms:250}")
+    public void flush() {
+        Iterator<Map.Entry<String, Supplier<?>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Supplier<?>> entry = iterator.next();
+            String destination = entry.getKey();
+            Supplier<?> payload = entry.getValue();
+            // 꺼내는 사이 새 값이 들어왔으면 다음 주기에 보낸다
+            if (pending.remove(destination, payload)) {
+                dispatch(destination, destination, () -> messagingTemplate.convertAndSend(destination, payload.get()));
+            }
+        }
+    }
+
+    /**
+     * @param key 스트라이프를 고르는 값 (같은 key 는 같은 스레드에서 순서대로 발송)
+     */
+    private void dispatch(String key, String destination, Runnable send) {
+        try {
+            stripes[Math.floorMod(key.hashCode(), stripes.length)].execute(() -> {
+                try {
+                    send.run();
+                } catch (Exception e) {
+                    log.error("웹소켓 메시지 발송 실패 - {}: {}", destination, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에만 발생
+            log.warn("웹소켓 메시지 발송 거부 - {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flush();
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            if (!stripe.awaitTermination(5, TimeUnit.SECONDS)) {
+                stripe.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.orbit.util;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 호출용 서킷 브레이커 (최근 windowSize 회 호출 중 실패 횟수 기준)
+ * - CLOSED: 최근 호출 중 실패가 failureThreshold 회 이상이면 OPEN 으로 바뀐다.
+ * - OPEN: openMillis 동안 호출을 바로 거절한 뒤, 다음 호출 때 HALF_OPEN 으로 바뀐다.
+ * - HALF_OPEN: 시험 호출 1건만 통과시키고, 성공하면 CLOSED / 실패하면 다시 OPEN.
+ * - tryAcquire() 로 허가를 받은 호출은 반드시 onSuccess/onFailure/release 중 하나로 끝내야 한다.
+ * - 시계(나노초)를 주입할 수 있어 테스트에서 시간을 직접 움직인다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+    private long rejected;
+
+    public CircuitBreaker(int windowSize, int failureThreshold, long openMillis) {
+        this(windowSize, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    public CircuitBreaker(int windowSize, int failureThreshold, long openMillis, LongSupplier clock) {
+        this.windowSize = Math.max(1, windowSize);
+        this.failureThreshold = Math.min(Math.max(1, failureThreshold), this.windowSize);
+        this.openNanos = Math.max(0, openMillis) * 1_000_000L;
+        this.clock = clock;
+        this.window = new boolean[this.windowSize];
+    }
+
+    /**
+     * 호출 허가 (OPEN 이거나 HALF_OPEN 시험 호출이 진행 중이면 false)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                rejected++;
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (failures >= failureThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않은 경우 (대기열 초과, 호출 전 취소 등) - 결과로 세지 않는다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getRecentFailures() {
+        return failures;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (window[windowIndex]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        Arrays.fill(window, false);
+        windowIndex = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
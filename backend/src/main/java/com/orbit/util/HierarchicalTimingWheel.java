@@ -0,0 +1,142 @@
+package com.orbit.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * - 0단계 휠은 tickMs 단위 칸 wheelSize 개, 다음 단계 휠의 한 칸은 아래 단계 휠 한 바퀴 길이다. (필요할 때 단계를 늘림)
+ * - 등록/만료 처리는 칸 단위 O(1) 이고, 위 단계 칸이 돌아오면 그 칸의 항목을 아래 단계로 다시 나눠 담는다.
+ * - 0단계는 만료 시각을 올림한 칸에 넣으므로 항목은 만료 시각보다 먼저 꺼내지지 않는다. (최대 tickMs 늦게)
+ * - advance(...) 는 한 스레드(틱 스레드)에서 호출하고, add(...) 는 어느 스레드에서든 호출할 수 있다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private record Entry<T>(T item, long expirationMs) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    // 단계별 칸 (단계 i 의 칸 길이 = tickMs * wheelSize^i)
+    private final List<List<ArrayDeque<Entry<T>>>> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs 는 1 이상, wheelSize 는 2 이상이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+        addLevel();
+    }
+
+    /**
+     * 항목 등록
+     * @return 이미 만료된 시각이면 등록하지 않고 false (호출자가 바로 처리)
+     */
+    public synchronized boolean add(T item, long expirationMs) {
+        return insert(new Entry<>(item, expirationMs));
+    }
+
+    /**
+     * nowMs 까지 시계를 진행하고 만료된 항목을 순서대로 넘긴다.
+     */
+    public void advance(long nowMs, Consumer<T> expired) {
+        List<T> fired = new ArrayList<>();
+        synchronized (this) {
+            while (currentTime + tickMs <= nowMs) {
+                currentTime += tickMs;
+                // 위 단계부터 이번 시각에 돌아온 칸을 아래 단계로 다시 나눔
+                for (int level = levels.size() - 1; level >= 1; level--) {
+                    long levelTick = levelTick(level);
+                    if (currentTime % levelTick == 0) {
+                        redistribute(level, levelTick, fired);
+                    }
+                }
+                redistribute(0, tickMs, fired);
+            }
+        }
+        fired.forEach(expired);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long currentTime() {
+        return currentTime;
+    }
+
+    private void redistribute(int level, long levelTick, List<T> fired) {
+        ArrayDeque<Entry<T>> bucket = levels.get(level).get(index(currentTime, levelTick));
+        if (bucket.isEmpty()) {
+            return;
+        }
+        ArrayDeque<Entry<T>> entries = new ArrayDeque<>(bucket);
+        bucket.clear();
+        size -= entries.size();
+        for (Entry<T> entry : entries) {
+            if (!insert(entry)) {
+                fired.add(entry.item());
+            }
+        }
+    }
+
+    private boolean insert(Entry<T> entry) {
+        long expiration = entry.expirationMs();
+        long slot = ceilDiv(expiration, tickMs) * tickMs;
+        if (slot <= currentTime) {
+            return false;
+        }
+        // 현재 칸과 같은 위치(한 바퀴 뒤)까지는 0단계에 둔다 - 그 칸은 다음에 돌아올 때가 곧 만료 시각
+        if (slot - currentTime <= tickMs * wheelSize) {
+            place(0, slot, tickMs, entry);
+            return true;
+        }
+        for (int level = 1; ; level++) {
+            if (level == levels.size()) {
+                addLevel();
+            }
+            long levelTick = levelTick(level);
+            long levelSlot = Math.floorDiv(expiration, levelTick) * levelTick;
+            long base = Math.floorDiv(currentTime, levelTick) * levelTick;
+            if (levelSlot - base < levelTick * wheelSize) {
+                place(level, levelSlot, levelTick, entry);
+                return true;
+            }
+        }
+    }
+
+    private void place(int level, long slot, long levelTick, Entry<T> entry) {
+        levels.get(level).get(index(slot, levelTick)).add(entry);
+        size++;
+    }
+
+    private int index(long time, long levelTick) {
+        return (int) Math.floorMod(Math.floorDiv(time, levelTick), (long) wheelSize);
+    }
+
+    private long levelTick(int level) {
+        long tick = tickMs;
+        for (int i = 0; i < level; i++) {
+            tick = Math.multiplyExact(tick, wheelSize);
+        }
+        return tick;
+    }
+
+    private void addLevel() {
+        List<ArrayDeque<Entry<T>>> buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        levels.add(buckets);
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+}
@@ -0,0 +1,120 @@
+package com.orbit.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 (소수점 2자리 고정, 최소 단위(0.01) 개수를 long 으로 보관)
+ * - 더하기/곱하기/부가세 계산을 객체 할당 없이 long 연산으로 한다. 넘치면 ArithmeticException.
+ * - 반올림은 PriceCalculator 와 같은 HALF_UP (0.5 는 0 에서 먼 쪽으로) 이다.
+ * - BigDecimal 변환은 저장(엔티티)과 응답(JSON) 직전에만 한다.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100};
+
+    private final long minor;
+
+    private Money(long minor) {
+        this.minor = minor;
+    }
+
+    /**
+     * 최소 단위 개수로 생성 (12345 -> 123.45)
+     */
+    public static Money ofMinor(long minor) {
+        return minor == 0 ? ZERO : new Money(minor);
+    }
+
+    /**
+     * BigDecimal 에서 생성 - 소수점 3자리 이하는 HALF_UP 반올림
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount.scale() > SCALE) {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        }
+        return ofMinor(minorUnits(amount));
+    }
+
+    /**
+     * 반올림 없이 최소 단위 개수로 변환
+     * @throws ArithmeticException 소수점 2자리 아래 값이 있거나 long 범위를 넘는 경우
+     */
+    public static long minorUnits(BigDecimal amount) {
+        int scale = amount.scale();
+        if (scale >= 0 && scale <= SCALE) {
+            return Math.multiplyExact(amount.unscaledValue().longValueExact(), POWERS_OF_TEN[SCALE - scale]);
+        }
+        // 1.000 (scale 3) 처럼 0 만 붙은 경우, 또는 음수 scale (1E+3)
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public long getMinor() {
+        return minor;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minor, other.minor));
+    }
+
+    /**
+     * 수량 곱 (소수점 자리가 늘지 않으므로 반올림 없음)
+     */
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minor, quantity));
+    }
+
+    /**
+     * percent% 금액 (최소 단위 미만 HALF_UP 반올림)
+     */
+    public Money percent(int percent) {
+        return ofMinor(divideHalfUp(Math.multiplyExact(minor, percent), 100));
+    }
+
+    public int signum() {
+        return Long.signum(minor);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minor == other.minor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * 양수 divisor 로 나누고 HALF_UP 반올림 (BigDecimal RoundingMode.HALF_UP 과 같은 결과)
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
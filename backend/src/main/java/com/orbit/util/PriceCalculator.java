@@ -2,10 +2,14 @@ package com.orbit.util;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * 금액 계산 관련 유틸리티 클래스
  * 구매 요청, 입찰, 계약, 지불 등에서 공통으로 사용
+ * - 소수점 2자리 이하 금액은 Money(long) 로 계산하고 결과만 BigDecimal 로 바꾼다.
+ *   그보다 자리가 많거나 long 범위를 넘으면 BigDecimal 로 계산한다. (두 방식의 결과는 같음)
  */
 public class PriceCalculator {
 
@@ -13,6 +17,7 @@ public class PriceCalculator {
     public static final BigDecimal VAT_RATE = new BigDecimal("0.1"); // 10% 부가세율
     public static final int DECIMAL_SCALE = 2; // 소수점 자리수
     public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP; // 반올림 방식
+    private static final int VAT_PERCENT = 10; // VAT_RATE 와 같은 값 (Money 계산용)
 
     /**
      * 단가와 수량으로 공급가액 계산
@@ -26,8 +31,12 @@ public class PriceCalculator {
             return BigDecimal.ZERO;
         }
         
-        return unitPrice.multiply(BigDecimal.valueOf(quantity))
-                .setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        try {
+            return Money.ofMinor(Money.minorUnits(unitPrice)).times(quantity).toBigDecimal();
+        } catch (ArithmeticException e) {
+            return unitPrice.multiply(BigDecimal.valueOf(quantity))
+                    .setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        }
     }
 
     /**
@@ -41,8 +50,12 @@ public class PriceCalculator {
             return BigDecimal.ZERO;
         }
         
-        return supplyPrice.multiply(VAT_RATE)
-                .setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        try {
+            return Money.ofMinor(Money.minorUnits(supplyPrice)).percent(VAT_PERCENT).toBigDecimal();
+        } catch (ArithmeticException e) {
+            return supplyPrice.multiply(VAT_RATE)
+                    .setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        }
     }
 
     /**
@@ -56,7 +69,11 @@ public class PriceCalculator {
         BigDecimal supply = supplyPrice != null ? supplyPrice : BigDecimal.ZERO;
         BigDecimal tax = vat != null ? vat : BigDecimal.ZERO;
         
-        return supply.add(tax).setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        try {
+            return BigDecimal.valueOf(Math.addExact(Money.minorUnits(supply), Money.minorUnits(tax)), DECIMAL_SCALE);
+        } catch (ArithmeticException e) {
+            return supply.add(tax).setScale(DECIMAL_SCALE, ROUNDING_MODE);
+        }
     }
 
     /**
@@ -67,6 +84,15 @@ public class PriceCalculator {
      * @return PriceResult 객체 (공급가액, 부가세, 총액 포함)
      */
     public static PriceResult calculateAll(BigDecimal unitPrice, Integer quantity) {
+        if (unitPrice != null && quantity != null) {
+            try {
+                Money supply = Money.ofMinor(Money.minorUnits(unitPrice)).times(quantity);
+                Money vat = supply.percent(VAT_PERCENT);
+                return new PriceResult(supply.toBigDecimal(), vat.toBigDecimal(), supply.plus(vat).toBigDecimal());
+            } catch (ArithmeticException e) {
+                // 소수점 3자리 이상 단가 또는 long 범위 초과 - 아래 BigDecimal 계산
+            }
+        }
         BigDecimal supplyPrice = calculateSupplyPrice(unitPrice, quantity);
         BigDecimal vat = calculateVat(supplyPrice);
         BigDecimal totalAmount = calculateTotalAmount(supplyPrice, vat);
@@ -74,6 +100,35 @@ public class PriceCalculator {
         return new PriceResult(supplyPrice, vat, totalAmount);
     }
 
+    /**
+     * 금액 합계 (null 은 건너뜀, 소수점 2자리)
+     *
+     * @param items 합산 대상
+     * @param amount 대상별 금액
+     * @return 합계
+     */
+    public static <T> BigDecimal sum(Collection<T> items, Function<T, BigDecimal> amount) {
+        long total = 0;
+        try {
+            for (T item : items) {
+                BigDecimal value = amount.apply(item);
+                if (value != null) {
+                    total = Math.addExact(total, Money.minorUnits(value));
+                }
+            }
+            return BigDecimal.valueOf(total, DECIMAL_SCALE);
+        } catch (ArithmeticException e) {
+            BigDecimal exact = BigDecimal.ZERO;
+            for (T item : items) {
+                BigDecimal value = amount.apply(item);
+                if (value != null) {
+                    exact = exact.add(value);
+                }
+            }
+            return exact;
+        }
+    }
+
     /**
      * 계산 결과를 담는 내부 클래스
      */
@@ -1,6 +1,5 @@
 package com.orbit.util;
 
-import com.orbit.entity.bidding.Bidding;
 import com.orbit.entity.bidding.BiddingContract;
 import com.orbit.entity.bidding.BiddingOrder;
 import com.orbit.entity.delivery.Delivery;
@@ -14,19 +13,31 @@ import com.orbit.repository.invoice.InvoiceRepository;
 import com.orbit.repository.payment.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * 여러 모듈 간의 관계를 추적하여 구매 요청 ID를 찾는 유틸리티 클래스
+ * - 입찰/계약/발주/입고/송장/결제 행에는 원 구매 요청 ID(purchase_request_id, 인덱스)가 저장되어 있으므로
+ *   문서 하나당 인덱스 조회 1회로 찾고, 최근 조회 결과는 LRU 캐시에 둔다.
+ * - 컬럼이 비어 있는 기존 데이터(백필 전)만 예전처럼 상위 문서를 따라 올라간다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PurchaseRequestRelationFinder {
 
+    private enum DocumentType { BIDDING, CONTRACT, ORDER, DELIVERY, INVOICE, PAYMENT }
+
+    private record LineageKey(DocumentType type, Long id) {
+    }
+
     private final BiddingRepository biddingRepository;
     private final BiddingContractRepository contractRepository;
     private final BiddingOrderRepository orderRepository;
@@ -34,21 +45,23 @@ public class PurchaseRequestRelationFinder {
     private final InvoiceRepository invoiceRepository;
     private final PaymentRepository paymentRepository;
 
+    @Value("${purchase-request.lineage.cache-size:10000}")
+    private int cacheSize;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰지 않은 항목부터 제거
+    private final Map<LineageKey, Long> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LineageKey, Long> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
     /**
      * 입찰 ID로부터 구매 요청 ID 찾기
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromBidding(Long biddingId) {
-        try {
-            Optional<Bidding> bidding = biddingRepository.findByIdWithPurchaseRequest(biddingId);
-            if (bidding.isPresent() && bidding.get().getPurchaseRequest() != null) {
-                return bidding.get().getPurchaseRequest().getId();
-            }
-            return null;
-        } catch (Exception e) {
-            log.error("입찰 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
-            return null;
-        }
+        return find(DocumentType.BIDDING, biddingId, biddingRepository::findPurchaseRequestIdById, id -> null);
     }
 
     /**
@@ -56,16 +69,13 @@ public class PurchaseRequestRelationFinder {
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromContract(Long contractId) {
-        try {
-            Optional<BiddingContract> contract = contractRepository.findById(contractId);
+        return find(DocumentType.CONTRACT, contractId, contractRepository::findPurchaseRequestIdById, id -> {
+            Optional<BiddingContract> contract = contractRepository.findById(id);
             if (contract.isPresent() && contract.get().getBidding() != null) {
                 return findPurchaseRequestIdFromBidding(contract.get().getBidding().getId());
             }
             return null;
-        } catch (Exception e) {
-            log.error("계약 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
-            return null;
-        }
+        });
     }
 
     /**
@@ -73,26 +83,20 @@ public class PurchaseRequestRelationFinder {
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromOrder(Long orderId) {
-        try {
-            Optional<BiddingOrder> order = orderRepository.findById(orderId);
-            if (order.isPresent()) {
-                // 1. 구매 요청 품목을 통한 연결 확인
-                if (order.get().getPurchaseRequestItem() != null &&
-                        order.get().getPurchaseRequestItem().getPurchaseRequest() != null) {
-                    return order.get().getPurchaseRequestItem().getPurchaseRequest().getId();
-                }
-
-                // 2. 입찰을 통한 연결 확인
-                Long biddingId = order.get().getBiddingId();
-                if (biddingId != null) {
-                    return findPurchaseRequestIdFromBidding(biddingId);
-                }
+        return find(DocumentType.ORDER, orderId, orderRepository::findPurchaseRequestIdById, id -> {
+            Optional<BiddingOrder> order = orderRepository.findById(id);
+            if (order.isEmpty()) {
+                return null;
             }
-            return null;
-        } catch (Exception e) {
-            log.error("발주 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
-            return null;
-        }
+            // 1. 구매 요청 품목을 통한 연결 확인
+            if (order.get().getPurchaseRequestItem() != null &&
+                    order.get().getPurchaseRequestItem().getPurchaseRequest() != null) {
+                return order.get().getPurchaseRequestItem().getPurchaseRequest().getId();
+            }
+            // 2. 입찰을 통한 연결 확인
+            Long biddingId = order.get().getBiddingId();
+            return biddingId != null ? findPurchaseRequestIdFromBidding(biddingId) : null;
+        });
     }
 
     /**
@@ -100,26 +104,20 @@ public class PurchaseRequestRelationFinder {
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromDelivery(Long deliveryId) {
-        try {
-            Optional<Delivery> delivery = deliveryRepository.findById(deliveryId);
-            if (delivery.isPresent()) {
-                // 1. 직접 연결된 purchaseRequestItem 확인
-                if (delivery.get().getPurchaseRequestItem() != null &&
-                        delivery.get().getPurchaseRequestItem().getPurchaseRequest() != null) {
-                    return delivery.get().getPurchaseRequestItem().getPurchaseRequest().getId();
-                }
-
-                // 2. 발주를 통한 연결 확인
-                BiddingOrder order = delivery.get().getBiddingOrder();
-                if (order != null) {
-                    return findPurchaseRequestIdFromOrder(order.getId());
-                }
+        return find(DocumentType.DELIVERY, deliveryId, deliveryRepository::findPurchaseRequestIdById, id -> {
+            Optional<Delivery> delivery = deliveryRepository.findById(id);
+            if (delivery.isEmpty()) {
+                return null;
             }
-            return null;
-        } catch (Exception e) {
-            log.error("입고 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
-            return null;
-        }
+            // 1. 직접 연결된 purchaseRequestItem 확인
+            if (delivery.get().getPurchaseRequestItem() != null &&
+                    delivery.get().getPurchaseRequestItem().getPurchaseRequest() != null) {
+                return delivery.get().getPurchaseRequestItem().getPurchaseRequest().getId();
+            }
+            // 2. 발주를 통한 연결 확인
+            BiddingOrder order = delivery.get().getBiddingOrder();
+            return order != null ? findPurchaseRequestIdFromOrder(order.getId()) : null;
+        });
     }
 
     /**
@@ -127,16 +125,13 @@ public class PurchaseRequestRelationFinder {
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromInvoice(Long invoiceId) {
-        try {
-            Optional<Invoice> invoice = invoiceRepository.findById(invoiceId);
+        return find(DocumentType.INVOICE, invoiceId, invoiceRepository::findPurchaseRequestIdById, id -> {
+            Optional<Invoice> invoice = invoiceRepository.findById(id);
             if (invoice.isPresent() && invoice.get().getDelivery() != null) {
                 return findPurchaseRequestIdFromDelivery(invoice.get().getDelivery().getId());
             }
             return null;
-        } catch (Exception e) {
-            log.error("인보이스 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
-            return null;
-        }
+        });
     }
 
     /**
@@ -144,15 +139,51 @@ public class PurchaseRequestRelationFinder {
      */
     @Transactional(readOnly = true)
     public Long findPurchaseRequestIdFromPayment(Long paymentId) {
-        try {
-            Optional<Payment> payment = paymentRepository.findById(paymentId);
+        return find(DocumentType.PAYMENT, paymentId, paymentRepository::findPurchaseRequestIdById, id -> {
+            Optional<Payment> payment = paymentRepository.findById(id);
             if (payment.isPresent() && payment.get().getInvoice() != null) {
                 return findPurchaseRequestIdFromInvoice(payment.get().getInvoice().getId());
             }
             return null;
+        });
+    }
+
+    private void remember(DocumentType type, Long documentId, Long purchaseRequestId) {
+        if (documentId == null || purchaseRequestId == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(new LineageKey(type, documentId), purchaseRequestId);
+        }
+    }
+
+    /**
+     * 캐시 -> 인덱스 컬럼 조회 -> (컬럼이 비어 있으면) 상위 문서 추적 순서로 찾는다.
+     * 구매 요청 ID 는 문서 생성 후 바뀌지 않으므로 찾은 값만 캐시한다.
+     */
+    private Long find(DocumentType type, Long documentId,
+                      Function<Long, Optional<Long>> indexedLookup, Function<Long, Long> legacyLookup) {
+        if (documentId == null) {
+            return null;
+        }
+        LineageKey key = new LineageKey(type, documentId);
+        synchronized (cache) {
+            Long cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        try {
+            Long purchaseRequestId = indexedLookup.apply(documentId).orElse(null);
+            if (purchaseRequestId == null) {
+                purchaseRequestId = legacyLookup.apply(documentId);
+            }
+            remember(type, documentId, purchaseRequestId);
+            return purchaseRequestId;
         } catch (Exception e) {
-            log.error("결제 ID로부터 구매 요청 ID 조회 중 오류: {}", e.getMessage());
+            log.error("{} ID {} 로부터 구매 요청 ID 조회 중 오류: {}", type, documentId, e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package com.orbit.config.websoket;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 노드 간 STOMP 중계 통합 테스트
+ * - 같은 JVM 에서 웹소켓 노드 2개(임의 포트)를 띄우고 로컬 Redis(application.properties 설정)로 중계한다.
+ * - Redis 가 없으면 건너뛴다.
+ */
+class ClusterBrokerRelayIntegrationTest {
+
+    private static final String DESTINATION = "/topic/cluster-test";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static WebSocketStompClient stompClient;
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            RedisAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, ClusterSubscriptionTracker.class, ClusterBrokerRelay.class, CompactPayloadInterceptor.class})
+    static class ClusterNode {
+
+        @Bean(name = "redisStringTemplate")
+        RedisTemplate<String, String> redisStringTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+    }
+
+    @BeforeAll
+    static void startNodes() {
+        assumeTrue(redisAvailable(), "로컬 Redis 가 없어 노드 간 중계 테스트를 건너뜁니다.");
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 토픽 메시지가 다른 노드의 구독자에게 한 번만 전달된다")
+    void relaysToOtherNodeOnce() throws Exception {
+        StompSession sessionA = connect(nodeA);
+        StompSession sessionB = connect(nodeB);
+        BlockingQueue<String> receivedA = subscribe(sessionA, DESTINATION);
+        BlockingQueue<String> receivedB = subscribe(sessionB, DESTINATION);
+        await(() -> relay(nodeA).isListening(DESTINATION) && relay(nodeB).isListening(DESTINATION));
+
+        // Redis 구독이 실제로 완료될 때까지 준비 메시지를 보낸다
+        SimpMessagingTemplate templateA = nodeA.getBean(SimpMessagingTemplate.class);
+        String received = null;
+        for (int i = 0; i < 25 && received == null; i++) {
+            templateA.convertAndSend(DESTINATION, "warmup");
+            received = receivedB.poll(200, TimeUnit.MILLISECONDS);
+        }
+        assertEquals("warmup", received);
+        Thread.sleep(300);
+        receivedA.clear();
+        receivedB.clear();
+
+        templateA.convertAndSend(DESTINATION, "hello");
+
+        assertEquals("hello", receivedB.poll(5, TimeUnit.SECONDS));
+        assertEquals("hello", receivedA.poll(5, TimeUnit.SECONDS));
+        // 발행 노드는 자기 메시지를 Redis 에서 다시 받지 않는다
+        assertNull(receivedA.poll(500, TimeUnit.MILLISECONDS));
+        assertNull(receivedB.poll(100, TimeUnit.MILLISECONDS));
+
+        sessionA.disconnect();
+        sessionB.disconnect();
+    }
+
+    @Test
+    @DisplayName("노드는 로컬 구독자가 있는 목적지 채널만 구독한다")
+    void listensOnlyToLocallySubscribedDestinations() throws Exception {
+        String destination = "/topic/cluster-test/only-b";
+        StompSession sessionB = connect(nodeB);
+        subscribe(sessionB, destination);
+
+        await(() -> relay(nodeB).isListening(destination));
+        assertFalse(relay(nodeA).isListening(destination));
+
+        sessionB.disconnect();
+        await(() -> !relay(nodeB).isListening(destination));
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(ClusterNode.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "websocket.cluster.node-id=" + nodeId, "spring.main.banner-mode=off")
+                .run();
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        return stompClient.connectAsync("ws://localhost:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static BlockingQueue<String> subscribe(StompSession session, String destination) {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        });
+        return received;
+    }
+
+    private static ClusterBrokerRelay relay(ConfigurableApplicationContext node) {
+        return node.getBean(ClusterBrokerRelay.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static boolean redisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 300);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
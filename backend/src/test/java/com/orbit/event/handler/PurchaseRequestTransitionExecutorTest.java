@@ -0,0 +1,75 @@
+package com.orbit.event.handler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class PurchaseRequestTransitionExecutorTest {
+
+    private final PurchaseRequestTransitionExecutor executor =
+            new PurchaseRequestTransitionExecutor(mock(PlatformTransactionManager.class), 4, 3, 1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 구매 요청의 전이는 제출 순서대로 하나씩 실행된다")
+    void sameRequestRunsInOrder() {
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            int step = i;
+            futures.add(executor.submit(1L, () -> first.add(step)));
+            futures.add(executor.submit(2L, () -> second.add(step)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        List<Integer> expected = IntStream.range(0, 200).boxed().toList();
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+    }
+
+    @Test
+    @DisplayName("버전 충돌은 최대 시도 횟수까지 다시 실행한다")
+    void retriesOnVersionConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(7L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 버전 충돌 예외를 그대로 던진다")
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> executor.execute(7L, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(3, attempts.get());
+    }
+}
@@ -0,0 +1,58 @@
+package com.orbit.service.bidding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BiddingScoreRankerTest {
+
+    private static final BiddingScoreRanker.Weights DEFAULT =
+            new BiddingScoreRanker.Weights(30, 40, 20, 10, true);
+
+    @Test
+    @DisplayName("가격 점수는 최저 입찰가 대비로 계산한다")
+    void relativePriceScore() {
+        // 최저가 800, 입찰가 1000 -> 가격 80점
+        double score = BiddingScoreRanker.score(DEFAULT, 800, 0, 90, 70, 60, 1000);
+
+        assertEquals((30 * 80.0 + 40 * 90 + 20 * 70 + 10 * 60) / 100, score, 1e-9);
+        // 입찰가가 없으면 평가자 가격 점수 사용
+        assertEquals(50.0, BiddingScoreRanker.score(DEFAULT, 800, 50, 50, 50, 50, 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("동점은 같은 순위이고 낙찰 후보는 입력 순서(입찰가 낮은 순)가 앞선 평가다")
+    void ranksWithTies() {
+        long[] ids = {11, 12, 13, 14};
+        BiddingScoreRanker.Result result = BiddingScoreRanker.rank(
+                new BiddingScoreRanker.Weights(0, 1, 0, 0, false), ids,
+                new int[]{0, 0, 0, 0},
+                new int[]{70, 90, 90, 95},
+                new int[]{0, 0, 0, 0},
+                new int[]{0, 0, 0, 0},
+                new double[]{100, 200, 300, 0});
+
+        assertArrayEquals(new int[]{4, 2, 2, 1}, result.ranks());
+        assertEquals(14L, result.winnerId());
+
+        BiddingScoreRanker.Result tied = BiddingScoreRanker.rank(DEFAULT, new long[]{21, 22},
+                new int[]{0, 0}, new int[]{80, 80}, new int[]{80, 80}, new int[]{80, 80},
+                new double[]{1000, 1000});
+        assertArrayEquals(new int[]{1, 1}, tied.ranks());
+        assertEquals(21L, tied.winnerId());
+    }
+
+    @Test
+    @DisplayName("평가가 없으면 낙찰 후보를 물을 수 없고, 가중치 합계가 0이면 거부한다")
+    void emptyAndInvalid() {
+        BiddingScoreRanker.Result empty = BiddingScoreRanker.rank(DEFAULT, new long[0],
+                new int[0], new int[0], new int[0], new int[0], new double[0]);
+
+        assertEquals(0, empty.size());
+        assertThrows(IllegalStateException.class, empty::winnerId);
+        assertThrows(IllegalArgumentException.class, () -> new BiddingScoreRanker.Weights(0, 0, 0, 0, true));
+    }
+}
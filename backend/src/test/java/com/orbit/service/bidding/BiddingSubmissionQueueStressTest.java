@@ -0,0 +1,189 @@
+package com.orbit.service.bidding;
+
+import com.orbit.dto.bidding.BiddingParticipationDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 마감 직전 1초 안에 몰리는 제출 1,000건을 대기열에 동시에 넣는다.
+ * 저장은 (입찰 공고, 공급사) 유일 제약을 흉내 낸 메모리 Writer 로 대신하고, 커밋마다 지연을 준다.
+ */
+class BiddingSubmissionQueueStressTest {
+
+    private static final long BIDDING_ID = 1L;
+    private static final long COMMIT_LATENCY_MS = 3;
+
+    /**
+     * 커밋 단위로 upsert 하는 메모리 저장소
+     */
+    private static class InMemoryWriter implements BiddingSubmissionQueue.Writer {
+        final Map<Long, BiddingSubmissionQueue.Stored> rows = new ConcurrentHashMap<>();
+        final AtomicInteger commits = new AtomicInteger();
+        final AtomicLong ids = new AtomicLong();
+
+        @Override
+        public List<BiddingSubmissionQueue.Stored> write(List<BiddingSubmissionQueue.Submission> batch) {
+            List<BiddingSubmissionQueue.Stored> stored = new ArrayList<>(batch.size());
+            for (BiddingSubmissionQueue.Submission submission : batch) {
+                stored.add(rows.computeIfAbsent(submission.supplierId(), supplierId ->
+                        new BiddingSubmissionQueue.Stored(submission.idempotencyKey(), BiddingParticipationDto.builder()
+                                .id(ids.incrementAndGet())
+                                .biddingId(submission.biddingId())
+                                .supplierId(supplierId)
+                                .unitPrice(submission.unitPrice())
+                                .submittedAt(submission.submittedAt())
+                                .build())));
+            }
+            try {
+                Thread.sleep(COMMIT_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            commits.incrementAndGet();
+            return stored;
+        }
+    }
+
+    private final InMemoryWriter writer = new InMemoryWriter();
+    private final BiddingSubmissionQueue queue = new BiddingSubmissionQueue(writer, 2_000, 200, 5_000);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("마감 1초 전 동시 제출 1,000건 - 공급사당 1건만 저장되고 같은 키 재시도는 같은 결과, 커밋은 묶인다")
+    void burstBeforeDeadline() throws Exception {
+        queue.start();
+        LocalDateTime deadline = LocalDateTime.now().plusSeconds(1);
+        BiddingSubmissionCache.BiddingSnapshot snapshot = new BiddingSubmissionCache.BiddingSnapshot(
+                BIDDING_ID, "ONGOING", "진행중", "PRICE_SUGGESTION", deadline, 10, Map.of(), System.currentTimeMillis());
+
+        // 공급사 1~800 첫 제출, 1~150 같은 키 재시도, 151~200 다른 키로 다시 제출
+        List<BiddingSubmissionQueue.Submission> submissions = new ArrayList<>();
+        for (long supplierId = 1; supplierId <= 800; supplierId++) {
+            submissions.add(submission(supplierId, "key-" + supplierId));
+        }
+        for (long supplierId = 1; supplierId <= 150; supplierId++) {
+            submissions.add(submission(supplierId, "key-" + supplierId));
+        }
+        for (long supplierId = 151; supplierId <= 200; supplierId++) {
+            submissions.add(submission(supplierId, "other-" + supplierId));
+        }
+        assertEquals(1_000, submissions.size());
+
+        ExecutorService clients = Executors.newFixedThreadPool(submissions.size());
+        CountDownLatch ready = new CountDownLatch(submissions.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BiddingParticipationDto>> results = new ArrayList<>();
+        for (BiddingSubmissionQueue.Submission submission : submissions) {
+            results.add(clients.submit(() -> {
+                ready.countDown();
+                start.await();
+                snapshot.checkSubmission(submission.supplierId(), LocalDateTime.now());
+                return queue.submit(submission);
+            }));
+        }
+        assertTrue(ready.await(10, TimeUnit.SECONDS));
+        start.countDown();
+
+        Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+        int accepted = 0;
+        int duplicates = 0;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                BiddingParticipationDto result = results.get(i).get(10, TimeUnit.SECONDS);
+                Long previous = idsByKey.putIfAbsent(submissions.get(i).idempotencyKey(), result.getId());
+                if (previous != null) {
+                    assertEquals(previous, result.getId(), "같은 키의 재시도는 같은 참여를 돌려줘야 합니다.");
+                }
+                accepted++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+                duplicates++;
+            }
+        }
+        clients.shutdownNow();
+
+        assertTrue(LocalDateTime.now().isBefore(deadline.plusSeconds(1)), "마감 직후까지 모든 제출이 처리되어야 합니다.");
+        assertEquals(800, writer.rows.size());
+        assertEquals(950, accepted);
+        assertEquals(50, duplicates);
+        // 공급사 151~200 은 두 키 중 먼저 저장된 하나만 받아들여진다.
+        for (long supplierId = 151; supplierId <= 200; supplierId++) {
+            String storedKey = writer.rows.get(supplierId).idempotencyKey();
+            assertTrue(idsByKey.containsKey(storedKey));
+            assertEquals(1, (idsByKey.containsKey("key-" + supplierId) ? 1 : 0)
+                    + (idsByKey.containsKey("other-" + supplierId) ? 1 : 0));
+        }
+        assertTrue(writer.commits.get() < 250, "커밋 수: " + writer.commits.get());
+    }
+
+    @Test
+    @DisplayName("마감이 지났거나 초대받지 않은 제출은 대기열에 들어가기 전에 거부된다")
+    void rejectsAfterDeadline() {
+        BiddingSubmissionCache.BiddingSnapshot snapshot = new BiddingSubmissionCache.BiddingSnapshot(
+                BIDDING_ID, "ONGOING", "진행중", "PRICE_SUGGESTION", LocalDateTime.now().minusSeconds(1), 10, Map.of(5L, "초대사"),
+                System.currentTimeMillis());
+
+        assertThrows(IllegalStateException.class, () -> snapshot.checkSubmission(5L, LocalDateTime.now()));
+        assertThrows(IllegalStateException.class, () -> snapshot.checkSubmission(6L, LocalDateTime.now().minusSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("공급사 ID 가 없는 제출은 대기열에 들어가기 전에 거부되고, 함께 몰린 다른 제출은 모두 저장된다")
+    void rejectsSubmissionWithoutSupplier() throws Exception {
+        queue.start();
+        ExecutorService clients = Executors.newFixedThreadPool(51);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BiddingParticipationDto>> results = new ArrayList<>();
+        for (long supplierId = 1; supplierId <= 50; supplierId++) {
+            BiddingSubmissionQueue.Submission submission = submission(supplierId, "key-" + supplierId);
+            results.add(clients.submit(() -> {
+                start.await();
+                return queue.submit(submission);
+            }));
+        }
+        Future<BiddingParticipationDto> invalid = clients.submit(() -> {
+            start.await();
+            return queue.submit(new BiddingSubmissionQueue.Submission(BIDDING_ID, null, null, "key-null",
+                    BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ONE, LocalDateTime.now(), ""));
+        });
+        start.countDown();
+
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> invalid.get(10, TimeUnit.SECONDS));
+        assertTrue(rejected.getCause() instanceof IllegalArgumentException, String.valueOf(rejected.getCause()));
+        for (Future<BiddingParticipationDto> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        clients.shutdownNow();
+        assertEquals(50, writer.rows.size());
+    }
+
+    private static BiddingSubmissionQueue.Submission submission(long supplierId, String key) {
+        BigDecimal price = BigDecimal.valueOf(1_000 + supplierId);
+        return new BiddingSubmissionQueue.Submission(BIDDING_ID, supplierId, "공급사" + supplierId, key,
+                price, price, BigDecimal.ZERO, price, LocalDateTime.now(), "supplier" + supplierId);
+    }
+}
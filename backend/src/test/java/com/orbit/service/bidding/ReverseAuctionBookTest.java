@@ -0,0 +1,137 @@
+package com.orbit.service.bidding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReverseAuctionBookTest {
+
+    private static final LocalDateTime CLOSE_AT = LocalDateTime.of(2025, 3, 1, 15, 0);
+
+    private static ReverseAuctionBook book(List<ReverseAuctionBook.Bid> bids) {
+        return new ReverseAuctionBook(1L, new BigDecimal("10000"), new BigDecimal("0.01"), CLOSE_AT, bids);
+    }
+
+    private static ReverseAuctionBook.Placement place(ReverseAuctionBook book, long supplierId, String price, int minutesBefore) {
+        return book.place(supplierId, "supplier" + supplierId, "공급사" + supplierId, new BigDecimal(price),
+                CLOSE_AT.minusMinutes(minutesBefore));
+    }
+
+    @Test
+    @DisplayName("낮은 가격 순으로 순위를 매기고, 같은 가격이면 먼저 낸 입찰이 앞선다")
+    void ranksByPriceThenTime() {
+        ReverseAuctionBook book = book(List.of());
+
+        assertEquals(1, place(book, 1, "9000", 30).rank());
+        assertEquals(1, place(book, 2, "8500", 29).rank());
+        ReverseAuctionBook.Placement third = place(book, 3, "8500", 28);
+
+        assertEquals(2, third.rank());
+        assertEquals(0, new BigDecimal("8500").compareTo(third.bestPrice()));
+        assertEquals(3, third.bidCount());
+        assertEquals(3, book.standing(1L).rank());
+    }
+
+    @Test
+    @DisplayName("시작가 초과, 최소 인하율 미달, 마감 후 입찰은 거부된다")
+    void rejectsInvalidBids() {
+        ReverseAuctionBook book = book(List.of());
+        place(book, 1, "9000", 30);
+
+        assertThrows(IllegalArgumentException.class, () -> place(book, 2, "10001", 30));
+        // 9000 의 1% = 90 -> 8910 이하만 가능
+        assertThrows(IllegalArgumentException.class, () -> place(book, 1, "8911", 20));
+        assertThrows(IllegalArgumentException.class, () -> place(book, 1, "9000", 20));
+        assertEquals(1, place(book, 1, "8910", 20).rank());
+        assertThrows(IllegalStateException.class, () -> place(book, 2, "8000", -1));
+        // 거부된 입찰은 현황을 바꾸지 않는다
+        assertEquals(1, book.board().bidCount());
+    }
+
+    @Test
+    @DisplayName("마감 연장은 늦추기만 하고, 연장 후에는 원래 마감 이후 입찰도 받는다")
+    void extendsClose() {
+        ReverseAuctionBook book = book(List.of());
+
+        assertTrue(book.isClosingWithin(CLOSE_AT.minusMinutes(1), 120_000));
+        assertFalse(book.isClosingWithin(CLOSE_AT.minusMinutes(3), 120_000));
+        assertTrue(book.extendClose(CLOSE_AT.plusMinutes(2)));
+        assertFalse(book.extendClose(CLOSE_AT.plusMinutes(1)));
+
+        assertEquals(1, place(book, 1, "9000", -1).rank());
+        assertEquals(CLOSE_AT.plusMinutes(2), book.board().closeAt());
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 입찰로 현황을 다시 만들면 제출 시각 순서로 동점 순위가 유지된다")
+    void rebuildsFromStoredBids() {
+        ReverseAuctionBook book = book(List.of(
+                new ReverseAuctionBook.Bid(2L, "supplier2", "공급사2", new BigDecimal("8000"), CLOSE_AT.minusMinutes(5), 0),
+                new ReverseAuctionBook.Bid(1L, "supplier1", "공급사1", new BigDecimal("8000"), CLOSE_AT.minusMinutes(9), 0),
+                new ReverseAuctionBook.Bid(3L, "supplier3", "공급사3", new BigDecimal("9500"), CLOSE_AT.minusMinutes(7), 0)));
+
+        assertEquals(1, book.standing(1L).rank());
+        assertEquals(2, book.standing(2L).rank());
+        assertEquals(3, book.standing(3L).rank());
+        assertNull(book.standing(4L));
+        // 복구 후에도 인하 규칙은 저장된 가격 기준
+        assertThrows(IllegalArgumentException.class, () -> place(book, 3, "9450", 1));
+    }
+
+    @Test
+    @DisplayName("순위 알림은 최저가가 바뀌면 전원, 아니면 순위가 바뀐 공급사에게만 보낸다")
+    void notifiesOnlyChangedStandings() {
+        ReverseAuctionBook book = book(List.of());
+        place(book, 1, "9000", 30);
+        place(book, 2, "9500", 30);
+        place(book, 3, "9800", 30);
+        assertEquals(3, book.changedStandings().size());
+        assertTrue(book.changedStandings().isEmpty());
+
+        // 3 이 2 를 제쳤지만 최저가는 그대로 -> 2, 3 만
+        place(book, 3, "9400", 20);
+        List<ReverseAuctionBook.Standing> changed = book.changedStandings();
+        assertEquals(List.of(3L, 2L), changed.stream().map(ReverseAuctionBook.Standing::supplierId).toList());
+
+        // 최저가 변경 -> 전원
+        place(book, 2, "8000", 10);
+        assertEquals(3, book.changedStandings().size());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 입찰을 되돌리면 직전 입찰로 돌아가고, 그 뒤에 낸 입찰은 건드리지 않는다")
+    void revertsFailedPlacement() {
+        ReverseAuctionBook book = book(List.of());
+        place(book, 1, "9000", 30);
+        place(book, 2, "9500", 30);
+
+        // 직전 입찰이 있으면 그 가격/순위로 복귀
+        ReverseAuctionBook.Placement lowered = place(book, 2, "8000", 1);
+        assertTrue(book.revert(lowered));
+        assertEquals(0, new BigDecimal("9500").compareTo(book.standing(2L).unitPrice()));
+        assertEquals(2, book.standing(2L).rank());
+        // 인하율 검증도 직전 입찰 기준
+        assertEquals(1, place(book, 2, "8500", 1).rank());
+
+        // 첫 입찰이면 현황에서 빠진다
+        ReverseAuctionBook.Placement first = place(book, 3, "7000", 1);
+        assertTrue(book.revert(first));
+        assertNull(book.standing(3L));
+        assertEquals(2, book.board().bidCount());
+
+        // 이미 새 입찰로 대체됐으면 되돌리지 않는다
+        ReverseAuctionBook.Placement stale = place(book, 1, "8000", 1);
+        place(book, 1, "7500", 1);
+        assertFalse(book.revert(stale));
+        assertEquals(0, new BigDecimal("7500").compareTo(book.board().bestPrice()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.orbit.service.member;
+
+import com.orbit.dto.member.MemberUpdateDto;
+import com.orbit.entity.member.Member;
+import com.orbit.event.event.OrgChartChangedEvent;
+import com.orbit.repository.approval.DepartmentRepository;
+import com.orbit.repository.member.MemberRepository;
+import com.orbit.service.organization.OrgChartIndex;
+import com.orbit.service.organization.OrgChartSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberServiceTest {
+
+    private static final Long MEMBER_ID = 11L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Member member;
+    private OrgChartIndex orgChartIndex;
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member();
+        member.setId(MEMBER_ID);
+        member.setRole(Member.Role.BUYER);
+        member.setEnabled(true);
+        orgChartIndex = new OrgChartIndex(departmentRepository, memberRepository);
+        memberService = new MemberService(memberRepository, passwordEncoder, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("역할을 바꾸면 조직도 변경 이벤트가 나가고, 커밋 후 인덱스가 그 멤버를 다시 읽어 스냅샷을 교체한다")
+    void updateMemberRoleInvalidatesOrgChart() {
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+        when(memberRepository.findOrgChartEntries()).thenReturn(List.<Object[]>of(new Object[]{MEMBER_ID, 1L, 5}));
+        when(memberRepository.findOrgChartEntry(MEMBER_ID)).thenReturn(List.<Object[]>of(new Object[]{MEMBER_ID, 1L, 5}));
+        OrgChartSnapshot before = orgChartIndex.snapshot();
+
+        memberService.updateMemberRole(MEMBER_ID, "admin");
+
+        ArgumentCaptor<OrgChartChangedEvent> event = ArgumentCaptor.forClass(OrgChartChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(Member.Role.ADMIN, member.getRole());
+        assertEquals(MEMBER_ID, event.getValue().getMemberId());
+        assertFalse(event.getValue().isFullRebuild());
+
+        // 커밋 후 리스너 호출
+        orgChartIndex.onOrgChartChanged(event.getValue());
+
+        assertNotSame(before, orgChartIndex.snapshot());
+        verify(memberRepository).findOrgChartEntry(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("정보 수정, 탈퇴, 활성 상태 변경도 조직도 변경 이벤트를 보낸다")
+    void otherMemberWritesPublishOrgChartChanged() {
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+
+        memberService.updateMember(MEMBER_ID, new MemberUpdateDto());
+        memberService.toggleMemberStatus(MEMBER_ID);
+        memberService.deactivateMember(MEMBER_ID);
+
+        verify(eventPublisher, times(3)).publishEvent(any(OrgChartChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 역할이면 변경하지 않고 이벤트도 보내지 않는다")
+    void invalidRoleKeepsOrgChart() {
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+        OrgChartSnapshot before = orgChartIndex.snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> memberService.updateMemberRole(MEMBER_ID, "OWNER"));
+
+        assertEquals(Member.Role.BUYER, member.getRole());
+        verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+        assertSame(before, orgChartIndex.snapshot());
+    }
+}
@@ -0,0 +1,58 @@
+package com.orbit.service.organization;
+
+import com.orbit.service.organization.OrgChartSnapshot.DepartmentNode;
+import com.orbit.service.organization.OrgChartSnapshot.MemberNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrgChartSnapshotTest {
+
+    private final OrgChartSnapshot snapshot = new OrgChartSnapshot(
+            List.of(
+                    new DepartmentNode(2L, "재무팀", 3, 3, 4, 5),
+                    new DepartmentNode(1L, "구매관리팀", 3, 3, 4, 5)),
+            List.of(
+                    new MemberNode(13L, 1L, 4),
+                    new MemberNode(11L, 1L, 5),
+                    new MemberNode(12L, 1L, 2),
+                    new MemberNode(21L, 2L, 3),
+                    new MemberNode(30L, null, 7),
+                    new MemberNode(40L, 1L, null)));
+
+    @Test
+    @DisplayName("부서 내 직급 조건 조회는 ID 순 첫 번째 멤버를 반환한다")
+    void firstInDepartment() {
+        assertEquals(11L, snapshot.firstInDepartmentAbove(1L, 3).orElseThrow().id());
+        assertEquals(21L, snapshot.firstInDepartmentBetween(2L, 3, 4).orElseThrow().id());
+        assertTrue(snapshot.firstInDepartmentBetween(2L, 4, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("직급 없는 멤버는 직급 기준 목록에서 제외된다")
+    void membersByLevelDesc() {
+        List<Long> ids = snapshot.membersByLevelDesc().stream().map(MemberNode::id).toList();
+
+        assertEquals(List.of(30L, 11L, 13L, 21L, 12L), ids);
+        assertEquals(6, snapshot.memberCount());
+        assertEquals(30L, snapshot.highestAbove(6).orElseThrow().id());
+        assertTrue(snapshot.highestAbove(7).isEmpty());
+    }
+
+    @Test
+    @DisplayName("멤버 변경은 새 스냅샷에만 반영된다")
+    void withMember() {
+        OrgChartSnapshot updated = snapshot
+                .withMember(30L, null)
+                .withMember(50L, new MemberNode(50L, 2L, 4));
+
+        assertEquals(11L, updated.highestAbove(0).orElseThrow().id());
+        assertEquals(50L, updated.firstInDepartmentBetween(2L, 4, 4).orElseThrow().id());
+        assertEquals(30L, snapshot.highestAbove(0).orElseThrow().id());
+        assertEquals("구매관리팀", updated.department(1L).orElseThrow().name());
+    }
+}
@@ -0,0 +1,95 @@
+package com.orbit.service.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SettlementCsvReaderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private static SettlementCsvReader reader(String csv, Charset charset) throws IOException {
+        return new SettlementCsvReader(new ByteArrayInputStream(csv.getBytes(charset)), charset, TODAY);
+    }
+
+    @Test
+    @DisplayName("헤더 이름으로 열을 찾고, 따옴표 안의 쉼표와 금액 자릿수 구분 쉼표를 처리한다")
+    void readsRowsByHeaderName() throws IOException {
+        String csv = "\uFEFFMethod,Amount,Invoice_Number,Transaction_Id,Payment_Date\n"
+                + "card,\"1,100,000\",INV-20250301-000001,TX-1,2025-02-28\n"
+                + "\n"
+                + ",550000.50,\"INV-20250301-000002\",,20250227\n";
+        try (SettlementCsvReader reader = reader(csv, StandardCharsets.UTF_8)) {
+            SettlementCsvReader.Row first = reader.next();
+            assertEquals(2, first.lineNumber());
+            assertEquals("INV-20250301-000001", first.invoiceNumber());
+            assertEquals(0, new BigDecimal("1100000").compareTo(first.amount()));
+            assertEquals("TX-1", first.transactionId());
+            assertEquals(LocalDate.of(2025, 2, 28), first.paymentDate());
+            assertEquals("CARD", first.method());
+            assertNull(first.error());
+
+            SettlementCsvReader.Row second = reader.next();
+            assertEquals(4, second.lineNumber());
+            assertEquals(new BigDecimal("550000.50"), second.amount());
+            assertNull(second.transactionId());
+            assertEquals(LocalDate.of(2025, 2, 27), second.paymentDate());
+            assertEquals("TRANSFER", second.method());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 행은 예외 없이 오류 행으로 돌려주고 다음 행을 계속 읽는다")
+    void returnsInvalidRowsAsErrors() throws IOException {
+        String csv = "invoice_number,amount,payment_date,method\n"
+                + "INV-1,abc,,\n"
+                + ",1000,,\n"
+                + "INV-2,1000,2025-13-01,\n"
+                + "INV-3,1000,,CASH\n"
+                + "\"INV-4,1000,,\n"
+                + "INV-5,1000,,check\n";
+        try (SettlementCsvReader reader = reader(csv, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 5; i++) {
+                SettlementCsvReader.Row row = reader.next();
+                assertEquals(i + 2, row.lineNumber());
+                assertNull(row.invoiceNumber());
+                assertEquals(csv.split("\n")[i + 1], row.raw());
+            }
+            SettlementCsvReader.Row valid = reader.next();
+            assertEquals("INV-5", valid.invoiceNumber());
+            assertEquals(TODAY, valid.paymentDate());
+            assertEquals("CHECK", valid.method());
+        }
+    }
+
+    @Test
+    @DisplayName("필수 열이 없으면 읽기 전에 거부하고, 지정한 문자셋으로 읽는다")
+    void validatesHeaderAndCharset() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> reader("invoice_number,price\n", StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> reader("", StandardCharsets.UTF_8));
+
+        Charset euckr = Charset.forName("EUC-KR");
+        try (SettlementCsvReader reader = reader("invoice_number,amount,transaction_id\nINV-1,1000,입금-1\n", euckr)) {
+            assertEquals("입금-1", reader.next().transactionId());
+        }
+    }
+
+    @Test
+    @DisplayName("\"\" 는 따옴표 한 개로 읽는다")
+    void splitsEscapedQuotes() {
+        assertEquals(List.of("a", "say \"hi\", ok", ""), SettlementCsvReader.split("a,\"say \"\"hi\"\", ok\","));
+    }
+}
@@ -0,0 +1,106 @@
+package com.orbit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CircuitBreaker 상태 전이 확인 (시계를 직접 움직인다)
+ */
+class CircuitBreakerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker() {
+        // 최근 5회 중 3회 실패하면 OPEN, 1초 뒤 HALF_OPEN
+        return new CircuitBreaker(5, 3, 1000, now::get);
+    }
+
+    private void call(CircuitBreaker breaker, boolean success) {
+        assertTrue(breaker.tryAcquire());
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("최근 호출 중 실패가 기준 이상이면 열리고, 열린 동안은 거절한다")
+    void opensAfterThreshold() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 창 밖으로 밀려나 세지 않는다")
+    void oldFailuresSlideOut() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, false);
+        call(breaker, false);
+        for (int i = 0; i < 5; i++) {
+            call(breaker, true);
+        }
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getRecentFailures());
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출 1건만 통과하고, 성공하면 닫힌다")
+    void halfOpenTrialSuccessCloses() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            call(breaker, false);
+        }
+        now.addAndGet(999 * MILLIS);
+        assertFalse(breaker.tryAcquire());
+
+        now.addAndGet(MILLIS);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getRecentFailures());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열리고, 허가만 받고 반납하면 다음 시험 호출을 허용한다")
+    void halfOpenTrialFailureReopens() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            call(breaker, false);
+        }
+        now.addAndGet(1000 * MILLIS);
+        assertTrue(breaker.tryAcquire());
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        now.addAndGet(1000 * MILLIS);
+        assertTrue(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,80 @@
+package com.orbit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("이미 지난 시각은 등록하지 않고 바로 처리하도록 알린다")
+    void rejectsExpired() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 1_000);
+
+        assertFalse(wheel.add("past", 900));
+        assertFalse(wheel.add("now", 1_000));
+        assertTrue(wheel.add("next", 1_001));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("서로 다른 칸의 항목은 만료 순서대로 꺼내고, 위 단계에 있던 항목도 제 칸으로 내려와 만료된다")
+    void firesInOrderAcrossLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 8, 0);
+        List<Long> fired = new ArrayList<>();
+        long[] expirations = {250, 799, 801, 6_399, 6_401, 51_200, 409_700};
+        for (int i = expirations.length - 1; i >= 0; i--) {
+            wheel.add(expirations[i], expirations[i]);
+        }
+
+        for (long now = 0; now <= 410_000; now += 100) {
+            wheel.advance(now, fired::add);
+        }
+
+        assertEquals(List.of(250L, 799L, 801L, 6_399L, 6_401L, 51_200L, 409_700L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("불규칙하게 진행해도 만료 시각 전에는 꺼내지 않고, 진행 간격 + tick 안에 모두 꺼낸다")
+    void neverFiresEarly() {
+        Random random = new Random(42);
+        long tick = 100;
+        long start = 123_456;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(tick, 16, start);
+        Map<Long, Long> firedAt = new HashMap<>();
+        List<Long> expirations = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long expiration = start + 1 + random.nextInt(3_000_000);
+            expirations.add(expiration);
+            assertTrue(wheel.add(expiration, expiration));
+        }
+
+        long now = start;
+        long maxStep = 0;
+        while (now < start + 3_100_000) {
+            long step = 1 + random.nextInt(700);
+            maxStep = Math.max(maxStep, step);
+            now += step;
+            long current = now;
+            wheel.advance(now, expiration -> firedAt.put(expiration, current));
+        }
+
+        for (long expiration : expirations) {
+            Long fired = firedAt.get(expiration);
+            assertNotNull(fired, "만료되지 않음: " + expiration);
+            assertTrue(fired >= expiration, "만료 전 실행: " + expiration + " -> " + fired);
+            assertTrue(fired - expiration < maxStep + tick, "지연 초과: " + expiration + " -> " + fired);
+        }
+    }
+}
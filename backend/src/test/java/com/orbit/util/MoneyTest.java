@@ -0,0 +1,126 @@
+package com.orbit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Money / PriceCalculator 가 이전 BigDecimal 계산과 같은 값(scale 포함)을 내는지 무작위 입력으로 확인한다.
+ * 시드를 고정해 실패가 재현되도록 하고, 실패 메시지에 입력값을 남긴다.
+ */
+class MoneyTest {
+
+    private static final long SEED = 20250301L;
+    private static final int CASES = 200_000;
+
+    // 변경 전 PriceCalculator 계산식
+    private static BigDecimal referenceSupply(BigDecimal unitPrice, int quantity) {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal referenceVat(BigDecimal supplyPrice) {
+        return supplyPrice.multiply(new BigDecimal("0.1")).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 소수점 0~4자리, 0 근처 / 반올림 경계(x.x5) / 큰 값이 고루 나오는 단가
+     */
+    private static BigDecimal randomPrice(SplittableRandom random) {
+        int scale = random.nextInt(5);
+        long unscaled = switch (random.nextInt(4)) {
+            case 0 -> random.nextLong(-1_000, 1_000);
+            case 1 -> random.nextLong(0, 1_000_000) * 10 + 5;
+            case 2 -> random.nextLong(0, 100_000_000_000L);
+            default -> random.nextLong(Long.MIN_VALUE / 4, Long.MAX_VALUE / 4);
+        };
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static int randomQuantity(SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(0, 10);
+            case 1 -> random.nextInt(1, 100_000);
+            default -> random.nextInt();
+        };
+    }
+
+    @Test
+    @DisplayName("calculateAll 은 모든 입력에서 이전 BigDecimal 계산과 같은 값과 scale 을 낸다")
+    void calculateAllMatchesBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < CASES; i++) {
+            BigDecimal unitPrice = randomPrice(random);
+            int quantity = randomQuantity(random);
+
+            BigDecimal supply = referenceSupply(unitPrice, quantity);
+            BigDecimal vat = referenceVat(supply);
+            BigDecimal total = supply.add(vat).setScale(2, RoundingMode.HALF_UP);
+
+            PriceCalculator.PriceResult result = PriceCalculator.calculateAll(unitPrice, quantity);
+            String input = "unitPrice=" + unitPrice + ", quantity=" + quantity;
+            assertEquals(supply, result.getSupplyPrice(), input);
+            assertEquals(vat, result.getVat(), input);
+            assertEquals(total, result.getTotalAmount(), input);
+            assertEquals(supply, PriceCalculator.calculateSupplyPrice(unitPrice, quantity), input);
+            assertEquals(vat, PriceCalculator.calculateVat(supply), input);
+        }
+    }
+
+    @Test
+    @DisplayName("percent 반올림은 BigDecimal HALF_UP 과 같다 (음수 포함)")
+    void percentMatchesHalfUp() {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        for (int i = 0; i < CASES; i++) {
+            long minor = random.nextLong(-10_000_000_000L, 10_000_000_000L);
+            int percent = random.nextInt(0, 101);
+
+            BigDecimal expected = BigDecimal.valueOf(minor, 2)
+                    .multiply(BigDecimal.valueOf(percent))
+                    .divide(BigDecimal.valueOf(100))
+                    .setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, Money.ofMinor(minor).percent(percent).toBigDecimal(), "minor=" + minor + ", percent=" + percent);
+        }
+    }
+
+    @Test
+    @DisplayName("합계는 BigDecimal 합과 같은 값이고, null 은 건너뛴다")
+    void sumMatchesBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        for (int i = 0; i < 2_000; i++) {
+            List<BigDecimal> amounts = new ArrayList<>();
+            BigDecimal expected = BigDecimal.ZERO;
+            int size = random.nextInt(0, 50);
+            for (int j = 0; j < size; j++) {
+                BigDecimal amount = random.nextInt(10) == 0 ? null : randomPrice(random);
+                amounts.add(amount);
+                if (amount != null) {
+                    expected = expected.add(amount);
+                }
+            }
+            BigDecimal actual = PriceCalculator.sum(amounts, amount -> amount);
+            assertEquals(0, expected.compareTo(actual), "amounts=" + amounts);
+        }
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환은 0 만 붙은 자리는 받고, 잘리는 자리나 long 범위 초과는 거부한다")
+    void convertsExactly() {
+        assertEquals(123_450L, Money.minorUnits(new BigDecimal("1234.5")));
+        assertEquals(123_400L, Money.minorUnits(new BigDecimal("1234.000")));
+        assertEquals(100_000L, Money.minorUnits(new BigDecimal("1E+3")));
+        assertEquals(new BigDecimal("0.01"), Money.of(new BigDecimal("0.005")).toBigDecimal());
+        assertEquals(new BigDecimal("-0.01"), Money.of(new BigDecimal("-0.005")).toBigDecimal());
+
+        assertThrows(ArithmeticException.class, () -> Money.minorUnits(new BigDecimal("0.001")));
+        assertThrows(ArithmeticException.class, () -> Money.minorUnits(BigDecimal.valueOf(Long.MAX_VALUE)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+    }
+}